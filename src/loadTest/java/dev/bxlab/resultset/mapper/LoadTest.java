@@ -0,0 +1,285 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.core.RowMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * End-to-end throughput harness that maps rows read from an in-process H2 database.
+ * <p>
+ * Each scenario runs {@code SELECT *} over a seeded table, mapping every row either with a {@link RowMapper} or with a
+ * hand-written mapping, to a POJO or a record, from one or more threads. Each thread uses its own connection. The
+ * harness reports throughput, the speed-up over the single-threaded run of the same scenario, per-query latency
+ * percentiles and allocated bytes per row, and writes them to a CSV file named after the library version so runs of
+ * different versions can be compared. A speed-up close to the thread count shows the shared mapper adds no contention.
+ * </p>
+ * Settings are read from system properties, passed by the {@code loadTest} Gradle task from {@code -PloadTest.*}:
+ * <ul>
+ *     <li>{@code loadTest.rows}: rows per table, default 100000</li>
+ *     <li>{@code loadTest.shapes}: table shapes, default {@code NARROW,WIDE}</li>
+ *     <li>{@code loadTest.threads}: thread counts, default {@code 1,4}</li>
+ *     <li>{@code loadTest.warmup}: discarded queries per thread, default 5</li>
+ *     <li>{@code loadTest.iterations}: measured queries per thread, default 20</li>
+ *     <li>{@code loadTest.reportDir}: report directory, default {@code build/reports/load-test}</li>
+ *     <li>{@code loadTest.version}: version written to the report, default {@code dev}</li>
+ * </ul>
+ */
+final class LoadTest {
+
+    private static final String URL = "jdbc:h2:mem:load_test;DB_CLOSE_DELAY=-1";
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private final int rows;
+    private final List<Shape> shapes;
+    private final int[] threads;
+    private final int warmup;
+    private final int iterations;
+    private final Path reportDir;
+    private final String version;
+
+    private LoadTest() {
+        this.rows = Integer.getInteger("loadTest.rows", 100_000);
+        this.shapes = Arrays.stream(System.getProperty("loadTest.shapes", "NARROW,WIDE").split(","))
+                .map(shape -> Shape.valueOf(shape.trim().toUpperCase(Locale.ROOT)))
+                .toList();
+        this.threads = Arrays.stream(System.getProperty("loadTest.threads", "1,4").split(","))
+                .mapToInt(count -> Integer.parseInt(count.trim()))
+                .toArray();
+        this.warmup = Integer.getInteger("loadTest.warmup", 5);
+        this.iterations = Integer.getInteger("loadTest.iterations", 20);
+        this.reportDir = Path.of(System.getProperty("loadTest.reportDir", "build/reports/load-test"));
+        this.version = System.getProperty("loadTest.version", "dev");
+
+        if (this.rows < 1 || this.iterations < 1 || this.warmup < 0 || Arrays.stream(this.threads).anyMatch(count -> count < 1)) {
+            throw new IllegalArgumentException("Rows, iterations and threads must be positive, warmup must not be negative");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest().run(System.out);
+    }
+
+    /**
+     * Reads every row of a result set with a hand-written row mapping.
+     *
+     * @param resultSet the result set
+     * @param reader    the row mapping
+     * @param <T>       the target type
+     * @return the mapped rows
+     * @throws SQLException if a database access error occurs
+     */
+    static <T> List<T> readAll(ResultSet resultSet, RowReader<T> reader) throws SQLException {
+        List<T> results = new ArrayList<>();
+        while (resultSet.next()) results.add(reader.read(resultSet));
+        return results;
+    }
+
+    private void run(PrintStream out) throws Exception {
+        try (Connection connection = DriverManager.getConnection(URL)) {
+            for (Shape shape : this.shapes) this.seed(connection, shape);
+
+            List<Result> results = new ArrayList<>();
+            out.printf("%-7s %-7s %-12s %7s %14s %8s %9s %9s %9s %10s%n",
+                    "shape", "target", "mapping", "threads", "rows/s", "speed-up", "p50 ms", "p95 ms", "p99 ms", "bytes/row");
+
+            for (Shape shape : this.shapes) {
+                for (String target : List.of("pojo", "record")) {
+                    for (boolean handWritten : new boolean[]{false, true}) {
+                        Shape.Mapping mapping = target.equals("pojo") ? shape.pojo(handWritten) : shape.record(handWritten);
+                        double singleThreaded = Double.NaN;
+                        for (int threadCount : this.threads) {
+                            Result result = this.measure(shape, target, handWritten ? "hand-written" : "row-mapper", mapping, threadCount);
+                            if (threadCount == 1) singleThreaded = result.rowsPerSecond();
+                            result = result.withSpeedUp(result.rowsPerSecond() / singleThreaded);
+                            results.add(result);
+                            out.printf(Locale.ROOT, "%-7s %-7s %-12s %7d %,14.0f %8.2f %9.2f %9.2f %9.2f %,10.0f%n",
+                                    result.shape().name().toLowerCase(Locale.ROOT), result.target(), result.mapping(), result.threads(),
+                                    result.rowsPerSecond(), result.speedUp(), result.p50(), result.p95(), result.p99(), result.bytesPerRow());
+                        }
+                    }
+                }
+            }
+
+            Path report = this.writeReport(results);
+            out.println("Report written to " + report.toAbsolutePath());
+        }
+    }
+
+    private void seed(Connection connection, Shape shape) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + shape.tableName());
+            statement.execute(shape.createSql());
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(shape.insertSql())) {
+            for (long id = 1; id <= this.rows; id++) {
+                shape.bindRow(statement, id);
+                statement.addBatch();
+                if (id % SEED_BATCH_SIZE == 0) statement.executeBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Runs a scenario: every thread runs the warmup queries, waits for the others, then runs the measured queries.
+     */
+    private Result measure(Shape shape, String target, String mappingName, Shape.Mapping mapping, int threadCount) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<Worker>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(() -> new Worker(shape, mapping).run(ready, start)));
+            }
+
+            ready.await();
+            long startedAt = System.nanoTime();
+            start.countDown();
+
+            long[] latencies = new long[threadCount * this.iterations];
+            long allocated = 0;
+            int offset = 0;
+            for (Future<Worker> future : futures) {
+                Worker worker = future.get();
+                System.arraycopy(worker.latencies, 0, latencies, offset, this.iterations);
+                offset += this.iterations;
+                allocated += worker.allocated;
+            }
+            long elapsed = System.nanoTime() - startedAt;
+
+            Arrays.sort(latencies);
+            long mappedRows = (long) this.rows * this.iterations * threadCount;
+            return new Result(shape, target, mappingName, threadCount,
+                    mappedRows / (elapsed / 1e9), Double.NaN,
+                    percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99),
+                    allocated < 0 ? Double.NaN : (double) allocated / mappedRows);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private Path writeReport(List<Result> results) throws IOException {
+        Files.createDirectories(this.reportDir);
+        Path report = this.reportDir.resolve("load-test-" + this.version + ".csv");
+
+        try (Writer writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+            writer.write("version,java,shape,columns,rows,target,mapping,threads,iterations,rows_per_second,speed_up,p50_ms,p95_ms,p99_ms,bytes_per_row\n");
+            for (Result result : results) {
+                writer.write(String.format(Locale.ROOT, "%s,%s,%s,%d,%d,%s,%s,%d,%d,%.0f,%.2f,%.3f,%.3f,%.3f,%.1f%n",
+                        this.version, System.getProperty("java.version"),
+                        result.shape().name().toLowerCase(Locale.ROOT), result.shape().columnCount(), this.rows,
+                        result.target(), result.mapping(), result.threads(), this.iterations,
+                        result.rowsPerSecond(), result.speedUp(), result.p50(), result.p95(), result.p99(), result.bytesPerRow()));
+            }
+        }
+
+        return report;
+    }
+
+    /**
+     * Maps the current row of a result set.
+     *
+     * @param <T> the target type
+     */
+    @FunctionalInterface
+    interface RowReader<T> {
+        T read(ResultSet resultSet) throws SQLException;
+    }
+
+    /**
+     * Measurements of a scenario. The speed-up is the throughput relative to the single-threaded run of the same
+     * scenario, or NaN when thread count 1 is not measured before it.
+     */
+    private record Result(Shape shape, String target, String mapping, int threads, double rowsPerSecond, double speedUp,
+                          double p50, double p95, double p99, double bytesPerRow) {
+
+        private Result withSpeedUp(double speedUp) {
+            return new Result(this.shape, this.target, this.mapping, this.threads, this.rowsPerSecond, speedUp,
+                    this.p50, this.p95, this.p99, this.bytesPerRow);
+        }
+    }
+
+    /**
+     * Queries a table on its own connection, recording the latency of each measured query and the bytes allocated by
+     * the thread, or -1 when the JVM can not report thread allocations.
+     */
+    private final class Worker {
+        private final Shape shape;
+        private final Shape.Mapping mapping;
+        private final long[] latencies;
+        private long allocated;
+
+        private Worker(Shape shape, Shape.Mapping mapping) {
+            this.shape = shape;
+            this.mapping = mapping;
+            this.latencies = new long[LoadTest.this.iterations];
+        }
+
+        private Worker run(CountDownLatch ready, CountDownLatch start) throws Exception {
+            try (Connection connection = DriverManager.getConnection(URL);
+                 PreparedStatement statement = connection.prepareStatement("SELECT * FROM " + this.shape.tableName())) {
+                try {
+                    for (int i = 0; i < LoadTest.this.warmup; i++) this.query(statement);
+                } finally {
+                    ready.countDown();
+                }
+                start.await();
+
+                long allocatedBefore = allocatedBytes();
+                for (int i = 0; i < LoadTest.this.iterations; i++) {
+                    long startedAt = System.nanoTime();
+                    this.query(statement);
+                    this.latencies[i] = System.nanoTime() - startedAt;
+                }
+                long allocatedAfter = allocatedBytes();
+                this.allocated = allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore;
+            }
+            return this;
+        }
+
+        private void query(PreparedStatement statement) throws SQLException {
+            try (ResultSet resultSet = statement.executeQuery()) {
+                List<?> mapped = (List<?>) this.mapping.mapAll(resultSet);
+                if (mapped.size() != LoadTest.this.rows) {
+                    throw new IllegalStateException("Expected " + LoadTest.this.rows + " rows but mapped " + mapped.size());
+                }
+            }
+        }
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
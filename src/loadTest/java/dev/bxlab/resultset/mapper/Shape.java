@@ -0,0 +1,234 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * Table shapes seeded by the load test, each with POJO and record targets and their hand-written mappings.
+ * <p>
+ * A shape has an {@code id} column followed by groups of five columns: {@code labelN VARCHAR}, {@code quantityN INT},
+ * {@code amountN DECIMAL}, {@code createdN TIMESTAMP} and {@code activeN BOOLEAN}.
+ * </p>
+ */
+enum Shape {
+    /**
+     * One column group, 6 columns.
+     */
+    NARROW(1) {
+        @Override
+        Mapping pojo(boolean handWritten) {
+            if (!handWritten) return RowMapperBuilder.forType(NarrowPojo.class).build()::mapAll;
+            return resultSet -> LoadTest.readAll(resultSet, rs -> {
+                NarrowPojo pojo = new NarrowPojo();
+                pojo.id = rs.getLong("id");
+                pojo.label1 = rs.getString("label1");
+                pojo.quantity1 = rs.getInt("quantity1");
+                pojo.amount1 = rs.getBigDecimal("amount1");
+                pojo.created1 = toLocalDateTime(rs.getTimestamp("created1"));
+                pojo.active1 = rs.getBoolean("active1");
+                return pojo;
+            });
+        }
+
+        @Override
+        Mapping record(boolean handWritten) {
+            if (!handWritten) return RowMapperBuilder.forType(NarrowRecord.class).build()::mapAll;
+            return resultSet -> LoadTest.readAll(resultSet, rs -> new NarrowRecord(
+                    rs.getLong("id"),
+                    rs.getString("label1"), rs.getInt("quantity1"), rs.getBigDecimal("amount1"),
+                    toLocalDateTime(rs.getTimestamp("created1")), rs.getBoolean("active1")));
+        }
+    },
+
+    /**
+     * Four column groups, 21 columns.
+     */
+    WIDE(4) {
+        @Override
+        Mapping pojo(boolean handWritten) {
+            if (!handWritten) return RowMapperBuilder.forType(WidePojo.class).build()::mapAll;
+            return resultSet -> LoadTest.readAll(resultSet, rs -> {
+                WidePojo pojo = new WidePojo();
+                pojo.id = rs.getLong("id");
+                pojo.label1 = rs.getString("label1");
+                pojo.quantity1 = rs.getInt("quantity1");
+                pojo.amount1 = rs.getBigDecimal("amount1");
+                pojo.created1 = toLocalDateTime(rs.getTimestamp("created1"));
+                pojo.active1 = rs.getBoolean("active1");
+                pojo.label2 = rs.getString("label2");
+                pojo.quantity2 = rs.getInt("quantity2");
+                pojo.amount2 = rs.getBigDecimal("amount2");
+                pojo.created2 = toLocalDateTime(rs.getTimestamp("created2"));
+                pojo.active2 = rs.getBoolean("active2");
+                pojo.label3 = rs.getString("label3");
+                pojo.quantity3 = rs.getInt("quantity3");
+                pojo.amount3 = rs.getBigDecimal("amount3");
+                pojo.created3 = toLocalDateTime(rs.getTimestamp("created3"));
+                pojo.active3 = rs.getBoolean("active3");
+                pojo.label4 = rs.getString("label4");
+                pojo.quantity4 = rs.getInt("quantity4");
+                pojo.amount4 = rs.getBigDecimal("amount4");
+                pojo.created4 = toLocalDateTime(rs.getTimestamp("created4"));
+                pojo.active4 = rs.getBoolean("active4");
+                return pojo;
+            });
+        }
+
+        @Override
+        Mapping record(boolean handWritten) {
+            if (!handWritten) return RowMapperBuilder.forType(WideRecord.class).build()::mapAll;
+            return resultSet -> LoadTest.readAll(resultSet, rs -> new WideRecord(
+                    rs.getLong("id"),
+                    rs.getString("label1"), rs.getInt("quantity1"), rs.getBigDecimal("amount1"),
+                    toLocalDateTime(rs.getTimestamp("created1")), rs.getBoolean("active1"),
+                    rs.getString("label2"), rs.getInt("quantity2"), rs.getBigDecimal("amount2"),
+                    toLocalDateTime(rs.getTimestamp("created2")), rs.getBoolean("active2"),
+                    rs.getString("label3"), rs.getInt("quantity3"), rs.getBigDecimal("amount3"),
+                    toLocalDateTime(rs.getTimestamp("created3")), rs.getBoolean("active3"),
+                    rs.getString("label4"), rs.getInt("quantity4"), rs.getBigDecimal("amount4"),
+                    toLocalDateTime(rs.getTimestamp("created4")), rs.getBoolean("active4")));
+        }
+    };
+
+    private final int groups;
+
+    Shape(int groups) {
+        this.groups = groups;
+    }
+
+    /**
+     * Creates the mapping of the POJO target.
+     *
+     * @param handWritten true for the hand-written mapping, false for a {@link RowMapper}
+     * @return the mapping
+     */
+    abstract Mapping pojo(boolean handWritten);
+
+    /**
+     * Creates the mapping of the record target.
+     *
+     * @param handWritten true for the hand-written mapping, false for a {@link RowMapper}
+     * @return the mapping
+     */
+    abstract Mapping record(boolean handWritten);
+
+    String tableName() {
+        return this.name().toLowerCase(Locale.ROOT) + "_rows";
+    }
+
+    int columnCount() {
+        return 1 + this.groups * 5;
+    }
+
+    String createSql() {
+        StringJoiner columns = new StringJoiner(", ", "CREATE TABLE " + this.tableName() + " (", ")");
+        columns.add("id BIGINT PRIMARY KEY");
+        for (int group = 1; group <= this.groups; group++) {
+            columns.add("label" + group + " VARCHAR(64)");
+            columns.add("quantity" + group + " INT");
+            columns.add("amount" + group + " DECIMAL(12, 2)");
+            columns.add("created" + group + " TIMESTAMP");
+            columns.add("active" + group + " BOOLEAN");
+        }
+        return columns.toString();
+    }
+
+    String insertSql() {
+        return "INSERT INTO " + this.tableName() + " VALUES (?" + ", ?".repeat(this.columnCount() - 1) + ")";
+    }
+
+    /**
+     * Binds deterministic values for a seeded row; every seventh text value is null.
+     *
+     * @param statement the insert statement
+     * @param id        the row id
+     * @throws SQLException if a parameter can not be bound
+     */
+    void bindRow(PreparedStatement statement, long id) throws SQLException {
+        int index = 1;
+        statement.setLong(index++, id);
+        for (int group = 1; group <= this.groups; group++) {
+            long seed = id * 31 + group;
+            statement.setString(index++, seed % 7 == 0 ? null : "label-" + seed);
+            statement.setInt(index++, (int) (seed % 1000));
+            statement.setBigDecimal(index++, BigDecimal.valueOf(seed % 100_000, 2));
+            statement.setTimestamp(index++, Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(seed % 500_000)));
+            statement.setBoolean(index++, seed % 2 == 0);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    /**
+     * Maps a whole result set to a list of target objects.
+     */
+    @FunctionalInterface
+    interface Mapping {
+        Object mapAll(ResultSet resultSet) throws SQLException;
+    }
+
+    static class NarrowPojo {
+        @ColumnMapping Long id;
+        @ColumnMapping String label1;
+        @ColumnMapping Integer quantity1;
+        @ColumnMapping BigDecimal amount1;
+        @ColumnMapping LocalDateTime created1;
+        @ColumnMapping Boolean active1;
+    }
+
+    record NarrowRecord(
+            @ColumnMapping Long id,
+            @ColumnMapping String label1, @ColumnMapping Integer quantity1, @ColumnMapping BigDecimal amount1,
+            @ColumnMapping LocalDateTime created1, @ColumnMapping Boolean active1
+    ) {
+    }
+
+    static class WidePojo {
+        @ColumnMapping Long id;
+        @ColumnMapping String label1;
+        @ColumnMapping Integer quantity1;
+        @ColumnMapping BigDecimal amount1;
+        @ColumnMapping LocalDateTime created1;
+        @ColumnMapping Boolean active1;
+        @ColumnMapping String label2;
+        @ColumnMapping Integer quantity2;
+        @ColumnMapping BigDecimal amount2;
+        @ColumnMapping LocalDateTime created2;
+        @ColumnMapping Boolean active2;
+        @ColumnMapping String label3;
+        @ColumnMapping Integer quantity3;
+        @ColumnMapping BigDecimal amount3;
+        @ColumnMapping LocalDateTime created3;
+        @ColumnMapping Boolean active3;
+        @ColumnMapping String label4;
+        @ColumnMapping Integer quantity4;
+        @ColumnMapping BigDecimal amount4;
+        @ColumnMapping LocalDateTime created4;
+        @ColumnMapping Boolean active4;
+    }
+
+    record WideRecord(
+            @ColumnMapping Long id,
+            @ColumnMapping String label1, @ColumnMapping Integer quantity1, @ColumnMapping BigDecimal amount1,
+            @ColumnMapping LocalDateTime created1, @ColumnMapping Boolean active1,
+            @ColumnMapping String label2, @ColumnMapping Integer quantity2, @ColumnMapping BigDecimal amount2,
+            @ColumnMapping LocalDateTime created2, @ColumnMapping Boolean active2,
+            @ColumnMapping String label3, @ColumnMapping Integer quantity3, @ColumnMapping BigDecimal amount3,
+            @ColumnMapping LocalDateTime created3, @ColumnMapping Boolean active3,
+            @ColumnMapping String label4, @ColumnMapping Integer quantity4, @ColumnMapping BigDecimal amount4,
+            @ColumnMapping LocalDateTime created4, @ColumnMapping Boolean active4
+    ) {
+    }
+}
@@ -0,0 +1,476 @@
+package dev.bxlab.resultset.mapper.cache;
+
+import dev.bxlab.resultset.mapper.core.FieldMapping;
+import dev.bxlab.resultset.mapper.core.ResultSetMapper;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.utils.SizeEstimator;
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * In-process cache of mapped query results, for read-mostly reference queries.
+ * <p>
+ * Results are keyed by {@link QueryKey} (SQL plus bound parameters) and stored as immutable lists. Entries expire
+ * after the configured time to live, and the least recently used entries are evicted when the total estimated weight
+ * of the cached results exceeds the maximum weight. The weight of a result is the estimated heap size of its mapped
+ * rows: by default it is computed from the field plan when the mapper is a {@link RowMapper}, and from the row
+ * class otherwise.
+ * </p>
+ * <p>
+ * Loads are single-flight: when several threads miss the same key at the same time, the query runs once and every
+ * caller receives its result (or its exception). A load that is invalidated while in flight is returned to its
+ * callers but not cached. A loader must not get the key it is loading from the same cache: the nested call would
+ * wait for its own load, so it fails with an {@link IllegalStateException} instead.
+ * </p>
+ * <p>
+ * Hits do not lock: entries are held in a {@link ConcurrentHashMap} and a hit only stamps the entry with a recency
+ * tick, skipped when the entry is already the most recently used. Stores, invalidations and evictions are serialized
+ * by a lock; eviction removes the entries with the oldest ticks. A cache is thread-safe and can be shared.
+ * </p>
+ * <pre>{@code
+ * QueryCache<Currency> currencies = QueryCache.builder(mapper)
+ *         .withMaximumWeight(16 * 1024 * 1024)
+ *         .withTimeToLive(Duration.ofMinutes(10))
+ *         .build();
+ *
+ * List<Currency> active = currencies.query(connection,
+ *         QueryKey.of("SELECT * FROM currencies WHERE active = ?", true).withTags("currencies"));
+ *
+ * currencies.invalidateTag("currencies");
+ * }</pre>
+ *
+ * @param <T> the type of the cached rows
+ */
+public final class QueryCache<T> {
+
+    /**
+     * Default maximum weight of the cached results, in bytes.
+     */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 32L * 1024 * 1024;
+
+    /**
+     * Default time to live of the cached results.
+     */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    /**
+     * Estimated weight of an entry besides its rows: the key, the entry and the list holding the rows.
+     */
+    private static final long ENTRY_OVERHEAD = 128;
+    private static final long REFERENCE_SIZE = 4;
+
+    private final ResultSetMapper<T> mapper;
+    private final long maximumWeight;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final ToLongFunction<? super T> weigher;
+
+    private final Map<QueryKey, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final Map<QueryKey, Load<T>> loads = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private final AtomicLong weight = new AtomicLong();
+    private final AtomicLong ticks = new AtomicLong();
+
+    private QueryCache(QueryCacheBuilder<T> builder) {
+        this.mapper = builder.mapper;
+        this.maximumWeight = builder.maximumWeight;
+        this.timeToLive = builder.timeToLive;
+        this.clock = builder.clock;
+        this.weigher = builder.weigher != null ? builder.weigher : defaultWeigher(builder.mapper);
+    }
+
+    /**
+     * Creates a new builder to configure a cache of results mapped with the given mapper.
+     *
+     * @param mapper the mapper used to map the rows of loaded results
+     * @param <T>    the type of the cached rows
+     * @return A new QueryCacheBuilder
+     */
+    public static <T> QueryCacheBuilder<T> builder(ResultSetMapper<T> mapper) {
+        return new QueryCacheBuilder<>(mapper);
+    }
+
+    /**
+     * Gets the cached result of a query, running it on the given connection on a miss.
+     * Parameters are bound in order with {@link PreparedStatement#setObject(int, Object)}.
+     *
+     * @param connection the connection used to run the query on a miss
+     * @param key        the query and its parameters
+     * @return an immutable list of the mapped rows
+     * @throws SQLException if the query fails
+     */
+    public List<T> query(Connection connection, QueryKey key) throws SQLException {
+        ValueUtils.requireNonNull(connection, "Connection can not be null");
+
+        return this.get(key, () -> {
+            try (PreparedStatement statement = connection.prepareStatement(key.getSql())) {
+                Object[] parameters = key.parameters();
+                for (int i = 0; i < parameters.length; i++) statement.setObject(i + 1, parameters[i]);
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return this.mapper.mapAll(resultSet);
+                }
+            }
+        });
+    }
+
+    /**
+     * Gets the cached result for a key, calling the loader on a miss.
+     *
+     * @param key    the key of the result
+     * @param loader the loader producing the rows on a miss
+     * @return an immutable list of the rows
+     * @throws SQLException          if the loader fails
+     * @throws IllegalStateException if called by the loader of the same key
+     */
+    public List<T> get(QueryKey key, Loader<T> loader) throws SQLException {
+        ValueUtils.requireNonNull(key, "Key can not be null");
+        ValueUtils.requireNonNull(loader, "Loader can not be null");
+
+        List<T> cached = this.lookup(key);
+        if (cached != null) return cached;
+
+        Load<T> load = new Load<>(Thread.currentThread());
+        Load<T> inFlight = this.loads.putIfAbsent(key, load);
+        if (inFlight != null) {
+            if (inFlight.owner == Thread.currentThread())
+                throw new IllegalStateException("Loader of " + key + " can not get the key it is loading");
+            return await(inFlight);
+        }
+
+        try {
+            // A concurrent load may have completed between the lookup and the registration of this one
+            List<T> rows = this.lookup(key);
+            if (rows == null) {
+                rows = Collections.unmodifiableList(new ArrayList<>(loader.load()));
+                this.store(key, rows, load);
+            }
+            load.complete(rows);
+            return rows;
+        } catch (SQLException | RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.loads.remove(key, load);
+        }
+    }
+
+    /**
+     * Gets the cached result for a key without loading it.
+     *
+     * @param key the key of the result
+     * @return an immutable list of the rows, or null if the key is not cached or has expired
+     */
+    public List<T> getIfPresent(QueryKey key) {
+        ValueUtils.requireNonNull(key, "Key can not be null");
+        return this.lookup(key);
+    }
+
+    /**
+     * Removes the cached result for a key, and discards the result of any load in flight for it.
+     *
+     * @param key the key of the result
+     */
+    public void invalidate(QueryKey key) {
+        ValueUtils.requireNonNull(key, "Key can not be null");
+
+        synchronized (this.writeLock) {
+            this.loads.remove(key);
+            Entry<T> entry = this.entries.remove(key);
+            if (entry != null) this.weight.addAndGet(-entry.weight);
+        }
+    }
+
+    /**
+     * Removes every cached result whose key has the given tag, and discards the result of any load in flight for
+     * such a key.
+     *
+     * @param tag the tag of the results
+     */
+    public void invalidateTag(String tag) {
+        ValueUtils.requireNonEmpty(tag, "Tag can not be empty");
+
+        synchronized (this.writeLock) {
+            this.loads.keySet().removeIf(key -> key.getTags().contains(tag));
+
+            for (Map.Entry<QueryKey, Entry<T>> next : this.entries.entrySet()) {
+                if (next.getKey().getTags().contains(tag)) this.remove(next.getKey(), next.getValue());
+            }
+        }
+    }
+
+    /**
+     * Removes every cached result, and discards the results of all loads in flight.
+     */
+    public void invalidateAll() {
+        synchronized (this.writeLock) {
+            this.loads.clear();
+            this.entries.forEach(this::remove);
+        }
+    }
+
+    /**
+     * Gets the number of cached results, including expired results not yet removed.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Gets the total estimated weight of the cached results.
+     *
+     * @return the weight in bytes
+     */
+    public long getWeight() {
+        return this.weight.get();
+    }
+
+    /**
+     * Estimates the weight of a result.
+     *
+     * @param rows the rows of the result
+     * @return the estimated weight in bytes
+     */
+    private long weigh(List<T> rows) {
+        long rowsWeight = ENTRY_OVERHEAD;
+        for (T row : rows) rowsWeight += REFERENCE_SIZE + (row != null ? this.weigher.applyAsLong(row) : 0);
+        return rowsWeight;
+    }
+
+    private List<T> lookup(QueryKey key) {
+        Entry<T> entry = this.entries.get(key);
+        if (entry == null) return null;
+
+        if (!this.clock.instant().isBefore(entry.expiresAt)) {
+            this.remove(key, entry);
+            return null;
+        }
+
+        // Only take a new tick when another entry was used since, so repeated hits on one entry do not write
+        if (entry.accessedAt != this.ticks.get()) entry.accessedAt = this.ticks.incrementAndGet();
+        return entry.rows;
+    }
+
+    private void store(QueryKey key, List<T> rows, Load<T> load) {
+        long entryWeight = this.weigh(rows);
+        if (entryWeight > this.maximumWeight) return;
+
+        Instant expiresAt = this.clock.instant().plus(this.timeToLive);
+
+        synchronized (this.writeLock) {
+            // The load was invalidated while in flight, its result may already be stale
+            if (this.loads.get(key) != load) return;
+
+            Entry<T> entry = new Entry<>(rows, entryWeight, expiresAt, this.ticks.incrementAndGet());
+            Entry<T> previous = this.entries.put(key, entry);
+            if (previous != null) this.weight.addAndGet(-previous.weight);
+            this.weight.addAndGet(entryWeight);
+
+            this.evict();
+        }
+    }
+
+    /**
+     * Removes expired entries, then the least recently used entries while the weight exceeds the maximum.
+     * Called with the write lock held.
+     */
+    private void evict() {
+        Instant now = this.clock.instant();
+        List<Map.Entry<QueryKey, Entry<T>>> candidates = new ArrayList<>(this.entries.size());
+
+        for (Map.Entry<QueryKey, Entry<T>> next : this.entries.entrySet()) {
+            if (now.isBefore(next.getValue().expiresAt)) candidates.add(next);
+            else this.remove(next.getKey(), next.getValue());
+        }
+
+        if (this.weight.get() <= this.maximumWeight) return;
+
+        candidates.sort(Comparator.comparingLong(next -> next.getValue().accessedAt));
+        for (Iterator<Map.Entry<QueryKey, Entry<T>>> iterator = candidates.iterator();
+             this.weight.get() > this.maximumWeight && iterator.hasNext(); ) {
+            Map.Entry<QueryKey, Entry<T>> eldest = iterator.next();
+            this.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    /**
+     * Removes an entry if it is still mapped to its key, so concurrent removals subtract its weight once.
+     *
+     * @param key   the key of the entry
+     * @param entry the entry
+     */
+    private void remove(QueryKey key, Entry<T> entry) {
+        if (this.entries.remove(key, entry)) this.weight.addAndGet(-entry.weight);
+    }
+
+    private static <T> List<T> await(CompletableFuture<List<T>> load) throws SQLException {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException) throw sqlException;
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            throw e;
+        }
+    }
+
+    private static <T> ToLongFunction<? super T> defaultWeigher(ResultSetMapper<T> mapper) {
+        if (!(mapper instanceof RowMapper<T> rowMapper)) return SizeEstimator::estimateValueSize;
+
+        List<Field> fields = new ArrayList<>();
+        for (FieldMapping mapping : rowMapper.getFieldMappings()) fields.add(mapping.getField());
+        return SizeEstimator.forFields(fields);
+    }
+
+    /**
+     * Loads the rows of a result on a cache miss.
+     *
+     * @param <T> the type of the rows
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+
+        /**
+         * Loads the rows of a result.
+         *
+         * @return the loaded rows, which may contain null rows
+         * @throws SQLException if the rows can not be loaded
+         */
+        List<T> load() throws SQLException;
+    }
+
+    private static final class Entry<T> {
+        private final List<T> rows;
+        private final long weight;
+        private final Instant expiresAt;
+        private volatile long accessedAt;
+
+        private Entry(List<T> rows, long weight, Instant expiresAt, long accessedAt) {
+            this.rows = rows;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+            this.accessedAt = accessedAt;
+        }
+    }
+
+    /**
+     * A load in flight, with the thread running the loader.
+     *
+     * @param <T> the type of the rows
+     */
+    private static final class Load<T> extends CompletableFuture<List<T>> {
+        private final Thread owner;
+
+        private Load(Thread owner) {
+            this.owner = owner;
+        }
+    }
+
+    /**
+     * Builder for creating QueryCache instances in a fluent manner.
+     *
+     * @param <T> the type of the cached rows
+     */
+    public static class QueryCacheBuilder<T> {
+        private final ResultSetMapper<T> mapper;
+        private long maximumWeight;
+        private Duration timeToLive;
+        private Clock clock;
+        private ToLongFunction<? super T> weigher;
+
+        /**
+         * Creates a new builder with the default maximum weight and time to live.
+         *
+         * @param mapper the mapper used to map the rows of loaded results
+         */
+        public QueryCacheBuilder(ResultSetMapper<T> mapper) {
+            this.mapper = mapper;
+            this.maximumWeight = DEFAULT_MAXIMUM_WEIGHT;
+            this.timeToLive = DEFAULT_TIME_TO_LIVE;
+            this.clock = Clock.systemUTC();
+        }
+
+        /**
+         * Sets the maximum total estimated weight of the cached results.
+         *
+         * @param bytes the maximum weight in bytes
+         * @return The builder for method chaining
+         */
+        public QueryCacheBuilder<T> withMaximumWeight(long bytes) {
+            this.maximumWeight = bytes;
+            return this;
+        }
+
+        /**
+         * Sets how long a result stays cached after it is loaded.
+         *
+         * @param timeToLive the time to live of the cached results
+         * @return The builder for method chaining
+         */
+        public QueryCacheBuilder<T> withTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Sets the function estimating the heap size of a row, replacing the default estimate.
+         *
+         * @param weigher the function returning the estimated size of a row in bytes, never called for null rows
+         * @return The builder for method chaining
+         */
+        public QueryCacheBuilder<T> withWeigher(ToLongFunction<? super T> weigher) {
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * Sets the clock used to expire results.
+         *
+         * @param clock the clock
+         * @return The builder for method chaining
+         */
+        public QueryCacheBuilder<T> withClock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds a QueryCache instance with the established configuration.
+         *
+         * @return A new QueryCache instance
+         * @throws IllegalArgumentException If any configured value is invalid
+         */
+        public QueryCache<T> build() {
+            ValueUtils.requireNonNull(this.mapper, "Mapper can not be null");
+            if (this.maximumWeight <= 0) throw new IllegalArgumentException("Maximum weight must be positive");
+            ValueUtils.requireNonNull(this.timeToLive, "Time to live can not be null");
+            if (this.timeToLive.isNegative() || this.timeToLive.isZero())
+                throw new IllegalArgumentException("Time to live must be positive");
+            ValueUtils.requireNonNull(this.clock, "Clock can not be null");
+
+            return new QueryCache<>(this);
+        }
+    }
+}
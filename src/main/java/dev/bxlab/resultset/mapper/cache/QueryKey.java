@@ -0,0 +1,112 @@
+package dev.bxlab.resultset.mapper.cache;
+
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Identifies a cached query result by its SQL and bound parameters.
+ * <p>
+ * Two keys are equal when their SQL and parameters are equal; array parameters are compared by content.
+ * Tags are not part of the identity, they group entries so related results can be invalidated together
+ * with {@link QueryCache#invalidateTag(String)}.
+ * </p>
+ */
+public final class QueryKey {
+    private final String sql;
+    private final Object[] parameters;
+    private final Set<String> tags;
+    private final int hashCode;
+
+    private QueryKey(String sql, Object[] parameters, Set<String> tags) {
+        this.sql = sql;
+        this.parameters = parameters;
+        this.tags = tags;
+        this.hashCode = 31 * sql.hashCode() + Arrays.deepHashCode(parameters);
+    }
+
+    /**
+     * Creates a key for a query and its parameters, in bind order.
+     *
+     * @param sql        the query
+     * @param parameters the bound parameters, may contain nulls
+     * @return a new key without tags
+     * @throws IllegalArgumentException if the query is empty
+     */
+    public static QueryKey of(String sql, Object... parameters) {
+        ValueUtils.requireNonEmpty(sql, "SQL can not be empty");
+
+        Object[] values = parameters == null ? new Object[0] : parameters.clone();
+        return new QueryKey(sql, values, Set.of());
+    }
+
+    /**
+     * Creates a copy of this key with the given tags added.
+     *
+     * @param tags the tags of the cached entry
+     * @return a new key with the same identity and the combined tags
+     * @throws IllegalArgumentException if any tag is empty
+     */
+    public QueryKey withTags(String... tags) {
+        ValueUtils.requireNonNull(tags, "Tags can not be null");
+
+        Set<String> combined = new LinkedHashSet<>(this.tags);
+        for (String tag : tags) combined.add(ValueUtils.requireNonEmpty(tag, "Tag can not be empty"));
+
+        return new QueryKey(this.sql, this.parameters, Collections.unmodifiableSet(combined));
+    }
+
+    /**
+     * Gets the query.
+     *
+     * @return the SQL of the query
+     */
+    public String getSql() {
+        return this.sql;
+    }
+
+    /**
+     * Gets the bound parameters, in bind order.
+     *
+     * @return an unmodifiable list of the parameters
+     */
+    public List<Object> getParameters() {
+        return Collections.unmodifiableList(Arrays.asList(this.parameters));
+    }
+
+    /**
+     * Gets the tags of the entry.
+     *
+     * @return an unmodifiable set of the tags
+     */
+    public Set<String> getTags() {
+        return this.tags;
+    }
+
+    Object[] parameters() {
+        return this.parameters;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof QueryKey key)) return false;
+        return this.hashCode == key.hashCode
+                && this.sql.equals(key.sql)
+                && Arrays.deepEquals(this.parameters, key.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryKey{sql='" + this.sql + "', parameters=" + Arrays.deepToString(this.parameters) + ", tags=" + this.tags + "}";
+    }
+}
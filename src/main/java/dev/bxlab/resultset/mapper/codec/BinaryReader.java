@@ -0,0 +1,131 @@
+package dev.bxlab.resultset.mapper.codec;
+
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads values written by a {@link BinaryWriter} from a {@link ByteBuffer}.
+ * The reader advances the position of the wrapped buffer.
+ */
+public final class BinaryReader {
+    private final ByteBuffer buffer;
+
+    /**
+     * Creates a reader over the remaining bytes of the given buffer.
+     *
+     * @param buffer the buffer to read from
+     */
+    public BinaryReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Reads a single byte.
+     *
+     * @return the byte read
+     */
+    public byte readByte() {
+        return this.buffer.get();
+    }
+
+    /**
+     * Reads an unsigned variable-length integer.
+     *
+     * @return the value read
+     * @throws IllegalStateException if the encoded value is longer than 10 bytes
+     */
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte current = this.buffer.get();
+            value |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) return value;
+        }
+        throw new IllegalStateException("Malformed variable-length integer");
+    }
+
+    /**
+     * Reads a signed zig-zag encoded variable-length integer.
+     *
+     * @return the value read
+     */
+    public long readZigZag() {
+        long value = this.readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads a fixed-length 4-byte integer in big-endian order.
+     *
+     * @return the value read
+     */
+    public int readInt() {
+        return this.buffer.getInt();
+    }
+
+    /**
+     * Reads a fixed-length 8-byte integer in big-endian order.
+     *
+     * @return the value read
+     */
+    public long readLong() {
+        return this.buffer.getLong();
+    }
+
+    /**
+     * Reads the length prefix of a byte array, string or array of elements.
+     * Every byte or element takes at least one byte, so the length can not exceed the remaining bytes; checking it
+     * before allocating keeps corrupt or stale data from triggering huge allocations.
+     *
+     * @return the length read
+     * @throws MappingException if the length is negative or larger than the remaining bytes
+     */
+    public int readLength() {
+        long length = this.readVarLong();
+        if (length < 0 || length > this.buffer.remaining()) {
+            throw new MappingException("Malformed encoded data: length " + length + " exceeds the " + this.buffer.remaining() + " remaining bytes");
+        }
+        return (int) length;
+    }
+
+    /**
+     * Reads a length-prefixed byte array.
+     *
+     * @return the bytes read
+     * @throws MappingException if the length prefix is malformed
+     */
+    public byte[] readBytes() {
+        byte[] bytes = new byte[this.readLength()];
+        this.buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string.
+     *
+     * @return the string read
+     * @throws MappingException if the length prefix is malformed
+     */
+    public String readString() {
+        int length = this.readLength();
+        if (this.buffer.hasArray()) {
+            int offset = this.buffer.arrayOffset() + this.buffer.position();
+            this.buffer.position(this.buffer.position() + length);
+            return new String(this.buffer.array(), offset, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        this.buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the number of bytes left to read.
+     *
+     * @return the remaining bytes
+     */
+    public int remaining() {
+        return this.buffer.remaining();
+    }
+}
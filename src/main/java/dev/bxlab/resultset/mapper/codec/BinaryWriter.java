@@ -0,0 +1,174 @@
+package dev.bxlab.resultset.mapper.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer for writing compact binary values.
+ * Integers are written as variable-length quantities (zig-zag encoded when signed),
+ * so small values take a single byte. Instances are not thread-safe and are meant to be reused.
+ */
+public final class BinaryWriter {
+    private byte[] buffer;
+    private int size;
+
+    /**
+     * Creates a writer with a default initial capacity.
+     */
+    public BinaryWriter() {
+        this(256);
+    }
+
+    /**
+     * Creates a writer with the given initial capacity.
+     *
+     * @param initialCapacity the initial capacity in bytes
+     */
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    /**
+     * Writes a single byte.
+     *
+     * @param value the byte to write
+     */
+    public void writeByte(int value) {
+        this.ensureCapacity(1);
+        this.buffer[this.size++] = (byte) value;
+    }
+
+    /**
+     * Writes an unsigned variable-length integer.
+     *
+     * @param value the value to write, interpreted as unsigned
+     */
+    public void writeVarLong(long value) {
+        this.ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            this.buffer[this.size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.buffer[this.size++] = (byte) value;
+    }
+
+    /**
+     * Writes a signed variable-length integer using zig-zag encoding.
+     *
+     * @param value the value to write
+     */
+    public void writeZigZag(long value) {
+        this.writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Writes a fixed-length 4-byte integer in big-endian order.
+     *
+     * @param value the value to write
+     */
+    public void writeInt(int value) {
+        this.ensureCapacity(4);
+        this.buffer[this.size++] = (byte) (value >>> 24);
+        this.buffer[this.size++] = (byte) (value >>> 16);
+        this.buffer[this.size++] = (byte) (value >>> 8);
+        this.buffer[this.size++] = (byte) value;
+    }
+
+    /**
+     * Writes a fixed-length 8-byte integer in big-endian order.
+     *
+     * @param value the value to write
+     */
+    public void writeLong(long value) {
+        this.writeInt((int) (value >>> 32));
+        this.writeInt((int) value);
+    }
+
+    /**
+     * Writes a length-prefixed byte array.
+     *
+     * @param bytes the bytes to write
+     */
+    public void writeBytes(byte[] bytes) {
+        this.writeVarLong(bytes.length);
+        this.ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, this.buffer, this.size, bytes.length);
+        this.size += bytes.length;
+    }
+
+    /**
+     * Writes a length-prefixed UTF-8 string.
+     *
+     * @param value the string to write
+     */
+    public void writeString(String value) {
+        this.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reserves the given number of zeroed bytes, to be filled later with {@link #setByte(int, int)}.
+     *
+     * @param bytes the number of bytes to reserve
+     * @return the position of the first reserved byte
+     */
+    public int reserve(int bytes) {
+        this.ensureCapacity(bytes);
+        int position = this.size;
+        Arrays.fill(this.buffer, position, position + bytes, (byte) 0);
+        this.size += bytes;
+        return position;
+    }
+
+    /**
+     * Overwrites a previously written or reserved byte.
+     *
+     * @param position the position of the byte
+     * @param value    the new value
+     */
+    public void setByte(int position, int value) {
+        this.buffer[position] = (byte) value;
+    }
+
+    /**
+     * Gets the number of bytes written since the last reset.
+     *
+     * @return the number of bytes written
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Discards the written bytes, keeping the allocated capacity.
+     */
+    public void reset() {
+        this.size = 0;
+    }
+
+    /**
+     * Copies the written bytes into a new array.
+     *
+     * @return the written bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(this.buffer, this.size);
+    }
+
+    /**
+     * Wraps the written bytes in a buffer without copying them.
+     * The buffer is only valid until the writer is reset or written again.
+     *
+     * @return a buffer over the written bytes
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(this.buffer, 0, this.size);
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = this.size + additional;
+        if (required > this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.max(required, this.buffer.length * 2));
+        }
+    }
+}
@@ -0,0 +1,561 @@
+package dev.bxlab.resultset.mapper.codec;
+
+import dev.bxlab.resultset.mapper.configs.FieldConfig;
+import dev.bxlab.resultset.mapper.converters.BoundConverter;
+import dev.bxlab.resultset.mapper.core.FieldMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.exceptions.ColumnNotFoundException;
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Streams the rows of a {@link ResultSet} to CSV or TSV, without mapping them to objects.
+ * <p>
+ * The exported columns, their order and their labels come from the field mappings of a {@link RowMapper}. Each
+ * column gets a cell writer resolved once from its field type: integer and boolean columns are read with their
+ * primitive getters and written as ASCII digits, date/time columns are read with the mapping converter and formatted
+ * with the configured formatters, and other columns are written from {@link ResultSet#getString(int)}. Cells are
+ * escaped and encoded as UTF-8 directly into a single reusable buffer, which is written to the channel when full.
+ * </p>
+ * <pre>{@code
+ * DelimitedExporter exporter = DelimitedExporter.builder(mapper)
+ *         .withFormat(DelimitedFormat.CSV)
+ *         .withDateFormatter(DateTimeFormatter.ofPattern("dd/MM/yyyy"))
+ *         .build();
+ *
+ * try (OutputStream out = Files.newOutputStream(path)) {
+ *     exporter.export(resultSet, out);
+ * }
+ * }</pre>
+ * <p>
+ * An exporter is immutable and can be shared between threads; each export uses its own buffer.
+ * </p>
+ */
+public final class DelimitedExporter {
+
+    /**
+     * Default size of the encode buffer, in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final List<Column> columns;
+    private final DelimitedFormat format;
+    private final boolean header;
+    private final int bufferSize;
+
+    private DelimitedExporter(DelimitedExporterBuilder builder, List<Column> columns) {
+        this.columns = List.copyOf(columns);
+        this.format = builder.format;
+        this.header = builder.header;
+        this.bufferSize = builder.bufferSize;
+    }
+
+    /**
+     * Creates a new builder to configure an exporter of the columns mapped by the given mapper.
+     *
+     * @param mapper the mapper whose field mappings define the exported columns
+     * @return A new DelimitedExporterBuilder
+     */
+    public static DelimitedExporterBuilder builder(RowMapper<?> mapper) {
+        return new DelimitedExporterBuilder(mapper);
+    }
+
+    /**
+     * Exports all remaining rows of a result set to an output stream.
+     * The stream is not closed.
+     *
+     * @param resultSet the result set to export
+     * @param out       the stream receiving the encoded rows
+     * @return the number of exported rows, excluding the header
+     * @throws SQLException            if a database access error occurs
+     * @throws IOException             if the rows can not be written
+     * @throws ColumnNotFoundException if an exported column is missing from the result set
+     */
+    public long export(ResultSet resultSet, OutputStream out) throws SQLException, IOException {
+        ValueUtils.requireNonNull(out, "Output stream can not be null");
+        long rows = this.export(resultSet, Channels.newChannel(out));
+        out.flush();
+        return rows;
+    }
+
+    /**
+     * Exports all remaining rows of a result set to a channel.
+     * The channel is not closed.
+     *
+     * @param resultSet the result set to export
+     * @param channel   the channel receiving the encoded rows
+     * @return the number of exported rows, excluding the header
+     * @throws SQLException            if a database access error occurs
+     * @throws IOException             if the rows can not be written
+     * @throws ColumnNotFoundException if an exported column is missing from the result set
+     */
+    public long export(ResultSet resultSet, WritableByteChannel channel) throws SQLException, IOException {
+        ValueUtils.requireNonNull(resultSet, "Result set can not be null");
+        ValueUtils.requireNonNull(channel, "Channel can not be null");
+
+        int[] indexes = this.resolveIndexes(resultSet.getMetaData());
+        Encoder encoder = new Encoder(channel, this.format, this.bufferSize);
+
+        if (this.header) {
+            for (int i = 0; i < this.columns.size(); i++) {
+                if (i > 0) encoder.writeDelimiter();
+                encoder.writeText(this.columns.get(i).label());
+            }
+            encoder.writeLineSeparator();
+        }
+
+        long rows = 0;
+        while (resultSet.next()) {
+            for (int i = 0; i < indexes.length; i++) {
+                if (i > 0) encoder.writeDelimiter();
+                this.columns.get(i).writer().write(resultSet, indexes[i], encoder);
+            }
+            encoder.writeLineSeparator();
+            rows++;
+        }
+
+        encoder.flush();
+        return rows;
+    }
+
+    /**
+     * Gets the exported format.
+     *
+     * @return the delimited format
+     */
+    public DelimitedFormat getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Gets the labels of the exported columns.
+     *
+     * @return the column labels, in export order
+     */
+    public List<String> getColumnNames() {
+        List<String> names = new ArrayList<>(this.columns.size());
+        for (Column column : this.columns) names.add(column.label());
+        return names;
+    }
+
+    /**
+     * Resolves the position of every exported column, matching labels case-insensitively.
+     *
+     * @param metaData the metadata of the exported result set
+     * @return the one-based column indexes, in export order
+     * @throws SQLException            if a database access error occurs
+     * @throws ColumnNotFoundException if an exported column is missing
+     */
+    private int[] resolveIndexes(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        int[] indexes = new int[this.columns.size()];
+
+        for (int i = 0; i < indexes.length; i++) {
+            String label = this.columns.get(i).label();
+            for (int column = 1; column <= columnCount && indexes[i] == 0; column++) {
+                if (metaData.getColumnLabel(column).equalsIgnoreCase(label)) indexes[i] = column;
+            }
+            if (indexes[i] == 0) throw new ColumnNotFoundException(label);
+        }
+
+        return indexes;
+    }
+
+    /**
+     * Writes the value of a column at the current row.
+     */
+    @FunctionalInterface
+    private interface CellWriter {
+        void write(ResultSet resultSet, int index, Encoder out) throws SQLException, IOException;
+    }
+
+    /**
+     * An exported column with the writer resolved from its field type.
+     *
+     * @param label  the column label
+     * @param writer the cell writer
+     */
+    private record Column(String label, CellWriter writer) {
+    }
+
+    /**
+     * Escapes and encodes cells as UTF-8 into a reusable buffer, writing it to the channel when full.
+     */
+    private static final class Encoder {
+        private static final int MAX_CHAR_BYTES = 4;
+
+        private final WritableByteChannel channel;
+        private final DelimitedFormat format;
+        private final ByteBuffer buffer;
+        private final byte[] digits = new byte[20];
+        private final StringBuilder scratch = new StringBuilder(32);
+
+        private Encoder(WritableByteChannel channel, DelimitedFormat format, int bufferSize) {
+            this.channel = channel;
+            this.format = format;
+            this.buffer = ByteBuffer.allocate(bufferSize);
+        }
+
+        void writeDelimiter() throws IOException {
+            this.ensureCapacity(1);
+            this.buffer.put((byte) this.format.getDelimiter());
+        }
+
+        void writeLineSeparator() throws IOException {
+            this.writeAscii(this.format.getLineSeparator());
+        }
+
+        /**
+         * Writes a long as ASCII digits without creating a string.
+         *
+         * @param value the value to write
+         * @throws IOException if the buffer can not be flushed
+         */
+        void writeLong(long value) throws IOException {
+            this.ensureCapacity(20);
+            if (value == Long.MIN_VALUE) {
+                this.writeAscii("-9223372036854775808");
+                return;
+            }
+            if (value < 0) {
+                this.buffer.put((byte) '-');
+                value = -value;
+            }
+
+            int length = 0;
+            do {
+                this.digits[length++] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value != 0);
+
+            while (length > 0) this.buffer.put(this.digits[--length]);
+        }
+
+        void writeAscii(String value) throws IOException {
+            for (int i = 0; i < value.length(); i++) {
+                this.ensureCapacity(1);
+                this.buffer.put((byte) value.charAt(i));
+            }
+        }
+
+        /**
+         * Formats a date/time value into the scratch buffer and writes it as an escaped cell.
+         *
+         * @param formatter the formatter
+         * @param value     the value to format
+         * @throws IOException if the buffer can not be flushed
+         */
+        void writeFormatted(DateTimeFormatter formatter, TemporalAccessor value) throws IOException {
+            this.scratch.setLength(0);
+            formatter.formatTo(value, this.scratch);
+            this.writeText(this.scratch);
+        }
+
+        /**
+         * Writes a text cell, quoted or escaped according to the format.
+         *
+         * @param text the cell text
+         * @throws IOException if the buffer can not be flushed
+         */
+        void writeText(CharSequence text) throws IOException {
+            int length = text.length();
+
+            if (this.format.isQuoted()) {
+                boolean quote = this.needsQuotes(text);
+                if (quote) this.writeChar('"');
+                for (int i = 0; i < length; i++) {
+                    char c = text.charAt(i);
+                    if (c == '"') this.writeChar('"');
+                    i = this.writeCodePoint(text, i);
+                }
+                if (quote) this.writeChar('"');
+                return;
+            }
+
+            for (int i = 0; i < length; i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '\t' -> this.writeEscape('t');
+                    case '\n' -> this.writeEscape('n');
+                    case '\r' -> this.writeEscape('r');
+                    case '\\' -> this.writeEscape('\\');
+                    default -> i = this.writeCodePoint(text, i);
+                }
+            }
+        }
+
+        void flush() throws IOException {
+            this.buffer.flip();
+            while (this.buffer.hasRemaining()) this.channel.write(this.buffer);
+            this.buffer.clear();
+        }
+
+        private boolean needsQuotes(CharSequence text) {
+            char delimiter = this.format.getDelimiter();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == delimiter || c == '"' || c == '\n' || c == '\r') return true;
+            }
+            return false;
+        }
+
+        private void writeEscape(char c) throws IOException {
+            this.ensureCapacity(2);
+            this.buffer.put((byte) '\\');
+            this.buffer.put((byte) c);
+        }
+
+        private void writeChar(char c) throws IOException {
+            this.ensureCapacity(1);
+            this.buffer.put((byte) c);
+        }
+
+        /**
+         * Encodes the character at the given position as UTF-8, combining surrogate pairs.
+         *
+         * @param text  the text
+         * @param index the position of the character
+         * @return the position of the last character consumed
+         * @throws IOException if the buffer can not be flushed
+         */
+        private int writeCodePoint(CharSequence text, int index) throws IOException {
+            this.ensureCapacity(MAX_CHAR_BYTES);
+            char c = text.charAt(index);
+
+            if (c < 0x80) {
+                this.buffer.put((byte) c);
+            } else if (c < 0x800) {
+                this.buffer.put((byte) (0xC0 | (c >> 6)));
+                this.buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && index + 1 < text.length() && Character.isLowSurrogate(text.charAt(index + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++index));
+                this.buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                this.buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                this.buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                this.buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                this.buffer.put((byte) '?');
+            } else {
+                this.buffer.put((byte) (0xE0 | (c >> 12)));
+                this.buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                this.buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+
+            return index;
+        }
+
+        private void ensureCapacity(int bytes) throws IOException {
+            if (this.buffer.remaining() < bytes) this.flush();
+        }
+    }
+
+    /**
+     * Builder for creating DelimitedExporter instances in a fluent manner.
+     */
+    public static class DelimitedExporterBuilder {
+        private final RowMapper<?> mapper;
+        private DelimitedFormat format;
+        private boolean header;
+        private int bufferSize;
+        private DateTimeFormatter dateFormatter;
+        private DateTimeFormatter dateTimeFormatter;
+        private DateTimeFormatter offsetDateTimeFormatter;
+
+        /**
+         * Creates a new builder exporting CSV with a header row and ISO-8601 dates.
+         *
+         * @param mapper the mapper whose field mappings define the exported columns
+         */
+        public DelimitedExporterBuilder(RowMapper<?> mapper) {
+            this.mapper = mapper;
+            this.format = DelimitedFormat.CSV;
+            this.header = true;
+            this.bufferSize = DEFAULT_BUFFER_SIZE;
+            this.dateFormatter = DateTimeFormatter.ISO_LOCAL_DATE;
+            this.dateTimeFormatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+            this.offsetDateTimeFormatter = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+        }
+
+        /**
+         * Sets the exported format.
+         *
+         * @param format the delimited format
+         * @return The builder for method chaining
+         */
+        public DelimitedExporterBuilder withFormat(DelimitedFormat format) {
+            this.format = format;
+            return this;
+        }
+
+        /**
+         * Sets whether a header row with the column labels is written first.
+         *
+         * @param header true to write a header row
+         * @return The builder for method chaining
+         */
+        public DelimitedExporterBuilder withHeader(boolean header) {
+            this.header = header;
+            return this;
+        }
+
+        /**
+         * Sets the size of the encode buffer.
+         *
+         * @param bytes the number of bytes encoded before each write to the channel
+         * @return The builder for method chaining
+         */
+        public DelimitedExporterBuilder withBufferSize(int bytes) {
+            this.bufferSize = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the formatter of {@link LocalDate} fields.
+         *
+         * @param formatter the date formatter
+         * @return The builder for method chaining
+         */
+        public DelimitedExporterBuilder withDateFormatter(DateTimeFormatter formatter) {
+            this.dateFormatter = formatter;
+            return this;
+        }
+
+        /**
+         * Sets the formatter of {@link LocalDateTime} and {@link Date} fields.
+         *
+         * @param formatter the date-time formatter
+         * @return The builder for method chaining
+         */
+        public DelimitedExporterBuilder withDateTimeFormatter(DateTimeFormatter formatter) {
+            this.dateTimeFormatter = formatter;
+            return this;
+        }
+
+        /**
+         * Sets the formatter of {@link OffsetDateTime} and {@link ZonedDateTime} fields.
+         *
+         * @param formatter the date-time formatter, which should print the offset
+         * @return The builder for method chaining
+         */
+        public DelimitedExporterBuilder withOffsetDateTimeFormatter(DateTimeFormatter formatter) {
+            this.offsetDateTimeFormatter = formatter;
+            return this;
+        }
+
+        /**
+         * Builds a DelimitedExporter instance with the established configuration.
+         *
+         * @return A new DelimitedExporter instance
+         * @throws IllegalArgumentException If any configured value is invalid or the mapper has no mapped fields
+         */
+        public DelimitedExporter build() {
+            ValueUtils.requireNonNull(this.mapper, "Mapper can not be null");
+            ValueUtils.requireNonNull(this.format, "Format can not be null");
+            ValueUtils.requireNonNull(this.dateFormatter, "Date formatter can not be null");
+            ValueUtils.requireNonNull(this.dateTimeFormatter, "Date-time formatter can not be null");
+            ValueUtils.requireNonNull(this.offsetDateTimeFormatter, "Offset date-time formatter can not be null");
+            if (this.bufferSize < 64) throw new IllegalArgumentException("Buffer size must be at least 64 bytes");
+
+            List<FieldMapping> mappings = this.mapper.getFieldMappings();
+            ValueUtils.requireNonEmpty(mappings, "Mapper has no mapped fields");
+
+            List<Column> columns = new ArrayList<>(mappings.size());
+            for (FieldMapping mapping : mappings) columns.add(new Column(mapping.getColumnName(), this.writerOf(mapping)));
+
+            return new DelimitedExporter(this, columns);
+        }
+
+        /**
+         * Resolves the cell writer of a field from its type.
+         *
+         * @param mapping the field mapping
+         * @return the cell writer
+         */
+        private CellWriter writerOf(FieldMapping mapping) {
+            Class<?> type = mapping.getFieldType();
+
+            if (type == long.class || type == Long.class || type == int.class || type == Integer.class
+                    || type == short.class || type == Short.class) {
+                return (resultSet, index, out) -> {
+                    long value = resultSet.getLong(index);
+                    if (!resultSet.wasNull()) out.writeLong(value);
+                };
+            }
+            if (type == boolean.class || type == Boolean.class) {
+                return (resultSet, index, out) -> {
+                    boolean value = resultSet.getBoolean(index);
+                    if (!resultSet.wasNull()) out.writeAscii(value ? "true" : "false");
+                };
+            }
+            if (type == BigDecimal.class) {
+                return (resultSet, index, out) -> {
+                    BigDecimal value = resultSet.getBigDecimal(index);
+                    if (value != null) out.writeAscii(value.toPlainString());
+                };
+            }
+            if (type == LocalDate.class) return this.temporalWriter(mapping, this.dateFormatter);
+            if (type == LocalDateTime.class) return this.temporalWriter(mapping, this.dateTimeFormatter);
+            if (type == OffsetDateTime.class || type == ZonedDateTime.class)
+                return this.temporalWriter(mapping, this.offsetDateTimeFormatter);
+            if (type == Date.class) {
+                BoundConverter<?> converter = this.converterOf(mapping);
+                DateTimeFormatter formatter = this.dateTimeFormatter;
+                String column = mapping.getColumnName();
+                return (resultSet, index, out) -> {
+                    Date value = (Date) converter.read(resultSet, column);
+                    if (value != null) out.writeFormatted(formatter, new Timestamp(value.getTime()).toLocalDateTime());
+                };
+            }
+
+            return (resultSet, index, out) -> {
+                String value = resultSet.getString(index);
+                if (value != null) out.writeText(value);
+            };
+        }
+
+        private CellWriter temporalWriter(FieldMapping mapping, DateTimeFormatter formatter) {
+            BoundConverter<?> converter = this.converterOf(mapping);
+            String column = mapping.getColumnName();
+
+            return (resultSet, index, out) -> {
+                TemporalAccessor value = (TemporalAccessor) converter.read(resultSet, column);
+                if (value != null) out.writeFormatted(formatter, value);
+            };
+        }
+
+        /**
+         * Binds the converter of a date/time field, so string columns with a format attribute are parsed once.
+         *
+         * @param mapping the field mapping
+         * @return the bound converter
+         * @throws IllegalArgumentException if the field has no converter
+         */
+        private BoundConverter<?> converterOf(FieldMapping mapping) {
+            return mapping.getConverter()
+                    .orElseThrow(() -> new IllegalArgumentException("Field '" + mapping.getFieldName() + "' has no converter"))
+                    .bind(FieldConfig.builder()
+                            .toColumn(mapping.getColumnName())
+                            .withAttributes(mapping.getAttributes())
+                            .build());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package dev.bxlab.resultset.mapper.codec;
+
+/**
+ * Text formats written by {@link DelimitedExporter}.
+ * Null values are written as empty fields in both formats.
+ */
+public enum DelimitedFormat {
+    /**
+     * Comma-separated values as defined by RFC 4180: fields containing a comma, a double quote or a line break are
+     * enclosed in double quotes, and double quotes inside them are doubled. Records end with CRLF.
+     */
+    CSV(',', "\r\n", true),
+
+    /**
+     * Tab-separated values: tabs, line breaks and backslashes inside fields are escaped as {@code \t}, {@code \n},
+     * {@code \r} and {@code \\}, as read by PostgreSQL {@code COPY} and most TSV readers. Records end with LF.
+     */
+    TSV('\t', "\n", false);
+
+
+    private final char delimiter;
+    private final String lineSeparator;
+    private final boolean quoted;
+
+    /**
+     * Creates a delimited format.
+     *
+     * @param delimiter     the field delimiter
+     * @param lineSeparator the record separator
+     * @param quoted        true to quote special fields, false to escape special characters with backslashes
+     */
+    DelimitedFormat(char delimiter, String lineSeparator, boolean quoted) {
+        this.delimiter = delimiter;
+        this.lineSeparator = lineSeparator;
+        this.quoted = quoted;
+    }
+
+    /**
+     * Gets the field delimiter.
+     *
+     * @return the delimiter character
+     */
+    public char getDelimiter() {
+        return this.delimiter;
+    }
+
+    /**
+     * Gets the record separator.
+     *
+     * @return the line separator written after each record
+     */
+    public String getLineSeparator() {
+        return this.lineSeparator;
+    }
+
+    /**
+     * Checks whether special fields are enclosed in quotes rather than escaped with backslashes.
+     *
+     * @return true for quoted fields, false for backslash escapes
+     */
+    boolean isQuoted() {
+        return this.quoted;
+    }
+}
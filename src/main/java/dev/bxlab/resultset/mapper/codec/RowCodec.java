@@ -0,0 +1,273 @@
+package dev.bxlab.resultset.mapper.codec;
+
+import dev.bxlab.resultset.mapper.core.FieldMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+import dev.bxlab.resultset.mapper.exceptions.ObjectInstantiationException;
+import dev.bxlab.resultset.mapper.exceptions.SchemaMismatchException;
+import dev.bxlab.resultset.mapper.utils.InstanceFactory;
+import dev.bxlab.resultset.mapper.utils.SizeEstimator;
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Compact binary codec for mapped objects, derived from the field plan of a {@link RowMapper}.
+ * <p>
+ * The schema is the ordered list of mapped fields with their types and nullability. An encoded value starts with
+ * an 8-byte schema hash, followed by the row body: a null bitmap with one bit per nullable (non-primitive) field,
+ * then the non-null field values in field declaration order, each written with the {@link ValueEncoding} of its
+ * declared type. Field names are not written. Decoding data written with a different schema fails with a
+ * {@link SchemaMismatchException}, so stale cache entries are rejected instead of being decoded incorrectly.
+ * Field types without a {@link ValueEncoding} are rejected when the codec is created; Java serialization is never
+ * used, so decoding untrusted bytes can only produce the declared field types.
+ * </p>
+ * <p>
+ * Decoded objects are created through the same {@link InstanceFactory} instantiation path used by the mapper.
+ * A codec is immutable and can be shared between threads.
+ * </p>
+ *
+ * @param <T> the type of the encoded objects
+ */
+public final class RowCodec<T> {
+
+    /**
+     * Version of the binary format, part of the schema hash.
+     */
+    public static final int FORMAT_VERSION = 3;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Class<T> targetType;
+    private final Field[] fields;
+    private final ValueEncoding[] encodings;
+    private final int[] nullBits;
+    private final int bitmapSize;
+    private final long schemaHash;
+    private final InstanceFactory<T> instanceFactory;
+    private final ToLongFunction<Object> sizeEstimator;
+
+    /**
+     * Creates a codec for the given field plan.
+     *
+     * @param targetType the type of the encoded objects
+     * @param mappings   the field mappings to encode, in encoding order
+     * @throws MappingException if a field type has no binary encoding
+     */
+    public RowCodec(Class<T> targetType, List<FieldMapping> mappings) {
+        ValueUtils.requireNonNull(targetType, "Target type can not be null");
+        ValueUtils.requireNonNull(mappings, "Field mappings can not be null");
+
+        this.targetType = targetType;
+        this.fields = new Field[mappings.size()];
+        this.encodings = new ValueEncoding[mappings.size()];
+        this.nullBits = new int[mappings.size()];
+
+        int nullableFields = 0;
+        for (int i = 0; i < this.fields.length; i++) {
+            Field field = mappings.get(i).getField();
+            field.setAccessible(true);
+            this.fields[i] = field;
+            this.encodings[i] = encodingOf(field);
+            this.nullBits[i] = field.getType().isPrimitive() ? -1 : nullableFields++;
+        }
+
+        this.bitmapSize = (nullableFields + 7) / 8;
+        this.schemaHash = this.computeSchemaHash();
+        this.instanceFactory = InstanceFactory.of(targetType, Arrays.asList(this.fields));
+        this.sizeEstimator = SizeEstimator.forFields(Arrays.asList(this.fields));
+    }
+
+    private static ValueEncoding encodingOf(Field field) {
+        try {
+            return ValueEncoding.forType(field.getType());
+        } catch (MappingException e) {
+            throw new MappingException("Field '" + field.getName() + "' can not be encoded: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates a codec for the field plan of a mapper.
+     *
+     * @param mapper the mapper whose field plan is used
+     * @param <T>    the type of the encoded objects
+     * @return a new codec
+     * @throws MappingException if a field type has no binary encoding
+     */
+    public static <T> RowCodec<T> of(RowMapper<T> mapper) {
+        ValueUtils.requireNonNull(mapper, "Mapper can not be null");
+        return new RowCodec<>(mapper.getTargetType(), mapper.getFieldMappings());
+    }
+
+    /**
+     * Encodes an object, including the schema hash.
+     *
+     * @param value the object to encode
+     * @return the encoded bytes
+     * @throws MappingException if a field value can not be read or encoded
+     */
+    public byte[] encode(T value) {
+        BinaryWriter writer = new BinaryWriter();
+        this.encode(value, writer);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Encodes an object, including the schema hash, appending its bytes to the writer.
+     *
+     * @param value the object to encode
+     * @param out   the writer to append to
+     * @throws MappingException if a field value can not be read or encoded
+     */
+    public void encode(T value, BinaryWriter out) {
+        out.writeLong(this.schemaHash);
+        this.writeRow(value, out);
+    }
+
+    /**
+     * Decodes an object encoded with {@link #encode(Object)}.
+     *
+     * @param bytes the encoded bytes
+     * @return the decoded object
+     * @throws SchemaMismatchException      if the bytes were encoded with a different schema
+     * @throws ObjectInstantiationException if the object can not be created
+     */
+    public T decode(byte[] bytes) {
+        return this.decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes an object encoded with {@link #encode(Object)}, advancing the position of the buffer.
+     *
+     * @param buffer the buffer positioned at the start of an encoded object
+     * @return the decoded object
+     * @throws SchemaMismatchException      if the bytes were encoded with a different schema
+     * @throws ObjectInstantiationException if the object can not be created
+     */
+    public T decode(ByteBuffer buffer) {
+        BinaryReader reader = new BinaryReader(buffer);
+
+        long hash = reader.readLong();
+        if (hash != this.schemaHash) throw new SchemaMismatchException(this.schemaHash, hash);
+
+        return this.readRow(reader);
+    }
+
+    /**
+     * Writes the row body of an object, without the schema hash.
+     * Intended for containers that store the schema hash once for many rows.
+     *
+     * @param value the object to encode
+     * @param out   the writer to append to
+     * @throws MappingException if a field value can not be read or encoded
+     */
+    public void writeRow(T value, BinaryWriter out) {
+        int bitmapPosition = out.reserve(this.bitmapSize);
+        int bitmapByte = 0;
+        int currentByte = 0;
+
+        for (int i = 0; i < this.fields.length; i++) {
+            Object fieldValue = this.readField(value, i);
+            int nullBit = this.nullBits[i];
+
+            if (nullBit >= 0 && (nullBit >> 3) != currentByte) {
+                out.setByte(bitmapPosition + currentByte, bitmapByte);
+                currentByte = nullBit >> 3;
+                bitmapByte = 0;
+            }
+
+            if (fieldValue == null) {
+                bitmapByte |= 1 << (nullBit & 7);
+            } else {
+                this.encodings[i].write(out, fieldValue);
+            }
+        }
+
+        if (this.bitmapSize > 0) out.setByte(bitmapPosition + currentByte, bitmapByte);
+    }
+
+    /**
+     * Reads a row body written by {@link #writeRow(Object, BinaryWriter)}.
+     *
+     * @param in the reader positioned at the start of a row body
+     * @return the decoded object
+     * @throws ObjectInstantiationException if the object can not be created
+     */
+    public T readRow(BinaryReader in) {
+        byte[] bitmap = new byte[this.bitmapSize];
+        for (int i = 0; i < this.bitmapSize; i++) bitmap[i] = in.readByte();
+
+        Object[] values = new Object[this.fields.length];
+        for (int i = 0; i < this.fields.length; i++) {
+            int nullBit = this.nullBits[i];
+            if (nullBit >= 0 && (bitmap[nullBit >> 3] & (1 << (nullBit & 7))) != 0) continue;
+
+            values[i] = this.encodings[i].read(in, this.fields[i].getType());
+        }
+
+        try {
+            return this.instanceFactory.newInstance(values);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new ObjectInstantiationException(this.targetType, e);
+        }
+    }
+
+    /**
+     * Estimates the retained heap size of an object of the encoded type.
+     *
+     * @param value the object to estimate
+     * @return the estimated size in bytes
+     */
+    public long estimateSize(T value) {
+        return this.sizeEstimator.applyAsLong(value);
+    }
+
+    /**
+     * Gets the hash identifying the schema of this codec.
+     * The hash changes when the format version, the target type name, or the name, type, nullability or order of
+     * any mapped field changes, as well as when the constants of a mapped enum change.
+     *
+     * @return the schema hash
+     */
+    public long getSchemaHash() {
+        return this.schemaHash;
+    }
+
+    private Object readField(T value, int index) {
+        try {
+            return this.fields[index].get(value);
+        } catch (IllegalAccessException e) {
+            throw new MappingException("Failed to read field '" + this.fields[index].getName() + "'", e);
+        }
+    }
+
+    private long computeSchemaHash() {
+        StringBuilder schema = new StringBuilder()
+                .append(FORMAT_VERSION).append(';')
+                .append(this.targetType.getName()).append(';');
+
+        for (Field field : this.fields) {
+            Class<?> type = field.getType();
+            schema.append(field.getName()).append(':').append(type.getName()).append(type.isPrimitive() ? '!' : '?');
+
+            if (type.isEnum()) {
+                for (Object constant : type.getEnumConstants()) schema.append(',').append(((Enum<?>) constant).name());
+            }
+
+            schema.append(';');
+        }
+
+        long hash = FNV_OFFSET_BASIS;
+        for (byte value : schema.toString().getBytes(StandardCharsets.UTF_8)) {
+            hash ^= value & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
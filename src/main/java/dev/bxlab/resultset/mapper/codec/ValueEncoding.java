@@ -0,0 +1,512 @@
+package dev.bxlab.resultset.mapper.codec;
+
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * This enum defines the compact binary encoding used for each supported value type.
+ * Null values are never passed to an encoding, they are tracked separately by the row format.
+ */
+public enum ValueEncoding {
+    /**
+     * Encodes booleans as a single byte.
+     */
+    BOOLEAN {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            out.writeByte((Boolean) value ? 1 : 0);
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            return in.readByte() != 0;
+        }
+    },
+
+    /**
+     * Encodes bytes as a single byte.
+     */
+    BYTE {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            out.writeByte((Byte) value);
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            return in.readByte();
+        }
+    },
+
+    /**
+     * Encodes shorts as zig-zag variable-length integers.
+     */
+    SHORT {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            out.writeZigZag((Short) value);
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            return (short) in.readZigZag();
+        }
+    },
+
+    /**
+     * Encodes characters as variable-length integers.
+     */
+    CHARACTER {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            out.writeVarLong((Character) value);
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            return (char) in.readVarLong();
+        }
+    },
+
+    /**
+     * Encodes integers as zig-zag variable-length integers.
+     */
+    INTEGER {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            out.writeZigZag((Integer) value);
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            return (int) in.readZigZag();
+        }
+    },
+
+    /**
+     * Encodes longs as zig-zag variable-length integers.
+     */
+    LONG {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            out.writeZigZag((Long) value);
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            return in.readZigZag();
+        }
+    },
+
+    /**
+     * Encodes floats as their 4-byte IEEE 754 representation.
+     */
+    FLOAT {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            out.writeInt(Float.floatToRawIntBits((Float) value));
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            return Float.intBitsToFloat(in.readInt());
+        }
+    },
+
+    /**
+     * Encodes doubles as their 8-byte IEEE 754 representation.
+     */
+    DOUBLE {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            out.writeLong(Double.doubleToRawLongBits((Double) value));
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            return Double.longBitsToDouble(in.readLong());
+        }
+    },
+
+    /**
+     * Encodes strings as length-prefixed UTF-8 bytes.
+     */
+    STRING {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            out.writeString((String) value);
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            return in.readString();
+        }
+    },
+
+    /**
+     * Encodes big decimals as a zig-zag scale followed by the unscaled value bytes.
+     */
+    BIG_DECIMAL {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            BigDecimal decimal = (BigDecimal) value;
+            out.writeZigZag(decimal.scale());
+            out.writeBytes(decimal.unscaledValue().toByteArray());
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            int scale = (int) in.readZigZag();
+            return new BigDecimal(new BigInteger(in.readBytes()), scale);
+        }
+    },
+
+    /**
+     * Encodes {@link Date}, {@link java.sql.Date}, {@link java.sql.Time} and {@link Timestamp} values as a kind marker
+     * and the epoch milliseconds, plus the nanoseconds for timestamps, so the concrete class is preserved.
+     */
+    DATE {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            if (value instanceof Timestamp timestamp) {
+                out.writeByte(2);
+                out.writeZigZag(timestamp.getTime());
+                out.writeVarLong(timestamp.getNanos());
+            } else if (value instanceof java.sql.Date date) {
+                out.writeByte(1);
+                out.writeZigZag(date.getTime());
+            } else if (value instanceof java.sql.Time time) {
+                out.writeByte(3);
+                out.writeZigZag(time.getTime());
+            } else {
+                out.writeByte(0);
+                out.writeZigZag(((Date) value).getTime());
+            }
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            byte kind = in.readByte();
+            long millis = in.readZigZag();
+            if (kind == 1) return new java.sql.Date(millis);
+            if (kind == 3) return new java.sql.Time(millis);
+            if (kind == 2) {
+                Timestamp timestamp = new Timestamp(millis);
+                timestamp.setNanos((int) in.readVarLong());
+                return timestamp;
+            }
+            return new Date(millis);
+        }
+    },
+
+    /**
+     * Encodes local dates as the zig-zag epoch day.
+     */
+    LOCAL_DATE {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            out.writeZigZag(((LocalDate) value).toEpochDay());
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            return LocalDate.ofEpochDay(in.readZigZag());
+        }
+    },
+
+    /**
+     * Encodes local date-times as the zig-zag epoch second at UTC and the nanoseconds.
+     */
+    LOCAL_DATE_TIME {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            LocalDateTime dateTime = (LocalDateTime) value;
+            out.writeZigZag(dateTime.toEpochSecond(ZoneOffset.UTC));
+            out.writeVarLong(dateTime.getNano());
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            return LocalDateTime.ofEpochSecond(in.readZigZag(), (int) in.readVarLong(), ZoneOffset.UTC);
+        }
+    },
+
+    /**
+     * Encodes offset date-times as the zig-zag epoch second, the nanoseconds and the offset in seconds.
+     */
+    OFFSET_DATE_TIME {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            OffsetDateTime dateTime = (OffsetDateTime) value;
+            out.writeZigZag(dateTime.toEpochSecond());
+            out.writeVarLong(dateTime.getNano());
+            out.writeZigZag(dateTime.getOffset().getTotalSeconds());
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            Instant instant = Instant.ofEpochSecond(in.readZigZag(), in.readVarLong());
+            return OffsetDateTime.ofInstant(instant, ZoneOffset.ofTotalSeconds((int) in.readZigZag()));
+        }
+    },
+
+    /**
+     * Encodes zoned date-times as the zig-zag epoch second, the nanoseconds and the zone identifier.
+     */
+    ZONED_DATE_TIME {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            ZonedDateTime dateTime = (ZonedDateTime) value;
+            out.writeZigZag(dateTime.toEpochSecond());
+            out.writeVarLong(dateTime.getNano());
+            out.writeString(dateTime.getZone().getId());
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            Instant instant = Instant.ofEpochSecond(in.readZigZag(), in.readVarLong());
+            return ZonedDateTime.ofInstant(instant, ZoneId.of(in.readString()));
+        }
+    },
+
+    /**
+     * Encodes UUIDs as their two 64-bit halves.
+     */
+    UUID {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            java.util.UUID uuid = (java.util.UUID) value;
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            return new java.util.UUID(in.readLong(), in.readLong());
+        }
+    },
+
+    /**
+     * Encodes byte arrays as length-prefixed bytes.
+     */
+    BYTES {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            out.writeBytes((byte[]) value);
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            return in.readBytes();
+        }
+    },
+
+    /**
+     * Encodes enum constants as their variable-length ordinal.
+     */
+    ENUM {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            out.writeVarLong(((Enum<?>) value).ordinal());
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            Object[] constants = ENUM_CONSTANTS.get(type);
+            long ordinal = in.readVarLong();
+            if (ordinal < 0 || ordinal >= constants.length)
+                throw new MappingException("Malformed encoded data: ordinal " + ordinal + " out of range for enum " + type.getName());
+            return constants[(int) ordinal];
+        }
+    },
+
+    /**
+     * Encodes int arrays as a length followed by zig-zag variable-length elements.
+     */
+    INT_ARRAY {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            int[] array = (int[]) value;
+            out.writeVarLong(array.length);
+            for (int element : array) out.writeZigZag(element);
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            int[] array = new int[in.readLength()];
+            for (int i = 0; i < array.length; i++) array[i] = (int) in.readZigZag();
+            return array;
+        }
+    },
+
+    /**
+     * Encodes long arrays as a length followed by zig-zag variable-length elements.
+     */
+    LONG_ARRAY {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            long[] array = (long[]) value;
+            out.writeVarLong(array.length);
+            for (long element : array) out.writeZigZag(element);
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            long[] array = new long[in.readLength()];
+            for (int i = 0; i < array.length; i++) array[i] = in.readZigZag();
+            return array;
+        }
+    },
+
+    /**
+     * Encodes double arrays as a length followed by the 8-byte IEEE 754 representation of each element.
+     */
+    DOUBLE_ARRAY {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            double[] array = (double[]) value;
+            out.writeVarLong(array.length);
+            for (double element : array) out.writeLong(Double.doubleToRawLongBits(element));
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            double[] array = new double[in.readLength()];
+            for (int i = 0; i < array.length; i++) array[i] = Double.longBitsToDouble(in.readLong());
+            return array;
+        }
+    },
+
+    /**
+     * Encodes string arrays as a length followed by a null marker and the UTF-8 bytes of each element.
+     */
+    STRING_ARRAY {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            String[] array = (String[]) value;
+            out.writeVarLong(array.length);
+            for (String element : array) {
+                out.writeByte(element == null ? 0 : 1);
+                if (element != null) out.writeString(element);
+            }
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            String[] array = new String[in.readLength()];
+            for (int i = 0; i < array.length; i++) array[i] = in.readByte() == 0 ? null : in.readString();
+            return array;
+        }
+    },
+
+    /**
+     * Encodes lists, as read from SQL ARRAY columns, as a length followed by each element with a tag naming its
+     * encoding, or 0 for null elements. Elements must have a dedicated encoding other than {@link #ENUM}.
+     * Lists are decoded as unmodifiable lists.
+     */
+    LIST {
+        @Override
+        public void write(BinaryWriter out, Object value) {
+            List<?> list = (List<?>) value;
+            out.writeVarLong(list.size());
+            for (Object element : list) {
+                if (element == null) {
+                    out.writeByte(0);
+                    continue;
+                }
+
+                ValueEncoding encoding = forType(element.getClass());
+                if (encoding == ENUM) throw new MappingException("List elements of enum type " + element.getClass().getName() + " can not be encoded");
+                out.writeByte(encoding.ordinal() + 1);
+                encoding.write(out, element);
+            }
+        }
+
+        @Override
+        public Object read(BinaryReader in, Class<?> type) {
+            Object[] elements = new Object[in.readLength()];
+            for (int i = 0; i < elements.length; i++) {
+                int tag = in.readByte();
+                if (tag == 0) continue;
+                if (tag < 0 || tag > ENCODINGS.length || ENCODINGS[tag - 1] == ENUM)
+                    throw new MappingException("Malformed encoded data: unknown list element tag " + tag);
+                elements[i] = ENCODINGS[tag - 1].read(in, Object.class);
+            }
+            return Collections.unmodifiableList(Arrays.asList(elements));
+        }
+    };
+
+    private static final ValueEncoding[] ENCODINGS = values();
+
+    private static final ClassValue<Object[]> ENUM_CONSTANTS = new ClassValue<>() {
+        @Override
+        protected Object[] computeValue(Class<?> type) {
+            return type.getEnumConstants();
+        }
+    };
+
+    /**
+     * Writes a non-null value.
+     *
+     * @param out   the writer to write to
+     * @param value the value to write
+     */
+    public abstract void write(BinaryWriter out, Object value);
+
+    /**
+     * Reads a value.
+     *
+     * @param in   the reader to read from
+     * @param type the declared type of the value
+     * @return the value read
+     */
+    public abstract Object read(BinaryReader in, Class<?> type);
+
+    /**
+     * Gets the encoding used for values of the given declared type.
+     *
+     * @param type the declared type
+     * @return the encoding for the type
+     * @throws MappingException if the type has no encoding
+     */
+    public static ValueEncoding forType(Class<?> type) {
+        if (type == boolean.class || type == Boolean.class) return BOOLEAN;
+        if (type == byte.class || type == Byte.class) return BYTE;
+        if (type == short.class || type == Short.class) return SHORT;
+        if (type == char.class || type == Character.class) return CHARACTER;
+        if (type == int.class || type == Integer.class) return INTEGER;
+        if (type == long.class || type == Long.class) return LONG;
+        if (type == float.class || type == Float.class) return FLOAT;
+        if (type == double.class || type == Double.class) return DOUBLE;
+        if (type == String.class) return STRING;
+        if (type == BigDecimal.class) return BIG_DECIMAL;
+        if (type == Date.class || type == java.sql.Date.class || type == java.sql.Time.class || type == Timestamp.class) return DATE;
+        if (type == LocalDate.class) return LOCAL_DATE;
+        if (type == LocalDateTime.class) return LOCAL_DATE_TIME;
+        if (type == OffsetDateTime.class) return OFFSET_DATE_TIME;
+        if (type == ZonedDateTime.class) return ZONED_DATE_TIME;
+        if (type == java.util.UUID.class) return UUID;
+        if (type == byte[].class) return BYTES;
+        if (type == int[].class) return INT_ARRAY;
+        if (type == long[].class) return LONG_ARRAY;
+        if (type == double[].class) return DOUBLE_ARRAY;
+        if (type == String[].class) return STRING_ARRAY;
+        if (List.class.isAssignableFrom(type)) return LIST;
+        if (type.isEnum()) return ENUM;
+        throw new MappingException("Type " + type.getName() + " has no binary encoding");
+    }
+}
@@ -0,0 +1,56 @@
+package dev.bxlab.resultset.mapper.configs;
+
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
+/**
+ * A typed key of a {@link FieldConfig} attribute.
+ * <p>
+ * Attributes are stored by name, so a typed key and a plain string key with the same name refer to the same attribute.
+ * Typed keys validate the value type when the attribute is set and remove the casts when it is read.
+ * </p>
+ *
+ * @param name the attribute name
+ * @param type the attribute value type
+ * @param <T>  the attribute value type
+ */
+public record AttributeKey<T>(String name, Class<T> type) {
+
+    /**
+     * Creates a typed attribute key.
+     *
+     * @param name the attribute name
+     * @param type the attribute value type
+     * @throws IllegalArgumentException if the name is empty or the type is null
+     */
+    public AttributeKey {
+        ValueUtils.requireNonEmpty(name, "Attribute name can not be empty");
+        ValueUtils.requireNonNull(type, "Attribute type can not be null");
+    }
+
+    /**
+     * Creates a typed attribute key.
+     *
+     * @param name the attribute name
+     * @param type the attribute value type
+     * @param <T>  the attribute value type
+     * @return a new key
+     * @throws IllegalArgumentException if the name is empty or the type is null
+     */
+    public static <T> AttributeKey<T> of(String name, Class<T> type) {
+        return new AttributeKey<>(name, type);
+    }
+
+    /**
+     * Casts an attribute value to the type of this key.
+     *
+     * @param value the attribute value
+     * @return the value
+     * @throws IllegalArgumentException if the value is not of the type of this key
+     */
+    public T cast(Object value) {
+        if (value != null && !this.type.isInstance(value))
+            throw new IllegalArgumentException("Attribute '" + this.name + "' must be a " + this.type.getSimpleName()
+                    + " but was a " + value.getClass().getSimpleName());
+        return this.type.cast(value);
+    }
+}
@@ -0,0 +1,32 @@
+package dev.bxlab.resultset.mapper.configs;
+
+import dev.bxlab.resultset.mapper.core.EnumCode;
+
+/**
+ * Strategies for mapping column values to enum constants.
+ */
+public enum EnumStrategy {
+    /**
+     * Matches the column value against the constant names, case-sensitively.
+     * For example, "ACTIVE" maps to {@code Status.ACTIVE}.
+     */
+    NAME,
+
+    /**
+     * Matches the column value against the constant names, ignoring case.
+     * For example, "active" and "Active" map to {@code Status.ACTIVE}.
+     */
+    NAME_IGNORE_CASE,
+
+    /**
+     * Reads the column as an integer and maps it to the constant with that ordinal.
+     * For example, 0 maps to the first declared constant.
+     */
+    ORDINAL,
+
+    /**
+     * Matches the column value against the codes declared with {@link EnumCode}, case-sensitively.
+     * Constants without a code are matched by name.
+     */
+    CODE
+}
@@ -13,6 +13,7 @@ import java.util.Optional;
 /**
  * This class allows defining how ResultSet columns are mapped to class fields,
  * including type converters and additional attributes.
+ * Instances are immutable once built.
  */
 public class FieldConfig {
 
@@ -21,6 +22,38 @@ public class FieldConfig {
      */
     public static final String FORMAT_ATTRIBUTE = "format";
 
+    /**
+     * The string deduplication attribute key.
+     * The value is either a Boolean, to enable deduplication with the default dictionary size, or an Integer with
+     * the maximum number of distinct values to keep.
+     */
+    public static final String DEDUPLICATE_ATTRIBUTE = "deduplicate";
+
+    /**
+     * The enum strategy attribute key, with an {@link EnumStrategy} value.
+     */
+    public static final String ENUM_STRATEGY_ATTRIBUTE = "enumStrategy";
+
+    /**
+     * The JSON attribute key, with a Boolean value enabling JSON decoding of the column.
+     */
+    public static final String JSON_ATTRIBUTE = "json";
+
+    /**
+     * The typed key of the {@link #FORMAT_ATTRIBUTE format} attribute.
+     */
+    public static final AttributeKey<String> FORMAT = AttributeKey.of(FORMAT_ATTRIBUTE, String.class);
+
+    /**
+     * The typed key of the {@link #ENUM_STRATEGY_ATTRIBUTE enumStrategy} attribute.
+     */
+    public static final AttributeKey<EnumStrategy> ENUM_STRATEGY = AttributeKey.of(ENUM_STRATEGY_ATTRIBUTE, EnumStrategy.class);
+
+    /**
+     * The typed key of the {@link #JSON_ATTRIBUTE json} attribute.
+     */
+    public static final AttributeKey<Boolean> JSON = AttributeKey.of(JSON_ATTRIBUTE, Boolean.class);
+
     private final String columnName;
     private final TypeConverter<?> converter;
     private final Map<String, Object> attributes;
@@ -28,7 +61,7 @@ public class FieldConfig {
     private FieldConfig(FieldConfigBuilder builder) {
         this.columnName = builder.columnName;
         this.converter = builder.converter;
-        this.attributes = builder.attributes;
+        this.attributes = Map.copyOf(builder.attributes);
     }
 
     /**
@@ -47,6 +80,12 @@ public class FieldConfig {
         Map<String, Object> attributes = new HashMap<>();
         if (!ValueUtils.isEmpty(mappingAnnotation.format()))
             attributes.put(FORMAT_ATTRIBUTE, mappingAnnotation.format());
+        if (mappingAnnotation.deduplicate())
+            attributes.put(DEDUPLICATE_ATTRIBUTE, true);
+        if (mappingAnnotation.enumStrategy() != EnumStrategy.NAME)
+            attributes.put(ENUM_STRATEGY_ATTRIBUTE, mappingAnnotation.enumStrategy());
+        if (mappingAnnotation.json())
+            attributes.put(JSON_ATTRIBUTE, true);
 
         return FieldConfig.builder()
                 .toColumn(columName)
@@ -85,10 +124,10 @@ public class FieldConfig {
     /**
      * Gets all configured attributes.
      *
-     * @return A map with the configured attributes
+     * @return An immutable map with the configured attributes
      */
     public Map<String, Object> getAttributes() {
-        return this.attributes == null ? new HashMap<>() : attributes;
+        return this.attributes;
     }
 
     /**
@@ -103,6 +142,20 @@ public class FieldConfig {
         return ValueUtils.isEmpty(value) ? Optional.empty() : Optional.of(type.cast(value));
     }
 
+    /**
+     * Gets an attribute value by typed key.
+     *
+     * @param key the attribute key
+     * @param <T> the type of the attribute
+     * @return an Optional containing the attribute value, or an empty Optional if the attribute is not found
+     * @throws IllegalArgumentException if the attribute value is not of the type of the key
+     */
+    public <T> Optional<T> getAttribute(AttributeKey<T> key) {
+        ValueUtils.requireNonNull(key, "Attribute key can not be null");
+        Object value = this.attributes.get(key.name());
+        return ValueUtils.isEmpty(value) ? Optional.empty() : Optional.of(key.cast(value));
+    }
+
     /**
      * Builder for creating FieldConfig instances in a fluent manner.
      */
@@ -153,6 +206,20 @@ public class FieldConfig {
             return this;
         }
 
+        /**
+         * Adds a typed attribute to the field configuration.
+         *
+         * @param key Attribute key
+         * @param value Attribute value
+         * @param <T> the type of the attribute
+         * @return The builder for method chaining
+         */
+        public <T> FieldConfigBuilder withTypedAttribute(AttributeKey<T> key, T value) {
+            ValueUtils.requireNonNull(key, "Attribute key can not be null");
+            this.attributes.put(key.name(), key.cast(value));
+            return this;
+        }
+
         /**
          * Adds multiple attributes to the field configuration.
          *
@@ -0,0 +1,74 @@
+package dev.bxlab.resultset.mapper.configs;
+
+import java.util.StringJoiner;
+
+/**
+ * This enum provides the quoting styles that can be applied to column and table identifiers
+ * when SQL fragments are rendered from a mapper configuration.
+ */
+public enum IdentifierQuoting {
+    /**
+     * Leaves identifiers unquoted.
+     */
+    NONE("", ""),
+
+    /**
+     * Quotes identifiers with double quotes, as defined by the SQL standard.
+     * For example, "user_name" becomes {@code "user_name"}.
+     */
+    ANSI("\"", "\""),
+
+    /**
+     * Quotes identifiers with backticks, as used by MySQL and MariaDB.
+     * For example, "user_name" becomes {@code `user_name`}.
+     */
+    BACKTICK("`", "`"),
+
+    /**
+     * Quotes identifiers with square brackets, as used by SQL Server.
+     * For example, "user_name" becomes {@code [user_name]}.
+     */
+    BRACKETS("[", "]");
+
+
+    private final String open;
+    private final String close;
+
+    /**
+     * Creates a quoting style with the specified delimiters.
+     *
+     * @param open  The opening delimiter
+     * @param close The closing delimiter
+     */
+    IdentifierQuoting(String open, String close) {
+        this.open = open;
+        this.close = close;
+    }
+
+    /**
+     * Quotes an identifier according to this quoting style.
+     * Occurrences of the closing delimiter inside the identifier are escaped by doubling them.
+     *
+     * @param identifier The identifier to quote
+     * @return The quoted identifier
+     */
+    public String quote(String identifier) {
+        if (this == NONE) return identifier;
+        return this.open + identifier.replace(this.close, this.close + this.close) + this.close;
+    }
+
+    /**
+     * Quotes a possibly qualified name, such as {@code schema.table}, according to this quoting style.
+     * Each dot-separated part is quoted on its own, so qualified names must not contain dots inside their parts.
+     *
+     * @param name The name to quote, optionally qualified
+     * @return The quoted name
+     */
+    public String quoteQualified(String name) {
+        if (this == NONE) return name;
+
+        StringJoiner joiner = new StringJoiner(".");
+        for (String part : name.split("\\.", -1)) joiner.add(this.quote(part));
+        return joiner.toString();
+    }
+}
@@ -1,6 +1,7 @@
 package dev.bxlab.resultset.mapper.configs;
 
 import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.json.JsonDecoder;
 import dev.bxlab.resultset.mapper.utils.ValueUtils;
 
 import java.util.Map;
@@ -9,6 +10,7 @@ import java.util.Optional;
 /**
  * This class holds the configuration settings that control how ResultSet data
  * is mapped to Java objects, including naming strategies and field mappings.
+ * The configuration is a snapshot of the builder, later changes to the builder do not affect it.
  */
 public class MapperConfig {
 
@@ -17,6 +19,7 @@ public class MapperConfig {
     private final boolean caseInsensitiveColumns;
     private final NamingStrategy namingStrategy;
     private final Map<String, FieldConfig> fieldMappingConfigs;
+    private final JsonDecoder jsonDecoder;
 
     /**
      * Creates a new mapper configuration from a builder.
@@ -28,7 +31,8 @@ public class MapperConfig {
         this.ignoreUnknownColumns = builder.isIgnoreUnknownColumns();
         this.caseInsensitiveColumns = builder.isCaseInsensitiveColumns();
         this.namingStrategy = ValueUtils.requireNonNull(builder.getNamingStrategy(), "Naming strategy can not be null");
-        this.fieldMappingConfigs = ValueUtils.requireNonNull(builder.getFieldConfigs(), "Field mapping configurations can not be null");
+        this.fieldMappingConfigs = Map.copyOf(ValueUtils.requireNonNull(builder.getFieldConfigs(), "Field mapping configurations can not be null"));
+        this.jsonDecoder = builder.getJsonDecoder();
     }
 
     /**
@@ -77,4 +81,13 @@ public class MapperConfig {
     public NamingStrategy getNamingStrategy() {
         return namingStrategy;
     }
+
+    /**
+     * Gets the decoder used for fields mapped from JSON columns.
+     *
+     * @return The configured JSON decoder, or the default decoder if none was configured
+     */
+    public JsonDecoder getJsonDecoder() {
+        return this.jsonDecoder != null ? this.jsonDecoder : JsonDecoder.load();
+    }
 }
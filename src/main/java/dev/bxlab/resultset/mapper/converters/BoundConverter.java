@@ -0,0 +1,60 @@
+package dev.bxlab.resultset.mapper.converters;
+
+import dev.bxlab.resultset.mapper.exceptions.ConversionException;
+import dev.bxlab.resultset.mapper.utils.SqlUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * A converter bound to the configuration of a single field.
+ * <p>
+ * Created once per field by {@link TypeConverter#bind(dev.bxlab.resultset.mapper.configs.FieldConfig)}, after the
+ * field attributes have been interpreted, so reading a value does not look up or parse attributes. Bound converters
+ * are immutable and must be thread-safe.
+ * </p>
+ *
+ * @param <T> the type of the converted value
+ */
+@FunctionalInterface
+public interface BoundConverter<T> {
+    /**
+     * Reads and converts the value of a column from the current row.
+     *
+     * @param resultSet  the database result set containing the data
+     * @param columnName the name of the column to convert
+     * @return the converted value of type T
+     * @throws SQLException if a database access error occurs or the column doesn't exist
+     */
+    T read(ResultSet resultSet, String columnName) throws SQLException;
+
+    /**
+     * Reads and converts the value of a column in lenient mapping, returning a {@link ConversionFailure} instead of
+     * throwing when the value can not be converted.
+     * <p>
+     * The default implementation catches the runtime exceptions and SQL data exceptions (SQLState class {@code 22})
+     * thrown by {@link #read(ResultSet, String)}. A {@link ConversionException} is unwrapped: the failure reports the
+     * type of its cause, and a wrapped SQL exception other than a data exception is rethrown. Converters that detect
+     * invalid values themselves override it so a failed conversion does not create an exception.
+     * </p>
+     *
+     * @param resultSet  the database result set containing the data
+     * @param columnName the name of the column to convert
+     * @return the converted value, or a {@link ConversionFailure}
+     * @throws SQLException if a database access error other than a data exception occurs
+     */
+    default Object readLeniently(ResultSet resultSet, String columnName) throws SQLException {
+        try {
+            return this.read(resultSet, columnName);
+        } catch (ConversionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException && !SqlUtils.isDataException(sqlException)) throw sqlException;
+            return ConversionFailure.of(cause instanceof Exception exception ? exception.getClass() : e.getClass());
+        } catch (RuntimeException e) {
+            return ConversionFailure.of(e.getClass());
+        } catch (SQLException e) {
+            if (!SqlUtils.isDataException(e)) throw e;
+            return ConversionFailure.of(e.getClass());
+        }
+    }
+}
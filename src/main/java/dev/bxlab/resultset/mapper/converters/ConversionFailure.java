@@ -0,0 +1,51 @@
+package dev.bxlab.resultset.mapper.converters;
+
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
+/**
+ * Marker returned by {@link BoundConverter#readLeniently(java.sql.ResultSet, String)} in place of a value that could
+ * not be converted.
+ * <p>
+ * One instance is shared per exception type, so recording a failure in lenient mapping allocates nothing. The
+ * exception type is the one the converter throws, or would throw, from {@link BoundConverter#read(java.sql.ResultSet, String)}.
+ * </p>
+ */
+public final class ConversionFailure {
+    private static final ClassValue<ConversionFailure> FAILURES = new ClassValue<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected ConversionFailure computeValue(Class<?> type) {
+            return new ConversionFailure((Class<? extends Exception>) type);
+        }
+    };
+
+    private final Class<? extends Exception> causeType;
+
+    private ConversionFailure(Class<? extends Exception> causeType) {
+        this.causeType = causeType;
+    }
+
+    /**
+     * Gets the shared failure marker of an exception type.
+     *
+     * @param causeType the type of the exception the conversion failed with
+     * @return the failure marker
+     */
+    public static ConversionFailure of(Class<? extends Exception> causeType) {
+        return FAILURES.get(ValueUtils.requireNonNull(causeType, "Cause type can not be null"));
+    }
+
+    /**
+     * Gets the type of the exception the conversion failed with.
+     *
+     * @return the exception type
+     */
+    public Class<? extends Exception> getCauseType() {
+        return this.causeType;
+    }
+
+    @Override
+    public String toString() {
+        return "ConversionFailure[" + this.causeType.getSimpleName() + "]";
+    }
+}
@@ -0,0 +1,258 @@
+package dev.bxlab.resultset.mapper.converters;
+
+import dev.bxlab.resultset.mapper.configs.EnumStrategy;
+import dev.bxlab.resultset.mapper.configs.FieldConfig;
+import dev.bxlab.resultset.mapper.core.EnumCode;
+import dev.bxlab.resultset.mapper.exceptions.ConversionException;
+import dev.bxlab.resultset.mapper.utils.SqlUtils;
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Converter mapping column values to the constants of an enum type.
+ * <p>
+ * The lookup table for the configured {@link EnumStrategy} is computed once when the converter is created: an array
+ * indexed by ordinal, a hash map of names or codes, or an open-addressing table hashed on case-folded names. Mapping
+ * a row is a single table lookup, without exceptions for unknown values and without normalizing the column value.
+ * Unknown values fail with a {@link ConversionException}, or with a {@link ConversionFailure} marker in lenient mapping.
+ * </p>
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ * </p>
+ *
+ * @param <E> the enum type
+ */
+public final class EnumConverter<E extends Enum<E>> implements TypeConverter<E> {
+    private static final ConversionFailure UNKNOWN_VALUE = ConversionFailure.of(ConversionException.class);
+
+    private final Class<E> type;
+    private final EnumStrategy strategy;
+    private final E[] constants;
+    private final Map<String, E> exactTable;
+    private final CaseInsensitiveTable<E> caseInsensitiveTable;
+
+    private EnumConverter(Class<E> type, EnumStrategy strategy) {
+        this.type = type;
+        this.strategy = strategy;
+        this.constants = type.getEnumConstants();
+        this.exactTable = strategy == EnumStrategy.NAME || strategy == EnumStrategy.CODE ? this.exactTable() : null;
+        this.caseInsensitiveTable = strategy == EnumStrategy.NAME_IGNORE_CASE ? new CaseInsensitiveTable<>(this.constants) : null;
+    }
+
+    /**
+     * Creates a converter for an enum type.
+     *
+     * @param type     the enum type
+     * @param strategy the strategy used to match column values
+     * @param <E>      the enum type
+     * @return a new converter with a precomputed lookup table
+     * @throws IllegalArgumentException if the type is not an enum, or two constants declare the same code
+     */
+    public static <E extends Enum<E>> EnumConverter<E> of(Class<E> type, EnumStrategy strategy) {
+        ValueUtils.requireNonNull(type, "Type can not be null");
+        ValueUtils.requireNonNull(strategy, "Enum strategy can not be null");
+        if (!type.isEnum()) throw new IllegalArgumentException("Type " + type.getName() + " is not an enum");
+
+        return new EnumConverter<>(type, strategy);
+    }
+
+    /**
+     * Creates a converter for a type known to be an enum at runtime only.
+     *
+     * @param type     the enum type
+     * @param strategy the strategy used to match column values
+     * @return a new converter with a precomputed lookup table
+     * @throws IllegalArgumentException if the type is not an enum, or two constants declare the same code
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static TypeConverter<?> forType(Class<?> type, EnumStrategy strategy) {
+        ValueUtils.requireNonNull(type, "Type can not be null");
+        if (!type.isEnum()) throw new IllegalArgumentException("Type " + type.getName() + " is not an enum");
+
+        return of((Class) type, strategy);
+    }
+
+    @Override
+    public E convert(ResultSet resultSet, String columnName, Map<String, Object> attributes) throws SQLException {
+        try {
+            return this.lookup(resultSet, columnName, false);
+        } catch (SQLException e) {
+            throw new ConversionException("Failed to convert column '" + columnName + "'", e);
+        }
+    }
+
+    /**
+     * Binds this converter to a field. In lenient mapping, unknown values are reported without creating an exception.
+     *
+     * @param config the configuration of the field, with its resolved attributes
+     * @return a converter reading values for the field
+     */
+    @Override
+    public BoundConverter<E> bind(FieldConfig config) {
+        ValueUtils.requireNonNull(config, "Field config can not be null");
+
+        return new BoundConverter<>() {
+            @Override
+            public E read(ResultSet resultSet, String columnName) throws SQLException {
+                return EnumConverter.this.convert(resultSet, columnName, Map.of());
+            }
+
+            @Override
+            public Object readLeniently(ResultSet resultSet, String columnName) throws SQLException {
+                try {
+                    E constant = EnumConverter.this.lookup(resultSet, columnName, true);
+                    return constant != null || resultSet.wasNull() ? constant : UNKNOWN_VALUE;
+                } catch (SQLException e) {
+                    if (!SqlUtils.isDataException(e)) throw e;
+                    return ConversionFailure.of(e.getClass());
+                }
+            }
+        };
+    }
+
+    /**
+     * Looks up the constant of the column value.
+     *
+     * @param resultSet  the result set positioned at the row to read
+     * @param columnName the column label
+     * @param lenient    whether an unknown value returns null instead of throwing
+     * @return the constant, or null if the value is SQL NULL, or unknown in lenient mode
+     * @throws SQLException        if the column can not be read
+     * @throws ConversionException if the value is unknown and not in lenient mode
+     */
+    private E lookup(ResultSet resultSet, String columnName, boolean lenient) throws SQLException {
+        if (this.strategy == EnumStrategy.ORDINAL) {
+            int ordinal = resultSet.getInt(columnName);
+            if (resultSet.wasNull()) return null;
+            if (ordinal >= 0 && ordinal < this.constants.length) return this.constants[ordinal];
+            if (lenient) return null;
+            throw this.unknownValue(ordinal, columnName);
+        }
+
+        String value = resultSet.getString(columnName);
+        if (value == null) return null;
+
+        E constant = this.caseInsensitiveTable != null
+                ? this.caseInsensitiveTable.get(value)
+                : this.exactTable.get(value);
+
+        if (constant == null && !lenient) throw this.unknownValue(value, columnName);
+        return constant;
+    }
+
+    /**
+     * Gets the strategy used to match column values.
+     *
+     * @return the enum strategy
+     */
+    public EnumStrategy getStrategy() {
+        return this.strategy;
+    }
+
+    /**
+     * Gets the column value a constant is stored as with the given strategy, the inverse of the conversion.
+     *
+     * @param constant the enum constant
+     * @param strategy the strategy used to match column values
+     * @return the ordinal for {@link EnumStrategy#ORDINAL}, the declared code (or name) for {@link EnumStrategy#CODE},
+     * and the constant name otherwise
+     */
+    public static Object columnValue(Enum<?> constant, EnumStrategy strategy) {
+        ValueUtils.requireNonNull(constant, "Enum constant can not be null");
+        ValueUtils.requireNonNull(strategy, "Enum strategy can not be null");
+
+        if (strategy == EnumStrategy.ORDINAL) return constant.ordinal();
+        if (strategy == EnumStrategy.CODE) {
+            EnumCode code = codeOf(constant);
+            if (code != null) return code.value();
+        }
+        return constant.name();
+    }
+
+    private ConversionException unknownValue(Object value, String columnName) {
+        return new ConversionException("Unknown value '" + value + "' for enum " + this.type.getName() + " (" + this.strategy + ") in column '" + columnName + "'");
+    }
+
+    private Map<String, E> exactTable() {
+        Map<String, E> table = new HashMap<>();
+
+        for (E constant : this.constants) {
+            String key = constant.name();
+
+            if (this.strategy == EnumStrategy.CODE) {
+                EnumCode code = codeOf(constant);
+                if (code != null) key = code.value();
+            }
+
+            E previous = table.put(key, constant);
+            if (previous != null)
+                throw new IllegalArgumentException("Enum constants " + previous.name() + " and " + constant.name() + " of " + this.type.getName() + " map to the same value '" + key + "'");
+        }
+
+        return Map.copyOf(table);
+    }
+
+    private static EnumCode codeOf(Enum<?> constant) {
+        try {
+            return constant.getDeclaringClass().getField(constant.name()).getAnnotation(EnumCode.class);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Open-addressing table keyed by constant names, hashed on the case-folded characters so lookups do not need to
+     * create a normalized copy of the value.
+     *
+     * @param <E> the enum type
+     */
+    private static final class CaseInsensitiveTable<E extends Enum<E>> {
+        private final String[] keys;
+        private final Object[] values;
+        private final int mask;
+
+        private CaseInsensitiveTable(E[] constants) {
+            int capacity = Integer.highestOneBit(Math.max(constants.length, 1) * 4 - 1) << 1;
+            this.keys = new String[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+
+            for (E constant : constants) {
+                String name = constant.name();
+                if (this.get(name) != null)
+                    throw new IllegalArgumentException("Enum constants of " + constant.getDeclaringClass().getName() + " differ only by case: " + name);
+
+                int slot = hash(name) & this.mask;
+                while (this.keys[slot] != null) slot = (slot + 1) & this.mask;
+
+                this.keys[slot] = name;
+                this.values[slot] = constant;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private E get(String value) {
+            int slot = hash(value) & this.mask;
+
+            for (String key = this.keys[slot]; key != null; key = this.keys[slot]) {
+                if (key.length() == value.length() && key.regionMatches(true, 0, value, 0, value.length()))
+                    return (E) this.values[slot];
+                slot = (slot + 1) & this.mask;
+            }
+
+            return null;
+        }
+
+        private static int hash(String value) {
+            int hash = 0;
+            for (int i = 0; i < value.length(); i++) {
+                hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(value.charAt(i)));
+            }
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package dev.bxlab.resultset.mapper.converters;
+
+import dev.bxlab.resultset.mapper.exceptions.ConversionException;
+import dev.bxlab.resultset.mapper.json.JsonDecoder;
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Converter decoding JSON column values into the declared type of a field.
+ * <p>
+ * The column is read with {@link ResultSet#getCharacterStream(String)} and passed to the {@link JsonDecoder} without
+ * materializing the document as a String first. The target type is the generic type of the field, so fields such as
+ * {@code List<Item>} or {@code Map<String, Item>} are decoded with their element types.
+ * </p>
+ */
+public final class JsonConverter implements TypeConverter<Object> {
+    private final Type type;
+    private final JsonDecoder decoder;
+
+    /**
+     * Creates a converter decoding columns into the given type.
+     *
+     * @param type    the target type
+     * @param decoder the decoder used to read the JSON documents
+     */
+    public JsonConverter(Type type, JsonDecoder decoder) {
+        this.type = ValueUtils.requireNonNull(type, "Type can not be null");
+        this.decoder = ValueUtils.requireNonNull(decoder, "JSON decoder can not be null");
+    }
+
+    @Override
+    public Object convert(ResultSet resultSet, String columnName, Map<String, Object> attributes) throws SQLException {
+        try (Reader reader = resultSet.getCharacterStream(columnName)) {
+            if (reader == null) return null;
+            return this.decoder.decode(reader, this.type);
+        } catch (SQLException | IOException | ConversionException e) {
+            throw new ConversionException("Failed to decode JSON column '" + columnName + "'", e);
+        }
+    }
+
+    /**
+     * Gets the target type.
+     *
+     * @return the type the column values are decoded into
+     */
+    public Type getType() {
+        return this.type;
+    }
+}
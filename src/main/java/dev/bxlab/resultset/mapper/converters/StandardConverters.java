@@ -3,17 +3,28 @@ package dev.bxlab.resultset.mapper.converters;
 import dev.bxlab.resultset.mapper.configs.FieldConfig;
 import dev.bxlab.resultset.mapper.exceptions.ConversionException;
 import dev.bxlab.resultset.mapper.utils.ConverterUtils;
+import dev.bxlab.resultset.mapper.utils.SqlUtils;
+import dev.bxlab.resultset.mapper.utils.StringDeduplicator;
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
 
 import java.math.BigDecimal;
+import java.sql.Array;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Timestamp;
+import java.sql.Types;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -47,33 +58,52 @@ public final class StandardConverters {
     public static final TypeConverter<Date> DATE = createDateConverter(
             ResultSet::getTimestamp,
             Function.identity(),
-            ConverterUtils::toDate
+            StandardConverters::dateFormatParser
     );
     /** Standard converter for LocalDate values with format support */
     public static final TypeConverter<LocalDate> LOCAL_DATE = createDateConverter(
             ResultSet::getDate,
             java.sql.Date::toLocalDate,
-            ConverterUtils::toLocalDate
+            formatterParser(ConverterUtils::toLocalDate)
     );
     /** Standard converter for LocalDateTime values with format support */
     public static final TypeConverter<LocalDateTime> LOCAL_DATE_TIME = createDateConverter(
             ResultSet::getTimestamp,
             Timestamp::toLocalDateTime,
-            ConverterUtils::toLocalDateTime
+            formatterParser(ConverterUtils::toLocalDateTime)
     );
     /** Standard converter for ZonedDateTime values with format support */
     public static final TypeConverter<ZonedDateTime> ZONED_DATE_TIME = createDateConverter(
             ResultSet::getTimestamp,
             timestamp -> timestamp.toInstant().atZone(ZoneOffset.UTC),
-            ConverterUtils::toZonedDateTime
+            formatterParser(ConverterUtils::toZonedDateTime)
     );
     /** Standard converter for OffsetDateTime values with format support */
     public static final TypeConverter<OffsetDateTime> OFFSET_DATE_TIME = createDateConverter(
             ResultSet::getTimestamp,
             timestamp -> timestamp.toInstant().atOffset(ZoneOffset.UTC),
-            ConverterUtils::toOffsetDateTime
+            formatterParser(ConverterUtils::toOffsetDateTime)
     );
-
+    /**
+     * Standard converter for UUID values.
+     * Native UUID values are returned as is, 16-byte binary values and 32 or 36-character hexadecimal strings are
+     * decoded directly, and any other driver type is converted with {@link ResultSet#getObject(String, Class)}.
+     */
+    public static final TypeConverter<java.util.UUID> UUID = StandardConverters::convertUuid;
+    /** Standard converter for int array values from SQL ARRAY columns */
+    public static final TypeConverter<int[]> INT_ARRAY = createArrayConverter(ConverterUtils::toIntArray);
+    /** Standard converter for long array values from SQL ARRAY columns */
+    public static final TypeConverter<long[]> LONG_ARRAY = createArrayConverter(ConverterUtils::toLongArray);
+    /** Standard converter for double array values from SQL ARRAY columns */
+    public static final TypeConverter<double[]> DOUBLE_ARRAY = createArrayConverter(ConverterUtils::toDoubleArray);
+    /** Standard converter for String array values from SQL ARRAY columns */
+    public static final TypeConverter<String[]> STRING_ARRAY = createArrayConverter(ConverterUtils::toStringArray);
+    /**
+     * Standard converter for List values from SQL ARRAY columns.
+     * It is not registered by default, since List fields may hold values that are not read from ARRAY columns; set it
+     * on a field with {@code withConverter(StandardConverters.LIST)} or register it for {@code List.class}.
+     */
+    public static final TypeConverter<List<Object>> LIST = createArrayConverter(ConverterUtils::toList);
 
     private StandardConverters() {
     }
@@ -104,6 +134,125 @@ public final class StandardConverters {
         registry.register(ZonedDateTime.class, ZONED_DATE_TIME);
         registry.register(OffsetDateTime.class, OFFSET_DATE_TIME);
         registry.register(BigDecimal.class, BIG_DECIMAL);
+        registry.register(java.util.UUID.class, UUID);
+
+        registry.register(int[].class, INT_ARRAY);
+        registry.register(long[].class, LONG_ARRAY);
+        registry.register(double[].class, DOUBLE_ARRAY);
+        registry.register(String[].class, STRING_ARRAY);
+    }
+
+    /**
+     * Gets the standard converter for the values of a column of the given SQL type.
+     * Numeric, boolean, character, date/time and array types are read with their typed getters;
+     * other types are read with {@link ResultSet#getObject(String)}.
+     *
+     * @param sqlType the SQL type of the column, as defined by {@link java.sql.Types}
+     * @return the converter reading values of that type
+     */
+    public static TypeConverter<?> forSqlType(int sqlType) {
+        switch (sqlType) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return BOOLEAN;
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return INTEGER;
+            case Types.BIGINT:
+                return LONG;
+            case Types.REAL:
+                return FLOAT;
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return DOUBLE;
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return BIG_DECIMAL;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.CLOB:
+            case Types.NCLOB:
+                return STRING;
+            case Types.DATE:
+                return LOCAL_DATE;
+            case Types.TIMESTAMP:
+                return LOCAL_DATE_TIME;
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return OFFSET_DATE_TIME;
+            case Types.ARRAY:
+                return LIST;
+            default:
+                return OBJECT;
+        }
+    }
+
+    /**
+     * Creates a converter that canonicalizes the strings returned by another converter through a dictionary,
+     * so equal values of a low-cardinality column share a single instance.
+     *
+     * @param converter    the converter producing the string values
+     * @param deduplicator the dictionary used to canonicalize the values
+     * @return a TypeConverter returning canonical string instances
+     * @throws ConversionException if the converter returns a value that is not a String
+     */
+    public static TypeConverter<String> deduplicating(TypeConverter<?> converter, StringDeduplicator deduplicator) {
+        return new TypeConverter<>() {
+            @Override
+            public String convert(ResultSet resultSet, String columnName, Map<String, Object> attributes) throws SQLException {
+                return canonicalize(converter.convert(resultSet, columnName, attributes), columnName, deduplicator);
+            }
+
+            @Override
+            public BoundConverter<String> bind(FieldConfig config) {
+                BoundConverter<?> boundConverter = converter.bind(config);
+                return (resultSet, columnName) -> canonicalize(boundConverter.read(resultSet, columnName), columnName, deduplicator);
+            }
+        };
+    }
+
+    /**
+     * Canonicalizes a converted value through a dictionary.
+     *
+     * @param value        the converted value
+     * @param columnName   the name of the column the value was read from
+     * @param deduplicator the dictionary used to canonicalize the value
+     * @return the canonical string instance, or null if the value is null
+     * @throws ConversionException if the value is not a String
+     */
+    private static String canonicalize(Object value, String columnName, StringDeduplicator deduplicator) {
+        if (value != null && !(value instanceof String))
+            throw new ConversionException("Failed to deduplicate column '" + columnName + "', the converter returned a " + value.getClass().getName());
+
+        return deduplicator.canonicalize((String) value);
+    }
+
+    /**
+     * Converts a column value to a UUID, reading the column once with {@link ResultSet#getObject(String)} and
+     * dispatching on the type returned by the driver.
+     *
+     * @param resultSet  the ResultSet to read from
+     * @param columnName the column label
+     * @param attributes the field attributes
+     * @return the UUID, or null if the column is null
+     * @throws ConversionException if the value can not be converted to a UUID
+     */
+    private static java.util.UUID convertUuid(ResultSet resultSet, String columnName, Map<String, Object> attributes) {
+        try {
+            Object value = resultSet.getObject(columnName);
+
+            if (value == null || value instanceof java.util.UUID) return (java.util.UUID) value;
+            if (value instanceof byte[] bytes) return ConverterUtils.toUuid(bytes);
+            if (value instanceof String string) return ConverterUtils.toUuid(string);
+
+            return resultSet.getObject(columnName, java.util.UUID.class);
+        } catch (SQLException | IllegalArgumentException e) {
+            throw new ConversionException("Failed to convert column '" + columnName + "' to UUID", e);
+        }
     }
 
     /**
@@ -115,14 +264,7 @@ public final class StandardConverters {
      * @throws ConversionException if an error occurs during conversion
      */
     private static <T> TypeConverter<T> createPrimitiveConverter(ResultSetGetter<T> getter) {
-        return (resultSet, columnName, attributes) -> {
-            try {
-                T value = getter.get(resultSet, columnName);
-                return resultSet.wasNull() ? null : value;
-            } catch (SQLException e) {
-                throw new ConversionException("Failed to convert column '" + columnName + "'", e);
-            }
-        };
+        return new GetterConverter<>(getter, true);
     }
 
     /**
@@ -134,15 +276,49 @@ public final class StandardConverters {
      * @throws ConversionException if an error occurs during conversion
      */
     private static <T> TypeConverter<T> createBasicConverter(ResultSetGetter<T> getter) {
+        return new GetterConverter<>(getter, false);
+    }
+
+    /**
+     * Creates a converter for SQL ARRAY columns.
+     * The elements are read with {@link Array#getArray()}, converted, and the array is freed right away.
+     *
+     * @param <T> the target array or collection type
+     * @param copier the function converting the array elements to the target type
+     * @return a TypeConverter that converts SQL arrays to the target type
+     * @throws ConversionException if an error occurs during conversion or an element can not be converted
+     */
+    private static <T> TypeConverter<T> createArrayConverter(Function<Object, T> copier) {
         return (resultSet, columnName, attributes) -> {
             try {
-                return getter.get(resultSet, columnName);
-            } catch (SQLException e) {
-                throw new ConversionException("Failed to convert column '" + columnName + "'", e);
+                Array array = resultSet.getArray(columnName);
+                if (array == null) return null;
+
+                try {
+                    return copier.apply(array.getArray());
+                } finally {
+                    free(array);
+                }
+            } catch (SQLException | IllegalArgumentException | ClassCastException e) {
+                throw new ConversionException("Failed to convert array column '" + columnName + "'", e);
             }
         };
     }
 
+    /**
+     * Releases the resources of a SQL array, ignoring drivers that do not support it.
+     *
+     * @param array the array to free
+     * @throws SQLException if a database access error occurs
+     */
+    private static void free(Array array) throws SQLException {
+        try {
+            array.free();
+        } catch (SQLFeatureNotSupportedException ignored) {
+            // The driver releases the array with the result set
+        }
+    }
+
     /**
      * Creates a converter for date/time types with optional format support.
      *
@@ -150,35 +326,215 @@ public final class StandardConverters {
      * @param <U> the intermediate type from the ResultSet
      * @param getter the function to extract values from the ResultSet
      * @param converter the function to convert from intermediate to target type
-     * @param formatter the function to parse string values using a format pattern
+     * @param parserFactory the function compiling a format pattern into a thread-safe parser of string values
      * @return a TypeConverter that converts ResultSet values to the target date/time type
-     * @throws ConversionException if an error occurs during conversion or date parsing
      */
     private static <T, U> TypeConverter<T> createDateConverter(
             ResultSetGetter<U> getter,
             Function<U, T> converter,
-            BiFunction<String, String, T> formatter) {
+            Function<String, Function<String, T>> parserFactory) {
 
-        return (resultSet, columnName, attributes) -> {
+        return new DateConverter<>(getter, converter, parserFactory);
+    }
+
+    /**
+     * Creates a parser factory for {@code java.time} types, compiling the pattern into a {@link DateTimeFormatter}.
+     *
+     * @param <T> the target date/time type
+     * @param parser the function parsing a string value with a formatter
+     * @return a factory of thread-safe parsers by format pattern
+     */
+    private static <T> Function<String, Function<String, T>> formatterParser(BiFunction<String, DateTimeFormatter, T> parser) {
+        return format -> {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format);
+            return value -> parser.apply(value, formatter);
+        };
+    }
+
+    /**
+     * Compiles a format pattern into a parser of {@link Date} values.
+     * The compiled {@link SimpleDateFormat} is not thread-safe, so each parse works on a copy of it.
+     *
+     * @param format the date format pattern
+     * @return a thread-safe parser of string values
+     */
+    private static Function<String, Date> dateFormatParser(String format) {
+        SimpleDateFormat prototype = new SimpleDateFormat(format);
+        return value -> ConverterUtils.toDate(value, (DateFormat) prototype.clone());
+    }
+
+    /**
+     * Converter reading a value with a single ResultSet getter.
+     * In lenient mapping the getter's data exceptions are reported without wrapping them in a ConversionException.
+     *
+     * @param <T> the target type of the converter
+     */
+    private static final class GetterConverter<T> implements TypeConverter<T> {
+        private final ResultSetGetter<T> getter;
+        private final boolean checkNull;
+
+        private GetterConverter(ResultSetGetter<T> getter, boolean checkNull) {
+            this.getter = getter;
+            this.checkNull = checkNull;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @throws ConversionException if the value can not be read
+         */
+        @Override
+        public T convert(ResultSet resultSet, String columnName, Map<String, Object> attributes) {
+            try {
+                return this.get(resultSet, columnName);
+            } catch (SQLException e) {
+                throw new ConversionException("Failed to convert column '" + columnName + "'", e);
+            }
+        }
+
+        @Override
+        public BoundConverter<T> bind(FieldConfig config) {
+            ValueUtils.requireNonNull(config, "Field config can not be null");
+
+            return new BoundConverter<>() {
+                @Override
+                public T read(ResultSet resultSet, String columnName) {
+                    return GetterConverter.this.convert(resultSet, columnName, Map.of());
+                }
+
+                @Override
+                public Object readLeniently(ResultSet resultSet, String columnName) throws SQLException {
+                    try {
+                        return GetterConverter.this.get(resultSet, columnName);
+                    } catch (SQLException e) {
+                        if (!SqlUtils.isDataException(e)) throw e;
+                        return ConversionFailure.of(e.getClass());
+                    } catch (RuntimeException e) {
+                        return ConversionFailure.of(e.getClass());
+                    }
+                }
+            };
+        }
+
+        private T get(ResultSet resultSet, String columnName) throws SQLException {
+            T value = this.getter.get(resultSet, columnName);
+            return this.checkNull && resultSet.wasNull() ? null : value;
+        }
+    }
+
+    /**
+     * Converter for date/time types, reading native driver values or parsing strings with the
+     * {@link FieldConfig#FORMAT format} attribute. When bound to a field, the format pattern is compiled once, and
+     * values that fail to parse in lenient mapping are reported without wrapping the parser exception.
+     *
+     * @param <T> the target date/time type
+     * @param <U> the intermediate type from the ResultSet
+     */
+    private static final class DateConverter<T, U> implements TypeConverter<T> {
+        private static final ConversionFailure PARSE_FAILURE = ConversionFailure.of(ConversionException.class);
+
+        private final ResultSetGetter<U> getter;
+        private final Function<U, T> converter;
+        private final Function<String, Function<String, T>> parserFactory;
+
+        private DateConverter(ResultSetGetter<U> getter, Function<U, T> converter, Function<String, Function<String, T>> parserFactory) {
+            this.getter = getter;
+            this.converter = converter;
+            this.parserFactory = parserFactory;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @throws ConversionException if an error occurs during conversion or date parsing
+         */
+        @Override
+        public T convert(ResultSet resultSet, String columnName, Map<String, Object> attributes) throws SQLException {
+            String format = (String) attributes.get(FieldConfig.FORMAT_ATTRIBUTE);
+            if (format == null) return this.readNative(resultSet, columnName);
+
+            Function<String, T> parser;
             try {
-                Optional<String> format = Optional.ofNullable((String) attributes.get(FieldConfig.FORMAT_ATTRIBUTE));
+                parser = this.parserFactory.apply(format);
+            } catch (IllegalArgumentException e) {
+                throw new ConversionException("Invalid date format '" + format + "' for column '" + columnName + "'", e);
+            }
+
+            return this.parse(resultSet, columnName, parser, format);
+        }
 
-                if (format.isEmpty()) {
-                    return Optional.ofNullable(getter.get(resultSet, columnName)).map(converter).orElse(null);
+        /**
+         * Binds this converter to a field, compiling its format pattern once.
+         *
+         * @param config the configuration of the field, with its resolved attributes
+         * @return a converter reading values for the field
+         * @throws IllegalArgumentException if the format pattern is invalid
+         */
+        @Override
+        public BoundConverter<T> bind(FieldConfig config) {
+            Optional<String> format = config.getAttribute(FieldConfig.FORMAT);
+            if (format.isEmpty()) return this::readNative;
+
+            String pattern = format.get();
+            Function<String, T> parser;
+            try {
+                parser = this.parserFactory.apply(pattern);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid date format '" + pattern + "'", e);
+            }
+
+            return new BoundConverter<>() {
+                @Override
+                public T read(ResultSet resultSet, String columnName) {
+                    return DateConverter.this.parse(resultSet, columnName, parser, pattern);
                 }
 
-                return Optional.ofNullable(resultSet.getString(columnName))
-                        .map(value -> {
-                            try {
-                                return formatter.apply(value, format.get());
-                            } catch (Exception e) {
-                                throw new ConversionException("Failed to parse date '" + value + "' with format '" + format.get() + "' for column '" + columnName + "'", e);
-                            }
-                        }).orElse(null);
+                @Override
+                public Object readLeniently(ResultSet resultSet, String columnName) throws SQLException {
+                    String value;
+                    try {
+                        value = resultSet.getString(columnName);
+                    } catch (SQLException e) {
+                        if (!SqlUtils.isDataException(e)) throw e;
+                        return ConversionFailure.of(e.getClass());
+                    }
+
+                    if (value == null) return null;
+
+                    try {
+                        return parser.apply(value);
+                    } catch (Exception e) {
+                        return PARSE_FAILURE;
+                    }
+                }
+            };
+        }
+
+        private T readNative(ResultSet resultSet, String columnName) {
+            try {
+                U value = this.getter.get(resultSet, columnName);
+                return value == null ? null : this.converter.apply(value);
             } catch (SQLException e) {
                 throw new ConversionException("Failed to convert column '" + columnName + "'", e);
             }
-        };
+        }
+
+        private T parse(ResultSet resultSet, String columnName, Function<String, T> parser, String format) {
+            String value;
+            try {
+                value = resultSet.getString(columnName);
+            } catch (SQLException e) {
+                throw new ConversionException("Failed to convert column '" + columnName + "'", e);
+            }
+
+            if (value == null) return null;
+
+            try {
+                return parser.apply(value);
+            } catch (Exception e) {
+                throw new ConversionException("Failed to parse date '" + value + "' with format '" + format + "' for column '" + columnName + "'", e);
+            }
+        }
     }
 
     /**
@@ -1,5 +1,8 @@
 package dev.bxlab.resultset.mapper.converters;
 
+import dev.bxlab.resultset.mapper.configs.FieldConfig;
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Map;
@@ -7,6 +10,11 @@ import java.util.Map;
 /**
  * Functional interface for converting database column values from a ResultSet to Java objects.
  * Implementations of this interface define specific conversion strategies for different data types.
+ * <p>
+ * Mappers {@link #bind(FieldConfig) bind} a converter to each field once, and then read every row through the
+ * returned {@link BoundConverter}. Converters whose behaviour depends on field attributes should override
+ * {@code bind} to interpret them once, instead of on every call to {@link #convert(ResultSet, String, Map)}.
+ * </p>
  *
  * @param <T> the type of the value to convert
  */
@@ -22,4 +30,17 @@ public interface TypeConverter<T> {
      * @throws SQLException if a database access error occurs or the column doesn't exist
      */
     T convert(ResultSet resultSet, String columnName, Map<String, Object> attributes) throws SQLException;
+
+    /**
+     * Binds this converter to the configuration of a field.
+     * The default implementation passes the field attributes to {@link #convert(ResultSet, String, Map)} on every read.
+     *
+     * @param config the configuration of the field, with its resolved attributes
+     * @return a converter reading values for the field
+     * @throws IllegalArgumentException if an attribute value is invalid for this converter
+     */
+    default BoundConverter<T> bind(FieldConfig config) {
+        Map<String, Object> attributes = ValueUtils.requireNonNull(config, "Field config can not be null").getAttributes();
+        return (resultSet, columnName) -> this.convert(resultSet, columnName, attributes);
+    }
 }
@@ -0,0 +1,16 @@
+package dev.bxlab.resultset.mapper.core;
+
+import dev.bxlab.resultset.mapper.converters.BoundConverter;
+
+import java.lang.reflect.Field;
+
+/**
+ * Binding between a mapped field and the actual column label of a specific {@link java.sql.ResultSet} shape.
+ * Produced once while preparing a mapper, so no column lookup is needed when mapping rows.
+ *
+ * @param field      the target field
+ * @param columnName the actual column label as reported by the result set metadata
+ * @param converter  the converter, bound to the field attributes, used to read the column value
+ */
+record ColumnBinding(Field field, String columnName, BoundConverter<?> converter) {
+}
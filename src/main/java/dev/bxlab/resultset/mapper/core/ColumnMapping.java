@@ -1,5 +1,6 @@
 package dev.bxlab.resultset.mapper.core;
 
+import dev.bxlab.resultset.mapper.configs.EnumStrategy;
 import dev.bxlab.resultset.mapper.configs.NamingStrategy;
 import dev.bxlab.resultset.mapper.converters.DefaultConverter;
 import dev.bxlab.resultset.mapper.converters.TypeConverter;
@@ -41,4 +42,29 @@ public @interface ColumnMapping {
      * @return the class of the custom type converter
      */
     Class<? extends TypeConverter<?>> converter() default DefaultConverter.class;
+
+    /**
+     * Specifies whether equal values of this column should share a single {@link String} instance.
+     * Intended for low-cardinality columns; deduplication disables itself when the column turns out to have
+     * too many distinct values. Only supported on {@link String} fields.
+     *
+     * @return true to deduplicate the mapped strings
+     */
+    boolean deduplicate() default false;
+
+    /**
+     * Specifies how column values are matched to the constants of an enum field.
+     * Ignored for fields that are not enums, or when a converter is registered for the enum type.
+     *
+     * @return the enum strategy
+     */
+    EnumStrategy enumStrategy() default EnumStrategy.NAME;
+
+    /**
+     * Specifies whether the column holds a JSON document to decode into the field type, including nested records,
+     * classes, collections and maps. Documents are decoded with the mapper {@link dev.bxlab.resultset.mapper.json.JsonDecoder}.
+     *
+     * @return true to decode the column as JSON
+     */
+    boolean json() default false;
 }
\ No newline at end of file
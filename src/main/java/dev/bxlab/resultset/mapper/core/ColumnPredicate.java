@@ -0,0 +1,160 @@
+package dev.bxlab.resultset.mapper.core;
+
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Predicate;
+
+/**
+ * A row filter declared against raw columns, evaluated before a row is mapped.
+ * <p>
+ * Each column is read with the converter registered in the mapper for the declared type, so values are typed exactly
+ * as they would be for a mapped field. Rows rejected by the predicate are skipped without converting the remaining
+ * columns or creating an object. Columns do not need to be mapped to a field.
+ * </p>
+ * <p>
+ * Predicates are immutable and can be shared between threads and reused across result sets. Combined predicates
+ * short-circuit from left to right, so cheaper or more selective conditions should come first.
+ * </p>
+ *
+ * <pre>{@code
+ * ColumnPredicate recent = ColumnPredicate.of("created_at", LocalDate.class, date -> date.isAfter(cutoff))
+ *         .and(ColumnPredicate.of("status", String.class, "ACTIVE"::equals));
+ *
+ * List<User> users = mapper.mapAll(resultSet, recent);
+ * }</pre>
+ *
+ * @see RowMapper#mapAll(ResultSet, ColumnPredicate)
+ */
+public final class ColumnPredicate {
+    private final Binding binding;
+
+    private ColumnPredicate(Binding binding) {
+        this.binding = binding;
+    }
+
+    /**
+     * Creates a predicate on the value of a single column.
+     * The condition receives null when the column is SQL NULL, including for primitive types.
+     *
+     * @param column    the label of the column
+     * @param type      the type the column is converted to; primitive types are boxed
+     * @param condition the condition the converted value must satisfy
+     * @param <V>       the type of the column value
+     * @return a new predicate
+     * @throws IllegalArgumentException if any argument is null or the column is empty
+     */
+    public static <V> ColumnPredicate of(String column, Class<V> type, Predicate<? super V> condition) {
+        ValueUtils.requireNonEmpty(column, "Column can not be empty");
+        ValueUtils.requireNonNull(type, "Column type can not be null");
+        ValueUtils.requireNonNull(condition, "Condition can not be null");
+
+        return new ColumnPredicate(resolver -> {
+            ColumnReader<V> reader = resolver.reader(column, type);
+            return resultSet -> condition.test(reader.read(resultSet));
+        });
+    }
+
+    /**
+     * Creates a predicate matching rows where the column is SQL NULL.
+     *
+     * @param column the label of the column
+     * @return a new predicate
+     * @throws IllegalArgumentException if the column is empty
+     */
+    public static ColumnPredicate isNull(String column) {
+        return of(column, Object.class, value -> value == null);
+    }
+
+    /**
+     * Creates a predicate matching rows where the column is not SQL NULL.
+     *
+     * @param column the label of the column
+     * @return a new predicate
+     * @throws IllegalArgumentException if the column is empty
+     */
+    public static ColumnPredicate isNotNull(String column) {
+        return of(column, Object.class, value -> value != null);
+    }
+
+    /**
+     * Combines this predicate with another one, matching rows accepted by both.
+     * The other predicate is not evaluated for rows rejected by this one.
+     *
+     * @param other the other predicate
+     * @return a new predicate
+     * @throws IllegalArgumentException if the other predicate is null
+     */
+    public ColumnPredicate and(ColumnPredicate other) {
+        ValueUtils.requireNonNull(other, "Predicate can not be null");
+
+        return new ColumnPredicate(resolver -> {
+            RowFilter left = this.binding.bind(resolver);
+            RowFilter right = other.binding.bind(resolver);
+            return resultSet -> left.test(resultSet) && right.test(resultSet);
+        });
+    }
+
+    /**
+     * Combines this predicate with another one, matching rows accepted by either.
+     * The other predicate is not evaluated for rows accepted by this one.
+     *
+     * @param other the other predicate
+     * @return a new predicate
+     * @throws IllegalArgumentException if the other predicate is null
+     */
+    public ColumnPredicate or(ColumnPredicate other) {
+        ValueUtils.requireNonNull(other, "Predicate can not be null");
+
+        return new ColumnPredicate(resolver -> {
+            RowFilter left = this.binding.bind(resolver);
+            RowFilter right = other.binding.bind(resolver);
+            return resultSet -> left.test(resultSet) || right.test(resultSet);
+        });
+    }
+
+    /**
+     * Creates a predicate matching the rows rejected by this one.
+     *
+     * @return a new predicate
+     */
+    public ColumnPredicate negate() {
+        return new ColumnPredicate(resolver -> {
+            RowFilter filter = this.binding.bind(resolver);
+            return resultSet -> !filter.test(resultSet);
+        });
+    }
+
+    /**
+     * Binds this predicate to the columns of a result set.
+     *
+     * @param resolver the resolver of column readers
+     * @return a filter evaluating this predicate on the current row
+     * @throws SQLException if a database access error occurs
+     */
+    RowFilter bind(ColumnResolver resolver) throws SQLException {
+        return this.binding.bind(resolver);
+    }
+
+    /**
+     * Evaluates a bound predicate on the current row.
+     */
+    @FunctionalInterface
+    interface RowFilter {
+        boolean test(ResultSet resultSet) throws SQLException;
+    }
+
+    /**
+     * Resolves a column label to a reader of its converted value.
+     */
+    @FunctionalInterface
+    interface ColumnResolver {
+        <V> ColumnReader<V> reader(String column, Class<V> type) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface Binding {
+        RowFilter bind(ColumnResolver resolver) throws SQLException;
+    }
+}
@@ -0,0 +1,23 @@
+package dev.bxlab.resultset.mapper.core;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Reads the converted value of a single resolved column from the current row.
+ * Created by {@link RowMapper} for raw-column keys and predicates.
+ *
+ * @param <V> the type of the value
+ */
+@FunctionalInterface
+interface ColumnReader<V> {
+
+    /**
+     * Reads the value of the column from the current row.
+     *
+     * @param resultSet the result set positioned at the row to read
+     * @return the converted value, or null if the column is SQL NULL
+     * @throws SQLException if a database access error occurs
+     */
+    V read(ResultSet resultSet) throws SQLException;
+}
@@ -0,0 +1,30 @@
+package dev.bxlab.resultset.mapper.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to declare the discriminator column value that selects a subtype in polymorphic mapping.
+ * Subtypes without this annotation use their simple class name.
+ * <pre>{@code
+ * public sealed interface Payment permits CardPayment, BankTransfer {}
+ *
+ * @DiscriminatorValue("CARD")
+ * public record CardPayment(@ColumnMapping long id, @ColumnMapping String cardNumber) implements Payment {}
+ * }</pre>
+ *
+ * @see RowMapperBuilder#withDiscriminator(String)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DiscriminatorValue {
+
+    /**
+     * Specifies the discriminator column value of the annotated subtype.
+     *
+     * @return the discriminator value
+     */
+    String value();
+}
@@ -0,0 +1,29 @@
+package dev.bxlab.resultset.mapper.core;
+
+import dev.bxlab.resultset.mapper.configs.EnumStrategy;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to declare the database code of an enum constant, used by the {@link EnumStrategy#CODE} strategy.
+ * <pre>{@code
+ * public enum Status {
+ *     @EnumCode("A") ACTIVE,
+ *     @EnumCode("I") INACTIVE
+ * }
+ * }</pre>
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EnumCode {
+
+    /**
+     * Specifies the value stored in the database for this constant.
+     *
+     * @return the database code
+     */
+    String value();
+}
@@ -0,0 +1,90 @@
+package dev.bxlab.resultset.mapper.core;
+
+import dev.bxlab.resultset.mapper.exceptions.ErrorBudgetExceededException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An {@link ErrorSink} collecting the field errors of a lenient mapping run, up to an error budget.
+ * <p>
+ * Reporting more errors than the budget aborts the mapping with an {@link ErrorBudgetExceededException}, so a feed
+ * that is entirely malformed fails fast instead of being mapped to default values. A report is meant for a single
+ * mapping run and is not thread-safe.
+ * </p>
+ */
+public final class ErrorReport implements ErrorSink {
+    private final int errorBudget;
+    private final List<FieldError> errors = new ArrayList<>();
+
+    /**
+     * Creates a report allowing up to the given number of errors.
+     *
+     * @param errorBudget the maximum number of errors before the mapping is aborted
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public ErrorReport(int errorBudget) {
+        if (errorBudget < 0) throw new IllegalArgumentException("Error budget can not be negative");
+        this.errorBudget = errorBudget;
+    }
+
+    /**
+     * Creates a report without an error budget.
+     *
+     * @return a report that never aborts the mapping
+     */
+    public static ErrorReport unbounded() {
+        return new ErrorReport(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Records a field error.
+     *
+     * @param error the field error
+     * @throws ErrorBudgetExceededException if the error exceeds the error budget
+     */
+    @Override
+    public void report(FieldError error) {
+        if (this.errors.size() >= this.errorBudget)
+            throw new ErrorBudgetExceededException(this.errorBudget, error.toString());
+
+        this.errors.add(error);
+    }
+
+    /**
+     * Gets the recorded errors, in the order they were reported.
+     *
+     * @return an unmodifiable view of the recorded errors
+     */
+    public List<FieldError> getErrors() {
+        return Collections.unmodifiableList(this.errors);
+    }
+
+    /**
+     * Gets the number of recorded errors.
+     *
+     * @return the error count
+     */
+    public int getErrorCount() {
+        return this.errors.size();
+    }
+
+    /**
+     * Checks whether any error was recorded.
+     *
+     * @return true if at least one error was recorded
+     */
+    public boolean hasErrors() {
+        return !this.errors.isEmpty();
+    }
+
+    /**
+     * Gets the maximum number of errors before the mapping is aborted.
+     *
+     * @return the error budget
+     */
+    public int getErrorBudget() {
+        return this.errorBudget;
+    }
+}
@@ -0,0 +1,22 @@
+package dev.bxlab.resultset.mapper.core;
+
+/**
+ * Receives the field errors of lenient mapping.
+ * <p>
+ * In lenient mode a converter failure does not abort the mapping: the field is left at its default value and the
+ * failure is reported to the sink. A sink can abort the mapping by throwing a runtime exception, as
+ * {@link ErrorReport} does when its error budget is exceeded.
+ * </p>
+ *
+ * @see RowMapper#mapAll(java.sql.ResultSet, ErrorSink)
+ */
+@FunctionalInterface
+public interface ErrorSink {
+
+    /**
+     * Reports a field that could not be converted.
+     *
+     * @param error the field error
+     */
+    void report(FieldError error);
+}
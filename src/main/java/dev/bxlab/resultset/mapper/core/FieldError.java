@@ -0,0 +1,21 @@
+package dev.bxlab.resultset.mapper.core;
+
+/**
+ * A field that could not be converted while mapping a row in lenient mode.
+ * The field is left at its default value in the mapped object.
+ *
+ * @param row        the 1-based number of the row in the mapped result set
+ * @param fieldName  the name of the target field
+ * @param columnName the label of the column the value was read from
+ * @param rawValue   the raw column value as returned by {@link java.sql.ResultSet#getObject(String)}, or null if it
+ *                   is SQL NULL or could not be read
+ * @param causeType  the type of the exception thrown by the converter
+ */
+public record FieldError(long row, String fieldName, String columnName, Object rawValue, Class<? extends Exception> causeType) {
+
+    @Override
+    public String toString() {
+        return "row " + this.row + ", field '" + this.fieldName + "' (column '" + this.columnName + "'): "
+                + this.causeType.getSimpleName() + " for value '" + this.rawValue + "'";
+    }
+}
@@ -0,0 +1,105 @@
+package dev.bxlab.resultset.mapper.core;
+
+import dev.bxlab.resultset.mapper.converters.BoundConverter;
+import dev.bxlab.resultset.mapper.converters.TypeConverter;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolved mapping between a field of the target type and a ResultSet column.
+ * <p>
+ * Instances are created once by {@link RowMapper} after applying the mapper configuration, the
+ * {@link ColumnMapping} annotation and the naming strategy. They are immutable and can be safely
+ * shared between threads.
+ * </p>
+ */
+public final class FieldMapping {
+    private final Field field;
+    private final String columnName;
+    private final TypeConverter<?> converter;
+    private final Map<String, Object> attributes;
+    private final BoundConverter<?> boundConverter;
+
+    /**
+     * Constructs a field mapping.
+     *
+     * @param field          the target field
+     * @param columnName     the resolved column name
+     * @param converter      the resolved converter, or null if no converter was found
+     * @param attributes     the converter attributes
+     * @param boundConverter the converter bound to the field attributes, or null if no converter was found
+     */
+    FieldMapping(Field field, String columnName, TypeConverter<?> converter, Map<String, Object> attributes,
+                 BoundConverter<?> boundConverter) {
+        this.field = field;
+        this.columnName = columnName;
+        this.converter = converter;
+        this.attributes = Map.copyOf(attributes);
+        this.boundConverter = boundConverter;
+    }
+
+    /**
+     * Gets the target field.
+     *
+     * @return the field
+     */
+    public Field getField() {
+        return this.field;
+    }
+
+    /**
+     * Gets the name of the target field.
+     *
+     * @return the field name
+     */
+    public String getFieldName() {
+        return this.field.getName();
+    }
+
+    /**
+     * Gets the type of the target field.
+     *
+     * @return the field type
+     */
+    public Class<?> getFieldType() {
+        return this.field.getType();
+    }
+
+    /**
+     * Gets the resolved column name, before matching it against a result set.
+     *
+     * @return the column name
+     */
+    public String getColumnName() {
+        return this.columnName;
+    }
+
+    /**
+     * Gets the resolved type converter.
+     *
+     * @return the converter or empty if no converter was found for the field type
+     */
+    public Optional<TypeConverter<?>> getConverter() {
+        return Optional.ofNullable(this.converter);
+    }
+
+    /**
+     * Gets the attributes passed to the converter.
+     *
+     * @return an immutable map with the converter attributes
+     */
+    public Map<String, Object> getAttributes() {
+        return this.attributes;
+    }
+
+    /**
+     * Gets the converter bound to the field attributes, used to read each row.
+     *
+     * @return the bound converter, or null if no converter was found for the field type
+     */
+    BoundConverter<?> getBoundConverter() {
+        return this.boundConverter;
+    }
+}
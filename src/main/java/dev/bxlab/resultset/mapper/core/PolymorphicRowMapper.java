@@ -0,0 +1,156 @@
+package dev.bxlab.resultset.mapper.core;
+
+import dev.bxlab.resultset.mapper.exceptions.ColumnNotFoundException;
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
+
+/**
+ * Maps rows of a single-table inheritance result set to subtypes of {@code T}, selected by a discriminator column.
+ * <p>
+ * Instances are created by {@link RowMapperBuilder#buildPolymorphic()}. Each subtype has its own {@link RowMapper},
+ * built once with the configuration of the builder. When a result set is mapped, the discriminator column and the
+ * column plan of every subtype are resolved once from the metadata. Each row then reads the discriminator value and
+ * dispatches to the prepared subtype mapper through a hash table, without trying subtypes in turn.
+ * </p>
+ * <p>
+ * Discriminator values are read with {@link ResultSet#getString(String)}, so numeric discriminators are registered
+ * by their string form. Like {@link RowMapper}, a polymorphic mapper is immutable and can be shared between threads.
+ * </p>
+ *
+ * @param <T> the base type of the mapped objects
+ */
+public final class PolymorphicRowMapper<T> implements ResultSetMapper<T> {
+    private final RowMapper<T> baseMapper;
+    private final String discriminatorColumn;
+    private final Map<String, RowMapper<? extends T>> subtypeMappers;
+
+    /**
+     * Constructs a polymorphic mapper from the subtype mappers.
+     *
+     * @param baseMapper          the mapper of the base type, used to resolve the discriminator column
+     * @param discriminatorColumn the label of the discriminator column
+     * @param subtypeMappers      the mappers of the subtypes by discriminator value
+     */
+    PolymorphicRowMapper(RowMapper<T> baseMapper, String discriminatorColumn, Map<String, RowMapper<? extends T>> subtypeMappers) {
+        this.baseMapper = baseMapper;
+        this.discriminatorColumn = discriminatorColumn;
+        this.subtypeMappers = new LinkedHashMap<>(subtypeMappers);
+    }
+
+    /**
+     * Maps the current row of the given {@link ResultSet} to the subtype selected by its discriminator value.
+     *
+     * @param resultSet the ResultSet to map from, positioned at the row to be mapped
+     * @return an object of the selected subtype populated with data from the current ResultSet row
+     * @throws SQLException     if a database access error occurs or this method is called on a closed result set
+     * @throws MappingException if the discriminator value is null or not registered
+     */
+    @Override
+    public T map(ResultSet resultSet) throws SQLException {
+        return this.prepare(resultSet.getMetaData()).map(resultSet);
+    }
+
+    /**
+     * Maps all rows of the given {@link ResultSet} to objects of the subtypes selected by their discriminator values.
+     * The discriminator column and the column plans are resolved once from the result set metadata.
+     *
+     * @param resultSet the result set to map
+     * @return a list of mapped objects
+     * @throws SQLException     if a database access error occurs
+     * @throws MappingException if a discriminator value is null or not registered
+     */
+    @Override
+    public List<T> mapAll(ResultSet resultSet) throws SQLException {
+        return this.prepare(resultSet.getMetaData()).mapAll(resultSet);
+    }
+
+    /**
+     * Maps all rows of the given {@link ResultSet} and accumulates them with a {@link Collector}.
+     * The discriminator column and the column plans are resolved once from the result set metadata.
+     *
+     * @param resultSet the result set to map
+     * @param collector the collector accumulating the mapped rows
+     * @param <A>       the mutable accumulation type of the collector
+     * @param <R>       the result type of the collector
+     * @return the result of the collector
+     * @throws SQLException     if a database access error occurs
+     * @throws MappingException if a discriminator value is null or not registered
+     */
+    @Override
+    public <A, R> R collect(ResultSet resultSet, Collector<? super T, A, R> collector) throws SQLException {
+        return this.prepare(resultSet.getMetaData()).collect(resultSet, collector);
+    }
+
+    /**
+     * Prepares a mapper bound to the columns described by the given metadata.
+     * The discriminator column is resolved and every subtype mapper is prepared once, so the returned mapper can be
+     * reused for every result set with the same shape.
+     *
+     * @param metaData the metadata describing the columns of the result sets to map
+     * @return a mapper dispatching each row to the prepared mapper of its subtype
+     * @throws SQLException            if a database access error occurs
+     * @throws ColumnNotFoundException if the discriminator column, or a mapped column of a subtype when unknown
+     *                                 columns are not ignored, is missing
+     */
+    public ResultSetMapper<T> prepare(ResultSetMetaData metaData) throws SQLException {
+        ValueUtils.requireNonNull(metaData, "Metadata can not be null");
+
+        ColumnReader<String> discriminatorReader = this.baseMapper.keyReader(metaData, this.discriminatorColumn, String.class);
+
+        Map<String, PreparedRowMapper<? extends T>> dispatchTable = new HashMap<>(this.subtypeMappers.size() * 2);
+        for (Map.Entry<String, RowMapper<? extends T>> entry : this.subtypeMappers.entrySet()) {
+            dispatchTable.put(entry.getKey(), entry.getValue().prepare(metaData));
+        }
+
+        return resultSet -> {
+            String value = discriminatorReader.read(resultSet);
+            if (value == null) throw new MappingException("Null discriminator value in column '" + this.discriminatorColumn + "'");
+
+            PreparedRowMapper<? extends T> mapper = dispatchTable.get(value);
+            if (mapper == null)
+                throw new MappingException("Unknown discriminator value '" + value + "' in column '" + this.discriminatorColumn + "'");
+
+            return mapper.map(resultSet);
+        };
+    }
+
+    /**
+     * Gets the label of the discriminator column.
+     *
+     * @return the discriminator column
+     */
+    public String getDiscriminatorColumn() {
+        return this.discriminatorColumn;
+    }
+
+    /**
+     * Gets the registered subtypes by discriminator value.
+     *
+     * @return an immutable map of subtypes, in registration order
+     */
+    public Map<String, Class<? extends T>> getSubtypes() {
+        Map<String, Class<? extends T>> subtypes = new LinkedHashMap<>();
+        this.subtypeMappers.forEach((value, mapper) -> subtypes.put(value, mapper.getTargetType()));
+        return Collections.unmodifiableMap(subtypes);
+    }
+
+    /**
+     * Gets the mapper of a subtype.
+     *
+     * @param discriminatorValue the discriminator value of the subtype
+     * @return the mapper of the subtype, or null if the value is not registered
+     */
+    public RowMapper<? extends T> getSubtypeMapper(String discriminatorValue) {
+        return this.subtypeMappers.get(discriminatorValue);
+    }
+}
@@ -0,0 +1,181 @@
+package dev.bxlab.resultset.mapper.core;
+
+import dev.bxlab.resultset.mapper.converters.ConversionFailure;
+import dev.bxlab.resultset.mapper.exceptions.ObjectInstantiationException;
+import dev.bxlab.resultset.mapper.utils.InstanceFactory;
+import dev.bxlab.resultset.mapper.utils.ReflectionUtils;
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
+import java.lang.reflect.Field;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link ResultSetMapper} bound to a specific result set shape.
+ * <p>
+ * Instances are created by {@link RowMapper#prepare(java.sql.ResultSetMetaData)}. Column names are resolved and
+ * validated against the metadata once, so mapping a row only reads the bound columns. A prepared mapper can be reused
+ * for every execution of the statement it was prepared for, as long as the columns returned do not change.
+ * Like {@link RowMapper}, a prepared mapper is immutable and can be shared between threads.
+ * </p>
+ *
+ * @param <T> the type of object to map the ResultSet rows to
+ */
+public final class PreparedRowMapper<T> implements ResultSetMapper<T> {
+    private final Class<T> targetType;
+    private final List<ColumnBinding> bindings;
+    private final InstanceFactory<T> instanceFactory;
+
+    /**
+     * Constructs a prepared mapper from the resolved column bindings.
+     *
+     * @param targetType the class of the object to be mapped
+     * @param bindings   the resolved column bindings
+     */
+    PreparedRowMapper(Class<T> targetType, List<ColumnBinding> bindings) {
+        this.targetType = targetType;
+        this.bindings = List.copyOf(bindings);
+        this.instanceFactory = InstanceFactory.of(targetType, this.bindings.stream().map(ColumnBinding::field).toList());
+    }
+
+    /**
+     * Maps the current row of the given {@link ResultSet} to an object of type {@code T}.
+     *
+     * @param resultSet the ResultSet to map from, positioned at the row to be mapped
+     * @return an object of type {@code T} populated with data from the current ResultSet row
+     * @throws SQLException if a database access error occurs or this method is called on a closed result set
+     */
+    @Override
+    public T map(ResultSet resultSet) throws SQLException {
+        Object[] values = new Object[this.bindings.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            ColumnBinding binding = this.bindings.get(i);
+            Object value = binding.converter().read(resultSet, binding.columnName());
+            values[i] = value != null || !ReflectionUtils.isPrimitiveType(binding.field()) ? value : InstanceFactory.UNSET;
+        }
+
+        return this.newInstance(values);
+    }
+
+    /**
+     * Maps the current row of the given {@link ResultSet} in lenient mode.
+     * Fields whose converter fails are left at their default value and reported to the sink instead of aborting
+     * the mapping. The row number is supplied by the caller, as {@link ResultSet#getRow()} is optional for
+     * forward-only result sets.
+     *
+     * @param resultSet the ResultSet to map from, positioned at the row to be mapped
+     * @param errorSink the sink receiving the field errors
+     * @param row       the row number reported with the field errors
+     * @return an object of type {@code T} populated with the converted columns of the current row
+     * @throws SQLException if a database access error occurs
+     * @see #mapAll(ResultSet, ErrorSink)
+     */
+    public T map(ResultSet resultSet, ErrorSink errorSink, long row) throws SQLException {
+        ValueUtils.requireNonNull(errorSink, "Error sink can not be null");
+        return this.mapRow(resultSet, errorSink, row);
+    }
+
+    /**
+     * Maps all rows of the given {@link ResultSet} in lenient mode.
+     * <p>
+     * Conversion failures (runtime exceptions thrown by converters, and SQL data exceptions with an SQLState of
+     * class {@code 22}) are reported to the sink as {@link FieldError}s and the field is left at its default value.
+     * Other SQL exceptions, such as connection failures, still abort the mapping. The sink can abort the mapping by
+     * throwing, as {@link ErrorReport} does when its error budget is exceeded.
+     * </p>
+     *
+     * @param resultSet the result set to map
+     * @param errorSink the sink receiving the field errors
+     * @return a list of mapped objects
+     * @throws SQLException if a database access error occurs
+     */
+    public List<T> mapAll(ResultSet resultSet, ErrorSink errorSink) throws SQLException {
+        ValueUtils.requireNonNull(errorSink, "Error sink can not be null");
+
+        List<T> results = new ArrayList<>();
+        long row = 0;
+        while (resultSet.next()) results.add(this.mapRow(resultSet, errorSink, ++row));
+        return results;
+    }
+
+    /**
+     * Gets the column labels this mapper reads, in mapping order.
+     *
+     * @return an immutable list of the bound column labels
+     */
+    public List<String> getBoundColumns() {
+        return this.bindings.stream().map(ColumnBinding::columnName).toList();
+    }
+
+    /**
+     * Gets the fields this mapper sets, in mapping order.
+     *
+     * @return an immutable list of the bound fields
+     */
+    List<Field> getBoundFields() {
+        return this.bindings.stream().map(ColumnBinding::field).toList();
+    }
+
+    /**
+     * Maps the current row in lenient mode.
+     *
+     * @param resultSet the ResultSet to map from, positioned at the row to be mapped
+     * @param errorSink the sink receiving the field errors
+     * @param row       the row number reported with the field errors
+     * @return an object of type {@code T} populated with the converted columns of the current row
+     * @throws SQLException if a database access error occurs
+     */
+    private T mapRow(ResultSet resultSet, ErrorSink errorSink, long row) throws SQLException {
+        Object[] values = new Object[this.bindings.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            ColumnBinding binding = this.bindings.get(i);
+            Field field = binding.field();
+            Object value = binding.converter().readLeniently(resultSet, binding.columnName());
+
+            if (value instanceof ConversionFailure failure) {
+                errorSink.report(new FieldError(row, field.getName(), binding.columnName(),
+                        readRawValue(resultSet, binding.columnName()), failure.getCauseType()));
+                values[i] = InstanceFactory.UNSET;
+                continue;
+            }
+
+            values[i] = value != null || !ReflectionUtils.isPrimitiveType(field) ? value : InstanceFactory.UNSET;
+        }
+
+        return this.newInstance(values);
+    }
+
+    /**
+     * Creates the target object from the values read for each binding.
+     *
+     * @param values the values, in binding order
+     * @return the new object
+     * @throws ObjectInstantiationException if the object can not be created
+     */
+    private T newInstance(Object[] values) {
+        try {
+            return this.instanceFactory.newInstance(values);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new ObjectInstantiationException(this.targetType, e);
+        }
+    }
+
+    /**
+     * Reads the raw value of a column that failed to convert, for error reporting.
+     *
+     * @param resultSet  the ResultSet positioned at the row to read
+     * @param columnName the column label
+     * @return the raw value, or null if it can not be read
+     */
+    private static Object readRawValue(ResultSet resultSet, String columnName) {
+        try {
+            return resultSet.getObject(columnName);
+        } catch (SQLException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package dev.bxlab.resultset.mapper.core;
 
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
 
 /**
  * Functional interface for mapping a single row of a {@link ResultSet} to a Java object.
@@ -34,4 +41,99 @@ public interface ResultSetMapper<T> {
         while (resultSet.next()) results.add(map(resultSet));
         return results;
     }
+
+    /**
+     * Maps all rows of the given {@link ResultSet} and accumulates them with a {@link Collector}.
+     * Each row is passed to the collector as soon as it is mapped, without building an intermediate list.
+     *
+     * @param resultSet the result set to map
+     * @param collector the collector accumulating the mapped rows
+     * @param <A>       the mutable accumulation type of the collector
+     * @param <R>       the result type of the collector
+     * @return the result of the collector
+     * @throws SQLException if a database access error occurs
+     */
+    default <A, R> R collect(ResultSet resultSet, Collector<? super T, A, R> collector) throws SQLException {
+        A container = collector.supplier().get();
+        BiConsumer<A, ? super T> accumulator = collector.accumulator();
+
+        while (resultSet.next()) accumulator.accept(container, map(resultSet));
+
+        return finish(collector, container);
+    }
+
+    /**
+     * Maps all rows of the given {@link ResultSet} into a map keyed by a property of the mapped objects.
+     * The map keeps the row order of the result set.
+     *
+     * @param resultSet    the result set to map
+     * @param keyExtractor the function returning the key of a mapped object
+     * @param <K>          the type of the keys
+     * @return a map of the mapped objects by key
+     * @throws SQLException     if a database access error occurs
+     * @throws MappingException if two rows have the same key
+     */
+    default <K> Map<K, T> mapToMap(ResultSet resultSet, Function<? super T, ? extends K> keyExtractor) throws SQLException {
+        return this.collect(resultSet, Collector.of(
+                LinkedHashMap::new,
+                (Map<K, T> map, T row) -> putUnique(map, keyExtractor.apply(row), row),
+                (left, right) -> {
+                    right.forEach((key, row) -> putUnique(left, key, row));
+                    return left;
+                },
+                Collector.Characteristics.IDENTITY_FINISH
+        ));
+    }
+
+    /**
+     * Maps all rows of the given {@link ResultSet} into lists grouped by a property of the mapped objects.
+     * The map keeps the order in which keys first appear, and each list keeps the row order.
+     *
+     * @param resultSet  the result set to map
+     * @param classifier the function returning the group key of a mapped object
+     * @param <K>        the type of the keys
+     * @return a map of the lists of mapped objects by key
+     * @throws SQLException if a database access error occurs
+     */
+    default <K> Map<K, List<T>> groupBy(ResultSet resultSet, Function<? super T, ? extends K> classifier) throws SQLException {
+        return this.collect(resultSet, Collector.of(
+                LinkedHashMap::new,
+                (Map<K, List<T>> map, T row) -> map.computeIfAbsent(classifier.apply(row), key -> new ArrayList<>()).add(row),
+                (left, right) -> {
+                    right.forEach((key, rows) -> left.computeIfAbsent(key, k -> new ArrayList<>()).addAll(rows));
+                    return left;
+                },
+                Collector.Characteristics.IDENTITY_FINISH
+        ));
+    }
+
+    /**
+     * Applies the finisher of a collector, skipping it for identity finishers.
+     *
+     * @param collector the collector
+     * @param container the accumulated container
+     * @param <A>       the mutable accumulation type of the collector
+     * @param <R>       the result type of the collector
+     * @return the result of the collector
+     */
+    @SuppressWarnings("unchecked")
+    private static <A, R> R finish(Collector<?, A, R> collector, A container) {
+        if (collector.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)) return (R) container;
+        return collector.finisher().apply(container);
+    }
+
+    /**
+     * Adds a row to a map, failing if the key is already present.
+     *
+     * @param map the map to add to
+     * @param key the key of the row
+     * @param row the mapped row
+     * @param <K> the type of the keys
+     * @param <T> the type of the rows
+     * @throws MappingException if the key is already present
+     */
+    private static <K, T> void putUnique(Map<K, T> map, K key, T row) {
+        if (map.containsKey(key)) throw new MappingException("Duplicate key '" + key + "'");
+        map.put(key, row);
+    }
 }
@@ -0,0 +1,125 @@
+package dev.bxlab.resultset.mapper.core;
+
+import dev.bxlab.resultset.mapper.exceptions.ColumnNotFoundException;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable row of a result set, viewed as a {@link Map} of column labels to values.
+ * <p>
+ * Rows are created by {@link TupleMapper}. The values of a row are stored in a single array and the column labels
+ * in a {@link RowSchema} shared by every row of the result set, so a row does not hold its own keys or hash table.
+ * Iteration follows the column order of the result set.
+ * </p>
+ */
+public final class Row extends AbstractMap<String, Object> {
+    private final RowSchema schema;
+    private final Object[] values;
+
+    /**
+     * Constructs a row from its values.
+     *
+     * @param schema the column index shared by the rows of the result set
+     * @param values the column values, in schema order; the array is not copied
+     */
+    Row(RowSchema schema, Object[] values) {
+        this.schema = schema;
+        this.values = values;
+    }
+
+    /**
+     * Gets the column index of this row.
+     *
+     * @return the schema shared by the rows of the result set
+     */
+    public RowSchema getSchema() {
+        return this.schema;
+    }
+
+    /**
+     * Gets the value of a column by position.
+     *
+     * @param index the zero-based position of the column
+     * @return the column value, or null if the column is SQL NULL
+     * @throws IndexOutOfBoundsException if the position is out of range
+     */
+    public Object get(int index) {
+        return this.values[index];
+    }
+
+    /**
+     * Gets the value of a column, cast to the given type.
+     *
+     * @param columnName the column label
+     * @param type       the expected type of the value
+     * @param <V>        the expected type of the value
+     * @return the column value, or null if the column is SQL NULL
+     * @throws ColumnNotFoundException if there is no such column
+     * @throws ClassCastException      if the value is not of the expected type
+     */
+    public <V> V get(String columnName, Class<V> type) {
+        int index = this.schema.indexOf(columnName);
+        if (index < 0) throw new ColumnNotFoundException(columnName);
+        return type.cast(this.values[index]);
+    }
+
+    /**
+     * Gets the values of this row.
+     *
+     * @return a copy of the column values, in schema order
+     */
+    public Object[] toArray() {
+        return this.values.clone();
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = key instanceof String columnName ? this.schema.indexOf(columnName) : -1;
+        return index < 0 ? null : this.values[index];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String columnName && this.schema.indexOf(columnName) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return this.values.length;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.next < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!this.hasNext()) throw new NoSuchElementException();
+
+                        int index = this.next++;
+                        return new SimpleImmutableEntry<>(schema.getColumnNames().get(index), values[index]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+}
@@ -1,34 +1,59 @@
 package dev.bxlab.resultset.mapper.core;
 
+import dev.bxlab.resultset.mapper.codec.RowCodec;
+import dev.bxlab.resultset.mapper.configs.AttributeKey;
+import dev.bxlab.resultset.mapper.configs.EnumStrategy;
 import dev.bxlab.resultset.mapper.configs.FieldConfig;
+import dev.bxlab.resultset.mapper.configs.IdentifierQuoting;
 import dev.bxlab.resultset.mapper.configs.MapperConfig;
+import dev.bxlab.resultset.mapper.converters.BoundConverter;
 import dev.bxlab.resultset.mapper.converters.ConverterRegistry;
+import dev.bxlab.resultset.mapper.converters.EnumConverter;
+import dev.bxlab.resultset.mapper.converters.JsonConverter;
 import dev.bxlab.resultset.mapper.converters.StandardConverters;
 import dev.bxlab.resultset.mapper.converters.TypeConverter;
 import dev.bxlab.resultset.mapper.exceptions.ColumnNotFoundException;
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
 import dev.bxlab.resultset.mapper.exceptions.ObjectInstantiationException;
-import dev.bxlab.resultset.mapper.utils.ExceptionHandler;
 import dev.bxlab.resultset.mapper.utils.ReflectionUtils;
+import dev.bxlab.resultset.mapper.utils.SqlUtils;
+import dev.bxlab.resultset.mapper.utils.StringDeduplicator;
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
 
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 /**
  * Maps rows from a {@link ResultSet} to objects of type {@code T}.
  * This class handles the conversion of data based on field configurations and type converters.
+ * <p>
+ * A RowMapper is immutable once built: the field plan is resolved in the constructor and stored in
+ * unmodifiable collections referenced from final fields, so a single instance can be shared between threads
+ * without synchronization. Custom {@link TypeConverter} implementations must be thread-safe for this to hold.
+ * The only mutable state is the thread-safe string dictionary of fields with deduplication enabled.
+ * </p>
  *
  * @param <T> the type of object to map the ResultSet rows to
  */
 public class RowMapper<T> implements ResultSetMapper<T> {
     private final Class<T> targetType;
     private final MapperConfig mapperConfig;
-    private final Map<Field, FieldConfig> mappings;
+    private final List<FieldMapping> mappings;
     private final ConverterRegistry converterRegistry;
 
     /**
@@ -48,8 +73,20 @@ public class RowMapper<T> implements ResultSetMapper<T> {
 
         this.converterRegistry = registry;
 
-        this.mappings = new HashMap<>();
-        this.initializeMappings();
+        this.mappings = this.initializeMappings(builder.isIncludeDefaultConverters());
+    }
+
+    /**
+     * Constructs a projection of a RowMapper restricted to a subset of its field mappings.
+     *
+     * @param source   the mapper to project
+     * @param mappings the field mappings to keep, in field declaration order
+     */
+    private RowMapper(RowMapper<T> source, List<FieldMapping> mappings) {
+        this.targetType = source.targetType;
+        this.mapperConfig = source.mapperConfig;
+        this.converterRegistry = source.converterRegistry;
+        this.mappings = List.copyOf(mappings);
     }
 
     /**
@@ -61,14 +98,216 @@ public class RowMapper<T> implements ResultSetMapper<T> {
      */
     @Override
     public T map(ResultSet resultSet) throws SQLException {
-        Map<Field, Object> fieldValues = new HashMap<>();
-        Map<String, String> availableColumns = this.getAvailableColumns(resultSet);
+        return this.prepare(resultSet.getMetaData()).map(resultSet);
+    }
+
+    /**
+     * Maps all rows of the given {@link ResultSet} to a list of objects.
+     * The column plan is resolved once from the result set metadata and reused for every row.
+     *
+     * @param resultSet the result set to map
+     * @return a list of mapped objects
+     * @throws SQLException if a database access error occurs
+     */
+    @Override
+    public List<T> mapAll(ResultSet resultSet) throws SQLException {
+        return this.prepare(resultSet.getMetaData()).mapAll(resultSet);
+    }
+
+    /**
+     * Maps all rows of the given {@link ResultSet} in lenient mode, reporting conversion failures to a sink
+     * instead of aborting the mapping. Fields that fail to convert are left at their default value.
+     *
+     * @param resultSet the result set to map
+     * @param errorSink the sink receiving the field errors, such as an {@link ErrorReport} with an error budget
+     * @return a list of mapped objects
+     * @throws SQLException if a database access error occurs
+     * @see PreparedRowMapper#mapAll(ResultSet, ErrorSink)
+     */
+    public List<T> mapAll(ResultSet resultSet, ErrorSink errorSink) throws SQLException {
+        return this.prepare(resultSet.getMetaData()).mapAll(resultSet, errorSink);
+    }
+
+    /**
+     * Maps all rows of the given {@link ResultSet} and accumulates them with a {@link Collector}.
+     * The column plan is resolved once from the result set metadata and reused for every row.
+     *
+     * @param resultSet the result set to map
+     * @param collector the collector accumulating the mapped rows
+     * @param <A>       the mutable accumulation type of the collector
+     * @param <R>       the result type of the collector
+     * @return the result of the collector
+     * @throws SQLException if a database access error occurs
+     */
+    @Override
+    public <A, R> R collect(ResultSet resultSet, Collector<? super T, A, R> collector) throws SQLException {
+        return this.prepare(resultSet.getMetaData()).collect(resultSet, collector);
+    }
+
+    /**
+     * Maps all rows of the given {@link ResultSet} into a map keyed by the raw value of a column.
+     * The key is read with the converter registered for the key type before the row is mapped, so the key column
+     * does not need to be mapped to a field. The map keeps the row order of the result set.
+     *
+     * @param resultSet the result set to map
+     * @param keyColumn the label of the key column
+     * @param keyType   the type of the keys
+     * @param <K>       the type of the keys
+     * @return a map of the mapped objects by key
+     * @throws SQLException            if a database access error occurs
+     * @throws ColumnNotFoundException if the key column is not in the result set
+     * @throws MappingException        if two rows have the same key, or no converter is available for the key type
+     */
+    public <K> Map<K, T> mapToMap(ResultSet resultSet, String keyColumn, Class<K> keyType) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        PreparedRowMapper<T> preparedMapper = this.prepare(metaData);
+        ColumnReader<K> keyReader = this.keyReader(metaData, keyColumn, keyType);
+
+        Map<K, T> results = new LinkedHashMap<>();
+        while (resultSet.next()) {
+            K key = keyReader.read(resultSet);
+            if (results.containsKey(key)) throw new MappingException("Duplicate key '" + key + "' in column '" + keyColumn + "'");
+            results.put(key, preparedMapper.map(resultSet));
+        }
+        return results;
+    }
+
+    /**
+     * Maps all rows of the given {@link ResultSet} into lists grouped by the raw value of a column.
+     * The key is read with the converter registered for the key type before the row is mapped, so the key column
+     * does not need to be mapped to a field. The map keeps the order in which keys first appear, and each list keeps
+     * the row order.
+     *
+     * @param resultSet the result set to map
+     * @param keyColumn the label of the key column
+     * @param keyType   the type of the keys
+     * @param <K>       the type of the keys
+     * @return a map of the lists of mapped objects by key
+     * @throws SQLException            if a database access error occurs
+     * @throws ColumnNotFoundException if the key column is not in the result set
+     * @throws MappingException        if no converter is available for the key type
+     */
+    public <K> Map<K, List<T>> groupBy(ResultSet resultSet, String keyColumn, Class<K> keyType) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        PreparedRowMapper<T> preparedMapper = this.prepare(metaData);
+        ColumnReader<K> keyReader = this.keyReader(metaData, keyColumn, keyType);
+
+        Map<K, List<T>> results = new LinkedHashMap<>();
+        while (resultSet.next()) {
+            K key = keyReader.read(resultSet);
+            results.computeIfAbsent(key, k -> new ArrayList<>()).add(preparedMapper.map(resultSet));
+        }
+        return results;
+    }
+
+    /**
+     * Maps the rows of the given {@link ResultSet} accepted by a {@link ColumnPredicate} to a list of objects.
+     * The predicate is evaluated on its raw columns first, and only matching rows are converted and instantiated.
+     *
+     * @param resultSet the result set to map
+     * @param filter    the predicate rows must satisfy to be mapped
+     * @return a list of the mapped objects of the matching rows
+     * @throws SQLException            if a database access error occurs
+     * @throws ColumnNotFoundException if a column of the predicate is not in the result set
+     * @throws MappingException        if no converter is available for a column type of the predicate
+     */
+    public List<T> mapAll(ResultSet resultSet, ColumnPredicate filter) throws SQLException {
+        return this.collect(resultSet, filter, Collectors.toList());
+    }
 
-        for (Map.Entry<Field, FieldConfig> entry : this.mappings.entrySet()) {
-            FieldConfig fieldConfig = entry.getValue();
+    /**
+     * Maps the rows of the given {@link ResultSet} accepted by a {@link ColumnPredicate} and accumulates them with a
+     * {@link Collector}. The predicate is evaluated on its raw columns first, and only matching rows are converted
+     * and instantiated.
+     *
+     * @param resultSet the result set to map
+     * @param filter    the predicate rows must satisfy to be mapped
+     * @param collector the collector accumulating the mapped rows
+     * @param <A>       the mutable accumulation type of the collector
+     * @param <R>       the result type of the collector
+     * @return the result of the collector
+     * @throws SQLException            if a database access error occurs
+     * @throws ColumnNotFoundException if a column of the predicate is not in the result set
+     * @throws MappingException        if no converter is available for a column type of the predicate
+     */
+    public <A, R> R collect(ResultSet resultSet, ColumnPredicate filter, Collector<? super T, A, R> collector) throws SQLException {
+        ValueUtils.requireNonNull(filter, "Filter can not be null");
 
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        PreparedRowMapper<T> preparedMapper = this.prepare(metaData);
+        ColumnPredicate.RowFilter rowFilter = filter.bind(this.columnResolver(metaData));
+
+        A container = collector.supplier().get();
+        BiConsumer<A, ? super T> accumulator = collector.accumulator();
+
+        while (resultSet.next()) {
+            if (rowFilter.test(resultSet)) accumulator.accept(container, preparedMapper.map(resultSet));
+        }
+
+        return collector.finisher().apply(container);
+    }
+
+    /**
+     * Maps all rows of the given {@link ResultSet}, keeping at most an estimated amount of heap for mapped rows.
+     * Rows past the budget are written to a temporary file in the default temporary directory.
+     *
+     * @param resultSet  the result set to map
+     * @param heapBudget the estimated heap size, in bytes, mapped rows may use before spilling to disk
+     * @return a list of mapped objects, which must be closed to delete the temporary file
+     * @throws SQLException     if a database access error occurs
+     * @throws MappingException if rows are spilled and a bound field type has no binary encoding, or the rows can not
+     *                          be spilled to disk
+     * @see #mapAll(ResultSet, long, Path)
+     */
+    public SpillableList<T> mapAll(ResultSet resultSet, long heapBudget) throws SQLException {
+        return this.mapAll(resultSet, heapBudget, null);
+    }
+
+    /**
+     * Maps all rows of the given {@link ResultSet}, keeping at most an estimated amount of heap for mapped rows.
+     * Rows past the budget are encoded with a {@link RowCodec} derived from the fields bound to the result set columns,
+     * written to a temporary file and read back with positional file reads when accessed. The codec is only created
+     * once a row is spilled.
+     *
+     * @param resultSet      the result set to map
+     * @param heapBudget     the estimated heap size, in bytes, mapped rows may use before spilling to disk
+     * @param spillDirectory the directory for the temporary file, or null for the default temporary directory
+     * @return a list of mapped objects, which must be closed to delete the temporary file
+     * @throws SQLException     if a database access error occurs
+     * @throws MappingException if rows are spilled and a bound field type has no binary encoding, or the rows can not
+     *                          be spilled to disk
+     */
+    public SpillableList<T> mapAll(ResultSet resultSet, long heapBudget, Path spillDirectory) throws SQLException {
+        if (heapBudget < 0) throw new IllegalArgumentException("Heap budget can not be negative");
+
+        PreparedRowMapper<T> preparedMapper = this.prepare(resultSet.getMetaData());
+        List<Field> boundFields = preparedMapper.getBoundFields();
+        List<FieldMapping> boundMappings = this.mappings.stream()
+                .filter(mapping -> boundFields.contains(mapping.getField()))
+                .toList();
+
+        return SpillableList.collect(resultSet, preparedMapper, this.targetType, boundMappings, heapBudget, spillDirectory);
+    }
+
+    /**
+     * Prepares a mapper bound to the columns described by the given metadata.
+     * Column names are resolved and validated once, so the returned mapper can be reused for every
+     * result set with the same shape without scanning the metadata again.
+     *
+     * @param metaData the metadata describing the columns of the result sets to map
+     * @return a {@link PreparedRowMapper} bound to the given columns
+     * @throws SQLException            if a database access error occurs
+     * @throws ColumnNotFoundException if a mapped column is missing and unknown columns are not ignored
+     */
+    public PreparedRowMapper<T> prepare(ResultSetMetaData metaData) throws SQLException {
+        ValueUtils.requireNonNull(metaData, "Metadata can not be null");
+
+        Map<String, String> availableColumns = this.getAvailableColumns(metaData);
+        List<ColumnBinding> bindings = new ArrayList<>(this.mappings.size());
+
+        for (FieldMapping mapping : this.mappings) {
             // Column name definition
-            String lookupName = fieldConfig.getColumnName().orElseThrow();
+            String lookupName = mapping.getColumnName();
 
             Optional<String> columnName = this.findColumnName(availableColumns, lookupName);
 
@@ -77,36 +316,162 @@ public class RowMapper<T> implements ResultSetMapper<T> {
                 throw new ColumnNotFoundException(lookupName);
             }
 
-            Optional<TypeConverter<?>> converter = fieldConfig.getConverter();
-            if (converter.isEmpty()) {
+            BoundConverter<?> converter = mapping.getBoundConverter();
+            if (converter == null) {
                 if (this.mapperConfig.isIgnoreUnknownTypes()) continue;
-                converter = Optional.of(StandardConverters.OBJECT);
+                converter = StandardConverters.OBJECT.bind(FieldConfig.builder().withAttributes(mapping.getAttributes()).build());
             }
 
-            Field field = entry.getKey();
-            Object value = converter.get().convert(resultSet, columnName.get(), fieldConfig.getAttributes());
-            if (value != null || !ReflectionUtils.isPrimitiveType(field)) {
-                fieldValues.put(field, value);
-            }
+            bindings.add(new ColumnBinding(mapping.getField(), columnName.get(), converter));
+        }
+
+        return new PreparedRowMapper<>(this.targetType, bindings);
+    }
+
+    /**
+     * Prepares a mapper bound to the columns a statement will return, before it is executed.
+     *
+     * @param statement the statement whose result set metadata is used
+     * @return a {@link PreparedRowMapper} bound to the statement columns
+     * @throws SQLException     if a database access error occurs
+     * @throws MappingException if the driver can not describe the result set before execution
+     * @see #prepare(ResultSetMetaData)
+     */
+    public PreparedRowMapper<T> prepare(PreparedStatement statement) throws SQLException {
+        ValueUtils.requireNonNull(statement, "Statement can not be null");
+
+        ResultSetMetaData metaData = statement.getMetaData();
+        if (metaData == null) throw new MappingException("Result set metadata is not available before execution");
+
+        return this.prepare(metaData);
+    }
+
+    /**
+     * Derives a mapper that only maps the given fields.
+     * <p>
+     * The projection reuses the resolved field mappings and converters of this mapper, without scanning the target
+     * type again, and has the same configuration. Fields that are not requested are not read from the result set and
+     * keep their default value ({@code null}, zero or {@code false}) in the mapped objects. Its
+     * {@link #getColumnNames() column names} and {@link #selectClause() select clause} only include the requested
+     * fields, so queries can select just the projected columns.
+     * </p>
+     *
+     * @param fieldNames the names of the fields to map
+     * @return a new mapper mapping only the given fields
+     * @throws IllegalArgumentException if a field name is not mapped by this mapper
+     */
+    public RowMapper<T> project(String... fieldNames) {
+        ValueUtils.requireNonNull(fieldNames, "Field names can not be null");
+
+        BitSet mask = new BitSet(this.mappings.size());
+        for (String fieldName : fieldNames) {
+            int index = this.indexOfField(fieldName);
+            if (index < 0) throw new IllegalArgumentException("Field '" + fieldName + "' is not mapped");
+            mask.set(index);
+        }
+
+        return this.project(mask);
+    }
+
+    /**
+     * Derives a mapper that only maps the fields selected by a mask.
+     * Bit {@code i} of the mask selects the field mapping at index {@code i} of {@link #getFieldMappings()}.
+     *
+     * @param fieldMask the mask of the fields to map
+     * @return a new mapper mapping only the selected fields
+     * @throws IllegalArgumentException if the mask selects an index past the last field mapping
+     * @see #project(String...)
+     */
+    public RowMapper<T> project(BitSet fieldMask) {
+        ValueUtils.requireNonNull(fieldMask, "Field mask can not be null");
+        if (fieldMask.length() > this.mappings.size())
+            throw new IllegalArgumentException("Field mask selects index " + (fieldMask.length() - 1) + " but only " + this.mappings.size() + " fields are mapped");
+
+        List<FieldMapping> projected = new ArrayList<>(fieldMask.cardinality());
+        for (int i = fieldMask.nextSetBit(0); i >= 0; i = fieldMask.nextSetBit(i + 1)) {
+            projected.add(this.mappings.get(i));
         }
 
-        return ExceptionHandler.map(() -> ReflectionUtils.createInstanceWithValues(this.targetType, fieldValues),
-                (e) -> new ObjectInstantiationException(this.targetType, e));
+        return new RowMapper<>(this, projected);
     }
 
     /**
-     * Retrieves a map of available column names from the ResultSet.
+     * Gets the type of object this mapper produces.
+     *
+     * @return the target class
+     */
+    public Class<T> getTargetType() {
+        return this.targetType;
+    }
+
+    /**
+     * Gets the resolved field mappings of this mapper.
+     *
+     * @return an immutable list of field mappings in field declaration order
+     */
+    public List<FieldMapping> getFieldMappings() {
+        return this.mappings;
+    }
+
+    /**
+     * Gets the field mappings this mapper reads. Fields that would be skipped because no converter is available for
+     * their type are excluded.
+     *
+     * @return an immutable list of field mappings in field declaration order
+     */
+    public List<FieldMapping> getReadFieldMappings() {
+        return this.mappings.stream()
+                .filter(mapping -> mapping.getConverter().isPresent() || !this.mapperConfig.isIgnoreUnknownTypes())
+                .toList();
+    }
+
+    /**
+     * Gets the column names this mapper reads, after applying the naming strategy, field configurations and
+     * annotations. Fields that would be skipped because no converter is available for their type are excluded.
+     *
+     * @return an immutable list of column names in field declaration order
+     */
+    public List<String> getColumnNames() {
+        return this.getReadFieldMappings().stream().map(FieldMapping::getColumnName).toList();
+    }
+
+    /**
+     * Renders a {@code SELECT ... FROM} fragment that selects only the mapped columns, unquoted and unqualified.
+     *
+     * @return the rendered fragment, for example {@code SELECT id, user_name FROM}
+     * @throws IllegalArgumentException if the mapper has no mapped columns
+     * @see #selectClause(String, IdentifierQuoting)
+     */
+    public String selectClause() {
+        return this.selectClause(null, IdentifierQuoting.NONE);
+    }
+
+    /**
+     * Renders a {@code SELECT ... FROM} fragment that selects only the mapped columns.
+     * Selecting only the mapped columns avoids transferring and decoding columns that would be discarded.
+     *
+     * @param tableAlias the table alias used to qualify each column, or null to leave columns unqualified
+     * @param quoting    the quoting style applied to columns and alias
+     * @return the rendered fragment, for example {@code SELECT u."id", u."user_name" FROM}
+     * @throws IllegalArgumentException if the mapper has no mapped columns or the alias is blank
+     */
+    public String selectClause(String tableAlias, IdentifierQuoting quoting) {
+        return "SELECT " + SqlUtils.columnList(this.getColumnNames(), tableAlias, quoting) + " FROM";
+    }
+
+    /**
+     * Retrieves a map of available column names from the result set metadata.
      * The map keys are lookup names (potentially case-insensitive), and values are actual column names.
      *
-     * @param rs the ResultSet to extract column names from
+     * @param metaData the metadata to extract column names from
      * @return a map of lookup names to actual column names
      * @throws SQLException if a database access error occurs
      */
-    private Map<String, String> getAvailableColumns(ResultSet rs) throws SQLException {
-        Map<String, String> columns = new HashMap<>();
-        ResultSetMetaData metaData = rs.getMetaData();
+    private Map<String, String> getAvailableColumns(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        Map<String, String> columns = new HashMap<>(columnCount * 2);
 
-        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+        for (int i = 1; i <= columnCount; i++) {
             String columnName = metaData.getColumnLabel(i);
             String lookupName = this.mapperConfig.isCaseInsensitiveColumns() ? columnName.toLowerCase() : columnName;
             columns.put(lookupName, columnName);
@@ -130,15 +495,103 @@ public class RowMapper<T> implements ResultSetMapper<T> {
         return Optional.ofNullable(columns.get(lookupName));
     }
 
+    /**
+     * Finds the index of a field in the field mappings of this mapper.
+     *
+     * @param fieldName the name of the field
+     * @return the index of the field mapping, or -1 if the field is not mapped
+     */
+    private int indexOfField(String fieldName) {
+        for (int i = 0; i < this.mappings.size(); i++) {
+            if (this.mappings.get(i).getFieldName().equals(fieldName)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Creates a reader of the raw key column used by the keyed mapping methods and polymorphic dispatch.
+     *
+     * @param metaData  the metadata of the result set
+     * @param keyColumn the label of the key column
+     * @param keyType   the type of the keys
+     * @param <K>       the type of the keys
+     * @return a reader of the key of the current row
+     * @throws SQLException            if a database access error occurs
+     * @throws ColumnNotFoundException if the key column is not in the result set
+     * @throws MappingException        if no converter is available for the key type
+     */
+    <K> ColumnReader<K> keyReader(ResultSetMetaData metaData, String keyColumn, Class<K> keyType) throws SQLException {
+        ValueUtils.requireNonEmpty(keyColumn, "Key column can not be empty");
+        ValueUtils.requireNonNull(keyType, "Key type can not be null");
+
+        return this.columnReader(this.getAvailableColumns(metaData), keyColumn, keyType);
+    }
+
+    /**
+     * Creates a resolver of raw column readers for the columns described by the given metadata.
+     *
+     * @param metaData the metadata of the result set
+     * @return a resolver of column readers
+     * @throws SQLException if a database access error occurs
+     */
+    private ColumnPredicate.ColumnResolver columnResolver(ResultSetMetaData metaData) throws SQLException {
+        Map<String, String> availableColumns = this.getAvailableColumns(metaData);
+
+        return new ColumnPredicate.ColumnResolver() {
+            @Override
+            public <V> ColumnReader<V> reader(String column, Class<V> type) {
+                return RowMapper.this.columnReader(availableColumns, column, type);
+            }
+        };
+    }
+
+    /**
+     * Creates a reader of a raw column, used by the keyed mapping methods and column predicates.
+     * The column is read with the converter registered for its type, an {@link EnumConverter} for enum types, or
+     * {@link StandardConverters#OBJECT} for {@code Object}.
+     *
+     * @param availableColumns a map of available column names (lookup name -> actual name)
+     * @param column           the label of the column
+     * @param type             the type of the values
+     * @param <V>              the type of the values
+     * @return a reader of the value of the current row
+     * @throws ColumnNotFoundException if the column is not in the result set
+     * @throws MappingException        if no converter is available for the type
+     */
+    private <V> ColumnReader<V> columnReader(Map<String, String> availableColumns, String column, Class<V> type) {
+        String columnName = this.findColumnName(availableColumns, column)
+                .orElseThrow(() -> new ColumnNotFoundException(column));
+
+        TypeConverter<?> typeConverter = this.converterRegistry.lockup(type)
+                .or(() -> type.isEnum() ? Optional.of(EnumConverter.forType(type, EnumStrategy.NAME)) : Optional.empty())
+                .or(() -> type == Object.class ? Optional.of(StandardConverters.OBJECT) : Optional.empty())
+                .orElseThrow(() -> new MappingException("No converter available for type " + type.getName()));
+
+        @SuppressWarnings("unchecked")
+        Class<V> boxedType = (Class<V>) MethodType.methodType(type).wrap().returnType();
+
+        BoundConverter<?> converter = typeConverter.bind(FieldConfig.builder().build());
+        return resultSet -> boxedType.cast(converter.read(resultSet, columnName));
+    }
+
     /**
      * Initializes the field mappings for the target type.
-     * It inspects fields annotated with {@link ColumnMapping} and creates corresponding {@link FieldConfig} instances.
+     * It inspects fields annotated with {@link ColumnMapping} and creates corresponding {@link FieldMapping} instances.
      * Configuration priority is: mapper-level config > annotation config > default naming strategy.
+     * Fields with the {@link FieldConfig#JSON_ATTRIBUTE json} attribute and no configured converter get a
+     * {@link JsonConverter} for their generic type. Enum fields without a configured or registered converter get an {@link EnumConverter} when the default
+     * converters are included.
+     * Each converter is then {@link TypeConverter#bind(FieldConfig) bound} to the resolved field attributes, so
+     * attributes are interpreted once here instead of on every row.
      *
+     * @param includeDefaultConverters whether the built-in converters are available
+     * @return an immutable list of field mappings in field declaration order
      * @throws ObjectInstantiationException if a converter specified in an annotation cannot be instantiated
+     * @throws IllegalArgumentException     if a field attribute is invalid for its converter
      */
-    private void initializeMappings() {
+    private List<FieldMapping> initializeMappings(boolean includeDefaultConverters) {
         List<Field> fields = ReflectionUtils.getAllFields(this.targetType);
+        List<FieldMapping> fieldMappings = new ArrayList<>(fields.size());
 
         for (Field field : fields) {
             ColumnMapping mappingAnnotation = field.getAnnotation(ColumnMapping.class);
@@ -155,23 +608,112 @@ public class RowMapper<T> implements ResultSetMapper<T> {
                         .or(annotationFieldConfig::getColumnName)
                         .orElse(this.mapperConfig.getNamingStrategy().fieldToColumnName(field.getName()));
 
+                Map<String, Object> attributes = new HashMap<>(annotationFieldConfig.getAttributes());
+                mapperFieldConfig.ifPresent(fieldConfig -> attributes.putAll(fieldConfig.getAttributes()));
+
+                FieldConfig resolvedConfig = FieldConfig.builder()
+                        .toColumn(columnName)
+                        .withAttributes(attributes)
+                        .build();
+
                 TypeConverter<?> converter = mapperFieldConfig
                         .flatMap(FieldConfig::getConverter)
                         .or(annotationFieldConfig::getConverter)
+                        .or(() -> this.createJsonConverter(field, resolvedConfig))
                         .or(() -> this.converterRegistry.lockup(field.getType()))
+                        .or(() -> includeDefaultConverters ? this.createEnumConverter(field, resolvedConfig) : Optional.empty())
                         .orElse(null);
 
-                Map<String, Object> attributes = new HashMap<>(annotationFieldConfig.getAttributes());
-                mapperFieldConfig.ifPresent(fieldConfig -> attributes.putAll(fieldConfig.getAttributes()));
+                converter = this.applyDeduplication(field, converter, attributes);
 
-                this.mappings.put(field, FieldConfig.builder()
+                BoundConverter<?> boundConverter = converter == null ? null : converter.bind(FieldConfig.builder()
                         .toColumn(columnName)
                         .withConverter(converter)
                         .withAttributes(attributes)
                         .build());
+
+                fieldMappings.add(new FieldMapping(field, columnName, converter, attributes, boundConverter));
             } catch (ReflectiveOperationException e) {
                 throw new ObjectInstantiationException(mappingAnnotation.converter(), e);
             }
         }
+
+        return List.copyOf(fieldMappings);
+    }
+
+    /**
+     * Creates the converter of a field mapped from a JSON column.
+     *
+     * @param field  the target field
+     * @param config the field configuration with the resolved attributes
+     * @return the JSON converter, or empty if the field is not mapped from JSON
+     * @throws IllegalArgumentException if the attribute value is invalid
+     */
+    private Optional<TypeConverter<?>> createJsonConverter(Field field, FieldConfig config) {
+        if (!attribute(field, config, FieldConfig.JSON).orElse(false)) return Optional.empty();
+
+        return Optional.of(new JsonConverter(field.getGenericType(), this.mapperConfig.getJsonDecoder()));
+    }
+
+    /**
+     * Creates the converter of an enum field, with its lookup table for the strategy set by the
+     * {@link FieldConfig#ENUM_STRATEGY enumStrategy} attribute ({@link EnumStrategy#NAME} by default).
+     *
+     * @param field  the target field
+     * @param config the field configuration with the resolved attributes
+     * @return the enum converter, or empty if the field is not an enum
+     * @throws IllegalArgumentException if the attribute value is invalid or the enum codes are ambiguous
+     */
+    private Optional<TypeConverter<?>> createEnumConverter(Field field, FieldConfig config) {
+        if (!field.getType().isEnum()) return Optional.empty();
+
+        EnumStrategy strategy = attribute(field, config, FieldConfig.ENUM_STRATEGY).orElse(EnumStrategy.NAME);
+        return Optional.of(EnumConverter.forType(field.getType(), strategy));
+    }
+
+    /**
+     * Reads a typed attribute of a field.
+     *
+     * @param field  the target field
+     * @param config the field configuration with the resolved attributes
+     * @param key    the attribute key
+     * @param <V>    the type of the attribute
+     * @return the attribute value, or empty if it is not set
+     * @throws IllegalArgumentException if the attribute value is not of the type of the key
+     */
+    private static <V> Optional<V> attribute(Field field, FieldConfig config, AttributeKey<V> key) {
+        try {
+            return config.getAttribute(key);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid attribute of field '" + field.getName() + "': " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Wraps the converter of a field with a per-field {@link StringDeduplicator} when the
+     * {@link FieldConfig#DEDUPLICATE_ATTRIBUTE deduplicate} attribute is set.
+     *
+     * @param field      the target field
+     * @param converter  the resolved converter, or null if no converter was found
+     * @param attributes the resolved field attributes
+     * @return the deduplicating converter, or the given converter if deduplication is not enabled
+     * @throws IllegalArgumentException if the attribute value is invalid or deduplication is enabled on a field that
+     *                                  is not a String
+     */
+    private TypeConverter<?> applyDeduplication(Field field, TypeConverter<?> converter, Map<String, Object> attributes) {
+        Object option = attributes.get(FieldConfig.DEDUPLICATE_ATTRIBUTE);
+        if (option == null || Boolean.FALSE.equals(option) || converter == null) return converter;
+
+        if (!(option instanceof Boolean) && !(option instanceof Integer))
+            throw new IllegalArgumentException("Attribute '" + FieldConfig.DEDUPLICATE_ATTRIBUTE + "' of field '" + field.getName() + "' must be a Boolean or an Integer");
+
+        if (field.getType() != String.class)
+            throw new IllegalArgumentException("String deduplication is not supported on field '" + field.getName() + "' of type " + field.getType().getName());
+
+        StringDeduplicator deduplicator = option instanceof Integer maxSize
+                ? new StringDeduplicator(maxSize)
+                : new StringDeduplicator();
+
+        return StandardConverters.deduplicating(converter, deduplicator);
     }
 }
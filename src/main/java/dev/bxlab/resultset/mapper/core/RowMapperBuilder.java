@@ -3,10 +3,17 @@ package dev.bxlab.resultset.mapper.core;
 import dev.bxlab.resultset.mapper.configs.FieldConfig;
 import dev.bxlab.resultset.mapper.configs.NamingStrategy;
 import dev.bxlab.resultset.mapper.converters.TypeConverter;
+import dev.bxlab.resultset.mapper.json.JsonDecoder;
 import dev.bxlab.resultset.mapper.utils.ValueUtils;
 
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -19,12 +26,15 @@ public class RowMapperBuilder<T> {
     private final Class<T> targetType;
     private final Map<String, FieldConfig> fieldConfigs;
     private final Map<Class<?>, TypeConverter<?>> converters;
+    private final Map<String, Class<? extends T>> subtypes;
 
     private NamingStrategy namingStrategy;
     private boolean ignoreUnknowTypes;
     private boolean ignoreUnknownColumns;
     private boolean caseInsensitiveColumns;
     private boolean includeDefaultConverters;
+    private JsonDecoder jsonDecoder;
+    private String discriminatorColumn;
 
     /**
      * Private constructor to initialize the builder for a specific target type.
@@ -35,12 +45,15 @@ public class RowMapperBuilder<T> {
         this.targetType = targetType;
         this.fieldConfigs = new HashMap<>();
         this.converters = new HashMap<>();
+        this.subtypes = new LinkedHashMap<>();
 
         this.namingStrategy = NamingStrategy.AS_IS;
         this.ignoreUnknowTypes = true;
         this.ignoreUnknownColumns = true;
         this.caseInsensitiveColumns = true;
         this.includeDefaultConverters = true;
+        this.jsonDecoder = null;
+        this.discriminatorColumn = null;
     }
 
     /**
@@ -126,6 +139,33 @@ public class RowMapperBuilder<T> {
         return this.includeDefaultConverters;
     }
 
+    /**
+     * Gets the configured JSON decoder.
+     *
+     * @return the {@link JsonDecoder}, or null to use {@link JsonDecoder#load()}
+     */
+    public JsonDecoder getJsonDecoder() {
+        return this.jsonDecoder;
+    }
+
+    /**
+     * Gets the configured discriminator column.
+     *
+     * @return the discriminator column, or null if no polymorphic mapping is configured
+     */
+    public String getDiscriminatorColumn() {
+        return this.discriminatorColumn;
+    }
+
+    /**
+     * Gets the explicitly registered subtypes.
+     *
+     * @return a map of discriminator values to their subtypes
+     */
+    public Map<String, Class<? extends T>> getSubtypes() {
+        return this.subtypes;
+    }
+
     /**
      * Sets the naming strategy for converting field names to column names.
      *
@@ -181,6 +221,18 @@ public class RowMapperBuilder<T> {
         return this;
     }
 
+    /**
+     * Sets the decoder used for fields mapped from JSON columns.
+     * If not set, the decoder returned by {@link JsonDecoder#load()} is used.
+     *
+     * @param decoder the {@link JsonDecoder} to use
+     * @return this builder instance for fluent chaining
+     */
+    public RowMapperBuilder<T> withJsonDecoder(JsonDecoder decoder) {
+        this.jsonDecoder = decoder;
+        return this;
+    }
+
     /**
      * Configures mapping for a specific field.
      *
@@ -208,6 +260,47 @@ public class RowMapperBuilder<T> {
         return this;
     }
 
+    /**
+     * Sets the column whose value selects the subtype of each row in polymorphic mapping.
+     *
+     * @param column the label of the discriminator column
+     * @return this builder instance for fluent chaining
+     * @see #buildPolymorphic()
+     */
+    public RowMapperBuilder<T> withDiscriminator(String column) {
+        this.discriminatorColumn = column;
+        return this;
+    }
+
+    /**
+     * Registers the subtype mapped from rows with the given discriminator value.
+     *
+     * @param value   the discriminator value
+     * @param subtype the class of the subtype
+     * @return this builder instance for fluent chaining
+     * @throws IllegalArgumentException if the value is empty, or the subtype is null or not a subtype of the target type
+     */
+    public RowMapperBuilder<T> withSubtype(String value, Class<? extends T> subtype) {
+        ValueUtils.requireNonEmpty(value, "Discriminator value can not be empty");
+        this.requireSubtype(subtype);
+
+        this.subtypes.put(value, subtype);
+        return this;
+    }
+
+    /**
+     * Registers a subtype with the discriminator value declared by its {@link DiscriminatorValue} annotation,
+     * or its simple class name if it is not annotated.
+     *
+     * @param subtype the class of the subtype
+     * @return this builder instance for fluent chaining
+     * @throws IllegalArgumentException if the subtype is null or not a subtype of the target type
+     */
+    public RowMapperBuilder<T> withSubtype(Class<? extends T> subtype) {
+        this.requireSubtype(subtype);
+        return this.withSubtype(discriminatorValueOf(subtype), subtype);
+    }
+
     /**
      * Builds the {@link RowMapper} instance based on the current configuration.
      * Validates that essential configurations like target type and naming strategy are set.
@@ -231,4 +324,98 @@ public class RowMapperBuilder<T> {
 
         return new RowMapper<>(this);
     }
+
+    /**
+     * Builds a {@link PolymorphicRowMapper} that maps each row to the subtype selected by the discriminator column.
+     * <p>
+     * If the target type is sealed, its concrete permitted subclasses are discovered recursively and registered with
+     * the value of their {@link DiscriminatorValue} annotation or their simple class name. Explicitly registered
+     * subtypes take precedence over discovered ones. Every subtype mapper is built once with the configuration of
+     * this builder.
+     * </p>
+     *
+     * @return a new {@link PolymorphicRowMapper} instance
+     * @throws IllegalArgumentException if the discriminator column is not set, no subtype is registered,
+     *                                  or two subtypes share a discriminator value
+     */
+    public PolymorphicRowMapper<T> buildPolymorphic() {
+        ValueUtils.requireNonEmpty(this.discriminatorColumn, "Discriminator column can not be empty");
+
+        RowMapper<T> baseMapper = this.build();
+
+        Map<String, Class<? extends T>> resolved = new LinkedHashMap<>(this.subtypes);
+        for (Class<? extends T> subtype : this.permittedSubtypes()) {
+            if (resolved.containsValue(subtype)) continue;
+
+            String value = discriminatorValueOf(subtype);
+            Class<? extends T> registered = resolved.putIfAbsent(value, subtype);
+            if (registered != null && !this.subtypes.containsKey(value))
+                throw new IllegalArgumentException("Discriminator value '" + value + "' is shared by "
+                        + registered.getName() + " and " + subtype.getName());
+        }
+
+        if (resolved.isEmpty())
+            throw new IllegalArgumentException("No subtype registered for " + this.targetType.getName());
+
+        Map<String, RowMapper<? extends T>> mappers = new LinkedHashMap<>();
+        resolved.forEach((value, subtype) -> mappers.put(value, new RowMapper<>(this.copyFor(subtype))));
+
+        return new PolymorphicRowMapper<>(baseMapper, this.discriminatorColumn, mappers);
+    }
+
+    /**
+     * Creates a builder for a subtype with the configuration of this builder.
+     *
+     * @param subtype the class of the subtype
+     * @param <S>     the type of the subtype
+     * @return a new builder for the subtype
+     */
+    private <S> RowMapperBuilder<S> copyFor(Class<S> subtype) {
+        RowMapperBuilder<S> copy = new RowMapperBuilder<>(subtype);
+        copy.fieldConfigs.putAll(this.fieldConfigs);
+        copy.converters.putAll(this.converters);
+        copy.namingStrategy = this.namingStrategy;
+        copy.ignoreUnknowTypes = this.ignoreUnknowTypes;
+        copy.ignoreUnknownColumns = this.ignoreUnknownColumns;
+        copy.caseInsensitiveColumns = this.caseInsensitiveColumns;
+        copy.includeDefaultConverters = this.includeDefaultConverters;
+        copy.jsonDecoder = this.jsonDecoder;
+        return copy;
+    }
+
+    /**
+     * Finds the concrete permitted subclasses of the target type, following sealed subtypes recursively.
+     *
+     * @return the concrete subtypes, or an empty set if the target type is not sealed
+     */
+    @SuppressWarnings("unchecked")
+    private Set<Class<? extends T>> permittedSubtypes() {
+        Set<Class<? extends T>> found = new LinkedHashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(this.targetType);
+
+        while (!pending.isEmpty()) {
+            Class<?> type = pending.poll();
+            if (!type.isSealed()) continue;
+
+            for (Class<?> permitted : type.getPermittedSubclasses()) {
+                if (!permitted.isInterface() && !Modifier.isAbstract(permitted.getModifiers()))
+                    found.add((Class<? extends T>) permitted);
+                pending.add(permitted);
+            }
+        }
+
+        return found;
+    }
+
+    private void requireSubtype(Class<?> subtype) {
+        ValueUtils.requireNonNull(subtype, "Subtype can not be null");
+        if (!this.targetType.isAssignableFrom(subtype))
+            throw new IllegalArgumentException(subtype.getName() + " is not a subtype of " + this.targetType.getName());
+    }
+
+    private static String discriminatorValueOf(Class<?> subtype) {
+        DiscriminatorValue annotation = subtype.getAnnotation(DiscriminatorValue.class);
+        return annotation != null ? annotation.value() : subtype.getSimpleName();
+    }
 }
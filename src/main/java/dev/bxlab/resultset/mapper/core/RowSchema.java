@@ -0,0 +1,90 @@
+package dev.bxlab.resultset.mapper.core;
+
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The immutable column index shared by all {@link Row rows} of a result set.
+ * <p>
+ * Column labels are resolved once from the result set metadata. Lookups by label match exactly first and fall back
+ * to a case-insensitive match, so rows can be read with the spelling used in the query.
+ * </p>
+ */
+public final class RowSchema {
+    private final List<String> columnNames;
+    private final Map<String, Integer> exactIndex;
+    private final Map<String, Integer> caseInsensitiveIndex;
+
+    /**
+     * Constructs a schema from the column labels.
+     *
+     * @param columnNames the column labels, in result set order
+     * @throws MappingException if two columns have the same label
+     */
+    RowSchema(List<String> columnNames) {
+        this.columnNames = List.copyOf(columnNames);
+        this.exactIndex = new HashMap<>(this.columnNames.size() * 2);
+        this.caseInsensitiveIndex = new HashMap<>(this.columnNames.size() * 2);
+
+        for (int i = 0; i < this.columnNames.size(); i++) {
+            String name = this.columnNames.get(i);
+            if (this.caseInsensitiveIndex.putIfAbsent(name.toLowerCase(Locale.ROOT), i) != null)
+                throw new MappingException("Duplicate column label '" + name + "', use distinct aliases in the query");
+            this.exactIndex.put(name, i);
+        }
+    }
+
+    /**
+     * Creates a schema from the column labels of a result set.
+     *
+     * @param metaData the metadata describing the columns of the result set
+     * @return a new schema
+     * @throws SQLException     if a database access error occurs
+     * @throws MappingException if two columns have the same label
+     */
+    static RowSchema of(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        List<String> columnNames = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) columnNames.add(metaData.getColumnLabel(i));
+        return new RowSchema(columnNames);
+    }
+
+    /**
+     * Gets the column labels.
+     *
+     * @return an immutable list of the column labels, in result set order
+     */
+    public List<String> getColumnNames() {
+        return this.columnNames;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int getColumnCount() {
+        return this.columnNames.size();
+    }
+
+    /**
+     * Gets the position of a column.
+     *
+     * @param columnName the column label
+     * @return the zero-based position of the column, or -1 if there is no such column
+     */
+    public int indexOf(String columnName) {
+        if (columnName == null) return -1;
+
+        Integer index = this.exactIndex.get(columnName);
+        if (index == null) index = this.caseInsensitiveIndex.get(columnName.toLowerCase(Locale.ROOT));
+        return index == null ? -1 : index;
+    }
+}
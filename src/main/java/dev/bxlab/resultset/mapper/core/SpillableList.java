@@ -0,0 +1,263 @@
+package dev.bxlab.resultset.mapper.core;
+
+import dev.bxlab.resultset.mapper.codec.BinaryReader;
+import dev.bxlab.resultset.mapper.codec.BinaryWriter;
+import dev.bxlab.resultset.mapper.codec.RowCodec;
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+import dev.bxlab.resultset.mapper.utils.SizeEstimator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.ToLongFunction;
+
+/**
+ * Read-only list of mapped rows that keeps rows on the heap up to an estimated memory budget and spills
+ * the remaining rows to a temporary file.
+ * <p>
+ * Rows past the budget are stored in the compact binary format of {@link RowCodec} and read back with positional
+ * {@link FileChannel} reads each time they are accessed, so every access to a spilled row creates a new object. Only
+ * the file offset of each spilled row (8 bytes per row) is kept on the heap. The file is not memory-mapped, so
+ * {@link #close()} releases it and deletes it on every platform; a list that is never closed leaves its file behind.
+ * The codec is only created when the first row is spilled, so lists that fit in the budget accept any field type.
+ * A reader interrupted during a read closes the channel, as interruptible channels do; the next read reopens it.
+ * </p>
+ * <p>
+ * Instances are created by {@link RowMapper#mapAll(ResultSet, long)}. Reading from multiple threads is safe.
+ * </p>
+ *
+ * @param <T> the type of the mapped rows
+ */
+public final class SpillableList<T> extends AbstractList<T> implements RandomAccess, AutoCloseable {
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final List<T> heapRows;
+    private final RowCodec<T> codec;
+    private final Path file;
+    private final long[] offsets;
+    private final int spilledRows;
+
+    private volatile FileChannel channel;
+    private volatile boolean closed;
+
+    private SpillableList(List<T> heapRows, RowCodec<T> codec, Path file, FileChannel channel, long[] offsets, int spilledRows) {
+        this.heapRows = heapRows;
+        this.codec = codec;
+        this.file = file;
+        this.channel = channel;
+        this.offsets = offsets;
+        this.spilledRows = spilledRows;
+    }
+
+    /**
+     * Maps all rows of a result set, spilling rows to a temporary file once the budget is exceeded.
+     *
+     * @param resultSet  the result set to map
+     * @param mapper     the mapper used for each row
+     * @param targetType the type of the mapped rows
+     * @param mappings   the mappings of the fields the mapper sets, used to estimate and encode rows
+     * @param heapBudget the estimated heap size rows may use before spilling
+     * @param directory  the directory of the temporary file, or null for the default temporary directory
+     * @param <T>        the type of the mapped rows
+     * @return the list of mapped rows
+     * @throws SQLException     if a database access error occurs
+     * @throws MappingException if rows are spilled and a field has no binary encoding, or the spill file can not be
+     *                          written
+     */
+    static <T> SpillableList<T> collect(ResultSet resultSet, ResultSetMapper<T> mapper, Class<T> targetType,
+                                        List<FieldMapping> mappings, long heapBudget, Path directory) throws SQLException {
+        ToLongFunction<Object> sizeEstimator = SizeEstimator.forFields(mappings.stream().map(FieldMapping::getField).toList());
+        List<T> heapRows = new ArrayList<>();
+        long estimatedSize = 0;
+
+        while (resultSet.next()) {
+            T row = mapper.map(resultSet);
+            estimatedSize += sizeEstimator.applyAsLong(row);
+
+            if (estimatedSize > heapBudget) {
+                return spill(resultSet, mapper, new RowCodec<>(targetType, mappings), directory, heapRows, row);
+            }
+
+            heapRows.add(row);
+        }
+
+        return new SpillableList<>(heapRows, null, null, null, new long[0], 0);
+    }
+
+    private static <T> SpillableList<T> spill(ResultSet resultSet, ResultSetMapper<T> mapper, RowCodec<T> codec,
+                                              Path directory, List<T> heapRows, T firstSpilledRow) throws SQLException {
+        Path file = null;
+        FileChannel channel = null;
+        try {
+            file = directory == null
+                    ? Files.createTempFile("rowmapper-", ".spill")
+                    : Files.createTempFile(directory, "rowmapper-", ".spill");
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            BinaryWriter writer = new BinaryWriter();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+            long[] offsets = new long[1024];
+            long position = 0;
+            int count = 0;
+
+            T row = firstSpilledRow;
+            do {
+                writer.reset();
+                codec.writeRow(row, writer);
+
+                if (count + 1 >= offsets.length) offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                offsets[count++] = position;
+                position += writer.size();
+
+                write(channel, buffer, writer.asByteBuffer());
+
+                row = resultSet.next() ? mapper.map(resultSet) : null;
+            } while (row != null);
+
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+            offsets[count] = position;
+
+            return new SpillableList<>(heapRows, codec, file, channel, offsets, count);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            deleteQuietly(file);
+            throw new MappingException("Failed to spill mapped rows to disk", e);
+        } catch (RuntimeException | SQLException e) {
+            closeQuietly(channel);
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            if (!buffer.hasRemaining()) {
+                buffer.flip();
+                while (buffer.hasRemaining()) channel.write(buffer);
+                buffer.clear();
+            }
+
+            int length = Math.min(buffer.remaining(), bytes.remaining());
+            ByteBuffer slice = bytes.slice();
+            slice.limit(length);
+            buffer.put(slice);
+            bytes.position(bytes.position() + length);
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Closing only releases the file, nothing was written after the failure
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // The file is also registered for deletion on exit
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        int heapSize = this.heapRows.size();
+        if (index < heapSize) return this.heapRows.get(index);
+
+        int spilledIndex = index - heapSize;
+        if (spilledIndex >= this.spilledRows) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size());
+        if (this.closed) throw new IllegalStateException("The list has been closed");
+
+        long offset = this.offsets[spilledIndex];
+        ByteBuffer buffer = ByteBuffer.allocate((int) (this.offsets[spilledIndex + 1] - offset));
+
+        try {
+            FileChannel channel = this.channel();
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0)
+                    throw new MappingException("Spill file " + this.file + " is truncated");
+            }
+        } catch (ClosedChannelException e) {
+            if (this.closed) throw new IllegalStateException("The list has been closed");
+            throw new MappingException("Spill file was closed by an interrupt while reading row " + index, e);
+        } catch (IOException e) {
+            throw new MappingException("Failed to read spilled row " + index, e);
+        }
+
+        return this.codec.readRow(new BinaryReader(buffer.flip()));
+    }
+
+    @Override
+    public int size() {
+        return this.heapRows.size() + this.spilledRows;
+    }
+
+    /**
+     * Checks if any row was spilled to disk.
+     *
+     * @return true if rows were spilled, false if all rows are held on the heap
+     */
+    public boolean isSpilled() {
+        return this.spilledRows > 0;
+    }
+
+    /**
+     * Gets the number of rows spilled to disk.
+     *
+     * @return the number of spilled rows
+     */
+    public int getSpilledRows() {
+        return this.spilledRows;
+    }
+
+    /**
+     * Closes and deletes the temporary file. Spilled rows can not be accessed after the list is closed.
+     *
+     * @throws MappingException if the file can not be closed or deleted
+     */
+    @Override
+    public synchronized void close() {
+        if (this.closed || this.file == null) return;
+        this.closed = true;
+
+        try {
+            this.channel.close();
+            Files.deleteIfExists(this.file);
+        } catch (IOException e) {
+            throw new MappingException("Failed to delete spill file " + this.file, e);
+        }
+    }
+
+    /**
+     * Gets the channel of the spill file, reopening it if an interrupted read closed it.
+     *
+     * @return the open channel
+     * @throws IOException if the file can not be reopened
+     */
+    private FileChannel channel() throws IOException {
+        FileChannel current = this.channel;
+        if (current.isOpen()) return current;
+
+        synchronized (this) {
+            if (this.closed) throw new ClosedChannelException();
+            if (!this.channel.isOpen()) this.channel = FileChannel.open(this.file, StandardOpenOption.READ);
+            return this.channel;
+        }
+    }
+}
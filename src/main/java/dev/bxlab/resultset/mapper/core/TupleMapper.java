@@ -0,0 +1,123 @@
+package dev.bxlab.resultset.mapper.core;
+
+import dev.bxlab.resultset.mapper.configs.FieldConfig;
+import dev.bxlab.resultset.mapper.converters.BoundConverter;
+import dev.bxlab.resultset.mapper.converters.StandardConverters;
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * Maps rows of ad-hoc queries without a target type to compact {@link Row} maps.
+ * <p>
+ * Every column is read with the {@link StandardConverters standard converter} of its SQL type, for example
+ * {@code BIGINT} columns as {@link Long} and {@code DATE} columns as {@link java.time.LocalDate}. The column labels
+ * and converters are resolved once per result set; each row then stores only its values in a single array, sharing
+ * the {@link RowSchema} with the other rows. Compared to a {@code HashMap} per row, this avoids the per-row hash table,
+ * entries and key references.
+ * </p>
+ * <pre>{@code
+ * List<Row> rows = TupleMapper.create().mapAll(resultSet);
+ * Long total = rows.get(0).get("total", Long.class);
+ * }</pre>
+ * <p>
+ * A tuple mapper holds no state and can be shared between threads.
+ * </p>
+ */
+public final class TupleMapper implements ResultSetMapper<Row> {
+    private static final TupleMapper INSTANCE = new TupleMapper();
+
+    private TupleMapper() {
+    }
+
+    /**
+     * Gets a tuple mapper.
+     *
+     * @return the shared tuple mapper
+     */
+    public static TupleMapper create() {
+        return INSTANCE;
+    }
+
+    /**
+     * Maps the current row of the given {@link ResultSet} to a {@link Row}.
+     * The columns are resolved from the metadata on every call, so prefer {@link #mapAll(ResultSet)} or
+     * {@link #prepare(ResultSetMetaData)} to map several rows.
+     *
+     * @param resultSet the ResultSet to map from, positioned at the row to be mapped
+     * @return the values of the current row
+     * @throws SQLException     if a database access error occurs or this method is called on a closed result set
+     * @throws MappingException if two columns have the same label
+     */
+    @Override
+    public Row map(ResultSet resultSet) throws SQLException {
+        return this.prepare(resultSet.getMetaData()).map(resultSet);
+    }
+
+    /**
+     * Maps all rows of the given {@link ResultSet} to {@link Row rows} sharing a single schema.
+     *
+     * @param resultSet the result set to map
+     * @return a list of rows
+     * @throws SQLException     if a database access error occurs
+     * @throws MappingException if two columns have the same label
+     */
+    @Override
+    public List<Row> mapAll(ResultSet resultSet) throws SQLException {
+        return this.prepare(resultSet.getMetaData()).mapAll(resultSet);
+    }
+
+    /**
+     * Maps all rows of the given {@link ResultSet} and accumulates them with a {@link Collector}.
+     * The rows share a single schema resolved from the result set metadata.
+     *
+     * @param resultSet the result set to map
+     * @param collector the collector accumulating the rows
+     * @param <A>       the mutable accumulation type of the collector
+     * @param <R>       the result type of the collector
+     * @return the result of the collector
+     * @throws SQLException     if a database access error occurs
+     * @throws MappingException if two columns have the same label
+     */
+    @Override
+    public <A, R> R collect(ResultSet resultSet, Collector<? super Row, A, R> collector) throws SQLException {
+        return this.prepare(resultSet.getMetaData()).collect(resultSet, collector);
+    }
+
+    /**
+     * Prepares a mapper bound to the columns described by the given metadata.
+     * The schema and the converter of every column are resolved once, so the returned mapper can be reused for every
+     * result set with the same shape.
+     *
+     * @param metaData the metadata describing the columns of the result sets to map
+     * @return a mapper producing rows that share one schema
+     * @throws SQLException     if a database access error occurs
+     * @throws MappingException if two columns have the same label
+     */
+    public ResultSetMapper<Row> prepare(ResultSetMetaData metaData) throws SQLException {
+        ValueUtils.requireNonNull(metaData, "Metadata can not be null");
+
+        RowSchema schema = RowSchema.of(metaData);
+        int columnCount = schema.getColumnCount();
+        String[] columnNames = schema.getColumnNames().toArray(new String[0]);
+        BoundConverter<?>[] converters = new BoundConverter<?>[columnCount];
+
+        FieldConfig config = FieldConfig.builder().build();
+        for (int i = 0; i < columnCount; i++) {
+            converters[i] = StandardConverters.forSqlType(metaData.getColumnType(i + 1)).bind(config);
+        }
+
+        return resultSet -> {
+            Object[] values = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                values[i] = converters[i].read(resultSet, columnNames[i]);
+            }
+            return new Row(schema, values);
+        };
+    }
+}
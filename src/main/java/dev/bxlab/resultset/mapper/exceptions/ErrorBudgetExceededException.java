@@ -0,0 +1,37 @@
+package dev.bxlab.resultset.mapper.exceptions;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown when lenient mapping records more field errors than its error budget allows.
+ */
+public class ErrorBudgetExceededException extends MappingException {
+
+    @Serial
+    private static final long serialVersionUID = -2719390442178420511L;
+
+    /**
+     * The maximum number of errors that was allowed.
+     */
+    private final int errorBudget;
+
+    /**
+     * Constructs a new error budget exception.
+     *
+     * @param errorBudget the maximum number of errors that was allowed
+     * @param lastError   a description of the error that exceeded the budget
+     */
+    public ErrorBudgetExceededException(int errorBudget, String lastError) {
+        super("Error budget of " + errorBudget + " exceeded, last error: " + lastError);
+        this.errorBudget = errorBudget;
+    }
+
+    /**
+     * Gets the maximum number of errors that was allowed.
+     *
+     * @return the error budget
+     */
+    public int getErrorBudget() {
+        return this.errorBudget;
+    }
+}
@@ -0,0 +1,55 @@
+package dev.bxlab.resultset.mapper.exceptions;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown when encoded data was written with a different schema than the one used to read it,
+ * for example after a field of the mapped type was added, removed or changed.
+ */
+public class SchemaMismatchException extends MappingException {
+
+    @Serial
+    private static final long serialVersionUID = -5218093711457362870L;
+
+    /**
+     * The schema hash expected by the reader.
+     */
+    private final long expectedHash;
+
+    /**
+     * The schema hash found in the encoded data.
+     */
+    private final long actualHash;
+
+    /**
+     * Constructs a new schema mismatch exception.
+     *
+     * @param expectedHash the schema hash expected by the reader
+     * @param actualHash   the schema hash found in the encoded data
+     */
+    public SchemaMismatchException(long expectedHash, long actualHash) {
+        super("Encoded schema " + Long.toHexString(actualHash) + " does not match expected schema " + Long.toHexString(expectedHash));
+        this.expectedHash = expectedHash;
+        this.actualHash = actualHash;
+    }
+
+    /**
+     * Gets the schema hash expected by the reader.
+     *
+     * @return the expected schema hash
+     */
+    @SuppressWarnings("unused")
+    public long getExpectedHash() {
+        return expectedHash;
+    }
+
+    /**
+     * Gets the schema hash found in the encoded data.
+     *
+     * @return the actual schema hash
+     */
+    @SuppressWarnings("unused")
+    public long getActualHash() {
+        return actualHash;
+    }
+}
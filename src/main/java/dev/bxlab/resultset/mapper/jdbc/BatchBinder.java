@@ -0,0 +1,550 @@
+package dev.bxlab.resultset.mapper.jdbc;
+
+import dev.bxlab.resultset.mapper.configs.EnumStrategy;
+import dev.bxlab.resultset.mapper.configs.FieldConfig;
+import dev.bxlab.resultset.mapper.configs.IdentifierQuoting;
+import dev.bxlab.resultset.mapper.converters.ConverterRegistry;
+import dev.bxlab.resultset.mapper.converters.EnumConverter;
+import dev.bxlab.resultset.mapper.converters.TypeConverter;
+import dev.bxlab.resultset.mapper.core.FieldMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * Writes objects to a table with batched statements generated from the field mappings of a {@link RowMapper}.
+ * <p>
+ * The column names, naming strategy and enum strategies used to read rows are reused to write them, so reads and
+ * writes can not drift apart. Field accessors and typed {@code setXxx} calls are resolved once when the binder is
+ * built; binding a row only reads its fields and calls the resolved setters. Rows are sent with
+ * {@link PreparedStatement#addBatch()} and executed every {@link #getBatchSize() batch size} rows.
+ * </p>
+ * <p>
+ * Converters only read values, so fields are written as their Java value: {@code java.time} values and UUIDs are
+ * bound with {@link PreparedStatement#setObject(int, Object)}, and other types with their typed setter. Fields whose
+ * column value can not be derived from the Java value are rejected when the binder is built: fields mapped from JSON,
+ * parsed with a {@code format} attribute or read with a custom converter, and types without a typed setter such as
+ * {@code Object}, arrays or lists. Null values are bound with {@link PreparedStatement#setNull(int, int)} and the SQL type of the field, such as
+ * {@code DATE} or {@code TIMESTAMP_WITH_TIMEZONE} for {@code java.time} types; {@code OTHER} is only used for types
+ * without a standard mapping.
+ * To write a subset of the columns, for example without a generated key, build
+ * the binder from a {@link RowMapper#project(String...) projection}. A binder is immutable and can be shared; the
+ * transaction of the connection is managed by the caller.
+ * </p>
+ * <pre>{@code
+ * BatchBinder<Order> binder = BatchBinder.builder(mapper)
+ *         .withTable("orders")
+ *         .withKeys("id")
+ *         .withUpsertSyntax(UpsertSyntax.POSTGRESQL)
+ *         .build();
+ *
+ * binder.insert(connection, orders);
+ * }</pre>
+ *
+ * @param <T> the type of the written objects
+ */
+public final class BatchBinder<T> {
+
+    /**
+     * Default number of rows per executed batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final ConverterRegistry DEFAULT_CONVERTERS = ConverterRegistry.withDefaults();
+
+    private final String table;
+    private final int batchSize;
+    private final Parameter[] columns;
+    private final Parameter[] updateOrder;
+    private final String insertSql;
+    private final String updateSql;
+    private final String upsertSql;
+
+    private BatchBinder(BatchBinderBuilder<T> builder, Parameter[] columns, Parameter[] updateOrder,
+                        List<String> keyColumns) {
+        this.table = builder.table;
+        this.batchSize = builder.batchSize;
+        this.columns = columns;
+        this.updateOrder = updateOrder;
+
+        List<String> columnNames = new ArrayList<>(columns.length);
+        for (Parameter parameter : columns) columnNames.add(parameter.columnName());
+
+        IdentifierQuoting quoting = builder.quoting;
+        this.insertSql = UpsertSyntax.insert(this.table, columnNames, quoting);
+        this.updateSql = updateOrder == null ? null : update(this.table, columnNames, keyColumns, quoting);
+        this.upsertSql = keyColumns.isEmpty() || builder.upsertSyntax == null
+                ? null
+                : builder.upsertSyntax.render(this.table, columnNames, keyColumns, quoting);
+    }
+
+    /**
+     * Creates a new builder to configure a binder writing the mapped fields of the given mapper.
+     *
+     * @param mapper the mapper whose field mappings define the written columns
+     * @param <T>    the type of the written objects
+     * @return A new BatchBinderBuilder
+     */
+    public static <T> BatchBinderBuilder<T> builder(RowMapper<T> mapper) {
+        return new BatchBinderBuilder<>(mapper);
+    }
+
+    /**
+     * Inserts the given rows in batches.
+     *
+     * @param connection the connection used to run the statement
+     * @param rows       the rows to insert
+     * @return the number of affected rows reported by the driver
+     * @throws SQLException     if a database access error occurs
+     * @throws MappingException if a field can not be read
+     */
+    public long insert(Connection connection, Collection<? extends T> rows) throws SQLException {
+        return this.execute(connection, this.insertSql, this.columns, rows);
+    }
+
+    /**
+     * Updates the given rows in batches, matching them by their key columns.
+     *
+     * @param connection the connection used to run the statement
+     * @param rows       the rows to update
+     * @return the number of affected rows reported by the driver
+     * @throws SQLException          if a database access error occurs
+     * @throws MappingException      if a field can not be read
+     * @throws IllegalStateException if no key is configured, or every field is a key
+     */
+    public long update(Connection connection, Collection<? extends T> rows) throws SQLException {
+        return this.execute(connection, this.getUpdateSql(), this.updateOrder, rows);
+    }
+
+    /**
+     * Inserts or updates the given rows in batches, with the configured {@link UpsertSyntax}.
+     *
+     * @param connection the connection used to run the statement
+     * @param rows       the rows to insert or update
+     * @return the number of affected rows reported by the driver
+     * @throws SQLException          if a database access error occurs
+     * @throws MappingException      if a field can not be read
+     * @throws IllegalStateException if no key or upsert syntax is configured
+     */
+    public long upsert(Connection connection, Collection<? extends T> rows) throws SQLException {
+        return this.execute(connection, this.getUpsertSql(), this.columns, rows);
+    }
+
+    /**
+     * Binds the fields of a row to the parameters of an insert or upsert statement, in column order.
+     *
+     * @param statement the statement to bind
+     * @param row       the row to bind
+     * @throws SQLException     if a database access error occurs
+     * @throws MappingException if a field can not be read
+     */
+    public void bind(PreparedStatement statement, T row) throws SQLException {
+        bind(statement, this.columns, row);
+    }
+
+    /**
+     * Gets the generated insert statement.
+     *
+     * @return the SQL of the insert statement
+     */
+    public String getInsertSql() {
+        return this.insertSql;
+    }
+
+    /**
+     * Gets the generated update statement. Its parameters are the non-key columns followed by the key columns.
+     *
+     * @return the SQL of the update statement
+     * @throws IllegalStateException if no key is configured, or every field is a key
+     */
+    public String getUpdateSql() {
+        if (this.updateSql == null) throw new IllegalStateException("Updates require key fields and at least one non-key field");
+        return this.updateSql;
+    }
+
+    /**
+     * Gets the generated upsert statement. Its parameters are the columns, in the same order as the insert statement.
+     *
+     * @return the SQL of the upsert statement
+     * @throws IllegalStateException if no key or upsert syntax is configured
+     */
+    public String getUpsertSql() {
+        if (this.upsertSql == null) throw new IllegalStateException("Upserts require key fields and an upsert syntax");
+        return this.upsertSql;
+    }
+
+    /**
+     * Gets the number of rows per executed batch.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    private long execute(Connection connection, String sql, Parameter[] parameters, Collection<? extends T> rows) throws SQLException {
+        ValueUtils.requireNonNull(connection, "Connection can not be null");
+        ValueUtils.requireNonNull(rows, "Rows can not be null");
+        if (rows.isEmpty()) return 0;
+
+        long affected = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int pending = 0;
+            for (T row : rows) {
+                bind(statement, parameters, row);
+                statement.addBatch();
+
+                if (++pending == this.batchSize) {
+                    affected += count(statement.executeBatch());
+                    pending = 0;
+                }
+            }
+            if (pending > 0) affected += count(statement.executeBatch());
+        }
+        return affected;
+    }
+
+    private static void bind(PreparedStatement statement, Parameter[] parameters, Object row) throws SQLException {
+        ValueUtils.requireNonNull(row, "Row can not be null");
+
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter parameter = parameters[i];
+            Object value;
+            try {
+                value = (Object) parameter.getter().invokeExact(row);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new MappingException("Failed to read field for column '" + parameter.columnName() + "'", e);
+            }
+
+            if (value == null) statement.setNull(i + 1, parameter.sqlType());
+            else parameter.setter().set(statement, i + 1, value);
+        }
+    }
+
+    /**
+     * Sums the update counts of a batch, counting {@link Statement#SUCCESS_NO_INFO} as one row.
+     *
+     * @param counts the update counts returned by the driver
+     * @return the number of affected rows
+     */
+    private static long count(int[] counts) {
+        long total = 0;
+        for (int count : counts) total += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+        return total;
+    }
+
+    private static String update(String table, List<String> columns, List<String> keys, IdentifierQuoting quoting) {
+        StringJoiner assignments = new StringJoiner(", ");
+        for (String column : columns) {
+            if (!keys.contains(column)) assignments.add(quoting.quote(column) + " = ?");
+        }
+
+        StringJoiner conditions = new StringJoiner(" AND ");
+        for (String key : keys) conditions.add(quoting.quote(key) + " = ?");
+
+        return "UPDATE " + quoting.quoteQualified(table) + " SET " + assignments + " WHERE " + conditions;
+    }
+
+    /**
+     * Resolves the typed setter of a field, from its type and its mapping attributes.
+     *
+     * @param mapping the field mapping
+     * @return the setter and SQL type used to bind null values
+     */
+    private static Parameter parameterOf(FieldMapping mapping) {
+        MethodHandle getter;
+        try {
+            mapping.getField().setAccessible(true);
+            getter = MethodHandles.lookup().unreflectGetter(mapping.getField())
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException("Field '" + mapping.getFieldName() + "' is not accessible", e);
+        }
+
+        Class<?> type = mapping.getFieldType();
+        String column = mapping.getColumnName();
+
+        if (Boolean.TRUE.equals(mapping.getAttributes().get(FieldConfig.JSON_ATTRIBUTE)))
+            throw unwritable(mapping, "it is mapped from JSON");
+        if (mapping.getAttributes().containsKey(FieldConfig.FORMAT_ATTRIBUTE))
+            throw unwritable(mapping, "it is parsed with a format");
+        if (!hasDefaultConverter(mapping))
+            throw unwritable(mapping, "it is read with a custom converter");
+
+        if (type == String.class)
+            return new Parameter(column, getter, Types.VARCHAR, (statement, index, value) -> statement.setString(index, (String) value));
+        if (type == int.class || type == Integer.class)
+            return new Parameter(column, getter, Types.INTEGER, (statement, index, value) -> statement.setInt(index, (Integer) value));
+        if (type == long.class || type == Long.class)
+            return new Parameter(column, getter, Types.BIGINT, (statement, index, value) -> statement.setLong(index, (Long) value));
+        if (type == short.class || type == Short.class)
+            return new Parameter(column, getter, Types.SMALLINT, (statement, index, value) -> statement.setShort(index, (Short) value));
+        if (type == double.class || type == Double.class)
+            return new Parameter(column, getter, Types.DOUBLE, (statement, index, value) -> statement.setDouble(index, (Double) value));
+        if (type == float.class || type == Float.class)
+            return new Parameter(column, getter, Types.REAL, (statement, index, value) -> statement.setFloat(index, (Float) value));
+        if (type == boolean.class || type == Boolean.class)
+            return new Parameter(column, getter, Types.BOOLEAN, (statement, index, value) -> statement.setBoolean(index, (Boolean) value));
+        if (type == BigDecimal.class)
+            return new Parameter(column, getter, Types.DECIMAL, (statement, index, value) -> statement.setBigDecimal(index, (BigDecimal) value));
+        if (type == byte[].class)
+            return new Parameter(column, getter, Types.BINARY, (statement, index, value) -> statement.setBytes(index, (byte[]) value));
+        if (type == java.sql.Date.class)
+            return new Parameter(column, getter, Types.DATE, (statement, index, value) -> statement.setDate(index, (java.sql.Date) value));
+        if (type == Time.class)
+            return new Parameter(column, getter, Types.TIME, (statement, index, value) -> statement.setTime(index, (Time) value));
+        if (type == Timestamp.class)
+            return new Parameter(column, getter, Types.TIMESTAMP, (statement, index, value) -> statement.setTimestamp(index, (Timestamp) value));
+        if (type == java.util.Date.class)
+            return new Parameter(column, getter, Types.TIMESTAMP,
+                    (statement, index, value) -> statement.setTimestamp(index, new Timestamp(((java.util.Date) value).getTime())));
+        if (type == Instant.class)
+            return new Parameter(column, getter, Types.TIMESTAMP,
+                    (statement, index, value) -> statement.setTimestamp(index, Timestamp.from((Instant) value)));
+        if (type == LocalDate.class)
+            return new Parameter(column, getter, Types.DATE, PreparedStatement::setObject);
+        if (type == LocalTime.class)
+            return new Parameter(column, getter, Types.TIME, PreparedStatement::setObject);
+        if (type == LocalDateTime.class)
+            return new Parameter(column, getter, Types.TIMESTAMP, PreparedStatement::setObject);
+        if (type == OffsetTime.class)
+            return new Parameter(column, getter, Types.TIME_WITH_TIMEZONE, PreparedStatement::setObject);
+        if (type == OffsetDateTime.class)
+            return new Parameter(column, getter, Types.TIMESTAMP_WITH_TIMEZONE, PreparedStatement::setObject);
+        if (type == ZonedDateTime.class)
+            return new Parameter(column, getter, Types.TIMESTAMP_WITH_TIMEZONE,
+                    (statement, index, value) -> statement.setObject(index, ((ZonedDateTime) value).toOffsetDateTime()));
+        if (type == UUID.class)
+            return new Parameter(column, getter, Types.OTHER, PreparedStatement::setObject);
+        if (type.isEnum()) return enumParameter(mapping, getter);
+
+        throw unwritable(mapping, "type " + type.getName() + " has no typed setter");
+    }
+
+    /**
+     * Checks whether a field is read with the converter its type gets by default, whose column value is the field
+     * value itself.
+     *
+     * @param mapping the field mapping
+     * @return true if the field has no converter, the default converter of its type, or a default converter wrapped
+     * for string deduplication
+     */
+    private static boolean hasDefaultConverter(FieldMapping mapping) {
+        TypeConverter<?> converter = mapping.getConverter().orElse(null);
+        if (converter == null || converter instanceof EnumConverter) return true;
+        if (mapping.getFieldType() == String.class && mapping.getAttributes().containsKey(FieldConfig.DEDUPLICATE_ATTRIBUTE)) return true;
+        return DEFAULT_CONVERTERS.lockup(mapping.getFieldType()).orElse(null) == converter;
+    }
+
+    private static IllegalArgumentException unwritable(FieldMapping mapping, String reason) {
+        return new IllegalArgumentException("Field '" + mapping.getFieldName() + "' can not be written: " + reason
+                + "; build the binder from a projection without it");
+    }
+
+    /**
+     * Resolves the setter of an enum field, precomputing the column value of every constant for its enum strategy.
+     *
+     * @param mapping the field mapping
+     * @param getter  the accessor of the field
+     * @return the parameter binding the column value of the constants
+     */
+    private static Parameter enumParameter(FieldMapping mapping, MethodHandle getter) {
+        EnumStrategy enumStrategy;
+        try {
+            enumStrategy = FieldConfig.builder()
+                    .withAttributes(mapping.getAttributes())
+                    .build()
+                    .getAttribute(FieldConfig.ENUM_STRATEGY)
+                    .orElse(EnumStrategy.NAME);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid attribute of field '" + mapping.getFieldName() + "': " + e.getMessage(), e);
+        }
+
+        Object[] constants = mapping.getFieldType().getEnumConstants();
+        Object[] values = new Object[constants.length];
+        for (int i = 0; i < constants.length; i++) values[i] = EnumConverter.columnValue((Enum<?>) constants[i], enumStrategy);
+
+        if (enumStrategy == EnumStrategy.ORDINAL)
+            return new Parameter(mapping.getColumnName(), getter, Types.INTEGER,
+                    (statement, index, value) -> statement.setInt(index, ((Enum<?>) value).ordinal()));
+
+        return new Parameter(mapping.getColumnName(), getter, Types.VARCHAR,
+                (statement, index, value) -> statement.setString(index, (String) values[((Enum<?>) value).ordinal()]));
+    }
+
+    /**
+     * Binds a non-null value to a statement parameter with a typed setter.
+     */
+    @FunctionalInterface
+    private interface ParameterSetter {
+        void set(PreparedStatement statement, int index, Object value) throws SQLException;
+    }
+
+    /**
+     * A column resolved from a field mapping, with its accessor, typed setter and SQL type for null values.
+     *
+     * @param columnName the column name
+     * @param getter     the field accessor, of type {@code (Object)Object}
+     * @param sqlType    the SQL type bound for null values
+     * @param setter     the typed setter of non-null values
+     */
+    private record Parameter(String columnName, MethodHandle getter, int sqlType, ParameterSetter setter) {
+    }
+
+    /**
+     * Builder for creating BatchBinder instances in a fluent manner.
+     *
+     * @param <T> the type of the written objects
+     */
+    public static class BatchBinderBuilder<T> {
+        private final RowMapper<T> mapper;
+        private String table;
+        private String[] keys;
+        private int batchSize;
+        private IdentifierQuoting quoting;
+        private UpsertSyntax upsertSyntax;
+
+        /**
+         * Creates a new builder with the default batch size, no keys and unquoted identifiers.
+         *
+         * @param mapper the mapper whose field mappings define the written columns
+         */
+        public BatchBinderBuilder(RowMapper<T> mapper) {
+            this.mapper = mapper;
+            this.keys = new String[0];
+            this.batchSize = DEFAULT_BATCH_SIZE;
+            this.quoting = IdentifierQuoting.NONE;
+        }
+
+        /**
+         * Sets the table written by the generated statements.
+         *
+         * @param table the table name, optionally qualified with its schema
+         * @return The builder for method chaining
+         */
+        public BatchBinderBuilder<T> withTable(String table) {
+            this.table = table;
+            return this;
+        }
+
+        /**
+         * Sets the fields whose columns identify a row, required by updates and upserts.
+         *
+         * @param fieldNames the names of the mapped key fields
+         * @return The builder for method chaining
+         */
+        public BatchBinderBuilder<T> withKeys(String... fieldNames) {
+            this.keys = fieldNames == null ? new String[0] : fieldNames.clone();
+            return this;
+        }
+
+        /**
+         * Sets the number of rows per executed batch.
+         *
+         * @param batchSize the number of rows added before each {@link PreparedStatement#executeBatch()}
+         * @return The builder for method chaining
+         */
+        public BatchBinderBuilder<T> withBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the quoting style applied to the table and column names.
+         *
+         * @param quoting the quoting style
+         * @return The builder for method chaining
+         */
+        public BatchBinderBuilder<T> withQuoting(IdentifierQuoting quoting) {
+            this.quoting = quoting;
+            return this;
+        }
+
+        /**
+         * Sets the database-specific syntax of upsert statements.
+         *
+         * @param upsertSyntax the upsert syntax
+         * @return The builder for method chaining
+         */
+        public BatchBinderBuilder<T> withUpsertSyntax(UpsertSyntax upsertSyntax) {
+            this.upsertSyntax = upsertSyntax;
+            return this;
+        }
+
+        /**
+         * Builds a BatchBinder instance with the established configuration.
+         *
+         * @return A new BatchBinder instance
+         * @throws IllegalArgumentException If any configured value is invalid, a key field is not mapped,
+         *                                  or a field is not accessible
+         */
+        public BatchBinder<T> build() {
+            ValueUtils.requireNonNull(this.mapper, "Mapper can not be null");
+            ValueUtils.requireNonEmpty(this.table, "Table can not be empty");
+            ValueUtils.requireNonNull(this.quoting, "Quoting can not be null");
+            if (this.batchSize <= 0) throw new IllegalArgumentException("Batch size must be positive");
+
+            List<FieldMapping> mappings = this.mapper.getFieldMappings();
+            ValueUtils.requireNonEmpty(mappings, "Mapper has no mapped fields");
+
+            Parameter[] columns = new Parameter[mappings.size()];
+            for (int i = 0; i < columns.length; i++) columns[i] = parameterOf(mappings.get(i));
+
+            List<String> keyColumns = new ArrayList<>(this.keys.length);
+            List<Parameter> keyParameters = new ArrayList<>(this.keys.length);
+            for (String key : this.keys) {
+                int index = indexOf(mappings, key);
+                keyColumns.add(columns[index].columnName());
+                keyParameters.add(columns[index]);
+            }
+
+            Parameter[] updateOrder = null;
+            if (!keyColumns.isEmpty()) {
+                List<Parameter> order = new ArrayList<>(columns.length);
+                for (Parameter column : columns) {
+                    if (!keyParameters.contains(column)) order.add(column);
+                }
+                // Rows made only of key columns can be upserted, but there is nothing to update
+                if (!order.isEmpty()) {
+                    order.addAll(keyParameters);
+                    updateOrder = order.toArray(new Parameter[0]);
+                }
+            }
+
+            return new BatchBinder<>(this, columns, updateOrder, keyColumns);
+        }
+
+        private static int indexOf(List<FieldMapping> mappings, String fieldName) {
+            for (int i = 0; i < mappings.size(); i++) {
+                if (mappings.get(i).getFieldName().equals(fieldName)) return i;
+            }
+            throw new IllegalArgumentException("Key field '" + fieldName + "' is not mapped");
+        }
+    }
+}
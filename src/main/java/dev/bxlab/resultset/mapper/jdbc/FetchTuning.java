@@ -0,0 +1,267 @@
+package dev.bxlab.resultset.mapper.jdbc;
+
+import dev.bxlab.resultset.mapper.core.FieldMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.utils.SizeEstimator;
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+
+/**
+ * Configures statements for large scans from a memory budget per fetch.
+ * <p>
+ * The fetch size is computed by dividing the memory budget by an estimated row width. The row width is estimated
+ * from the column types and precisions of the result set metadata when the driver can describe the statement
+ * before execution, and from the mapped field types of a {@link RowMapper} otherwise. Statements are configured
+ * as forward-only and read-only, with the fetch size expected by the configured {@link StreamingMode}.
+ * </p>
+ * <pre>{@code
+ * FetchTuning tuning = FetchTuning.builder()
+ *         .withMemoryBudget(8 * 1024 * 1024)
+ *         .withStreamingMode(StreamingMode.POSTGRESQL)
+ *         .build();
+ *
+ * try (PreparedStatement statement = tuning.prepareStatement(connection, sql)) {
+ *     tuning.apply(statement, mapper);
+ *     ...
+ * }
+ * }</pre>
+ */
+public final class FetchTuning {
+
+    /**
+     * Default memory budget per fetch, in bytes.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 4L * 1024 * 1024;
+
+    /**
+     * Default minimum fetch size.
+     */
+    public static final int DEFAULT_MIN_FETCH_SIZE = 10;
+
+    /**
+     * Default maximum fetch size.
+     */
+    public static final int DEFAULT_MAX_FETCH_SIZE = 10_000;
+
+    private final long memoryBudget;
+    private final int minFetchSize;
+    private final int maxFetchSize;
+    private final StreamingMode streamingMode;
+
+    private FetchTuning(FetchTuningBuilder builder) {
+        this.memoryBudget = builder.memoryBudget;
+        this.minFetchSize = builder.minFetchSize;
+        this.maxFetchSize = builder.maxFetchSize;
+        this.streamingMode = builder.streamingMode;
+    }
+
+    /**
+     * Creates a new builder to configure a FetchTuning.
+     *
+     * @return A new FetchTuningBuilder
+     */
+    public static FetchTuningBuilder builder() {
+        return new FetchTuningBuilder();
+    }
+
+    /**
+     * Creates a forward-only, read-only statement suitable for streaming a large result set.
+     *
+     * @param connection the connection used to create the statement
+     * @param sql        the query to prepare
+     * @return a new prepared statement
+     * @throws SQLException if a database access error occurs
+     */
+    public PreparedStatement prepareStatement(Connection connection, String sql) throws SQLException {
+        ValueUtils.requireNonNull(connection, "Connection can not be null");
+        ValueUtils.requireNonEmpty(sql, "SQL can not be empty");
+
+        return connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+    }
+
+    /**
+     * Configures the fetch size and direction of a prepared statement.
+     * The row width is estimated from the statement metadata when available, otherwise from the mapper field types,
+     * including when the driver does not support describing a statement before execution.
+     *
+     * @param statement the statement to configure, before it is executed
+     * @param mapper    the mapper used to estimate the row width when the metadata is not available
+     * @return the fetch size configured on the statement
+     * @throws SQLException if a database access error occurs
+     */
+    public int apply(PreparedStatement statement, RowMapper<?> mapper) throws SQLException {
+        ValueUtils.requireNonNull(statement, "Statement can not be null");
+        ValueUtils.requireNonNull(mapper, "Mapper can not be null");
+
+        ResultSetMetaData metaData;
+        try {
+            metaData = statement.getMetaData();
+        } catch (SQLFeatureNotSupportedException e) {
+            metaData = null;
+        }
+        int rowWidth = metaData != null ? estimateRowWidth(metaData) : estimateRowWidth(mapper);
+
+        return this.apply(statement, rowWidth);
+    }
+
+    /**
+     * Configures the fetch size and direction of a statement for the given estimated row width.
+     *
+     * @param statement the statement to configure, before it is executed
+     * @param rowWidth  the estimated row width in bytes
+     * @return the fetch size configured on the statement
+     * @throws SQLException if a database access error occurs
+     */
+    public int apply(Statement statement, int rowWidth) throws SQLException {
+        ValueUtils.requireNonNull(statement, "Statement can not be null");
+
+        int fetchSize = this.streamingMode.fetchSize(this.fetchSizeFor(rowWidth));
+
+        statement.setFetchDirection(ResultSet.FETCH_FORWARD);
+        statement.setFetchSize(fetchSize);
+
+        return fetchSize;
+    }
+
+    /**
+     * Computes the number of rows that fit in the memory budget, within the configured bounds.
+     *
+     * @param rowWidth the estimated row width in bytes
+     * @return the fetch size for the given row width
+     */
+    public int fetchSizeFor(int rowWidth) {
+        long rows = this.memoryBudget / Math.max(rowWidth, 1);
+        return (int) Math.max(this.minFetchSize, Math.min(rows, this.maxFetchSize));
+    }
+
+    /**
+     * Estimates the width of a row from the column types and precisions of the result set metadata.
+     *
+     * @param metaData the metadata describing the columns
+     * @return the estimated row width in bytes
+     * @throws SQLException if a database access error occurs
+     */
+    public static int estimateRowWidth(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        int width = 0;
+
+        for (int i = 1; i <= columnCount; i++) {
+            width += SizeEstimator.estimateColumnWidth(metaData.getColumnType(i), metaData.getPrecision(i));
+        }
+
+        return width;
+    }
+
+    /**
+     * Estimates the width of a row from the mapped field types of a mapper.
+     * Fields the mapper skips because no converter is available for their type are not counted.
+     *
+     * @param mapper the mapper whose field types are used
+     * @return the estimated row width in bytes
+     */
+    public static int estimateRowWidth(RowMapper<?> mapper) {
+        int width = 0;
+
+        for (FieldMapping mapping : mapper.getReadFieldMappings()) {
+            width += SizeEstimator.estimateTypeWidth(mapping.getFieldType());
+        }
+
+        return width;
+    }
+
+    /**
+     * Gets the memory budget per fetch.
+     *
+     * @return the memory budget in bytes
+     */
+    public long getMemoryBudget() {
+        return this.memoryBudget;
+    }
+
+    /**
+     * Gets the configured streaming mode.
+     *
+     * @return the streaming mode
+     */
+    public StreamingMode getStreamingMode() {
+        return this.streamingMode;
+    }
+
+    /**
+     * Builder for creating FetchTuning instances in a fluent manner.
+     */
+    public static class FetchTuningBuilder {
+        private long memoryBudget;
+        private int minFetchSize;
+        private int maxFetchSize;
+        private StreamingMode streamingMode;
+
+        /**
+         * Creates a new builder with the default budget, bounds and {@link StreamingMode#STANDARD} mode.
+         */
+        public FetchTuningBuilder() {
+            this.memoryBudget = DEFAULT_MEMORY_BUDGET;
+            this.minFetchSize = DEFAULT_MIN_FETCH_SIZE;
+            this.maxFetchSize = DEFAULT_MAX_FETCH_SIZE;
+            this.streamingMode = StreamingMode.STANDARD;
+        }
+
+        /**
+         * Sets the memory budget per fetch.
+         *
+         * @param bytes the number of bytes a single fetch may use
+         * @return The builder for method chaining
+         */
+        public FetchTuningBuilder withMemoryBudget(long bytes) {
+            this.memoryBudget = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the bounds of the computed fetch size.
+         *
+         * @param min the minimum fetch size
+         * @param max the maximum fetch size
+         * @return The builder for method chaining
+         */
+        public FetchTuningBuilder withFetchSizeBounds(int min, int max) {
+            this.minFetchSize = min;
+            this.maxFetchSize = max;
+            return this;
+        }
+
+        /**
+         * Sets the driver streaming mode.
+         *
+         * @param streamingMode the streaming mode of the target driver
+         * @return The builder for method chaining
+         */
+        public FetchTuningBuilder withStreamingMode(StreamingMode streamingMode) {
+            this.streamingMode = streamingMode;
+            return this;
+        }
+
+        /**
+         * Builds a FetchTuning instance with the established configuration.
+         *
+         * @return A new FetchTuning instance
+         * @throws IllegalArgumentException If any configured value is invalid
+         */
+        public FetchTuning build() {
+            if (this.memoryBudget <= 0) throw new IllegalArgumentException("Memory budget must be positive");
+            if (this.minFetchSize <= 0) throw new IllegalArgumentException("Minimum fetch size must be positive");
+            if (this.maxFetchSize < this.minFetchSize)
+                throw new IllegalArgumentException("Maximum fetch size can not be lower than the minimum fetch size");
+            ValueUtils.requireNonNull(this.streamingMode, "Streaming mode can not be null");
+
+            return new FetchTuning(this);
+        }
+    }
+}
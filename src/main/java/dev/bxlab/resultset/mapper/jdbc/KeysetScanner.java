@@ -0,0 +1,575 @@
+package dev.bxlab.resultset.mapper.jdbc;
+
+import dev.bxlab.resultset.mapper.core.FieldMapping;
+import dev.bxlab.resultset.mapper.core.PreparedRowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Scans large tables page by page with keyset pagination, prefetching the next pages in the background.
+ * <p>
+ * Each page is read with a query that continues after the key of the last row of the previous page, instead of
+ * skipping rows with {@code OFFSET}, so every page costs an index seek regardless of its position. The query is
+ * wrapped in a derived table, ordered by the key columns and limited to the page size with
+ * {@link java.sql.Statement#setMaxRows(int)}. Composite keys are compared with an expanded predicate
+ * ({@code k1 > ? OR (k1 = ? AND k2 > ?)}) that every database can evaluate; the keys must be unique and non-null.
+ * </p>
+ * <p>
+ * While the caller processes a page, the following pages are fetched and mapped by a background task, up to the
+ * configured number of prefetched pages. The task runs on a virtual thread when the runtime supports them, or on the
+ * configured executor. The connection is used by the background task while a scan is open, so it must not be used by
+ * the caller until the scan is closed.
+ * </p>
+ * <pre>{@code
+ * KeysetScanner<Order> scanner = KeysetScanner.builder(mapper)
+ *         .withQuery("SELECT id, customer, total FROM orders WHERE status = ?", "OPEN")
+ *         .withKeys("id")
+ *         .withPageSize(1000)
+ *         .build();
+ *
+ * try (KeysetScanner.Scan<Order> scan = scanner.open(connection)) {
+ *     for (List<Order> page = scan.nextPage(); page != null; page = scan.nextPage()) {
+ *         ...
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the mapped rows
+ */
+public final class KeysetScanner<T> {
+
+    /**
+     * Default number of rows per page.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+
+    /**
+     * Default number of pages fetched ahead of the caller.
+     */
+    public static final int DEFAULT_PREFETCH_PAGES = 1;
+
+    private static final String PAGE_ALIAS = "keyset_page";
+
+    private final RowMapper<T> mapper;
+    private final Object[] parameters;
+    private final Field[] keyFields;
+    private final String[] keyColumns;
+    private final String firstPageSql;
+    private final String nextPageSql;
+    private final int pageSize;
+    private final int prefetchPages;
+    private final ExecutorService executor;
+
+    private KeysetScanner(KeysetScannerBuilder<T> builder, Field[] keyFields, String[] keyColumns) {
+        this.mapper = builder.mapper;
+        this.parameters = builder.parameters;
+        this.keyFields = keyFields;
+        this.keyColumns = keyColumns;
+        this.pageSize = builder.pageSize;
+        this.prefetchPages = builder.prefetchPages;
+        this.executor = builder.executor != null ? builder.executor : BackgroundExecutor.INSTANCE;
+
+        String orderBy = " ORDER BY " + String.join(", ", keyColumns);
+        String from = "SELECT * FROM (" + builder.sql + ") " + PAGE_ALIAS;
+        this.firstPageSql = from + orderBy;
+        this.nextPageSql = from + " WHERE " + keysetPredicate(keyColumns) + orderBy;
+    }
+
+    /**
+     * Creates a new builder to configure a scanner of rows mapped with the given mapper.
+     *
+     * @param mapper the mapper used to map the rows of each page
+     * @param <T>    the type of the mapped rows
+     * @return A new KeysetScannerBuilder
+     */
+    public static <T> KeysetScannerBuilder<T> builder(RowMapper<T> mapper) {
+        return new KeysetScannerBuilder<>(mapper);
+    }
+
+    /**
+     * Opens a scan on the given connection and starts fetching the first pages in the background.
+     *
+     * @param connection the connection used to run the page queries until the scan is closed
+     * @return a new scan, to be closed by the caller
+     */
+    public Scan<T> open(Connection connection) {
+        ValueUtils.requireNonNull(connection, "Connection can not be null");
+        return new Scan<>(this, connection);
+    }
+
+    /**
+     * Scans every row and passes it to the given action, fetching the next pages while the action runs.
+     *
+     * @param connection the connection used to run the page queries
+     * @param action     the action receiving each mapped row, in key order
+     * @throws SQLException     if a page query fails
+     * @throws MappingException if a row can not be mapped or a key is null
+     */
+    public void forEach(Connection connection, Consumer<? super T> action) throws SQLException {
+        ValueUtils.requireNonNull(action, "Action can not be null");
+
+        try (Scan<T> scan = this.open(connection)) {
+            for (List<T> page = scan.nextPage(); page != null; page = scan.nextPage()) {
+                page.forEach(action);
+            }
+        }
+    }
+
+    /**
+     * Gets the query reading the first page.
+     *
+     * @return the SQL of the first page query
+     */
+    public String getFirstPageSql() {
+        return this.firstPageSql;
+    }
+
+    /**
+     * Gets the query reading the pages after the first one.
+     * Its parameters are the query parameters followed by the keyset predicate parameters.
+     *
+     * @return the SQL of the next page query
+     */
+    public String getNextPageSql() {
+        return this.nextPageSql;
+    }
+
+    /**
+     * Gets the number of rows per page.
+     *
+     * @return the page size
+     */
+    public int getPageSize() {
+        return this.pageSize;
+    }
+
+    /**
+     * Gets the maximum number of pages fetched ahead of the caller.
+     *
+     * @return the number of prefetched pages
+     */
+    public int getPrefetchPages() {
+        return this.prefetchPages;
+    }
+
+    /**
+     * Builds the predicate selecting the rows after a key, expanded so it does not rely on row value comparisons.
+     *
+     * @param keyColumns the key columns, in order
+     * @return the predicate, with one parameter per column comparison
+     */
+    private static String keysetPredicate(String[] keyColumns) {
+        List<String> terms = new ArrayList<>(keyColumns.length);
+
+        for (int i = 0; i < keyColumns.length; i++) {
+            StringBuilder term = new StringBuilder();
+            for (int j = 0; j < i; j++) term.append(keyColumns[j]).append(" = ? AND ");
+            term.append(keyColumns[i]).append(" > ?");
+            terms.add(keyColumns.length == 1 ? term.toString() : "(" + term + ")");
+        }
+
+        return String.join(" OR ", terms);
+    }
+
+    /**
+     * Reads the key of a mapped row.
+     *
+     * @param row the last row of a page
+     * @return the key values, in key column order
+     * @throws MappingException if a key value is null
+     */
+    private Object[] keyOf(T row) {
+        Object[] key = new Object[this.keyFields.length];
+
+        for (int i = 0; i < key.length; i++) {
+            try {
+                key[i] = this.keyFields[i].get(row);
+            } catch (IllegalAccessException e) {
+                throw new MappingException("Failed to read key field '" + this.keyFields[i].getName() + "'", e);
+            }
+            if (key[i] == null) throw new MappingException("Key column '" + this.keyColumns[i] + "' can not be null");
+        }
+
+        return key;
+    }
+
+    /**
+     * Binds the query parameters followed by the keyset predicate parameters of the given key.
+     *
+     * @param statement the next page statement
+     * @param key       the key of the last row of the previous page
+     * @throws SQLException if a database access error occurs
+     */
+    private void bindNextPage(PreparedStatement statement, Object[] key) throws SQLException {
+        statement.clearParameters();
+
+        int index = this.bindParameters(statement);
+        for (int i = 0; i < key.length; i++) {
+            for (int j = 0; j <= i; j++) statement.setObject(index++, key[j]);
+        }
+    }
+
+    private int bindParameters(PreparedStatement statement) throws SQLException {
+        int index = 1;
+        for (Object parameter : this.parameters) statement.setObject(index++, parameter);
+        return index;
+    }
+
+    private PreparedStatement prepare(Connection connection, String sql) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        try {
+            statement.setMaxRows(this.pageSize);
+            statement.setFetchSize(this.pageSize);
+            return statement;
+        } catch (SQLException | RuntimeException e) {
+            statement.close();
+            throw e;
+        }
+    }
+
+    /**
+     * An open scan, returning the pages of a {@link KeysetScanner} in key order.
+     * <p>
+     * Pages are produced by a background task into a bounded queue. A scan is meant to be consumed by a single
+     * thread, and must be closed to stop the background task and release its statements.
+     * </p>
+     *
+     * @param <T> the type of the mapped rows
+     */
+    public static final class Scan<T> implements AutoCloseable {
+        private static final Object END = new Object();
+
+        private final BlockingQueue<Object> pages;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        private volatile Statement running;
+        private volatile boolean closed;
+        private boolean exhausted;
+
+        private Scan(KeysetScanner<T> scanner, Connection connection) {
+            this.pages = new ArrayBlockingQueue<>(scanner.prefetchPages);
+            scanner.executor.execute(() -> this.produce(scanner, connection));
+        }
+
+        /**
+         * Gets the next page, waiting for it if it has not been prefetched yet.
+         *
+         * @return an immutable list of the rows of the next page, or null if all rows have been read
+         * @throws SQLException          if a page query failed
+         * @throws MappingException      if a row could not be mapped or a key is null
+         * @throws IllegalStateException if the scan has been closed
+         */
+        @SuppressWarnings("unchecked")
+        public List<T> nextPage() throws SQLException {
+            if (this.closed) throw new IllegalStateException("The scan has been closed");
+            if (this.exhausted) return null;
+
+            Object page;
+            try {
+                page = this.pages.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MappingException("Interrupted while waiting for the next page", e);
+            }
+
+            if (page == END) {
+                this.exhausted = true;
+                return null;
+            }
+            if (page instanceof Failure failure) {
+                this.exhausted = true;
+                if (failure.cause() instanceof SQLException e) throw e;
+                if (failure.cause() instanceof RuntimeException e) throw e;
+                throw (Error) failure.cause();
+            }
+
+            return (List<T>) page;
+        }
+
+        /**
+         * Stops the background task, waits for it to release the connection and closes its statements.
+         * A page query running when the scan is closed is cancelled with {@link Statement#cancel()}.
+         */
+        @Override
+        public void close() {
+            if (this.closed) return;
+            this.closed = true;
+
+            // A task that has not started yet will never touch the connection
+            if (this.started.compareAndSet(false, true)) return;
+
+            Statement statement = this.running;
+            if (statement != null) cancelQuietly(statement);
+
+            // The task checks the closed flag before every put, so clearing the queue once after setting the flag
+            // leaves room for the single put that may have passed the check
+            this.pages.clear();
+
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    this.finished.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+
+        private void produce(KeysetScanner<T> scanner, Connection connection) {
+            if (!this.started.compareAndSet(false, true)) return;
+
+            PreparedStatement firstPage = null;
+            PreparedStatement nextPage = null;
+
+            try {
+                firstPage = scanner.prepare(connection, scanner.firstPageSql);
+                scanner.bindParameters(firstPage);
+
+                PreparedRowMapper<T> preparedMapper = null;
+                PreparedStatement statement = firstPage;
+
+                while (!this.closed) {
+                    List<T> rows = new ArrayList<>(scanner.pageSize);
+                    this.running = statement;
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        if (preparedMapper == null) preparedMapper = scanner.mapper.prepare(resultSet.getMetaData());
+                        while (resultSet.next()) rows.add(preparedMapper.map(resultSet));
+                    } finally {
+                        this.running = null;
+                    }
+
+                    if (!rows.isEmpty() && !this.publish(Collections.unmodifiableList(rows))) return;
+                    if (rows.size() < scanner.pageSize) break;
+
+                    if (nextPage == null) nextPage = scanner.prepare(connection, scanner.nextPageSql);
+                    scanner.bindNextPage(nextPage, scanner.keyOf(rows.get(rows.size() - 1)));
+                    statement = nextPage;
+                }
+
+                this.publish(END);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (SQLException | RuntimeException | Error e) {
+                this.fail(e);
+            } finally {
+                closeQuietly(firstPage);
+                closeQuietly(nextPage);
+                this.finished.countDown();
+            }
+        }
+
+        /**
+         * Puts an item in the queue unless the scan has been closed.
+         *
+         * @param item the page, failure or end marker
+         * @return whether the item was queued
+         * @throws InterruptedException if the task is interrupted while waiting for the caller
+         */
+        private boolean publish(Object item) throws InterruptedException {
+            if (this.closed) return false;
+            this.pages.put(item);
+            return true;
+        }
+
+        private void fail(Throwable cause) {
+            try {
+                this.publish(new Failure(cause));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private static void cancelQuietly(Statement statement) {
+            try {
+                statement.cancel();
+            } catch (SQLException ignored) {
+                // The task still stops once the running query completes
+            }
+        }
+
+        private static void closeQuietly(PreparedStatement statement) {
+            if (statement == null) return;
+            try {
+                statement.close();
+            } catch (SQLException ignored) {
+                // The statement is closed with the connection
+            }
+        }
+
+        private record Failure(Throwable cause) {
+        }
+    }
+
+    /**
+     * Lazily created executor running background page fetches, on virtual threads when the runtime supports them.
+     */
+    private static final class BackgroundExecutor {
+        private static final ExecutorService INSTANCE = create();
+
+        private BackgroundExecutor() {
+        }
+
+        /**
+         * Creates a virtual thread per task executor through reflection, so the library still runs on Java 17,
+         * falling back to a cached pool of daemon platform threads.
+         *
+         * @return the executor
+         */
+        private static ExecutorService create() {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "keyset-scanner");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+    }
+
+    /**
+     * Builder for creating KeysetScanner instances in a fluent manner.
+     *
+     * @param <T> the type of the mapped rows
+     */
+    public static class KeysetScannerBuilder<T> {
+        private final RowMapper<T> mapper;
+        private String sql;
+        private Object[] parameters;
+        private String[] keys;
+        private int pageSize;
+        private int prefetchPages;
+        private ExecutorService executor;
+
+        /**
+         * Creates a new builder with the default page size and number of prefetched pages.
+         *
+         * @param mapper the mapper used to map the rows of each page
+         */
+        public KeysetScannerBuilder(RowMapper<T> mapper) {
+            this.mapper = mapper;
+            this.parameters = new Object[0];
+            this.keys = new String[0];
+            this.pageSize = DEFAULT_PAGE_SIZE;
+            this.prefetchPages = DEFAULT_PREFETCH_PAGES;
+        }
+
+        /**
+         * Sets the query to scan and its parameters, in bind order.
+         * The query must not contain an {@code ORDER BY} or row limit clause, since it is wrapped in a derived table.
+         *
+         * @param sql        the query to scan
+         * @param parameters the bound parameters, may contain nulls
+         * @return The builder for method chaining
+         */
+        public KeysetScannerBuilder<T> withQuery(String sql, Object... parameters) {
+            this.sql = sql;
+            this.parameters = parameters == null ? new Object[0] : parameters.clone();
+            return this;
+        }
+
+        /**
+         * Sets the fields whose columns form the unique key the rows are ordered and paginated by.
+         *
+         * @param fieldNames the names of the mapped key fields, from the most to the least significant
+         * @return The builder for method chaining
+         */
+        public KeysetScannerBuilder<T> withKeys(String... fieldNames) {
+            this.keys = fieldNames == null ? new String[0] : fieldNames.clone();
+            return this;
+        }
+
+        /**
+         * Sets the number of rows per page.
+         *
+         * @param pageSize the number of rows read by each page query
+         * @return The builder for method chaining
+         */
+        public KeysetScannerBuilder<T> withPageSize(int pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of pages fetched ahead of the caller.
+         *
+         * @param prefetchPages the number of pages the background task may hold before the caller takes them
+         * @return The builder for method chaining
+         */
+        public KeysetScannerBuilder<T> withPrefetchPages(int prefetchPages) {
+            this.prefetchPages = prefetchPages;
+            return this;
+        }
+
+        /**
+         * Sets the executor running the background page fetches, instead of a virtual thread per scan.
+         *
+         * @param executor the executor
+         * @return The builder for method chaining
+         */
+        public KeysetScannerBuilder<T> withExecutor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Builds a KeysetScanner instance with the established configuration.
+         *
+         * @return A new KeysetScanner instance
+         * @throws IllegalArgumentException If any configured value is invalid or a key field is not mapped
+         */
+        public KeysetScanner<T> build() {
+            ValueUtils.requireNonNull(this.mapper, "Mapper can not be null");
+            ValueUtils.requireNonEmpty(this.sql, "SQL can not be empty");
+            if (this.keys.length == 0) throw new IllegalArgumentException("At least one key field is required");
+            if (this.pageSize <= 0) throw new IllegalArgumentException("Page size must be positive");
+            if (this.prefetchPages <= 0) throw new IllegalArgumentException("Prefetch pages must be positive");
+
+            Field[] keyFields = new Field[this.keys.length];
+            String[] keyColumns = new String[this.keys.length];
+
+            for (int i = 0; i < this.keys.length; i++) {
+                FieldMapping mapping = this.findMapping(this.keys[i]);
+                keyFields[i] = mapping.getField();
+                keyColumns[i] = mapping.getColumnName();
+
+                try {
+                    keyFields[i].setAccessible(true);
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("Key field '" + this.keys[i] + "' is not accessible", e);
+                }
+            }
+
+            return new KeysetScanner<>(this, keyFields, keyColumns);
+        }
+
+        private FieldMapping findMapping(String fieldName) {
+            for (FieldMapping mapping : this.mapper.getFieldMappings()) {
+                if (mapping.getFieldName().equals(fieldName)) return mapping;
+            }
+            throw new IllegalArgumentException("Key field '" + fieldName + "' is not mapped");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package dev.bxlab.resultset.mapper.jdbc;
+
+/**
+ * This enum describes how a JDBC driver streams rows of a large result set, and how the fetch size
+ * must be configured for rows to be fetched incrementally instead of being buffered all at once.
+ */
+public enum StreamingMode {
+    /**
+     * Uses the computed fetch size as a hint. Suitable for drivers that honor fetch sizes without extra
+     * requirements, such as H2, HSQLDB, Db2 and most JDBC 4 drivers.
+     */
+    STANDARD(false),
+
+    /**
+     * PostgreSQL (pgjdbc) only uses a server-side cursor when the statement is forward-only, the fetch size
+     * is positive and the connection is not in auto-commit mode. In auto-commit mode the whole result set is
+     * buffered in memory regardless of the fetch size, so auto-commit must be disabled by the caller.
+     */
+    POSTGRESQL(false),
+
+    /**
+     * MySQL Connector/J and MariaDB Connector/J buffer the whole result by default. Setting the fetch size to
+     * {@link Integer#MIN_VALUE} on a forward-only, read-only statement streams rows one by one. While a
+     * streamed result set is open, no other statement can be executed on the same connection.
+     */
+    MYSQL_ROW_STREAMING(true),
+
+    /**
+     * MySQL Connector/J with the {@code useCursorFetch=true} connection property uses server-side cursors
+     * and honors positive fetch sizes.
+     */
+    MYSQL_CURSOR_FETCH(false),
+
+    /**
+     * Oracle JDBC prefetches 10 rows per round trip by default and honors the fetch size for every round trip.
+     * Memory is allocated for the declared width of each column, so the width estimate is usually accurate.
+     */
+    ORACLE(false),
+
+    /**
+     * Microsoft SQL Server JDBC streams rows with {@code responseBuffering=adaptive} (the default since
+     * version 2.0) and uses the fetch size for server cursors. Avoid {@code selectMethod=cursor} for large scans.
+     */
+    SQL_SERVER(false);
+
+
+    private final boolean rowStreaming;
+
+    /**
+     * Creates a streaming mode.
+     *
+     * @param rowStreaming true if the driver streams rows one at a time through a special fetch size
+     */
+    StreamingMode(boolean rowStreaming) {
+        this.rowStreaming = rowStreaming;
+    }
+
+    /**
+     * Gets the fetch size to configure on a statement for this streaming mode.
+     *
+     * @param computedFetchSize the fetch size computed from the memory budget
+     * @return the fetch size the driver expects
+     */
+    public int fetchSize(int computedFetchSize) {
+        return this.rowStreaming ? Integer.MIN_VALUE : computedFetchSize;
+    }
+}
@@ -0,0 +1,98 @@
+package dev.bxlab.resultset.mapper.jdbc;
+
+import dev.bxlab.resultset.mapper.configs.IdentifierQuoting;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Database-specific syntax of the statements generated by {@link BatchBinder#getUpsertSql()}.
+ * <p>
+ * Every syntax binds the parameters in the same order as the insert statement: one parameter per column, in the
+ * column order of the mapper. Key columns are never updated.
+ * </p>
+ */
+public enum UpsertSyntax {
+    /**
+     * {@code INSERT ... ON CONFLICT (keys) DO UPDATE SET c = EXCLUDED.c}, supported by PostgreSQL and SQLite.
+     * The key columns must have a unique constraint.
+     */
+    POSTGRESQL {
+        @Override
+        String render(String table, List<String> columns, List<String> keys, IdentifierQuoting quoting) {
+            String insert = insert(table, columns, quoting);
+            String conflict = " ON CONFLICT (" + join(keys, quoting) + ")";
+
+            StringJoiner updates = new StringJoiner(", ");
+            for (String column : columns) {
+                if (!keys.contains(column)) updates.add(quoting.quote(column) + " = EXCLUDED." + quoting.quote(column));
+            }
+
+            return insert + conflict + (updates.length() == 0 ? " DO NOTHING" : " DO UPDATE SET " + updates);
+        }
+    },
+
+    /**
+     * {@code INSERT ... ON DUPLICATE KEY UPDATE c = VALUES(c)}, supported by MySQL and MariaDB.
+     * The conflict is detected on any unique key of the table, so the key columns are only used to skip updates.
+     */
+    MYSQL {
+        @Override
+        String render(String table, List<String> columns, List<String> keys, IdentifierQuoting quoting) {
+            StringJoiner updates = new StringJoiner(", ");
+            for (String column : columns) {
+                if (!keys.contains(column)) updates.add(quoting.quote(column) + " = VALUES(" + quoting.quote(column) + ")");
+            }
+
+            // MySQL has no DO NOTHING form, assigning a key column to itself leaves the row unchanged
+            if (updates.length() == 0) updates.add(quoting.quote(keys.get(0)) + " = " + quoting.quote(keys.get(0)));
+
+            return insert(table, columns, quoting) + " ON DUPLICATE KEY UPDATE " + updates;
+        }
+    },
+
+    /**
+     * {@code MERGE INTO table (columns) KEY (keys) VALUES (...)}, supported by H2.
+     */
+    MERGE {
+        @Override
+        String render(String table, List<String> columns, List<String> keys, IdentifierQuoting quoting) {
+            return "MERGE INTO " + quoting.quoteQualified(table) + " (" + join(columns, quoting) + ") KEY (" + join(keys, quoting)
+                    + ") VALUES (" + placeholders(columns.size()) + ")";
+        }
+    };
+
+    /**
+     * Renders the upsert statement.
+     *
+     * @param table   the table name
+     * @param columns the columns, in bind order
+     * @param keys    the key columns identifying an existing row
+     * @param quoting the quoting style applied to identifiers
+     * @return the SQL statement
+     */
+    abstract String render(String table, List<String> columns, List<String> keys, IdentifierQuoting quoting);
+
+    /**
+     * Renders an insert statement with one parameter per column.
+     *
+     * @param table   the table name
+     * @param columns the columns, in bind order
+     * @param quoting the quoting style applied to identifiers
+     * @return the SQL statement
+     */
+    static String insert(String table, List<String> columns, IdentifierQuoting quoting) {
+        return "INSERT INTO " + quoting.quoteQualified(table) + " (" + join(columns, quoting) + ") VALUES (" + placeholders(columns.size()) + ")";
+    }
+
+    private static String join(List<String> columns, IdentifierQuoting quoting) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (String column : columns) joiner.add(quoting.quote(column));
+        return joiner.toString();
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,55 @@
+package dev.bxlab.resultset.mapper.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.ServiceLoader;
+
+/**
+ * Service provider interface for decoding JSON column values into Java objects.
+ * <p>
+ * JSON fields use the decoder configured with
+ * {@link dev.bxlab.resultset.mapper.core.RowMapperBuilder#withJsonDecoder(JsonDecoder)}, or the decoder returned by
+ * {@link #load()} otherwise. Implementations must be thread-safe. For example, to decode with Jackson:
+ * </p>
+ * <pre>{@code
+ * ObjectMapper objectMapper = new ObjectMapper();
+ * JsonDecoder decoder = (reader, type) -> objectMapper.readValue(reader, objectMapper.constructType(type));
+ * }</pre>
+ */
+@FunctionalInterface
+public interface JsonDecoder {
+
+    /**
+     * Decodes a JSON document into an object of the given type.
+     *
+     * @param reader the reader positioned at the start of the document, not closed by the decoder
+     * @param type   the target type, which may be a parameterized type such as {@code List<Item>}
+     * @return the decoded object, or null if the document is the JSON null literal
+     * @throws IOException if the document can not be read or decoded
+     */
+    Object decode(Reader reader, Type type) throws IOException;
+
+    /**
+     * Gets the default decoder: the first implementation registered through {@link ServiceLoader} in
+     * {@code META-INF/services/dev.bxlab.resultset.mapper.json.JsonDecoder}, or the built-in
+     * {@link StreamingJsonDecoder} if there is none. The lookup is done once.
+     *
+     * @return the default decoder
+     */
+    static JsonDecoder load() {
+        return DefaultDecoder.INSTANCE;
+    }
+
+    /**
+     * Holder of the default decoder, resolved on first use.
+     */
+    final class DefaultDecoder {
+        private static final JsonDecoder INSTANCE = ServiceLoader.load(JsonDecoder.class)
+                .findFirst()
+                .orElseGet(StreamingJsonDecoder::new);
+
+        private DefaultDecoder() {
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package dev.bxlab.resultset.mapper.json;
+
+import dev.bxlab.resultset.mapper.exceptions.ConversionException;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Pull tokenizer over a character stream, reading through a fixed buffer.
+ * Values that are not needed can be skipped without being materialized.
+ */
+final class JsonReader {
+    private static final int BUFFER_SIZE = 2048;
+
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder token = new StringBuilder();
+    private int position;
+    private int limit;
+    private long consumed;
+
+    JsonReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Skips whitespace and returns the next character without consuming it.
+     *
+     * @return the next character, or -1 at the end of the input
+     */
+    int peek() throws IOException {
+        while (true) {
+            if (this.position == this.limit && !this.fill()) return -1;
+
+            char c = this.buffer[this.position];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') return c;
+            this.position++;
+        }
+    }
+
+    /**
+     * Consumes the next non-whitespace character, which must be the expected one.
+     */
+    void expect(char expected) throws IOException {
+        int c = this.peek();
+        if (c != expected) throw this.error("Expected '" + expected + "' but found " + describe(c));
+        this.position++;
+    }
+
+    /**
+     * Consumes the next non-whitespace character if it is the given one.
+     *
+     * @return true if the character was consumed
+     */
+    boolean consume(char expected) throws IOException {
+        if (this.peek() != expected) return false;
+        this.position++;
+        return true;
+    }
+
+    String readString() throws IOException {
+        this.expect('"');
+        this.token.setLength(0);
+
+        while (true) {
+            if (this.position == this.limit && !this.fill()) throw this.error("Unterminated string");
+
+            int start = this.position;
+            while (this.position < this.limit) {
+                char c = this.buffer[this.position];
+                if (c == '"' || c == '\\') break;
+                this.position++;
+            }
+            this.token.append(this.buffer, start, this.position - start);
+
+            if (this.position == this.limit) continue;
+
+            char c = this.buffer[this.position++];
+            if (c == '"') return this.token.toString();
+            this.token.append(this.readEscape());
+        }
+    }
+
+    /**
+     * Reads a number token, leaving its text in a reused buffer.
+     *
+     * @return the characters of the number, valid until the next read
+     */
+    CharSequence readNumber() throws IOException {
+        int c = this.peek();
+        if (c != '-' && (c < '0' || c > '9')) throw this.error("Expected a number but found " + describe(c));
+
+        this.token.setLength(0);
+        while (true) {
+            if (this.position == this.limit && !this.fill()) break;
+
+            c = this.buffer[this.position];
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                this.token.append((char) c);
+                this.position++;
+            } else {
+                break;
+            }
+        }
+        return this.token;
+    }
+
+    boolean readBoolean() throws IOException {
+        int c = this.peek();
+        if (c == 't') {
+            this.readLiteral("true");
+            return true;
+        }
+        if (c == 'f') {
+            this.readLiteral("false");
+            return false;
+        }
+        throw this.error("Expected a boolean but found " + describe(c));
+    }
+
+    /**
+     * Consumes the null literal if it is the next value.
+     *
+     * @return true if the next value was null
+     */
+    boolean readNull() throws IOException {
+        if (this.peek() != 'n') return false;
+        this.readLiteral("null");
+        return true;
+    }
+
+    /**
+     * Skips the next value, including nested objects and arrays, without materializing it.
+     */
+    void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            int c = this.peek();
+            switch (c) {
+                case '{':
+                case '[':
+                    this.position++;
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    this.position++;
+                    depth--;
+                    break;
+                case ',':
+                case ':':
+                    this.position++;
+                    break;
+                case '"':
+                    this.skipString();
+                    break;
+                case 't':
+                    this.readLiteral("true");
+                    break;
+                case 'f':
+                    this.readLiteral("false");
+                    break;
+                case 'n':
+                    this.readLiteral("null");
+                    break;
+                case -1:
+                    throw this.error("Unexpected end of input");
+                default:
+                    this.readNumber();
+                    break;
+            }
+        } while (depth > 0);
+    }
+
+    ConversionException error(String message) {
+        return new ConversionException(message + " at offset " + (this.consumed + this.position));
+    }
+
+    private void skipString() throws IOException {
+        this.position++;
+        while (true) {
+            if (this.position == this.limit && !this.fill()) throw this.error("Unterminated string");
+
+            char c = this.buffer[this.position++];
+            if (c == '"') return;
+            if (c == '\\') this.readEscape();
+        }
+    }
+
+    private char readEscape() throws IOException {
+        char c = this.next();
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(this.next(), 16);
+                    if (digit < 0) throw this.error("Invalid unicode escape");
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            default:
+                throw this.error("Invalid escape '\\" + c + "'");
+        }
+    }
+
+    private void readLiteral(String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (this.next() != literal.charAt(i)) throw this.error("Expected '" + literal + "'");
+        }
+    }
+
+    private char next() throws IOException {
+        if (this.position == this.limit && !this.fill()) throw this.error("Unexpected end of input");
+        return this.buffer[this.position++];
+    }
+
+    private boolean fill() throws IOException {
+        this.consumed += this.limit;
+        this.position = 0;
+        this.limit = 0;
+
+        int read = this.in.read(this.buffer, 0, this.buffer.length);
+        if (read <= 0) return false;
+
+        this.limit = read;
+        return true;
+    }
+
+    private static String describe(int c) {
+        return c == -1 ? "end of input" : "'" + (char) c + "'";
+    }
+}
@@ -0,0 +1,347 @@
+package dev.bxlab.resultset.mapper.json;
+
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.exceptions.ConversionException;
+import dev.bxlab.resultset.mapper.exceptions.ObjectInstantiationException;
+import dev.bxlab.resultset.mapper.utils.ConverterUtils;
+import dev.bxlab.resultset.mapper.utils.ExceptionHandler;
+import dev.bxlab.resultset.mapper.utils.InstanceFactory;
+import dev.bxlab.resultset.mapper.utils.ReflectionUtils;
+import dev.bxlab.resultset.mapper.utils.ValueUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Dependency-free {@link JsonDecoder} that binds a character stream directly to the target type.
+ * <p>
+ * The document is read through a small buffer and bound as it is tokenized, without building an intermediate tree.
+ * Supported targets are records and classes (created through {@link ReflectionUtils} like mapped rows), strings,
+ * primitives and their wrappers, {@link BigDecimal}, {@link BigInteger}, enums (by name), {@link UUID}, ISO-8601
+ * {@link LocalDate}, {@link LocalDateTime}, {@link OffsetDateTime}, {@link ZonedDateTime} and {@link Instant} values,
+ * arrays, {@link List}, {@link Set}, {@link Collection}, {@link Map} with string keys, and {@link Object}, which is
+ * bound to maps, lists, strings, numbers and booleans.
+ * </p>
+ * <p>
+ * Object properties are matched to fields by name, or by the value of a {@link ColumnMapping} annotation on the
+ * field; static and transient fields are ignored. Unknown properties are skipped without being materialized. The
+ * property metadata of each type is computed once and cached. Null values for primitive fields leave the default
+ * value. Objects are created through an {@link InstanceFactory} resolved with the property metadata, from an array of
+ * property values. Malformed documents and values that do not match the target type fail with a
+ * {@link ConversionException}.
+ * </p>
+ * <p>
+ * Instances are stateless and can be shared between threads.
+ * </p>
+ */
+public final class StreamingJsonDecoder implements JsonDecoder {
+
+    /**
+     * Maximum nesting depth of objects and arrays.
+     */
+    public static final int MAX_DEPTH = 256;
+
+    private static final ClassValue<Binding> BINDINGS = new ClassValue<>() {
+        @Override
+        protected Binding computeValue(Class<?> type) {
+            return binding(type);
+        }
+    };
+
+    private static final ClassValue<Map<String, Object>> ENUM_CONSTANTS = new ClassValue<>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> type) {
+            Map<String, Object> constants = new HashMap<>();
+            for (Object constant : type.getEnumConstants()) constants.put(((Enum<?>) constant).name(), constant);
+            return Map.copyOf(constants);
+        }
+    };
+
+    /**
+     * Creates a decoder. Binding metadata is cached per type and shared by all instances.
+     */
+    public StreamingJsonDecoder() {
+    }
+
+    @Override
+    public Object decode(Reader reader, Type type) throws IOException {
+        ValueUtils.requireNonNull(reader, "Reader can not be null");
+        ValueUtils.requireNonNull(type, "Type can not be null");
+
+        JsonReader json = new JsonReader(reader);
+        Object value = this.read(json, type, 0);
+
+        if (json.peek() != -1) throw json.error("Unexpected content after the JSON value");
+        return value;
+    }
+
+    private Object read(JsonReader json, Type type, int depth) throws IOException {
+        if (json.readNull()) return null;
+        if (depth > MAX_DEPTH) throw json.error("Maximum nesting depth of " + MAX_DEPTH + " exceeded");
+
+        Class<?> rawType = rawType(type);
+
+        if (rawType == String.class) return json.readString();
+        if (rawType == Object.class) return this.readAny(json, depth);
+        if (rawType == boolean.class || rawType == Boolean.class) return json.readBoolean();
+        if (rawType == char.class || rawType == Character.class) return this.readCharacter(json);
+        if (rawType.isPrimitive() || Number.class.isAssignableFrom(rawType)) return this.readNumber(json, rawType);
+        if (rawType.isEnum()) return this.readEnum(json, rawType);
+        if (rawType.isArray()) return this.readArray(json, type, rawType, depth);
+        if (Collection.class.isAssignableFrom(rawType)) return this.readCollection(json, type, rawType, depth);
+        if (Map.class.isAssignableFrom(rawType)) return this.readMap(json, type, depth);
+
+        if (rawType == UUID.class || isTemporal(rawType)) return this.readText(json, rawType);
+
+        return this.readObject(json, rawType, depth);
+    }
+
+    private Object readObject(JsonReader json, Class<?> type, int depth) throws IOException {
+        Binding binding = BINDINGS.get(type);
+        Object[] values = binding.unsetValues.clone();
+
+        json.expect('{');
+        if (!json.consume('}')) {
+            do {
+                String name = json.readString();
+                json.expect(':');
+
+                Property property = binding.properties.get(name);
+                if (property == null) {
+                    json.skipValue();
+                    continue;
+                }
+
+                Object value = this.read(json, property.type, depth + 1);
+                if (value != null || !property.field.getType().isPrimitive()) values[property.index] = value;
+            } while (json.consume(','));
+            json.expect('}');
+        }
+
+        return ExceptionHandler.map(() -> binding.instanceFactory.newInstance(values),
+                (e) -> new ObjectInstantiationException(type, e));
+    }
+
+    private Object readAny(JsonReader json, int depth) throws IOException {
+        int c = json.peek();
+        if (c == '{') return this.readMap(json, Object.class, depth);
+        if (c == '[') return this.readCollection(json, Object.class, List.class, depth);
+        if (c == '"') return json.readString();
+        if (c == 't' || c == 'f') return json.readBoolean();
+
+        CharSequence number = json.readNumber();
+        for (int i = 0; i < number.length(); i++) {
+            char digit = number.charAt(i);
+            if (digit == '.' || digit == 'e' || digit == 'E') return Double.parseDouble(number.toString());
+        }
+
+        BigInteger integer = new BigInteger(number.toString());
+        return integer.bitLength() < Long.SIZE ? (Object) integer.longValue() : integer;
+    }
+
+    private Object readNumber(JsonReader json, Class<?> type) throws IOException {
+        String number = json.readNumber().toString();
+
+        try {
+            if (type == int.class || type == Integer.class) return Integer.parseInt(number);
+            if (type == long.class || type == Long.class) return Long.parseLong(number);
+            if (type == double.class || type == Double.class) return Double.parseDouble(number);
+            if (type == float.class || type == Float.class) return Float.parseFloat(number);
+            if (type == short.class || type == Short.class) return Short.parseShort(number);
+            if (type == byte.class || type == Byte.class) return Byte.parseByte(number);
+            if (type == BigDecimal.class || type == Number.class) return new BigDecimal(number);
+            if (type == BigInteger.class) return new BigInteger(number);
+        } catch (NumberFormatException e) {
+            throw new ConversionException("Invalid " + type.getSimpleName() + " value: " + number, e);
+        }
+
+        throw new ConversionException("Unsupported JSON target type: " + type.getName());
+    }
+
+    private Object readCharacter(JsonReader json) throws IOException {
+        String value = json.readString();
+        if (value.length() != 1) throw json.error("Expected a single character but found \"" + value + "\"");
+        return value.charAt(0);
+    }
+
+    private Object readEnum(JsonReader json, Class<?> type) throws IOException {
+        String name = json.readString();
+        Object constant = ENUM_CONSTANTS.get(type).get(name);
+        if (constant == null) throw json.error("Unknown value \"" + name + "\" for enum " + type.getName());
+        return constant;
+    }
+
+    private Object readText(JsonReader json, Class<?> type) throws IOException {
+        String value = json.readString();
+
+        try {
+            if (type == UUID.class) return ConverterUtils.toUuid(value);
+            if (type == LocalDate.class) return LocalDate.parse(value);
+            if (type == LocalDateTime.class) return LocalDateTime.parse(value);
+            if (type == OffsetDateTime.class) return OffsetDateTime.parse(value);
+            if (type == ZonedDateTime.class) return ZonedDateTime.parse(value);
+            return Instant.parse(value);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ConversionException("Invalid " + type.getSimpleName() + " value: " + value, e);
+        }
+    }
+
+    private Object readArray(JsonReader json, Type type, Class<?> rawType, int depth) throws IOException {
+        Type componentType = type instanceof GenericArrayType arrayType
+                ? arrayType.getGenericComponentType()
+                : rawType.getComponentType();
+
+        List<Object> elements = new ArrayList<>();
+        this.readElements(json, componentType, elements, depth);
+
+        Object array = Array.newInstance(rawType.getComponentType(), elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            Object element = elements.get(i);
+            if (element == null && rawType.getComponentType().isPrimitive())
+                throw new ConversionException("Null element " + i + " in " + rawType.getSimpleName());
+            Array.set(array, i, element);
+        }
+        return array;
+    }
+
+    private Object readCollection(JsonReader json, Type type, Class<?> rawType, int depth) throws IOException {
+        Collection<Object> collection;
+        if (rawType.isAssignableFrom(ArrayList.class)) collection = new ArrayList<>();
+        else if (rawType.isAssignableFrom(LinkedHashSet.class)) collection = new LinkedHashSet<>();
+        else throw new ConversionException("Unsupported JSON collection type: " + rawType.getName());
+
+        this.readElements(json, typeArgument(type, 0), collection, depth);
+        return collection;
+    }
+
+    private void readElements(JsonReader json, Type elementType, Collection<Object> elements, int depth) throws IOException {
+        json.expect('[');
+        if (json.consume(']')) return;
+
+        do {
+            elements.add(this.read(json, elementType, depth + 1));
+        } while (json.consume(','));
+        json.expect(']');
+    }
+
+    private Object readMap(JsonReader json, Type type, int depth) throws IOException {
+        if (rawType(typeArgument(type, 0)) != String.class && rawType(typeArgument(type, 0)) != Object.class)
+            throw new ConversionException("Unsupported JSON map key type: " + typeArgument(type, 0).getTypeName());
+
+        Type valueType = typeArgument(type, 1);
+        Map<String, Object> map = new LinkedHashMap<>();
+
+        json.expect('{');
+        if (json.consume('}')) return map;
+
+        do {
+            String key = json.readString();
+            json.expect(':');
+            map.put(key, this.read(json, valueType, depth + 1));
+        } while (json.consume(','));
+        json.expect('}');
+
+        return map;
+    }
+
+    private static boolean isTemporal(Class<?> type) {
+        return type == LocalDate.class || type == LocalDateTime.class || type == OffsetDateTime.class
+                || type == ZonedDateTime.class || type == Instant.class;
+    }
+
+    private static Type typeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType parameterizedType) {
+            Type[] arguments = parameterizedType.getActualTypeArguments();
+            if (index < arguments.length) return arguments[index];
+        }
+        return Object.class;
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> clazz) return clazz;
+        if (type instanceof ParameterizedType parameterizedType) return rawType(parameterizedType.getRawType());
+        if (type instanceof GenericArrayType arrayType)
+            return Array.newInstance(rawType(arrayType.getGenericComponentType()), 0).getClass();
+        if (type instanceof WildcardType wildcardType) return rawType(wildcardType.getUpperBounds()[0]);
+        if (type instanceof TypeVariable<?> variable) return rawType(variable.getBounds()[0]);
+        return Object.class;
+    }
+
+    private static Binding binding(Class<?> type) {
+        Map<String, Property> properties = new HashMap<>();
+        List<Field> fields = new ArrayList<>();
+
+        for (Field field : ReflectionUtils.getAllFields(type)) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) continue;
+
+            ColumnMapping mapping = field.getAnnotation(ColumnMapping.class);
+            String name = mapping != null && !mapping.value().isEmpty() ? mapping.value() : field.getName();
+
+            if (properties.containsKey(name)) continue;
+            properties.put(name, new Property(field, field.getGenericType(), fields.size()));
+            fields.add(field);
+        }
+
+        Object[] unsetValues = new Object[fields.size()];
+        Arrays.fill(unsetValues, InstanceFactory.UNSET);
+        return new Binding(Map.copyOf(properties), InstanceFactory.of(type, fields), unsetValues);
+    }
+
+    /**
+     * Binding metadata of an object type: its properties by name, and the factory creating instances from the
+     * property values, in property index order.
+     */
+    private static final class Binding {
+        private final Map<String, Property> properties;
+        private final InstanceFactory<?> instanceFactory;
+        private final Object[] unsetValues;
+
+        private Binding(Map<String, Property> properties, InstanceFactory<?> instanceFactory, Object[] unsetValues) {
+            this.properties = properties;
+            this.instanceFactory = instanceFactory;
+            this.unsetValues = unsetValues;
+        }
+    }
+
+    /**
+     * Binding metadata of an object property.
+     */
+    private static final class Property {
+        private final Field field;
+        private final Type type;
+        private final int index;
+
+        private Property(Field field, Type type, int index) {
+            this.field = field;
+            this.type = type;
+            this.index = index;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package dev.bxlab.resultset.mapper.utils;
 import dev.bxlab.resultset.mapper.converters.DefaultConverter;
 import dev.bxlab.resultset.mapper.converters.TypeConverter;
 
+import java.lang.reflect.Array;
+import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
@@ -12,10 +14,14 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 
 /**
- * Utility class for type conversions, primarily for date and time types.
+ * Utility class for type conversions, primarily for date and time types, UUIDs and SQL array elements.
  * Also provides a method to check if a {@link TypeConverter} is a {@link DefaultConverter}.
  */
 public final class ConverterUtils {
@@ -31,7 +37,19 @@ public final class ConverterUtils {
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static LocalDate toLocalDate(String value, String format) {
-        return LocalDate.parse(value, DateTimeFormatter.ofPattern(format));
+        return toLocalDate(value, DateTimeFormatter.ofPattern(format));
+    }
+
+    /**
+     * Converts a string value to a {@link LocalDate} using a precompiled formatter.
+     *
+     * @param value     the string value to convert
+     * @param formatter the formatter to parse the value with
+     * @return the parsed {@link LocalDate}
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static LocalDate toLocalDate(String value, DateTimeFormatter formatter) {
+        return LocalDate.parse(value, formatter);
     }
 
     /**
@@ -43,7 +61,19 @@ public final class ConverterUtils {
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static LocalDateTime toLocalDateTime(String value, String format) {
-        return LocalDateTime.parse(value, DateTimeFormatter.ofPattern(format));
+        return toLocalDateTime(value, DateTimeFormatter.ofPattern(format));
+    }
+
+    /**
+     * Converts a string value to a {@link LocalDateTime} using a precompiled formatter.
+     *
+     * @param value     the string value to convert
+     * @param formatter the formatter to parse the value with
+     * @return the parsed {@link LocalDateTime}
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static LocalDateTime toLocalDateTime(String value, DateTimeFormatter formatter) {
+        return LocalDateTime.parse(value, formatter);
     }
 
     /**
@@ -55,7 +85,19 @@ public final class ConverterUtils {
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static ZonedDateTime toZonedDateTime(String value, String format) {
-        return ZonedDateTime.parse(value, DateTimeFormatter.ofPattern(format)).withZoneSameInstant(ZoneOffset.UTC);
+        return toZonedDateTime(value, DateTimeFormatter.ofPattern(format));
+    }
+
+    /**
+     * Converts a string value to a {@link ZonedDateTime} using a precompiled formatter.
+     *
+     * @param value     the string value to convert
+     * @param formatter the formatter to parse the value with
+     * @return the parsed {@link ZonedDateTime}
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static ZonedDateTime toZonedDateTime(String value, DateTimeFormatter formatter) {
+        return ZonedDateTime.parse(value, formatter).withZoneSameInstant(ZoneOffset.UTC);
     }
 
     /**
@@ -67,7 +109,19 @@ public final class ConverterUtils {
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static OffsetDateTime toOffsetDateTime(String value, String format) {
-        return OffsetDateTime.parse(value, DateTimeFormatter.ofPattern(format)).withOffsetSameInstant(ZoneOffset.UTC);
+        return toOffsetDateTime(value, DateTimeFormatter.ofPattern(format));
+    }
+
+    /**
+     * Converts a string value to an {@link OffsetDateTime} using a precompiled formatter.
+     *
+     * @param value     the string value to convert
+     * @param formatter the formatter to parse the value with
+     * @return the parsed {@link OffsetDateTime}
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static OffsetDateTime toOffsetDateTime(String value, DateTimeFormatter formatter) {
+        return OffsetDateTime.parse(value, formatter).withOffsetSameInstant(ZoneOffset.UTC);
     }
 
     /**
@@ -79,14 +133,183 @@ public final class ConverterUtils {
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static Date toDate(String value, String format) {
-        SimpleDateFormat sdf = new SimpleDateFormat(format);
+        return toDate(value, new SimpleDateFormat(format));
+    }
+
+    /**
+     * Converts a string value to a {@link Date} using a date format.
+     * Date formats are not thread-safe, so the given format must not be shared between threads.
+     *
+     * @param value      the string value to convert
+     * @param dateFormat the date format to parse the value with
+     * @return the parsed {@link Date}
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Date toDate(String value, DateFormat dateFormat) {
         try {
-            return sdf.parse(value);
+            return dateFormat.parse(value);
         } catch (ParseException e) {
             throw new DateTimeParseException(e.getMessage(), value, e.getErrorOffset(), e);
         }
     }
 
+    /**
+     * Converts a 16-byte big-endian value, as stored in BINARY(16) or RAW(16) columns, to a {@link UUID}.
+     *
+     * @param bytes the 16 bytes of the UUID
+     * @return the UUID
+     * @throws IllegalArgumentException if the value is not 16 bytes long
+     */
+    public static UUID toUuid(byte[] bytes) {
+        if (bytes.length != 16) throw new IllegalArgumentException("Invalid UUID length: " + bytes.length + " bytes");
+
+        long mostSignificantBits = 0;
+        long leastSignificantBits = 0;
+        for (int i = 0; i < 8; i++) mostSignificantBits = (mostSignificantBits << 8) | (bytes[i] & 0xff);
+        for (int i = 8; i < 16; i++) leastSignificantBits = (leastSignificantBits << 8) | (bytes[i] & 0xff);
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Converts a hexadecimal string to a {@link UUID}.
+     * Accepts the canonical 36-character form ({@code 8-4-4-4-12} digits) and the 32-character form without dashes,
+     * in either case.
+     *
+     * @param value the string value to convert
+     * @return the UUID
+     * @throws IllegalArgumentException if the text is not a valid UUID
+     */
+    public static UUID toUuid(String value) {
+        int length = value.length();
+
+        if (length == 36) {
+            if (value.charAt(8) != '-' || value.charAt(13) != '-' || value.charAt(18) != '-' || value.charAt(23) != '-')
+                throw new IllegalArgumentException("Invalid UUID: " + value);
+
+            long mostSignificantBits = (parseHex(value, 0, 8) << 32) | (parseHex(value, 9, 13) << 16) | parseHex(value, 14, 18);
+            long leastSignificantBits = (parseHex(value, 19, 23) << 48) | parseHex(value, 24, 36);
+            return new UUID(mostSignificantBits, leastSignificantBits);
+        }
+
+        if (length == 32) return new UUID(parseHex(value, 0, 16), parseHex(value, 16, 32));
+
+        throw new IllegalArgumentException("Invalid UUID: " + value);
+    }
+
+    /**
+     * Parses up to 16 hexadecimal digits of a string.
+     *
+     * @param value the string containing the digits
+     * @param start the index of the first digit, inclusive
+     * @param end   the index of the last digit, exclusive
+     * @return the parsed bits
+     * @throws IllegalArgumentException if a character is not a hexadecimal digit
+     */
+    private static long parseHex(String value, int start, int end) {
+        long bits = 0;
+        for (int i = start; i < end; i++) {
+            int digit = Character.digit(value.charAt(i), 16);
+            if (digit < 0) throw new IllegalArgumentException("Invalid UUID: " + value);
+            bits = (bits << 4) | digit;
+        }
+        return bits;
+    }
+
+    /**
+     * Converts the elements of a SQL array, as returned by {@link java.sql.Array#getArray()}, to an {@code int[]}.
+     * Primitive arrays of the same type are returned as is, other arrays are copied into a right-sized array.
+     *
+     * @param elements the array elements
+     * @return the elements as an int array
+     * @throws IllegalArgumentException if an element is null
+     * @throws ClassCastException       if an element is not a number
+     */
+    public static int[] toIntArray(Object elements) {
+        if (elements instanceof int[] ints) return ints;
+
+        int[] values = new int[Array.getLength(elements)];
+        for (int i = 0; i < values.length; i++) values[i] = requireElement(elements, i).intValue();
+        return values;
+    }
+
+    /**
+     * Converts the elements of a SQL array, as returned by {@link java.sql.Array#getArray()}, to a {@code long[]}.
+     * Primitive arrays of the same type are returned as is, other arrays are copied into a right-sized array.
+     *
+     * @param elements the array elements
+     * @return the elements as a long array
+     * @throws IllegalArgumentException if an element is null
+     * @throws ClassCastException       if an element is not a number
+     */
+    public static long[] toLongArray(Object elements) {
+        if (elements instanceof long[] longs) return longs;
+
+        long[] values = new long[Array.getLength(elements)];
+        for (int i = 0; i < values.length; i++) values[i] = requireElement(elements, i).longValue();
+        return values;
+    }
+
+    /**
+     * Converts the elements of a SQL array, as returned by {@link java.sql.Array#getArray()}, to a {@code double[]}.
+     * Primitive arrays of the same type are returned as is, other arrays are copied into a right-sized array.
+     *
+     * @param elements the array elements
+     * @return the elements as a double array
+     * @throws IllegalArgumentException if an element is null
+     * @throws ClassCastException       if an element is not a number
+     */
+    public static double[] toDoubleArray(Object elements) {
+        if (elements instanceof double[] doubles) return doubles;
+
+        double[] values = new double[Array.getLength(elements)];
+        for (int i = 0; i < values.length; i++) values[i] = requireElement(elements, i).doubleValue();
+        return values;
+    }
+
+    /**
+     * Converts the elements of a SQL array, as returned by {@link java.sql.Array#getArray()}, to a {@code String[]}.
+     * String arrays are returned as is, other elements are converted with {@link Object#toString()}.
+     *
+     * @param elements the array elements
+     * @return the elements as a string array, with null elements preserved
+     */
+    public static String[] toStringArray(Object elements) {
+        if (elements instanceof String[] strings) return strings;
+
+        String[] values = new String[Array.getLength(elements)];
+        for (int i = 0; i < values.length; i++) {
+            Object element = element(elements, i);
+            values[i] = element == null ? null : element.toString();
+        }
+        return values;
+    }
+
+    /**
+     * Converts the elements of a SQL array, as returned by {@link java.sql.Array#getArray()}, to an unmodifiable
+     * {@link List}. Object arrays are wrapped without copying, primitive arrays are boxed.
+     *
+     * @param elements the array elements
+     * @return the elements as an unmodifiable list, with null elements preserved
+     */
+    public static List<Object> toList(Object elements) {
+        if (elements instanceof Object[] objects) return Collections.unmodifiableList(Arrays.asList(objects));
+
+        Object[] values = new Object[Array.getLength(elements)];
+        for (int i = 0; i < values.length; i++) values[i] = Array.get(elements, i);
+        return Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    private static Object element(Object elements, int index) {
+        return elements instanceof Object[] objects ? objects[index] : Array.get(elements, index);
+    }
+
+    private static Number requireElement(Object elements, int index) {
+        Object element = element(elements, index);
+        if (element == null) throw new IllegalArgumentException("Array element " + index + " is null");
+        return (Number) element;
+    }
+
     /**
      * Checks if the given {@link TypeConverter} is an instance of {@link DefaultConverter}.
      *
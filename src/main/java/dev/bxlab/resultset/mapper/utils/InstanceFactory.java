@@ -0,0 +1,64 @@
+package dev.bxlab.resultset.mapper.utils;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Creates instances of a class from the values of a fixed list of fields.
+ * <p>
+ * The position of each field among the constructor parameters is resolved once, so creating an instance takes the
+ * values as an array in field order instead of a map. Instances are created as described by
+ * {@link ReflectionUtils#createInstanceWithValues(Class, java.util.Map)}. A factory is immutable and can be shared
+ * between threads.
+ * </p>
+ *
+ * @param <T> the type of the created instances
+ */
+public final class InstanceFactory<T> {
+
+    /**
+     * Marker of a field without a value: its constructor parameter receives the default value of its type, and the
+     * field is not written after construction.
+     */
+    public static final Object UNSET = new Object() {
+        @Override
+        public String toString() {
+            return "UNSET";
+        }
+    };
+
+    private final Class<T> type;
+    private final InstantiationPlan plan;
+    private final Field[] fields;
+    private final int[] parameters;
+
+    private InstanceFactory(Class<T> type, List<Field> fields) {
+        this.type = type;
+        this.plan = InstantiationPlan.of(type);
+        this.fields = fields.toArray(new Field[0]);
+        this.parameters = this.plan.parameterIndexes(this.fields);
+    }
+
+    /**
+     * Creates a factory of instances of a class populated from the given fields.
+     *
+     * @param type   the class to instantiate
+     * @param fields the fields whose values are passed to {@link #newInstance(Object[])}, in order
+     * @param <T>    the type of the class
+     * @return a new instance factory
+     */
+    public static <T> InstanceFactory<T> of(Class<T> type, List<Field> fields) {
+        return new InstanceFactory<>(type, fields);
+    }
+
+    /**
+     * Creates an instance populated with the given values.
+     *
+     * @param values the field values, in the order of the factory fields; {@link #UNSET} leaves a field unset
+     * @return a new instance
+     * @throws ReflectiveOperationException if the instance cannot be created or a field cannot be set
+     */
+    public T newInstance(Object[] values) throws ReflectiveOperationException {
+        return this.type.cast(this.plan.newInstance(this.fields, this.parameters, values));
+    }
+}
@@ -0,0 +1,296 @@
+package dev.bxlab.resultset.mapper.utils;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cached plan to create instances of a class from field values.
+ * <p>
+ * Records are created through their canonical constructor. Regular classes are created through an all-args
+ * constructor when one can be matched to the fields, either by a {@code java.beans.ConstructorProperties} annotation
+ * or by parameter names (classes compiled with {@code -parameters}); otherwise through their no-arg constructor
+ * followed by reflective field writes. Constructors are invoked through a {@link MethodHandle} resolved once per class.
+ * A class that can not be instantiated gets a plan that fails with the same exception on every call.
+ * </p>
+ */
+final class InstantiationPlan {
+
+    private static final String CONSTRUCTOR_PROPERTIES = "java.beans.ConstructorProperties";
+
+    private static final ClassValue<InstantiationPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected InstantiationPlan computeValue(Class<?> type) {
+            return new InstantiationPlan(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final MethodHandle constructor;
+    private final boolean allArgs;
+    private final Field[] parameterFields;
+    private final Object[] defaultArguments;
+    private final ReflectiveOperationException failure;
+
+    private InstantiationPlan(Class<?> type) {
+        this.type = type;
+
+        Constructor<?> selected = null;
+        String[] parameterNames = null;
+        ReflectiveOperationException error = null;
+
+        try {
+            if (type.isRecord()) {
+                RecordComponent[] components = type.getRecordComponents();
+                selected = type.getDeclaredConstructor(Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new));
+                parameterNames = Arrays.stream(components).map(RecordComponent::getName).toArray(String[]::new);
+            } else {
+                for (Constructor<?> candidate : type.getDeclaredConstructors()) {
+                    String[] names = constructorProperties(candidate);
+                    if (names != null && (selected == null || names.length > parameterNames.length)) {
+                        selected = candidate;
+                        parameterNames = names;
+                    }
+                }
+
+                if (selected == null && !hasNoArgConstructor(type)) {
+                    Constructor<?>[] constructors = type.getDeclaredConstructors();
+                    if (constructors.length == 1 && Arrays.stream(constructors[0].getParameters()).allMatch(Parameter::isNamePresent)) {
+                        selected = constructors[0];
+                        parameterNames = Arrays.stream(selected.getParameters()).map(Parameter::getName).toArray(String[]::new);
+                    }
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            error = e;
+        }
+
+        MethodHandle handle = null;
+        Field[] fields = null;
+        Object[] defaults = null;
+
+        if (selected == null && error == null) {
+            try {
+                Constructor<?> noArgConstructor = type.getDeclaredConstructor();
+                noArgConstructor.setAccessible(true);
+                handle = MethodHandles.lookup().unreflectConstructor(noArgConstructor)
+                        .asType(MethodType.methodType(Object.class));
+            } catch (ReflectiveOperationException e) {
+                error = e;
+            } catch (RuntimeException e) {
+                error = new IllegalAccessException("Constructor of " + type.getName() + " is not accessible: " + e.getMessage());
+            }
+        } else if (selected != null) {
+            try {
+                selected.setAccessible(true);
+                handle = MethodHandles.lookup().unreflectConstructor(selected);
+                handle = handle.asSpreader(Object[].class, parameterNames.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+
+                Map<String, Field> fieldsByName = new HashMap<>();
+                for (Field field : ReflectionUtils.getAllFields(type)) fieldsByName.putIfAbsent(field.getName(), field);
+
+                Class<?>[] parameterTypes = selected.getParameterTypes();
+                fields = new Field[parameterNames.length];
+                defaults = new Object[parameterNames.length];
+                for (int i = 0; i < parameterNames.length; i++) {
+                    fields[i] = fieldsByName.get(parameterNames[i]);
+                    defaults[i] = ReflectionUtils.getDefaultValue(parameterTypes[i]);
+                }
+            } catch (IllegalAccessException | RuntimeException e) {
+                error = new IllegalAccessException("Constructor of " + type.getName() + " is not accessible: " + e.getMessage());
+                handle = null;
+            }
+        }
+
+        this.constructor = handle;
+        this.allArgs = fields != null;
+        this.parameterFields = fields;
+        this.defaultArguments = defaults;
+        this.failure = error;
+    }
+
+    /**
+     * Gets the cached plan of a class.
+     *
+     * @param type the class to instantiate
+     * @return the instantiation plan
+     */
+    static InstantiationPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Checks whether instances are created through a constructor taking the field values.
+     *
+     * @return true if a record or all-args constructor is used, false if field writes are used
+     */
+    boolean usesConstructor() {
+        return this.allArgs;
+    }
+
+    /**
+     * Creates an instance populated with the given field values.
+     * Constructor parameters without a value receive the default value of their type, and values of fields that
+     * are not constructor parameters are written to the fields after construction.
+     *
+     * @param values a map of fields to their corresponding values
+     * @return a new instance
+     * @throws ReflectiveOperationException if the instance cannot be created or a field cannot be set
+     */
+    Object newInstance(Map<Field, Object> values) throws ReflectiveOperationException {
+        if (this.failure != null) throw this.failure;
+
+        if (!this.allArgs) {
+            Object instance = this.invoke();
+            for (Map.Entry<Field, Object> entry : values.entrySet()) {
+                ReflectionUtils.setFieldValue(instance, entry.getKey(), entry.getValue());
+            }
+            return instance;
+        }
+
+        Object[] arguments = this.defaultArguments.clone();
+        int assigned = 0;
+        for (int i = 0; i < arguments.length; i++) {
+            Field field = this.parameterFields[i];
+            if (field == null || !values.containsKey(field)) continue;
+
+            Object value = values.get(field);
+            if (value != null || !field.getType().isPrimitive()) arguments[i] = value;
+            assigned++;
+        }
+
+        Object instance = this.invokeWith(arguments);
+
+        if (assigned < values.size()) {
+            List<Field> parameters = Arrays.asList(this.parameterFields);
+            for (Map.Entry<Field, Object> entry : values.entrySet()) {
+                if (!parameters.contains(entry.getKey())) ReflectionUtils.setFieldValue(instance, entry.getKey(), entry.getValue());
+            }
+        }
+
+        return instance;
+    }
+
+    /**
+     * Resolves the constructor parameter position of each field.
+     *
+     * @param fields the fields to resolve
+     * @return the parameter index of each field, or -1 for fields written after construction
+     */
+    int[] parameterIndexes(Field[] fields) {
+        List<Field> parameters = this.allArgs ? Arrays.asList(this.parameterFields) : List.of();
+
+        int[] indexes = new int[fields.length];
+        for (int i = 0; i < fields.length; i++) indexes[i] = parameters.indexOf(fields[i]);
+        return indexes;
+    }
+
+    /**
+     * Creates an instance populated with values given in field order, with the parameter positions resolved by
+     * {@link #parameterIndexes(Field[])}. Behaves as {@link #newInstance(Map)} with the fields whose value is not
+     * {@link InstanceFactory#UNSET}.
+     *
+     * @param fields     the fields
+     * @param parameters the parameter index of each field
+     * @param values     the value of each field
+     * @return a new instance
+     * @throws ReflectiveOperationException if the instance cannot be created or a field cannot be set
+     */
+    Object newInstance(Field[] fields, int[] parameters, Object[] values) throws ReflectiveOperationException {
+        if (this.failure != null) throw this.failure;
+
+        if (!this.allArgs) {
+            Object instance = this.invoke();
+            for (int i = 0; i < fields.length; i++) {
+                if (values[i] != InstanceFactory.UNSET) ReflectionUtils.setFieldValue(instance, fields[i], values[i]);
+            }
+            return instance;
+        }
+
+        Object[] arguments = this.defaultArguments.clone();
+        boolean fieldWrites = false;
+        for (int i = 0; i < fields.length; i++) {
+            Object value = values[i];
+            if (value == InstanceFactory.UNSET) continue;
+
+            if (parameters[i] < 0) {
+                fieldWrites = true;
+            } else if (value != null || !fields[i].getType().isPrimitive()) {
+                arguments[parameters[i]] = value;
+            }
+        }
+
+        Object instance = this.invokeWith(arguments);
+
+        if (fieldWrites) {
+            for (int i = 0; i < fields.length; i++) {
+                if (parameters[i] < 0 && values[i] != InstanceFactory.UNSET) ReflectionUtils.setFieldValue(instance, fields[i], values[i]);
+            }
+        }
+
+        return instance;
+    }
+
+    private Object invoke() throws ReflectiveOperationException {
+        try {
+            return (Object) this.constructor.invokeExact();
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private Object invokeWith(Object[] arguments) throws ReflectiveOperationException {
+        try {
+            return (Object) this.constructor.invokeExact(arguments);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private static boolean hasNoArgConstructor(Class<?> type) {
+        try {
+            type.getDeclaredConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the parameter names declared by a {@code java.beans.ConstructorProperties} annotation.
+     * The annotation is matched by name, so the {@code java.desktop} module is not required at runtime.
+     *
+     * @param constructor the constructor to inspect
+     * @return the parameter names, or null if the constructor is not annotated
+     */
+    private static String[] constructorProperties(Constructor<?> constructor) {
+        for (Annotation annotation : constructor.getDeclaredAnnotations()) {
+            if (!annotation.annotationType().getName().equals(CONSTRUCTOR_PROPERTIES)) continue;
+
+            try {
+                Method value = annotation.annotationType().getMethod("value");
+                String[] names = (String[]) value.invoke(annotation);
+                return names.length == constructor.getParameterCount() ? names : null;
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
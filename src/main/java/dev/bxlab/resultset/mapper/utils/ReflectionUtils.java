@@ -6,7 +6,6 @@ import java.lang.reflect.RecordComponent;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -92,7 +91,14 @@ public final class ReflectionUtils {
 
     /**
      * Creates an instance of the given class and populates its fields with the provided values.
-     * Handles both regular classes and records.
+     * <p>
+     * Records are created through their canonical constructor. Regular classes are created through an all-args
+     * constructor when its parameters can be matched to fields, by a {@code java.beans.ConstructorProperties}
+     * annotation or, for a class with a single constructor and no no-arg constructor, by parameter names (which
+     * requires compiling with {@code -parameters}). Other classes are created with their no-arg constructor and
+     * their fields are written reflectively. Constructor parameters without a value receive the default value of
+     * their type. The constructor is resolved once per class and invoked through a cached method handle.
+     * </p>
      *
      * @param clazz  the class to instantiate
      * @param values a map of fields to their corresponding values
@@ -101,11 +107,19 @@ public final class ReflectionUtils {
      * @throws ReflectiveOperationException if an instance cannot be created or fields cannot be set
      */
     public static <T> T createInstanceWithValues(Class<T> clazz, Map<Field, Object> values) throws ReflectiveOperationException {
-        if (clazz.isRecord()) {
-            return createRecordInstanceWithValues(clazz, values);
-        } else {
-            return createClassInstanceWithValues(clazz, values);
-        }
+        return clazz.cast(InstantiationPlan.of(clazz).newInstance(values));
+    }
+
+    /**
+     * Checks whether instances of a class are created through a constructor taking the field values, rather than
+     * through a no-arg constructor and field writes.
+     *
+     * @param clazz the class to check
+     * @return true if a record canonical constructor or an all-args constructor is used
+     * @see #createInstanceWithValues(Class, Map)
+     */
+    public static boolean isConstructorInstantiated(Class<?> clazz) {
+        return InstantiationPlan.of(clazz).usesConstructor();
     }
 
     /**
@@ -132,71 +146,13 @@ public final class ReflectionUtils {
         return field.getType().isPrimitive();
     }
 
-    /**
-     * Creates an instance of a regular (non-record) class and populates its fields with the provided values.
-     * Uses the no-argument constructor to create the instance.
-     *
-     * @param clazz  the class to instantiate
-     * @param values a map of fields to their corresponding values
-     * @param <T>    the type of the class
-     * @return a new instance of the class with fields populated
-     * @throws ReflectiveOperationException if an instance cannot be created or fields cannot be set
-     */
-    private static <T> T createClassInstanceWithValues(Class<T> clazz, Map<Field, Object> values) throws ReflectiveOperationException {
-        T instance = clazz.getDeclaredConstructor().newInstance();
-        for (Map.Entry<Field, Object> entry : values.entrySet()) {
-            Field field = entry.getKey();
-            Object value = entry.getValue();
-            setFieldValue(instance, field, value);
-        }
-        return instance;
-    }
-
-    /**
-     * Creates an instance of a record class and populates its components with the provided values.
-     * Uses the canonical constructor. If a value for a component is not provided, its default value is used.
-     *
-     * @param clazz  the record class to instantiate
-     * @param values a map of fields (corresponding to record components) to their values
-     * @param <T>    the type of the record class
-     * @return a new instance of the record class with components populated
-     * @throws ReflectiveOperationException if an instance cannot be created
-     */
-    private static <T> T createRecordInstanceWithValues(Class<T> clazz, Map<Field, Object> values) throws ReflectiveOperationException {
-        Map<String, Object> valuesByFieldName = new HashMap<>();
-
-        for (Map.Entry<Field, Object> entry : values.entrySet()) {
-            valuesByFieldName.put(entry.getKey().getName(), entry.getValue());
-        }
-
-        RecordComponent[] components = clazz.getRecordComponents();
-        Object[] constructorArgs = new Object[components.length];
-
-        for (int i = 0; i < components.length; i++) {
-            RecordComponent component = components[i];
-            String fieldName = component.getName();
-
-            if (valuesByFieldName.containsKey(fieldName)) {
-                constructorArgs[i] = valuesByFieldName.get(fieldName);
-            } else {
-                constructorArgs[i] = getDefaultValue(component.getType());
-            }
-        }
-
-        Constructor<T> constructor = clazz.getDeclaredConstructor(
-                Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new)
-        );
-
-        return constructor.newInstance(constructorArgs);
-    }
-
     /**
      * Gets the default value for a given primitive type or null for object types.
      *
      * @param type the class representing the type
      * @return the default value (e.g., 0 for int, false for boolean, null for objects)
      */
-    private static Object getDefaultValue(Class<?> type) {
+    static Object getDefaultValue(Class<?> type) {
         if (type.isPrimitive()) {
             if (type == boolean.class) return false;
             if (type == char.class) return '\u0000';
@@ -0,0 +1,189 @@
+package dev.bxlab.resultset.mapper.utils;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+/**
+ * Utility class for estimating the memory footprint of column values.
+ * Estimates are approximations meant for sizing buffers and budgets, not exact measurements.
+ */
+public final class SizeEstimator {
+
+    /**
+     * Estimated width used for variable length columns whose precision is unknown or unbounded.
+     */
+    public static final int DEFAULT_VARIABLE_WIDTH = 256;
+
+    /**
+     * Precision from which a variable length column is considered unbounded (TEXT, CLOB, etc.).
+     * Drivers report such columns with very large precisions that say nothing about the actual values.
+     */
+    public static final int UNBOUNDED_PRECISION = 64 * 1024;
+
+    /**
+     * Estimated per-value overhead of the object holding a column value.
+     */
+    private static final int VALUE_OVERHEAD = 16;
+
+    /**
+     * Estimated size of a reference held in a field.
+     */
+    private static final int REFERENCE_SIZE = 4;
+
+    private SizeEstimator() {
+    }
+
+    /**
+     * Estimates the width in bytes of a column value from its JDBC type and precision.
+     *
+     * @param sqlType   the column type as defined in {@link Types}
+     * @param precision the column precision as reported by the metadata, or 0 if unknown
+     * @return the estimated width in bytes
+     */
+    public static int estimateColumnWidth(int sqlType, int precision) {
+        switch (sqlType) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+            case Types.TINYINT:
+                return VALUE_OVERHEAD + 1;
+            case Types.SMALLINT:
+                return VALUE_OVERHEAD + 2;
+            case Types.INTEGER:
+            case Types.REAL:
+                return VALUE_OVERHEAD + 4;
+            case Types.BIGINT:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.DATE:
+            case Types.TIME:
+                return VALUE_OVERHEAD + 8;
+            case Types.TIMESTAMP:
+            case Types.TIME_WITH_TIMEZONE:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return VALUE_OVERHEAD + 16;
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return VALUE_OVERHEAD + 24 + variableWidth(precision, 1) / 2;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.CLOB:
+            case Types.NCLOB:
+            case Types.SQLXML:
+                return VALUE_OVERHEAD + 24 + variableWidth(precision, 2);
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return VALUE_OVERHEAD + variableWidth(precision, 1);
+            default:
+                return VALUE_OVERHEAD + DEFAULT_VARIABLE_WIDTH;
+        }
+    }
+
+    /**
+     * Estimates the width in bytes of a value of the given Java type, as held on the heap after mapping.
+     *
+     * @param type the Java type of the value
+     * @return the estimated width in bytes
+     */
+    public static int estimateTypeWidth(Class<?> type) {
+        if (type == boolean.class || type == byte.class) return 1;
+        if (type == short.class || type == char.class) return 2;
+        if (type == int.class || type == float.class) return 4;
+        if (type == long.class || type == double.class) return 8;
+        if (type == Boolean.class || type == Short.class || type == Integer.class || type == Float.class) return VALUE_OVERHEAD;
+        if (type == Long.class || type == Double.class) return VALUE_OVERHEAD + 8;
+        if (type == BigDecimal.class) return VALUE_OVERHEAD + 40;
+        if (type == LocalDate.class) return VALUE_OVERHEAD + 8;
+        if (type == LocalDateTime.class || Date.class.isAssignableFrom(type)) return VALUE_OVERHEAD + 40;
+        if (type == OffsetDateTime.class || type == ZonedDateTime.class) return VALUE_OVERHEAD + 64;
+        if (type == UUID.class) return VALUE_OVERHEAD + 16;
+        if (type == String.class) return VALUE_OVERHEAD + 24 + 32;
+        return VALUE_OVERHEAD + 64;
+    }
+
+    /**
+     * Estimates the retained heap size of a value, using the actual length of strings and primitive arrays.
+     *
+     * @param value the value to estimate, may be null
+     * @return the estimated size in bytes, 0 for null values
+     */
+    public static long estimateValueSize(Object value) {
+        if (value == null) return 0;
+        if (value instanceof String string) return VALUE_OVERHEAD + 24 + string.length();
+        if (value instanceof byte[] bytes) return VALUE_OVERHEAD + bytes.length;
+        if (value instanceof int[] ints) return VALUE_OVERHEAD + 4L * ints.length;
+        if (value instanceof long[] longs) return VALUE_OVERHEAD + 8L * longs.length;
+        if (value instanceof double[] doubles) return VALUE_OVERHEAD + 8L * doubles.length;
+        return estimateTypeWidth(value.getClass());
+    }
+
+    /**
+     * Creates a function estimating the retained heap size of objects from the values of the given fields.
+     * Reference fields are estimated from their actual values; fields that can not be read are estimated from their
+     * declared type, so the function never fails for a field.
+     *
+     * @param fields the fields of the estimated objects
+     * @return a function returning the estimated size of an object in bytes
+     */
+    public static ToLongFunction<Object> forFields(List<Field> fields) {
+        ValueUtils.requireNonNull(fields, "Fields can not be null");
+
+        Field[] readableFields = fields.toArray(Field[]::new);
+        boolean[] readable = new boolean[readableFields.length];
+        for (int i = 0; i < readableFields.length; i++) readable[i] = trySetAccessible(readableFields[i]);
+
+        return value -> {
+            long size = VALUE_OVERHEAD;
+            for (int i = 0; i < readableFields.length; i++) {
+                Class<?> type = readableFields[i].getType();
+                if (type.isPrimitive()) {
+                    size += estimateTypeWidth(type);
+                    continue;
+                }
+
+                size += REFERENCE_SIZE;
+                try {
+                    size += readable[i] ? estimateValueSize(readableFields[i].get(value)) : estimateTypeWidth(type);
+                } catch (IllegalAccessException | RuntimeException e) {
+                    size += estimateTypeWidth(type);
+                }
+            }
+            return size;
+        };
+    }
+
+    private static boolean trySetAccessible(Field field) {
+        try {
+            field.setAccessible(true);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Estimates the width of a variable length value from its declared precision.
+     *
+     * @param precision    the declared precision, or 0 if unknown
+     * @param bytesPerUnit the number of bytes used by each unit of precision
+     * @return the estimated width in bytes, or {@link #DEFAULT_VARIABLE_WIDTH} for unknown or unbounded precisions
+     */
+    private static int variableWidth(int precision, int bytesPerUnit) {
+        if (precision <= 0 || precision >= UNBOUNDED_PRECISION) return DEFAULT_VARIABLE_WIDTH;
+        return precision * bytesPerUnit;
+    }
+}
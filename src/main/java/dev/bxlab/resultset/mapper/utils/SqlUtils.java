@@ -0,0 +1,51 @@
+package dev.bxlab.resultset.mapper.utils;
+
+import dev.bxlab.resultset.mapper.configs.IdentifierQuoting;
+
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Utility class for rendering SQL fragments from resolved column names and classifying SQL errors.
+ */
+public final class SqlUtils {
+
+    private SqlUtils() {
+    }
+
+    /**
+     * Renders a comma-separated column list, optionally qualified with a table alias.
+     *
+     * @param columns    the column names to render
+     * @param tableAlias the table alias used to qualify each column, or null to leave columns unqualified
+     * @param quoting    the quoting style applied to columns and alias
+     * @return the rendered column list
+     * @throws IllegalArgumentException if the column list is empty or the alias is blank
+     */
+    public static String columnList(List<String> columns, String tableAlias, IdentifierQuoting quoting) {
+        ValueUtils.requireNonEmpty(columns, "Columns can not be empty");
+        ValueUtils.requireNonNull(quoting, "Quoting can not be null");
+        if (tableAlias != null) ValueUtils.requireNonEmpty(tableAlias, "Table alias can not be empty");
+
+        String prefix = tableAlias == null ? "" : quoting.quote(tableAlias) + ".";
+
+        StringJoiner joiner = new StringJoiner(", ");
+        for (String column : columns) joiner.add(prefix + quoting.quote(column));
+        return joiner.toString();
+    }
+
+    /**
+     * Checks whether an exception reports invalid data rather than a failure of the connection or the statement:
+     * either a {@link SQLDataException} or an SQLState of class {@code 22} (data exception).
+     *
+     * @param exception the exception to check
+     * @return true if the exception is a data exception
+     */
+    public static boolean isDataException(SQLException exception) {
+        if (exception instanceof SQLDataException) return true;
+        String state = exception.getSQLState();
+        return state != null && state.startsWith("22");
+    }
+}
@@ -0,0 +1,99 @@
+package dev.bxlab.resultset.mapper.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded dictionary that canonicalizes equal strings to a single instance.
+ * <p>
+ * Intended for low-cardinality columns (status codes, country codes, currencies) whose values are otherwise
+ * materialized as a new {@link String} for every row. The dictionary keeps at most {@code maxSize} distinct values;
+ * when a new value would exceed that bound the column is considered high-cardinality, the dictionary is cleared and
+ * deduplication is disabled for the lifetime of the instance, so values are returned unchanged at the cost of a
+ * single volatile read.
+ * </p>
+ * <p>
+ * Instances are thread-safe.
+ * </p>
+ */
+public final class StringDeduplicator {
+
+    /**
+     * Default maximum number of distinct values kept before deduplication is disabled.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final int maxSize;
+    private final Map<String, String> values;
+    private volatile boolean disabled;
+
+    /**
+     * Creates a dictionary with the {@link #DEFAULT_MAX_SIZE default} maximum size.
+     */
+    public StringDeduplicator() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a dictionary with the given maximum size.
+     *
+     * @param maxSize the maximum number of distinct values kept before deduplication is disabled
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public StringDeduplicator(int maxSize) {
+        if (maxSize <= 0) throw new IllegalArgumentException("Maximum size must be positive");
+
+        this.maxSize = maxSize;
+        this.values = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the canonical instance of a value.
+     *
+     * @param value the value to canonicalize, may be null
+     * @return the canonical instance equal to the value, or the value itself if it is null, it is seen for the first
+     * time, or deduplication is disabled
+     */
+    public String canonicalize(String value) {
+        if (value == null || this.disabled) return value;
+
+        String canonical = this.values.get(value);
+        if (canonical != null) return canonical;
+
+        if (this.values.size() >= this.maxSize) {
+            this.disabled = true;
+            this.values.clear();
+            return value;
+        }
+
+        canonical = this.values.putIfAbsent(value, value);
+        return canonical != null ? canonical : value;
+    }
+
+    /**
+     * Checks whether deduplication is still active.
+     *
+     * @return false if deduplication was disabled because the observed cardinality exceeded the maximum size
+     */
+    public boolean isEnabled() {
+        return !this.disabled;
+    }
+
+    /**
+     * Gets the number of distinct values currently kept.
+     *
+     * @return the dictionary size
+     */
+    public int size() {
+        return this.values.size();
+    }
+
+    /**
+     * Gets the maximum number of distinct values kept before deduplication is disabled.
+     *
+     * @return the maximum size
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+}
@@ -0,0 +1,258 @@
+package dev.bxlab.resultset.mapper;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import dev.bxlab.resultset.mapper.configs.FieldConfig;
+import dev.bxlab.resultset.mapper.converters.BoundConverter;
+import dev.bxlab.resultset.mapper.converters.StandardConverters;
+import dev.bxlab.resultset.mapper.converters.TypeConverter;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.FieldMapping;
+import dev.bxlab.resultset.mapper.core.PreparedRowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.beans.ConstructorProperties;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation regression tests: bounds on the bytes allocated per row, measured with the per-thread allocation
+ * counter of {@link com.sun.management.ThreadMXBean}.
+ * <p>
+ * The synthetic result sets are dynamic proxies that allocate on every call, so each measurement subtracts a baseline
+ * doing the same result set calls. What is left is the allocation added by the code under test, compared with the
+ * expected bytes per row plus {@link #SLACK} for per-call costs such as preparing the mapper. A per-row
+ * {@code Optional}, {@code HashMap} or capturing lambda exceeds the slack and makes these tests fail. The expected
+ * sizes are those of a HotSpot JVM with compressed object pointers; the tests are skipped on other JVMs. They run in
+ * the {@code allocationTest} task, not in {@code test}.
+ * </p>
+ */
+@Tag("allocation")
+class AllocationTest {
+
+    private static final int ROWS = 10_000;
+    private static final int RUNS = 10;
+    private static final int SLACK = 8;
+
+    private static final List<String> COLUMNS = List.of("id", "name", "amount", "quantity", "created_at", "active");
+    private static final List<Object[]> ROW_VALUES = rows();
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    static void requireAllocationCounter() {
+        assumeTrue(compressedOops(), "Expected sizes assume compressed object pointers");
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+    }
+
+    @Test
+    void standardConvertersShouldOnlyAllocateTheirValue() throws SQLException {
+        assertConverter(StandardConverters.STRING, "text", 0, rs -> rs.getString("value"));
+        assertConverter(StandardConverters.BIG_DECIMAL, new BigDecimal("12.50"), 0, rs -> rs.getBigDecimal("value"));
+        assertConverter(StandardConverters.INTEGER, 7, 0, rs -> {
+            rs.getInt("value");
+            rs.wasNull();
+        });
+        assertConverter(StandardConverters.LONG, 7L, 0, rs -> {
+            rs.getLong("value");
+            rs.wasNull();
+        });
+        assertConverter(StandardConverters.BOOLEAN, true, 0, rs -> {
+            rs.getBoolean("value");
+            rs.wasNull();
+        });
+        // a Double boxed again by the getter, doubles are never cached
+        assertConverter(StandardConverters.DOUBLE, 1.5d, 24, rs -> {
+            rs.getDouble("value");
+            rs.wasNull();
+        });
+        // a LocalDate: 24 bytes
+        assertConverter(StandardConverters.LOCAL_DATE, Date.valueOf(LocalDate.of(2024, 3, 1)), 24, rs -> rs.getDate("value"));
+        // a LocalDateTime with its LocalDate and LocalTime: 72 bytes
+        assertConverter(StandardConverters.LOCAL_DATE_TIME, Timestamp.valueOf(LocalDateTime.of(2024, 3, 1, 10, 30)), 72,
+                rs -> rs.getTimestamp("value"));
+        assertConverter(StandardConverters.UUID, UUID.randomUUID(), 0, rs -> rs.getObject("value"));
+    }
+
+    @Test
+    void mapShouldOnlyAllocateTheTargetAndItsValueArray() throws SQLException {
+        // the Object[6] of values (40 bytes) and the target object with six references (40 bytes)
+        assertMapper(Pojo.class, 80, AllocationTest::mapEachRow);
+        // plus the Object[6] of constructor arguments (40 bytes)
+        assertMapper(Record.class, 120, AllocationTest::mapEachRow);
+        assertMapper(AllArgs.class, 120, AllocationTest::mapEachRow);
+    }
+
+    @Test
+    void mapAllShouldOnlyAddTheResultList() throws SQLException {
+        // the growth of the ArrayList adds about 17 bytes per row
+        assertMapper(Pojo.class, 80 + 17, RowMapper::mapAll);
+        assertMapper(Record.class, 120 + 17, RowMapper::mapAll);
+    }
+
+    @Test
+    void collectShouldNotAllocatePerRowBeyondMapping() throws SQLException {
+        assertMapper(Pojo.class, 80, (mapper, resultSet) -> mapper.collect(resultSet, Collectors.counting()));
+        assertMapper(Record.class, 120, (mapper, resultSet) -> mapper.collect(resultSet, Collectors.counting()));
+    }
+
+    private static void assertConverter(TypeConverter<?> converter, Object value, long maxBytesPerRow, Reader baseline)
+            throws SQLException {
+        BoundConverter<?> bound = converter.bind(FieldConfig.builder().build());
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) rows.add(new Object[]{value});
+
+        double measured = bytesPerRow(() -> TestResultSets.of(List.of("value"), rows), rs -> bound.read(rs, "value"));
+        double base = bytesPerRow(() -> TestResultSets.of(List.of("value"), rows), baseline);
+
+        assertTrue(measured - base <= maxBytesPerRow + SLACK, () -> "Converter of " + value.getClass().getSimpleName()
+                + " allocates " + (measured - base) + " bytes per row, expected at most " + maxBytesPerRow);
+    }
+
+    private static <T> void assertMapper(Class<T> type, long maxBytesPerRow, Mapping<T> mapping) throws SQLException {
+        RowMapper<T> mapper = RowMapperBuilder.forType(type).build();
+
+        List<FieldMapping> fields = mapper.getFieldMappings();
+        List<BoundConverter<?>> converters = new ArrayList<>();
+        for (FieldMapping field : fields) {
+            converters.add(field.getConverter().orElseThrow().bind(FieldConfig.builder().withAttributes(field.getAttributes()).build()));
+        }
+
+        double measured = bytesPerResultSet(() -> TestResultSets.of(COLUMNS, ROW_VALUES), rs -> mapping.map(mapper, rs));
+        double base = bytesPerResultSet(() -> TestResultSets.of(COLUMNS, ROW_VALUES), rs -> {
+            while (rs.next()) {
+                for (int i = 0; i < converters.size(); i++) converters.get(i).read(rs, fields.get(i).getColumnName());
+            }
+        });
+
+        assertTrue(measured - base <= maxBytesPerRow + SLACK, () -> "Mapping " + type.getSimpleName() + " allocates "
+                + (measured - base) + " bytes per row, expected at most " + maxBytesPerRow);
+    }
+
+    private static void mapEachRow(RowMapper<?> mapper, ResultSet resultSet) throws SQLException {
+        PreparedRowMapper<?> prepared = mapper.prepare(resultSet.getMetaData());
+        while (resultSet.next()) prepared.map(resultSet);
+    }
+
+    /**
+     * Measures the bytes allocated per row by reading each row of a result set.
+     */
+    private static double bytesPerRow(ResultSetSupplier supplier, Reader reader) throws SQLException {
+        return bytesPerResultSet(supplier, resultSet -> {
+            while (resultSet.next()) reader.read(resultSet);
+        });
+    }
+
+    /**
+     * Measures the bytes allocated per row by consuming a whole result set, keeping the lowest of several runs so
+     * allocations made before the code is compiled are not counted.
+     */
+    private static double bytesPerResultSet(ResultSetSupplier supplier, Consumer consumer) throws SQLException {
+        long lowest = Long.MAX_VALUE;
+        long threadId = Thread.currentThread().getId();
+
+        for (int run = 0; run < RUNS; run++) {
+            ResultSet resultSet = supplier.get();
+            long before = threads.getThreadAllocatedBytes(threadId);
+            consumer.consume(resultSet);
+            long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+            lowest = Math.min(lowest, allocated);
+        }
+
+        return (double) lowest / ROWS;
+    }
+
+    private static boolean compressedOops() {
+        try {
+            HotSpotDiagnosticMXBean diagnostics = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            return diagnostics != null && Boolean.parseBoolean(diagnostics.getVMOption("UseCompressedOops").getValue());
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static List<Object[]> rows() {
+        List<Object[]> rows = new ArrayList<>();
+        for (long i = 0; i < ROWS; i++) {
+            rows.add(new Object[]{i, "name-" + i, new BigDecimal("10.25"), (int) (i % 100),
+                    Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i)), i % 2 == 0});
+        }
+        return rows;
+    }
+
+    @FunctionalInterface
+    private interface ResultSetSupplier {
+        ResultSet get();
+    }
+
+    @FunctionalInterface
+    private interface Reader {
+        void read(ResultSet resultSet) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface Consumer {
+        void consume(ResultSet resultSet) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface Mapping<T> {
+        void map(RowMapper<T> mapper, ResultSet resultSet) throws SQLException;
+    }
+
+    public static class Pojo {
+        @ColumnMapping private Long id;
+        @ColumnMapping private String name;
+        @ColumnMapping private BigDecimal amount;
+        @ColumnMapping private Integer quantity;
+        @ColumnMapping("created_at") private LocalDateTime createdAt;
+        @ColumnMapping private Boolean active;
+    }
+
+    public record Record(
+            @ColumnMapping Long id,
+            @ColumnMapping String name,
+            @ColumnMapping BigDecimal amount,
+            @ColumnMapping Integer quantity,
+            @ColumnMapping("created_at") LocalDateTime createdAt,
+            @ColumnMapping Boolean active
+    ) {
+    }
+
+    public static class AllArgs {
+        @ColumnMapping private final Long id;
+        @ColumnMapping private final String name;
+        @ColumnMapping private final BigDecimal amount;
+        @ColumnMapping private final Integer quantity;
+        @ColumnMapping("created_at") private final LocalDateTime createdAt;
+        @ColumnMapping private final Boolean active;
+
+        @ConstructorProperties({"id", "name", "amount", "quantity", "createdAt", "active"})
+        public AllArgs(Long id, String name, BigDecimal amount, Integer quantity, LocalDateTime createdAt, Boolean active) {
+            this.id = id;
+            this.name = name;
+            this.amount = amount;
+            this.quantity = quantity;
+            this.createdAt = createdAt;
+            this.active = active;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.configs.EnumStrategy;
+import dev.bxlab.resultset.mapper.configs.IdentifierQuoting;
+import dev.bxlab.resultset.mapper.configs.NamingStrategy;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.EnumCode;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.jdbc.BatchBinder;
+import dev.bxlab.resultset.mapper.jdbc.UpsertSyntax;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchBinderTest {
+
+    private static final String INSERT = "INSERT INTO orders (id, customer, total, status, priority, placed_on) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final RowMapper<Order> mapper = RowMapperBuilder.forType(Order.class)
+            .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+            .build();
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Test
+    void shouldGenerateStatementsFromFieldMappings() {
+        BatchBinder<Order> binder = BatchBinder.builder(this.mapper)
+                .withTable("orders")
+                .withKeys("id")
+                .withUpsertSyntax(UpsertSyntax.POSTGRESQL)
+                .build();
+
+        assertEquals(INSERT, binder.getInsertSql());
+        assertEquals("UPDATE orders SET customer = ?, total = ?, status = ?, priority = ?, placed_on = ? WHERE id = ?",
+                binder.getUpdateSql());
+        assertEquals(INSERT + " ON CONFLICT (id) DO UPDATE SET customer = EXCLUDED.customer, total = EXCLUDED.total,"
+                + " status = EXCLUDED.status, priority = EXCLUDED.priority, placed_on = EXCLUDED.placed_on", binder.getUpsertSql());
+    }
+
+    @Test
+    void shouldRenderEveryUpsertSyntax() {
+        RowMapper<Order> projected = this.mapper.project("id", "customer");
+        BatchBinder.BatchBinderBuilder<Order> builder = BatchBinder.builder(projected)
+                .withTable("orders")
+                .withKeys("id")
+                .withQuoting(IdentifierQuoting.BACKTICK);
+
+        assertEquals("INSERT INTO `orders` (`id`, `customer`) VALUES (?, ?) ON DUPLICATE KEY UPDATE `customer` = VALUES(`customer`)",
+                builder.withUpsertSyntax(UpsertSyntax.MYSQL).build().getUpsertSql());
+        assertEquals("MERGE INTO `orders` (`id`, `customer`) KEY (`id`) VALUES (?, ?)",
+                builder.withUpsertSyntax(UpsertSyntax.MERGE).build().getUpsertSql());
+    }
+
+    @Test
+    void shouldQuoteEachPartOfQualifiedTableNames() {
+        BatchBinder<Order> binder = BatchBinder.builder(this.mapper.project("id", "customer"))
+                .withTable("public.orders")
+                .withKeys("id")
+                .withQuoting(IdentifierQuoting.ANSI)
+                .withUpsertSyntax(UpsertSyntax.MERGE)
+                .build();
+
+        assertEquals("INSERT INTO \"public\".\"orders\" (\"id\", \"customer\") VALUES (?, ?)", binder.getInsertSql());
+        assertEquals("UPDATE \"public\".\"orders\" SET \"customer\" = ? WHERE \"id\" = ?", binder.getUpdateSql());
+        assertEquals("MERGE INTO \"public\".\"orders\" (\"id\", \"customer\") KEY (\"id\") VALUES (?, ?)", binder.getUpsertSql());
+    }
+
+    @Test
+    void shouldRejectFieldsWhoseColumnValueCanNotBeWritten() {
+        RowMapper<Order> formatted = RowMapperBuilder.forType(Order.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .mapField("placedOn", config -> config.withAttribute("format", "dd/MM/yyyy"))
+                .build();
+        RowMapper<Order> converted = RowMapperBuilder.forType(Order.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .mapField("customer", config -> config.withConverter((resultSet, column, attributes) -> resultSet.getString(column).trim()))
+                .build();
+
+        assertRejected(formatted, "placedOn", "format");
+        assertRejected(converted, "customer", "custom converter");
+        assertRejected(RowMapperBuilder.forType(Document.class).build(), "payload", "JSON");
+        assertRejected(RowMapperBuilder.forType(Document.class).build().project("id", "tags"), "tags", "typed setter");
+        assertRejected(RowMapperBuilder.forType(Document.class).build().project("id", "extra"), "extra", "typed setter");
+    }
+
+    @Test
+    void shouldBindRowsWithTypedSettersInBatches() throws SQLException {
+        when(connection.prepareStatement(INSERT)).thenReturn(statement);
+        when(statement.executeBatch()).thenReturn(new int[]{1, 1}, new int[]{1, Statement.SUCCESS_NO_INFO}, new int[]{1});
+
+        BatchBinder<Order> binder = BatchBinder.builder(this.mapper)
+                .withTable("orders")
+                .withBatchSize(2)
+                .build();
+
+        long affected = binder.insert(connection, List.of(order(1), order(2), order(3), order(4),
+                new Order(5L, null, null, null, null, null)));
+
+        assertEquals(5, affected);
+        verify(statement, times(5)).addBatch();
+        verify(statement, times(3)).executeBatch();
+        verify(statement).setLong(1, 1L);
+        verify(statement).setString(2, "customer-1");
+        verify(statement, times(4)).setBigDecimal(3, new BigDecimal("1.50"));
+        verify(statement, times(4)).setInt(4, 1);
+        verify(statement, times(4)).setString(5, "H");
+        verify(statement).setObject(6, LocalDate.of(2024, 1, 1));
+        verify(statement).setNull(2, Types.VARCHAR);
+        verify(statement).setNull(3, Types.DECIMAL);
+        verify(statement).setNull(4, Types.INTEGER);
+        verify(statement).setNull(6, Types.DATE);
+        verify(statement).close();
+    }
+
+    @Test
+    void shouldBindNullTemporalFieldsWithTheirSqlTypes() throws SQLException {
+        RowMapper<Event> events = RowMapperBuilder.forType(Event.class).withNamingStrategy(NamingStrategy.SNAKE_CASE).build();
+        BatchBinder<Event> binder = BatchBinder.builder(events).withTable("events").build();
+        OffsetDateTime occurredAt = OffsetDateTime.of(2024, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+        when(connection.prepareStatement(binder.getInsertSql())).thenReturn(statement);
+        when(statement.executeBatch()).thenReturn(new int[]{1, 1});
+
+        binder.insert(connection, List.of(new Event(null, null, null, null), new Event(1L, occurredAt, null, Instant.EPOCH)));
+
+        verify(statement).setNull(1, Types.BIGINT);
+        verify(statement).setNull(2, Types.TIMESTAMP_WITH_TIMEZONE);
+        verify(statement, times(2)).setNull(3, Types.TIMESTAMP);
+        verify(statement).setNull(4, Types.TIMESTAMP);
+        verify(statement).setObject(2, occurredAt);
+        verify(statement).setTimestamp(4, Timestamp.from(Instant.EPOCH));
+    }
+
+    @Test
+    void shouldBindKeysLastForUpdates() throws SQLException {
+        BatchBinder<Order> binder = BatchBinder.builder(this.mapper.project("id", "customer"))
+                .withTable("orders")
+                .withKeys("id")
+                .build();
+        when(connection.prepareStatement(binder.getUpdateSql())).thenReturn(statement);
+        when(statement.executeBatch()).thenReturn(new int[]{1});
+
+        binder.update(connection, List.of(order(7)));
+
+        InOrder order = inOrder(statement);
+        order.verify(statement).setString(1, "customer-7");
+        order.verify(statement).setLong(2, 7L);
+        order.verify(statement).addBatch();
+    }
+
+    @Test
+    void shouldNotPrepareStatementForEmptyCollections() throws SQLException {
+        BatchBinder<Order> binder = BatchBinder.builder(this.mapper).withTable("orders").build();
+
+        assertEquals(0, binder.insert(connection, List.of()));
+        verifyNoInteractions(connection);
+        verify(statement, never()).executeBatch();
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        BatchBinder<Order> withoutKeys = BatchBinder.builder(this.mapper).withTable("orders").build();
+
+        assertThrows(IllegalStateException.class, withoutKeys::getUpdateSql);
+        assertThrows(IllegalStateException.class, withoutKeys::getUpsertSql);
+        assertThrows(IllegalArgumentException.class, () -> BatchBinder.builder(this.mapper).build());
+        assertThrows(IllegalArgumentException.class, () -> BatchBinder.builder(this.mapper)
+                .withTable("orders").withKeys("missing").build());
+        assertThrows(IllegalArgumentException.class, () -> BatchBinder.builder(this.mapper)
+                .withTable("orders").withBatchSize(0).build());
+    }
+
+    private static void assertRejected(RowMapper<?> mapper, String field, String reason) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> BatchBinder.builder(mapper).withTable("documents").build());
+
+        assertTrue(exception.getMessage().contains("'" + field + "'") && exception.getMessage().contains(reason),
+                exception.getMessage());
+    }
+
+    private static Order order(long id) {
+        return new Order(id, "customer-" + id, new BigDecimal("1.50"), Status.SHIPPED, Priority.HIGH, LocalDate.of(2024, 1, (int) id));
+    }
+
+    public enum Status {
+        NEW, SHIPPED
+    }
+
+    public enum Priority {
+        @EnumCode("L") LOW,
+        @EnumCode("H") HIGH
+    }
+
+    public record Event(
+            @ColumnMapping Long id,
+            @ColumnMapping OffsetDateTime occurredAt,
+            @ColumnMapping LocalDateTime receivedAt,
+            @ColumnMapping Instant loggedAt
+    ) {
+    }
+
+    public record Document(
+            @ColumnMapping Long id,
+            @ColumnMapping(json = true) Map<String, Object> payload,
+            @ColumnMapping List<Object> tags,
+            @ColumnMapping Object extra
+    ) {
+    }
+
+    public record Order(
+            @ColumnMapping Long id,
+            @ColumnMapping String customer,
+            @ColumnMapping BigDecimal total,
+            @ColumnMapping(enumStrategy = EnumStrategy.ORDINAL) Status status,
+            @ColumnMapping(enumStrategy = EnumStrategy.CODE) Priority priority,
+            @ColumnMapping LocalDate placedOn
+    ) {
+    }
+}
@@ -0,0 +1,125 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.configs.NamingStrategy;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.ColumnPredicate;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.exceptions.ColumnNotFoundException;
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColumnPredicateTest {
+
+    private static final List<String> COLUMNS = List.of("id", "user_name", "status", "score");
+
+    private final AtomicInteger conversions = new AtomicInteger();
+
+    private final RowMapper<Member> mapper = RowMapperBuilder.forType(Member.class)
+            .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+            .mapField("userName", config -> config.withConverter((resultSet, column, attributes) -> {
+                this.conversions.incrementAndGet();
+                return resultSet.getString(column);
+            }))
+            .build();
+
+    @Test
+    void shouldOnlyMapMatchingRows() throws SQLException {
+        List<Member> members = this.mapper.mapAll(members(), ColumnPredicate.of("status", Status.class, Status.ACTIVE::equals));
+
+        assertEquals(List.of("ann", "cid"), members.stream().map(Member::userName).toList());
+        assertEquals(2, this.conversions.get());
+    }
+
+    @Test
+    void shouldFilterOnUnmappedColumnsWithPrimitiveType() throws SQLException {
+        List<Member> members = this.mapper.mapAll(members(), ColumnPredicate.of("score", int.class, score -> score != null && score >= 50));
+
+        assertEquals(List.of(1L, 4L), members.stream().map(Member::id).toList());
+    }
+
+    @Test
+    void shouldCombinePredicates() throws SQLException {
+        ColumnPredicate active = ColumnPredicate.of("status", String.class, "ACTIVE"::equals);
+        ColumnPredicate scored = ColumnPredicate.isNotNull("score");
+
+        assertEquals(List.of(1L), ids(this.mapper.mapAll(members(), active.and(scored))));
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(this.mapper.mapAll(members(), active.or(scored))));
+        assertEquals(List.of(2L, 4L), ids(this.mapper.mapAll(members(), active.negate())));
+        assertEquals(List.of(3L), ids(this.mapper.mapAll(members(), ColumnPredicate.isNull("score"))));
+    }
+
+    @Test
+    void shouldShortCircuitCombinedPredicates() throws SQLException {
+        AtomicInteger evaluations = new AtomicInteger();
+        ColumnPredicate never = ColumnPredicate.of("id", long.class, id -> false);
+        ColumnPredicate counted = ColumnPredicate.of("score", Integer.class, score -> evaluations.incrementAndGet() > 0);
+
+        assertEquals(List.of(), this.mapper.mapAll(members(), never.and(counted)));
+        assertEquals(0, evaluations.get());
+        assertEquals(0, this.conversions.get());
+    }
+
+    @Test
+    void shouldCollectMatchingRows() throws SQLException {
+        String names = this.mapper.collect(members(), ColumnPredicate.of("id", Long.class, id -> id % 2 == 0),
+                Collectors.mapping(Member::userName, Collectors.joining(",")));
+
+        assertEquals("bob,dan", names);
+    }
+
+    @Test
+    void shouldFailWhenPredicateColumnIsMissing() {
+        ColumnPredicate predicate = ColumnPredicate.of("region", String.class, "EU"::equals);
+
+        assertThrows(ColumnNotFoundException.class, () -> this.mapper.mapAll(members(), predicate));
+    }
+
+    @Test
+    void shouldFailWhenNoConverterIsAvailable() {
+        ColumnPredicate predicate = ColumnPredicate.of("status", ColumnPredicateTest.class, value -> true);
+
+        assertThrows(MappingException.class, () -> this.mapper.mapAll(members(), predicate));
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> ColumnPredicate.of("", String.class, value -> true));
+        assertThrows(IllegalArgumentException.class, () -> ColumnPredicate.of("status", null, value -> true));
+        assertThrows(IllegalArgumentException.class, () -> ColumnPredicate.isNull("id").and(null));
+        assertThrows(IllegalArgumentException.class, () -> this.mapper.mapAll(members(), (ColumnPredicate) null));
+    }
+
+    private static List<Long> ids(List<Member> members) {
+        return members.stream().map(Member::id).toList();
+    }
+
+    private static ResultSet members() {
+        return TestResultSets.of(COLUMNS, Arrays.asList(
+                new Object[]{1L, "ann", "ACTIVE", 70},
+                new Object[]{2L, "bob", "SUSPENDED", 20},
+                new Object[]{3L, "cid", "ACTIVE", null},
+                new Object[]{4L, "dan", "SUSPENDED", 90}
+        ));
+    }
+
+    public enum Status {
+        ACTIVE, SUSPENDED
+    }
+
+    public record Member(
+            @ColumnMapping long id,
+            @ColumnMapping String userName
+    ) {
+    }
+}
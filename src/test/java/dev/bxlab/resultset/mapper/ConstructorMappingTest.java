@@ -0,0 +1,183 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.codec.RowCodec;
+import dev.bxlab.resultset.mapper.configs.NamingStrategy;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.exceptions.ObjectInstantiationException;
+import dev.bxlab.resultset.mapper.utils.ReflectionUtils;
+import org.junit.jupiter.api.Test;
+
+import java.beans.ConstructorProperties;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConstructorMappingTest {
+
+    @Test
+    void shouldMapImmutableClassThroughAnnotatedConstructor() throws SQLException {
+        RowMapper<Account> mapper = RowMapperBuilder.forType(Account.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .build();
+
+        List<Account> accounts = mapper.mapAll(accounts());
+
+        assertEquals(new Account(1L, "ann", new BigDecimal("10.50")), accounts.get(0));
+        assertEquals(new Account(2L, "bob", null), accounts.get(1));
+        assertTrue(ReflectionUtils.isConstructorInstantiated(Account.class));
+    }
+
+    @Test
+    void shouldPassDefaultsForMissingConstructorArguments() throws SQLException {
+        RowMapper<Account> mapper = RowMapperBuilder.forType(Account.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .build()
+                .project("userName");
+
+        assertEquals(new Account(0L, "ann", null), mapper.mapAll(accounts()).get(0));
+    }
+
+    @Test
+    void shouldWriteFieldsThatAreNotConstructorParameters() throws SQLException {
+        RowMapper<Tagged> mapper = RowMapperBuilder.forType(Tagged.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .build();
+
+        Tagged tagged = mapper.mapAll(accounts()).get(0);
+
+        assertEquals(1L, tagged.id);
+        assertEquals("ann", tagged.userName);
+        assertEquals(1, tagged.constructorCalls);
+    }
+
+    @Test
+    void shouldKeepUsingNoArgConstructorWhenAvailable() {
+        assertFalse(ReflectionUtils.isConstructorInstantiated(Mutable.class));
+        assertTrue(ReflectionUtils.isConstructorInstantiated(Point.class));
+    }
+
+    @Test
+    void shouldFailWhenConstructorCanNotBeMatched() {
+        RowMapper<Unmatched> mapper = RowMapperBuilder.forType(Unmatched.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .build();
+
+        assertThrows(ObjectInstantiationException.class, () -> mapper.mapAll(accounts()));
+    }
+
+    @Test
+    void shouldReportExceptionsThrownByConstructor() {
+        RowMapper<Validated> mapper = RowMapperBuilder.forType(Validated.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .build();
+
+        ObjectInstantiationException exception = assertThrows(ObjectInstantiationException.class, () -> mapper.mapAll(accounts()));
+        assertTrue(exception.getCause().getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void shouldDecodeImmutableClassesThroughConstructor() {
+        RowMapper<Account> mapper = RowMapperBuilder.forType(Account.class).build();
+        RowCodec<Account> codec = RowCodec.of(mapper);
+        Account account = new Account(7L, "cid", new BigDecimal("1.25"));
+
+        assertEquals(account, codec.decode(codec.encode(account)));
+    }
+
+    private static ResultSet accounts() {
+        return TestResultSets.of(List.of("id", "user_name", "balance"), java.util.Arrays.asList(
+                new Object[]{1L, "ann", new BigDecimal("10.50")},
+                new Object[]{2L, "bob", null}
+        ));
+    }
+
+    public static final class Account {
+        @ColumnMapping
+        private final long id;
+        @ColumnMapping
+        private final String userName;
+        @ColumnMapping
+        private final BigDecimal balance;
+
+        @ConstructorProperties({"id", "userName", "balance"})
+        public Account(long id, String userName, BigDecimal balance) {
+            this.id = id;
+            this.userName = userName;
+            this.balance = balance;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Account account && this.id == account.id
+                    && Objects.equals(this.userName, account.userName) && Objects.equals(this.balance, account.balance);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.id, this.userName, this.balance);
+        }
+    }
+
+    public static class Tagged {
+        @ColumnMapping
+        private final long id;
+        @ColumnMapping
+        private String userName;
+        private int constructorCalls;
+
+        @ConstructorProperties({"id"})
+        public Tagged(long id) {
+            this.id = id;
+            this.constructorCalls++;
+        }
+    }
+
+    public static class Mutable {
+        @ColumnMapping
+        private long id;
+    }
+
+    public static class Point {
+        private final int x;
+        private final int y;
+
+        @ConstructorProperties({"x", "y"})
+        Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        public Point() {
+            this(0, 0);
+        }
+    }
+
+    public static class Unmatched {
+        @ColumnMapping
+        private final long id;
+
+        public Unmatched(long id, String ignored) {
+            this.id = id;
+        }
+    }
+
+    public static class Validated {
+        @ColumnMapping
+        private final long id;
+
+        @ConstructorProperties({"id"})
+        public Validated(long id) {
+            if (id > 0) throw new IllegalArgumentException("Invalid id");
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.codec.DelimitedExporter;
+import dev.bxlab.resultset.mapper.codec.DelimitedFormat;
+import dev.bxlab.resultset.mapper.configs.NamingStrategy;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.exceptions.ColumnNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DelimitedExporterTest {
+
+    private static final List<String> COLUMNS = List.of("id", "name", "total", "active", "shipped_on", "updated_at");
+
+    private final RowMapper<Order> mapper = RowMapperBuilder.forType(Order.class)
+            .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+            .build();
+
+    @Test
+    void shouldExportCsvWithHeaderAndRfc4180Quoting() throws SQLException, IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = DelimitedExporter.builder(this.mapper).build().export(orders(), out);
+
+        assertEquals(3, rows);
+        assertEquals("id,name,total,active,shipped_on,updated_at\r\n"
+                + "1,plain,10.50,true,2024-03-01,2024-03-01T10:30:00\r\n"
+                + "-42,\"comma, \"\"quote\"\"\nline\",0,false,,\r\n"
+                + ",,,,,\r\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldExportTsvWithBackslashEscapesAndCustomDateFormats() throws SQLException, IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        DelimitedExporter.builder(this.mapper)
+                .withFormat(DelimitedFormat.TSV)
+                .withHeader(false)
+                .withDateFormatter(DateTimeFormatter.ofPattern("dd/MM/yyyy"))
+                .withDateTimeFormatter(DateTimeFormatter.ofPattern("yyyyMMdd HHmm"))
+                .build()
+                .export(orders(), Channels.newChannel(out));
+
+        assertEquals("1\tplain\t10.50\ttrue\t01/03/2024\t20240301 1030\n"
+                + "-42\tcomma, \"quote\"\\nline\t0\tfalse\t\t\n"
+                + "\t\t\t\t\t\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldEncodeUtf8AcrossBufferFlushes() throws SQLException, IOException {
+        String name = "żółw \uD83D\uDC22 ".repeat(40);
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 0; id < 50; id++) rows.add(new Object[]{id, name});
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        DelimitedExporter.builder(this.mapper.project("id", "name"))
+                .withHeader(false)
+                .withBufferSize(64)
+                .build()
+                .export(TestResultSets.of(List.of("id", "name"), rows), out);
+
+        StringBuilder expected = new StringBuilder();
+        for (long id = 0; id < 50; id++) expected.append(id).append(',').append(name).append("\r\n");
+        assertEquals(expected.toString(), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldRejectMissingColumnsAndInvalidConfiguration() {
+        DelimitedExporter exporter = DelimitedExporter.builder(this.mapper).build();
+        ResultSet partial = TestResultSets.of(List.of("id", "name"), List.<Object[]>of());
+
+        assertThrows(ColumnNotFoundException.class, () -> exporter.export(partial, new ByteArrayOutputStream()));
+        assertThrows(IllegalArgumentException.class, () -> DelimitedExporter.builder(this.mapper).withBufferSize(8).build());
+        assertThrows(IllegalArgumentException.class, () -> DelimitedExporter.builder(this.mapper).withFormat(null).build());
+        assertEquals(COLUMNS, exporter.getColumnNames());
+    }
+
+    private static ResultSet orders() {
+        return TestResultSets.of(COLUMNS, List.of(
+                new Object[]{1L, "plain", new BigDecimal("10.50"), true, Date.valueOf(LocalDate.of(2024, 3, 1)),
+                        Timestamp.valueOf(LocalDateTime.of(2024, 3, 1, 10, 30))},
+                new Object[]{-42L, "comma, \"quote\"\nline", BigDecimal.ZERO, false, null, null},
+                new Object[]{null, null, null, null, null, null}
+        ));
+    }
+
+    public static class Order {
+        @ColumnMapping
+        private Long id;
+
+        @ColumnMapping
+        private String name;
+
+        @ColumnMapping
+        private BigDecimal total;
+
+        @ColumnMapping
+        private Boolean active;
+
+        @ColumnMapping
+        private LocalDate shippedOn;
+
+        @ColumnMapping
+        private LocalDateTime updatedAt;
+    }
+}
@@ -0,0 +1,159 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.configs.EnumStrategy;
+import dev.bxlab.resultset.mapper.configs.FieldConfig;
+import dev.bxlab.resultset.mapper.converters.EnumConverter;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.EnumCode;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.exceptions.ConversionException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EnumConverterTest {
+
+    @Test
+    void shouldMapByNameByDefault() throws SQLException {
+        RowMapper<Account> mapper = RowMapperBuilder.forType(Account.class).build();
+
+        List<Account> accounts = mapper.mapAll(accounts(new Object[]{"ACTIVE", "A", 0}, new Object[]{null, null, null}));
+
+        assertEquals(Status.ACTIVE, accounts.get(0).status());
+        assertNull(accounts.get(1).status());
+        assertInstanceOf(EnumConverter.class, mapper.getFieldMappings().get(0).getConverter().orElseThrow());
+    }
+
+    @Test
+    void shouldFailOnUnknownName() {
+        RowMapper<Account> mapper = RowMapperBuilder.forType(Account.class).build();
+
+        ConversionException exception = assertThrows(ConversionException.class,
+                () -> mapper.mapAll(accounts(new Object[]{"active", "A", 0})));
+
+        assertTrue(exception.getMessage().contains("'active'"), exception.getMessage());
+    }
+
+    @Test
+    void shouldMapByNameIgnoringCase() throws SQLException {
+        RowMapper<Account> mapper = RowMapperBuilder.forType(Account.class)
+                .mapField("status", config -> config.withAttribute(FieldConfig.ENUM_STRATEGY_ATTRIBUTE, EnumStrategy.NAME_IGNORE_CASE))
+                .build();
+
+        List<Account> accounts = mapper.mapAll(accounts(
+                new Object[]{"active", "A", 0},
+                new Object[]{"Suspended", "SUSPENDED", 2},
+                new Object[]{"INACTIVE", "I", 1}
+        ));
+
+        assertEquals(List.of(Status.ACTIVE, Status.SUSPENDED, Status.INACTIVE),
+                accounts.stream().map(Account::status).toList());
+        assertThrows(ConversionException.class, () -> mapper.mapAll(accounts(new Object[]{"activ", "A", 0})));
+        assertThrows(ConversionException.class, () -> mapper.mapAll(accounts(new Object[]{"ACTIVE ", "A", 0})));
+    }
+
+    @Test
+    void shouldMapByCodeAndOrdinal() throws SQLException {
+        RowMapper<Account> mapper = RowMapperBuilder.forType(Account.class).build();
+
+        List<Account> accounts = mapper.mapAll(accounts(
+                new Object[]{"ACTIVE", "I", 2},
+                new Object[]{"ACTIVE", "SUSPENDED", 0},
+                new Object[]{"ACTIVE", null, null}
+        ));
+
+        assertEquals(Status.INACTIVE, accounts.get(0).code());
+        assertEquals(Status.SUSPENDED, accounts.get(0).level());
+        assertEquals(Status.SUSPENDED, accounts.get(1).code());
+        assertEquals(Status.ACTIVE, accounts.get(1).level());
+        assertNull(accounts.get(2).code());
+        assertNull(accounts.get(2).level());
+    }
+
+    @Test
+    void shouldFailOnOrdinalOutOfRange() {
+        RowMapper<Account> mapper = RowMapperBuilder.forType(Account.class).build();
+
+        assertThrows(ConversionException.class, () -> mapper.mapAll(accounts(new Object[]{"ACTIVE", "A", 3})));
+        assertThrows(ConversionException.class, () -> mapper.mapAll(accounts(new Object[]{"ACTIVE", "A", -1})));
+    }
+
+    @Test
+    void shouldPreferRegisteredConverter() throws SQLException {
+        RowMapper<Account> mapper = RowMapperBuilder.forType(Account.class)
+                .registerConverter(Status.class, (resultSet, columnName, attributes) -> Status.SUSPENDED)
+                .build();
+
+        Account account = mapper.mapAll(accounts(new Object[]{"ACTIVE", "A", 0})).get(0);
+
+        assertEquals(Status.SUSPENDED, account.status());
+        assertEquals(Status.SUSPENDED, account.level());
+    }
+
+    @Test
+    void shouldNotCreateEnumConvertersWithoutDefaultConverters() {
+        RowMapper<Account> mapper = RowMapperBuilder.forType(Account.class)
+                .includeDefaultConverters(false)
+                .build();
+
+        assertTrue(mapper.getFieldMappings().get(0).getConverter().isEmpty());
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> RowMapperBuilder.forType(Account.class)
+                .mapField("status", config -> config.withAttribute(FieldConfig.ENUM_STRATEGY_ATTRIBUTE, "ORDINAL"))
+                .build());
+        assertThrows(IllegalArgumentException.class, () -> EnumConverter.of(Duplicated.class, EnumStrategy.CODE));
+        assertThrows(IllegalArgumentException.class, () -> EnumConverter.forType(String.class, EnumStrategy.NAME));
+    }
+
+    @Test
+    void shouldLookUpLargeEnumIgnoringCase() throws SQLException {
+        EnumConverter<Month> converter = EnumConverter.of(Month.class, EnumStrategy.NAME_IGNORE_CASE);
+
+        for (Month month : Month.values()) {
+            String value = month.name().charAt(0) + month.name().substring(1).toLowerCase();
+            ResultSet resultSet = TestResultSets.of(List.of("month"), List.<Object[]>of(new Object[]{value}));
+            resultSet.next();
+
+            assertEquals(month, converter.convert(resultSet, "month", java.util.Map.of()));
+        }
+    }
+
+    private static ResultSet accounts(Object[]... rows) {
+        return TestResultSets.of(List.of("status", "code", "level"), Arrays.asList(rows));
+    }
+
+    public enum Status {
+        @EnumCode("A") ACTIVE,
+        @EnumCode("I") INACTIVE,
+        SUSPENDED
+    }
+
+    public enum Duplicated {
+        @EnumCode("X") FIRST,
+        @EnumCode("X") SECOND
+    }
+
+    public enum Month {
+        JANUARY, FEBRUARY, MARCH, APRIL, MAY, JUNE, JULY, AUGUST, SEPTEMBER, OCTOBER, NOVEMBER, DECEMBER
+    }
+
+    public record Account(
+            @ColumnMapping Status status,
+            @ColumnMapping(enumStrategy = EnumStrategy.CODE) Status code,
+            @ColumnMapping(enumStrategy = EnumStrategy.ORDINAL) Status level
+    ) {
+    }
+}
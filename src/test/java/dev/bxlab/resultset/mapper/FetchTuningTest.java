@@ -0,0 +1,164 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.jdbc.FetchTuning;
+import dev.bxlab.resultset.mapper.jdbc.StreamingMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FetchTuningTest {
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSetMetaData metaData;
+
+    @Test
+    void shouldComputeFetchSizeFromMetadataWidth() throws SQLException {
+        when(statement.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(metaData.getPrecision(1)).thenReturn(19);
+        when(metaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(metaData.getPrecision(2)).thenReturn(100);
+
+        FetchTuning tuning = FetchTuning.builder()
+                .withMemoryBudget(1024 * 1024)
+                .build();
+
+        int rowWidth = FetchTuning.estimateRowWidth(metaData);
+        int fetchSize = tuning.apply(statement, mapper());
+
+        assertEquals(24 + 240, rowWidth);
+        assertEquals(1024 * 1024 / rowWidth, fetchSize);
+        verify(statement).setFetchDirection(ResultSet.FETCH_FORWARD);
+        verify(statement).setFetchSize(fetchSize);
+    }
+
+    @Test
+    void shouldFallBackToMapperFieldTypes() throws SQLException {
+        when(statement.getMetaData()).thenReturn(null);
+
+        FetchTuning tuning = FetchTuning.builder()
+                .withMemoryBudget(64 * 1024)
+                .build();
+
+        int fetchSize = tuning.apply(statement, mapper());
+
+        assertEquals(64 * 1024 / FetchTuning.estimateRowWidth(mapper()), fetchSize);
+        verify(statement).setFetchSize(fetchSize);
+    }
+
+    @Test
+    void shouldFallBackToMapperFieldTypesWhenMetadataIsNotSupported() throws SQLException {
+        when(statement.getMetaData()).thenThrow(new SQLFeatureNotSupportedException());
+
+        FetchTuning tuning = FetchTuning.builder()
+                .withMemoryBudget(64 * 1024)
+                .build();
+
+        int fetchSize = tuning.apply(statement, mapper());
+
+        assertEquals(64 * 1024 / FetchTuning.estimateRowWidth(mapper()), fetchSize);
+    }
+
+    @Test
+    void shouldNotCountSkippedFieldsInRowWidth() {
+        RowMapper<Tagged> tagged = RowMapperBuilder.forType(Tagged.class).build();
+
+        assertEquals(FetchTuning.estimateRowWidth(mapper()), FetchTuning.estimateRowWidth(tagged));
+    }
+
+    @Test
+    void shouldClampFetchSizeToBounds() {
+        FetchTuning tuning = FetchTuning.builder()
+                .withMemoryBudget(1024)
+                .withFetchSizeBounds(50, 500)
+                .build();
+
+        assertEquals(50, tuning.fetchSizeFor(1024));
+        assertEquals(500, tuning.fetchSizeFor(1));
+        assertEquals(128, tuning.fetchSizeFor(8));
+    }
+
+    @Test
+    void shouldTreatUnboundedTextColumnsWithDefaultWidth() throws SQLException {
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnType(1)).thenReturn(Types.VARCHAR);
+        when(metaData.getPrecision(1)).thenReturn(Integer.MAX_VALUE);
+
+        int rowWidth = FetchTuning.estimateRowWidth(metaData);
+
+        assertTrue(rowWidth < 1024);
+    }
+
+    @Test
+    void shouldUseRowStreamingFetchSizeForMySql() throws SQLException {
+        FetchTuning tuning = FetchTuning.builder()
+                .withStreamingMode(StreamingMode.MYSQL_ROW_STREAMING)
+                .build();
+
+        int fetchSize = tuning.apply(statement, 100);
+
+        assertEquals(Integer.MIN_VALUE, fetchSize);
+        verify(statement).setFetchSize(Integer.MIN_VALUE);
+    }
+
+    @Test
+    void shouldPrepareForwardOnlyReadOnlyStatement() throws SQLException {
+        String sql = "SELECT id, name FROM users";
+        when(connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)).thenReturn(statement);
+
+        FetchTuning tuning = FetchTuning.builder().build();
+
+        assertSame(statement, tuning.prepareStatement(connection, sql));
+    }
+
+    @Test
+    void shouldValidateConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> FetchTuning.builder().withMemoryBudget(0).build());
+        assertThrows(IllegalArgumentException.class, () -> FetchTuning.builder().withFetchSizeBounds(100, 10).build());
+        assertThrows(IllegalArgumentException.class, () -> FetchTuning.builder().withStreamingMode(null).build());
+    }
+
+    private static RowMapper<User> mapper() {
+        return RowMapperBuilder.forType(User.class).build();
+    }
+
+    public record Tagged(
+            @ColumnMapping Long id,
+            @ColumnMapping String name,
+            @ColumnMapping Object tag
+    ) {
+    }
+
+    public record User(
+            @ColumnMapping Long id,
+            @ColumnMapping String name
+    ) {
+    }
+}
@@ -1,5 +1,7 @@
 package dev.bxlab.resultset.mapper;
 
+import dev.bxlab.resultset.mapper.configs.AttributeKey;
+import dev.bxlab.resultset.mapper.configs.EnumStrategy;
 import dev.bxlab.resultset.mapper.configs.FieldConfig;
 import dev.bxlab.resultset.mapper.converters.DefaultConverter;
 import dev.bxlab.resultset.mapper.converters.TypeConverter;
@@ -43,6 +45,31 @@ public class FieldConfigTest {
         assertEquals("yyyy-MM-dd", config.getAttribute("format", String.class).orElse(null));
     }
 
+    @Test
+    void shouldReadAndWriteTypedAttributes() {
+        FieldConfig config = FieldConfig.builder()
+                .withTypedAttribute(FieldConfig.FORMAT, "yyyy-MM-dd")
+                .withAttribute(FieldConfig.ENUM_STRATEGY_ATTRIBUTE, EnumStrategy.ORDINAL)
+                .build();
+
+        assertEquals("yyyy-MM-dd", config.getAttribute(FieldConfig.FORMAT_ATTRIBUTE, String.class).orElse(null));
+        assertEquals(EnumStrategy.ORDINAL, config.getAttribute(FieldConfig.ENUM_STRATEGY).orElse(null));
+        assertTrue(config.getAttribute(FieldConfig.JSON).isEmpty());
+    }
+
+    @Test
+    void shouldRejectTypedAttributesOfTheWrongType() {
+        FieldConfig config = FieldConfig.builder().withAttribute(FieldConfig.JSON_ATTRIBUTE, "yes").build();
+        AttributeKey<Object> untyped = AttributeKey.of("format", Object.class);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        AttributeKey<Object> raw = (AttributeKey) FieldConfig.JSON;
+
+        assertThrows(IllegalArgumentException.class, () -> config.getAttribute(FieldConfig.JSON));
+        assertThrows(IllegalArgumentException.class, () -> FieldConfig.builder().withTypedAttribute(raw, "yes"));
+        assertThrows(IllegalArgumentException.class, () -> AttributeKey.of(" ", String.class));
+        assertEquals("yes", FieldConfig.builder().withTypedAttribute(untyped, "yes").build().getAttributes().get("format"));
+    }
+
     @Test
     void shouldHandleNullValues() {
         FieldConfig config = FieldConfig.builder().build();
@@ -75,6 +102,7 @@ public class FieldConfigTest {
         when(mappingAnnotation.value()).thenReturn("");
         when(mappingAnnotation.format()).thenReturn("");
         when(mappingAnnotation.converter()).thenReturn(null);
+        when(mappingAnnotation.enumStrategy()).thenReturn(EnumStrategy.NAME);
 
         DefaultConverter converter = new DefaultConverter();
 
@@ -0,0 +1,200 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.configs.FieldConfig;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.exceptions.ConversionException;
+import dev.bxlab.resultset.mapper.json.JsonDecoder;
+import dev.bxlab.resultset.mapper.json.StreamingJsonDecoder;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonColumnTest {
+
+    private final StreamingJsonDecoder decoder = new StreamingJsonDecoder();
+
+    @Test
+    void shouldDecodeNestedRecordsFromJsonColumn() throws SQLException {
+        RowMapper<Order> mapper = RowMapperBuilder.forType(Order.class).build();
+
+        String details = """
+                {
+                  "customer": {"name": "Ada \\"The Countess\\"", "tier": "GOLD", "since": "2021-03-04"},
+                  "lines": [
+                    {"sku": "A-1", "quantity": 2, "price": 9.95},
+                    {"sku": "B-2", "quantity": 1, "price": 100}
+                  ],
+                  "tags": {"channel": "web", "campaign": "spring"},
+                  "ignored": {"nested": [1, {"deep": "value \\u00e9"}, true, null], "flag": false},
+                  "reference": "0f8fad5b-d9cb-469f-a165-70867728950e"
+                }
+                """;
+
+        Order order = mapper.mapAll(orders(new Object[]{1L, details})).get(0);
+
+        assertEquals(1L, order.id());
+        assertEquals(new Customer("Ada \"The Countess\"", Tier.GOLD, LocalDate.of(2021, 3, 4)), order.details().customer());
+        assertEquals(List.of(
+                new Line("A-1", 2, new BigDecimal("9.95")),
+                new Line("B-2", 1, new BigDecimal("100"))
+        ), order.details().lines());
+        assertEquals(Map.of("channel", "web", "campaign", "spring"), order.details().tags());
+        assertEquals(UUID.fromString("0f8fad5b-d9cb-469f-a165-70867728950e"), order.details().reference());
+    }
+
+    @Test
+    void shouldDecodeNullAndEmptyValues() throws SQLException {
+        RowMapper<Order> mapper = RowMapperBuilder.forType(Order.class).build();
+
+        List<Order> orders = mapper.mapAll(orders(
+                new Object[]{1L, null},
+                new Object[]{2L, "null"},
+                new Object[]{3L, "{\"lines\": [{\"sku\": null, \"quantity\": null}], \"tags\": {}}"}
+        ));
+
+        assertNull(orders.get(0).details());
+        assertNull(orders.get(1).details());
+        assertEquals(new Details(null, List.of(new Line(null, 0, null)), Map.of(), null), orders.get(2).details());
+    }
+
+    @Test
+    void shouldDecodeClassesAndGenericCollections() throws SQLException {
+        RowMapper<Profile> mapper = RowMapperBuilder.forType(Profile.class)
+                .mapField("scores", config -> config.withAttribute(FieldConfig.JSON_ATTRIBUTE, true))
+                .build();
+
+        ResultSet resultSet = TestResultSets.of(List.of("settings", "scores", "extra"), List.<Object[]>of(new Object[]{
+                "{\"theme\": \"dark\", \"font_size\": 14, \"shortcuts\": [\"ctrl\", \"alt\"], \"unknown\": [[], {}]}",
+                "[1, 2, 3]",
+                "{\"a\": [1, 2.5, \"x\", true, null, 12345678901234567890], \"b\": {\"c\": -1}}"
+        }));
+
+        Profile profile = mapper.mapAll(resultSet).get(0);
+
+        assertEquals("dark", profile.settings.theme);
+        assertEquals(14, profile.settings.fontSize);
+        assertArrayEquals(new String[]{"ctrl", "alt"}, profile.settings.shortcuts);
+        assertArrayEquals(new int[]{1, 2, 3}, profile.scores);
+        assertEquals(Arrays.asList(1L, 2.5d, "x", true, null, new java.math.BigInteger("12345678901234567890")),
+                ((Map<?, ?>) profile.extra).get("a"));
+        assertEquals(Map.of("c", -1L), ((Map<?, ?>) profile.extra).get("b"));
+    }
+
+    @Test
+    void shouldDecodeDocumentsLargerThanBuffer() throws IOException {
+        List<String> values = new ArrayList<>();
+        StringBuilder json = new StringBuilder("{\"skip\": \"");
+        json.append("\\\"".repeat(3000)).append("\", \"lines\": [");
+        for (int i = 0; i < 500; i++) {
+            if (i > 0) json.append(", ");
+            json.append("{\"sku\": \"sku-").append(i).append("-\\u00f1\", \"quantity\": ").append(i).append('}');
+            values.add("sku-" + i + "-ñ");
+        }
+        json.append("]}");
+
+        Details details = (Details) this.decoder.decode(new StringReader(json.toString()), Details.class);
+
+        assertEquals(values, details.lines().stream().map(Line::sku).toList());
+        assertEquals(499, details.lines().get(499).quantity());
+    }
+
+    @Test
+    void shouldFailOnMalformedDocuments() {
+        RowMapper<Order> mapper = RowMapperBuilder.forType(Order.class).build();
+
+        assertThrows(ConversionException.class, () -> mapper.mapAll(orders(new Object[]{1L, "{\"lines\": [}"})));
+        assertThrows(ConversionException.class, () -> mapper.mapAll(orders(new Object[]{1L, "{\"lines\": []} x"})));
+        assertThrows(ConversionException.class, () -> mapper.mapAll(orders(new Object[]{1L, "{\"customer\": {\"tier\": \"NONE\"}}"})));
+        assertThrows(ConversionException.class, () -> mapper.mapAll(orders(new Object[]{1L, "{\"lines\": [{\"quantity\": \"two\"}]}"})));
+
+        ConversionException exception = assertThrows(ConversionException.class,
+                () -> this.decoder.decode(new StringReader("{\"lines\": [{\"quantity\": 1,}]}"), Details.class));
+        assertTrue(exception.getMessage().contains("offset 26"), exception.getMessage());
+
+        ConversionException columnException = assertThrows(ConversionException.class,
+                () -> mapper.mapAll(orders(new Object[]{1L, "{\"lines\": [{\"quantity\": 1,}]}"})));
+        assertFalse(columnException.getMessage().contains("offset"), columnException.getMessage());
+        assertTrue(columnException.getCause().getMessage().contains("offset 26"), columnException.getCause().getMessage());
+    }
+
+    @Test
+    void shouldUseConfiguredDecoder() throws SQLException {
+        Details expected = new Details(null, List.of(), Map.of(), null);
+        JsonDecoder custom = (reader, type) -> {
+            assertEquals(Details.class, type);
+            return expected;
+        };
+
+        RowMapper<Order> mapper = RowMapperBuilder.forType(Order.class)
+                .withJsonDecoder(custom)
+                .build();
+
+        assertEquals(expected, mapper.mapAll(orders(new Object[]{1L, "{}"})).get(0).details());
+    }
+
+    @Test
+    void shouldRejectDeepNesting() {
+        String json = "[".repeat(StreamingJsonDecoder.MAX_DEPTH + 2) + "]".repeat(StreamingJsonDecoder.MAX_DEPTH + 2);
+
+        assertThrows(ConversionException.class, () -> this.decoder.decode(new StringReader(json), Object.class));
+    }
+
+    private static ResultSet orders(Object[]... rows) {
+        return TestResultSets.of(List.of("id", "details"), Arrays.asList(rows));
+    }
+
+    public enum Tier {
+        BASIC, GOLD
+    }
+
+    public record Customer(String name, Tier tier, LocalDate since) {
+    }
+
+    public record Line(String sku, int quantity, BigDecimal price) {
+    }
+
+    public record Details(Customer customer, List<Line> lines, Map<String, String> tags, UUID reference) {
+    }
+
+    public record Order(
+            @ColumnMapping long id,
+            @ColumnMapping(json = true) Details details
+    ) {
+    }
+
+    public static class Settings {
+        private String theme;
+        @ColumnMapping("font_size")
+        private int fontSize;
+        private String[] shortcuts;
+        private transient String cached;
+    }
+
+    public static class Profile {
+        @ColumnMapping(json = true)
+        private Settings settings;
+        @ColumnMapping
+        private int[] scores;
+        @ColumnMapping(json = true)
+        private Object extra;
+    }
+}
@@ -0,0 +1,115 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.configs.NamingStrategy;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.ResultSetMapper;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.exceptions.ColumnNotFoundException;
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeyedMappingTest {
+
+    private static final List<String> COLUMNS = List.of("id", "user_name", "team", "tenant_id");
+
+    private final RowMapper<Member> mapper = RowMapperBuilder.forType(Member.class)
+            .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+            .build();
+
+    @Test
+    void shouldCollectRowsWithCollector() throws SQLException {
+        String names = this.mapper.collect(members(), Collectors.mapping(Member::userName, Collectors.joining(",")));
+        Set<String> teams = this.mapper.collect(members(), Collectors.mapping(Member::team, Collectors.toSet()));
+
+        assertEquals("ann,bob,cid", names);
+        assertEquals(Set.of("red", "blue"), teams);
+    }
+
+    @Test
+    void shouldCollectRowsWithFunctionalMapper() throws SQLException {
+        ResultSetMapper<String> names = resultSet -> resultSet.getString("user_name");
+
+        assertEquals(List.of("ann", "bob", "cid"), names.collect(members(), Collectors.toList()));
+    }
+
+    @Test
+    void shouldMapToMapInRowOrder() throws SQLException {
+        Map<Long, Member> byId = this.mapper.mapToMap(members(), Member::id);
+
+        assertEquals(List.of(3L, 1L, 2L), List.copyOf(byId.keySet()));
+        assertEquals("bob", byId.get(1L).userName());
+    }
+
+    @Test
+    void shouldRejectDuplicateKeys() {
+        MappingException exception = assertThrows(MappingException.class,
+                () -> this.mapper.mapToMap(members(), Member::team));
+
+        assertTrue(exception.getMessage().contains("Duplicate key 'red'"));
+    }
+
+    @Test
+    void shouldGroupRowsInOrderOfFirstKey() throws SQLException {
+        Map<String, List<Member>> byTeam = this.mapper.groupBy(members(), Member::team);
+
+        assertEquals(List.of("red", "blue"), List.copyOf(byTeam.keySet()));
+        assertEquals(List.of("ann", "cid"), byTeam.get("red").stream().map(Member::userName).toList());
+        assertEquals(List.of("bob"), byTeam.get("blue").stream().map(Member::userName).toList());
+    }
+
+    @Test
+    void shouldMapToMapByUnmappedKeyColumn() throws SQLException {
+        Map<Integer, Member> byTenant = this.mapper.mapToMap(members(), "tenant_id", int.class);
+
+        assertEquals(List.of(10, 20, 30), List.copyOf(byTenant.keySet()));
+        assertEquals("cid", byTenant.get(30).userName());
+    }
+
+    @Test
+    void shouldGroupByRawKeyColumn() throws SQLException {
+        Map<String, List<Member>> byTeam = this.mapper.groupBy(members(), "TEAM", String.class);
+
+        assertEquals(List.of(3L, 2L), byTeam.get("red").stream().map(Member::id).toList());
+        assertEquals(List.of(1L), byTeam.get("blue").stream().map(Member::id).toList());
+    }
+
+    @Test
+    void shouldRejectDuplicateRawKeys() {
+        MappingException exception = assertThrows(MappingException.class,
+                () -> this.mapper.mapToMap(members(), "team", String.class));
+
+        assertTrue(exception.getMessage().contains("column 'team'"));
+    }
+
+    @Test
+    void shouldFailWhenKeyColumnIsMissing() {
+        assertThrows(ColumnNotFoundException.class, () -> this.mapper.groupBy(members(), "region", String.class));
+    }
+
+    private static ResultSet members() {
+        return TestResultSets.of(COLUMNS, List.of(
+                new Object[]{3L, "ann", "red", 10},
+                new Object[]{1L, "bob", "blue", 20},
+                new Object[]{2L, "cid", "red", 30}
+        ));
+    }
+
+    public record Member(
+            @ColumnMapping long id,
+            @ColumnMapping String userName,
+            @ColumnMapping String team
+    ) {
+    }
+}
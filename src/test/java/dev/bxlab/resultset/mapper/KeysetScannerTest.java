@@ -0,0 +1,338 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+import dev.bxlab.resultset.mapper.jdbc.KeysetScanner;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetScannerTest {
+
+    private static final List<String> COLUMNS = List.of("id", "name");
+
+    private final RowMapper<Item> mapper = RowMapperBuilder.forType(Item.class).build();
+
+    @Test
+    void shouldScanAllRowsInKeyOrder() throws SQLException {
+        FakeDatabase database = new FakeDatabase(10);
+        KeysetScanner<Item> scanner = KeysetScanner.builder(this.mapper)
+                .withQuery("SELECT id, name FROM items")
+                .withKeys("id")
+                .withPageSize(3)
+                .build();
+
+        List<Long> ids = new ArrayList<>();
+        scanner.forEach(database.connection(), item -> ids.add(item.id()));
+
+        assertEquals(LongStream.rangeClosed(1, 10).boxed().toList(), ids);
+        assertEquals(4, database.queries.size());
+        assertEquals(List.of(3L), database.keys.get(1));
+        assertEquals(List.of(9L), database.keys.get(3));
+        assertEquals(0, database.openStatements());
+    }
+
+    @Test
+    void shouldBindQueryParametersBeforeKeys() throws SQLException {
+        FakeDatabase database = new FakeDatabase(4);
+        KeysetScanner<Item> scanner = KeysetScanner.builder(this.mapper)
+                .withQuery("SELECT id, name FROM items WHERE name <> ?", "none")
+                .withKeys("id")
+                .withPageSize(2)
+                .build();
+
+        scanner.forEach(database.connection(), item -> {
+        });
+
+        assertEquals(List.of("none"), database.parameters.get(0));
+        assertEquals(List.of("none", 2L), database.parameters.get(1));
+    }
+
+    @Test
+    void shouldFetchNextPagesInBackground() throws Exception {
+        FakeDatabase database = new FakeDatabase(8);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        KeysetScanner<Item> scanner = KeysetScanner.builder(this.mapper)
+                .withQuery("SELECT id, name FROM items")
+                .withKeys("id")
+                .withPageSize(2)
+                .withPrefetchPages(1)
+                .withExecutor(executor)
+                .build();
+
+        try (KeysetScanner.Scan<Item> scan = scanner.open(database.connection())) {
+            List<Item> first = scan.nextPage();
+            awaitQueries(database, 3);
+            awaitWaiting(database.threads.get(0));
+
+            assertEquals(2, first.size());
+            assertEquals(3, database.queries.size(), "Outstanding pages must be bounded");
+            assertNotEquals(Thread.currentThread(), database.threads.get(0));
+        }
+        assertEquals(0, database.openStatements());
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldStopBackgroundTaskWhenClosedEarly() throws Exception {
+        FakeDatabase database = new FakeDatabase(100);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        KeysetScanner<Item> scanner = KeysetScanner.builder(this.mapper)
+                .withQuery("SELECT id, name FROM items")
+                .withKeys("id")
+                .withPageSize(5)
+                .withExecutor(executor)
+                .build();
+
+        KeysetScanner.Scan<Item> scan = scanner.open(database.connection());
+        scan.nextPage();
+        scan.close();
+
+        int queries = database.queries.size();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+
+        assertEquals(queries, database.queries.size());
+        assertEquals(0, database.openStatements());
+        assertThrows(IllegalStateException.class, scan::nextPage);
+    }
+
+    @Test
+    void shouldCloseWhileBackgroundTaskWaitsForTheCaller() throws Exception {
+        FakeDatabase database = new FakeDatabase(4);
+        KeysetScanner<Item> scanner = KeysetScanner.builder(this.mapper)
+                .withQuery("SELECT id, name FROM items")
+                .withKeys("id")
+                .withPageSize(2)
+                .withPrefetchPages(1)
+                .build();
+
+        KeysetScanner.Scan<Item> scan = scanner.open(database.connection());
+        awaitQueries(database, 2);
+        awaitWaiting(database.threads.get(0));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), scan::close);
+        assertEquals(0, database.openStatements());
+    }
+
+    @Test
+    void shouldCancelRunningQueryWhenClosed() throws Exception {
+        FakeDatabase database = new FakeDatabase(10);
+        database.stall = new CountDownLatch(1);
+        KeysetScanner<Item> scanner = KeysetScanner.builder(this.mapper)
+                .withQuery("SELECT id, name FROM items")
+                .withKeys("id")
+                .build();
+
+        KeysetScanner.Scan<Item> scan = scanner.open(database.connection());
+        awaitQueries(database, 1);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), scan::close);
+        assertEquals(1, database.cancels.get());
+        assertFalse(database.threads.get(0).isInterrupted());
+        assertEquals(0, database.openStatements());
+    }
+
+    @Test
+    void shouldPropagateQueryFailures() {
+        FakeDatabase database = new FakeDatabase(10);
+        database.failAfter = 1;
+        KeysetScanner<Item> scanner = KeysetScanner.builder(this.mapper)
+                .withQuery("SELECT id, name FROM items")
+                .withKeys("id")
+                .withPageSize(4)
+                .build();
+
+        assertThrows(SQLTransientConnectionException.class, () -> scanner.forEach(database.connection(), item -> {
+        }));
+    }
+
+    @Test
+    void shouldEndOnEmptyTable() throws SQLException {
+        FakeDatabase database = new FakeDatabase(0);
+        KeysetScanner<Item> scanner = KeysetScanner.builder(this.mapper)
+                .withQuery("SELECT id, name FROM items")
+                .withKeys("id")
+                .build();
+
+        try (KeysetScanner.Scan<Item> scan = scanner.open(database.connection())) {
+            assertNull(scan.nextPage());
+            assertNull(scan.nextPage());
+        }
+    }
+
+    @Test
+    void shouldGenerateExpandedPredicateForCompositeKeys() {
+        KeysetScanner<Item> scanner = KeysetScanner.builder(this.mapper)
+                .withQuery("SELECT id, name FROM items")
+                .withKeys("name", "id")
+                .build();
+
+        assertEquals("SELECT * FROM (SELECT id, name FROM items) keyset_page ORDER BY name, id", scanner.getFirstPageSql());
+        assertEquals("SELECT * FROM (SELECT id, name FROM items) keyset_page WHERE (name > ?) OR (name = ? AND id > ?)"
+                + " ORDER BY name, id", scanner.getNextPageSql());
+    }
+
+    @Test
+    void shouldValidateConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetScanner.builder(this.mapper).withKeys("id").build());
+        assertThrows(IllegalArgumentException.class, () -> KeysetScanner.builder(this.mapper).withQuery("SELECT 1").build());
+        assertThrows(IllegalArgumentException.class, () -> KeysetScanner.builder(this.mapper)
+                .withQuery("SELECT 1").withKeys("missing").build());
+        assertThrows(IllegalArgumentException.class, () -> KeysetScanner.builder(this.mapper)
+                .withQuery("SELECT 1").withKeys("id").withPageSize(0).build());
+        assertThrows(IllegalArgumentException.class, () -> KeysetScanner.builder(this.mapper)
+                .withQuery("SELECT 1").withKeys("id").withPrefetchPages(0).build());
+    }
+
+    @Test
+    void shouldRejectNullKeys() {
+        FakeDatabase database = new FakeDatabase(4);
+        database.table.put(2L, new Object[]{2L, null});
+        KeysetScanner<Item> scanner = KeysetScanner.builder(this.mapper)
+                .withQuery("SELECT id, name FROM items")
+                .withKeys("name", "id")
+                .withPageSize(2)
+                .build();
+
+        assertThrows(MappingException.class, () -> scanner.forEach(database.connection(), item -> {
+        }));
+    }
+
+    private static void awaitQueries(FakeDatabase database, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (database.queries.size() < count && System.nanoTime() < deadline) Thread.sleep(5);
+    }
+
+    /**
+     * Waits until a thread is parked, which the background task only does while the page queue is full.
+     */
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) Thread.sleep(5);
+    }
+
+    public record Item(@ColumnMapping long id, @ColumnMapping String name) {
+    }
+
+    /**
+     * In-memory table of items served through proxied connections and statements, recording the executed pages.
+     * Next page queries are answered by filtering on the last bound parameter, which is enough for single keys and
+     * for composite keys whose leading columns are unique.
+     */
+    private static final class FakeDatabase {
+        private final TreeMap<Long, Object[]> table = new TreeMap<>();
+        private final List<String> queries = new CopyOnWriteArrayList<>();
+        private final List<List<Object>> parameters = new CopyOnWriteArrayList<>();
+        private final List<List<Object>> keys = new CopyOnWriteArrayList<>();
+        private final List<Thread> threads = new CopyOnWriteArrayList<>();
+        private final List<Boolean> statements = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger cancels = new AtomicInteger();
+        private int failAfter = Integer.MAX_VALUE;
+        private volatile CountDownLatch stall;
+
+        private FakeDatabase(int rows) {
+            for (long id = 1; id <= rows; id++) this.table.put(id, new Object[]{id, "item-" + id});
+        }
+
+        private Connection connection() {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("prepareStatement")) return this.statement((String) args[0]);
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        private long openStatements() {
+            return this.statements.stream().filter(open -> open).count();
+        }
+
+        private PreparedStatement statement(String sql) {
+            int handle = this.statements.size();
+            this.statements.add(true);
+            Map<Integer, Object> bound = new TreeMap<>();
+            int[] maxRows = {0};
+
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "setMaxRows":
+                                maxRows[0] = (Integer) args[0];
+                                return null;
+                            case "setFetchSize":
+                                return null;
+                            case "clearParameters":
+                                bound.clear();
+                                return null;
+                            case "setObject":
+                                bound.put((Integer) args[0], args[1]);
+                                return null;
+                            case "close":
+                                this.statements.set(handle, false);
+                                return null;
+                            case "cancel":
+                                this.cancels.incrementAndGet();
+                                if (this.stall != null) this.stall.countDown();
+                                return null;
+                            case "executeQuery":
+                                return this.execute(sql, new ArrayList<>(bound.values()), maxRows[0]);
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+
+        private java.sql.ResultSet execute(String sql, List<Object> values, int maxRows) throws SQLException {
+            if (this.queries.size() >= this.failAfter) throw new SQLTransientConnectionException("Connection lost");
+
+            this.queries.add(sql);
+            this.parameters.add(values);
+            this.threads.add(Thread.currentThread());
+
+            boolean nextPage = sql.contains("keyset_page WHERE");
+            List<Object> key = nextPage ? List.of(values.get(values.size() - 1)) : List.of();
+            this.keys.add(key);
+
+            CountDownLatch latch = this.stall;
+            if (latch != null) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    throw new SQLException("Interrupted", e);
+                }
+                throw new SQLException("Query cancelled", "57014");
+            }
+
+            long after = nextPage ? (Long) key.get(0) : Long.MIN_VALUE;
+            List<Object[]> rows = this.table.tailMap(after, false).values().stream().limit(maxRows).toList();
+            return TestResultSets.of(COLUMNS, rows);
+        }
+    }
+}
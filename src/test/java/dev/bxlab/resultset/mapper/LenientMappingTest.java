@@ -0,0 +1,194 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.configs.EnumStrategy;
+import dev.bxlab.resultset.mapper.configs.FieldConfig;
+import dev.bxlab.resultset.mapper.configs.NamingStrategy;
+import dev.bxlab.resultset.mapper.converters.BoundConverter;
+import dev.bxlab.resultset.mapper.converters.ConversionFailure;
+import dev.bxlab.resultset.mapper.converters.EnumConverter;
+import dev.bxlab.resultset.mapper.converters.StandardConverters;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.ErrorReport;
+import dev.bxlab.resultset.mapper.core.FieldError;
+import dev.bxlab.resultset.mapper.core.PreparedRowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.exceptions.ConversionException;
+import dev.bxlab.resultset.mapper.exceptions.ErrorBudgetExceededException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LenientMappingTest {
+
+    private static final List<String> COLUMNS = List.of("id", "status", "joined_on");
+
+    private final RowMapper<Member> mapper = RowMapperBuilder.forType(Member.class)
+            .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+            .mapField("joinedOn", config -> config.withAttribute("format", "yyyy-MM-dd"))
+            .build();
+
+    @Test
+    void shouldReportFailedFieldsAndKeepMapping() throws SQLException {
+        ErrorReport report = ErrorReport.unbounded();
+
+        List<Member> members = this.mapper.mapAll(members(), report);
+
+        assertEquals(3, members.size());
+        assertEquals(new Member(1L, Status.ACTIVE, LocalDate.of(2024, 1, 15)), members.get(0));
+        assertEquals(new Member(2L, null, LocalDate.of(2024, 2, 1)), members.get(1));
+        assertEquals(new Member(3L, Status.SUSPENDED, null), members.get(2));
+
+        assertEquals(List.of(
+                new FieldError(2, "status", "status", "UNKNOWN", ConversionException.class),
+                new FieldError(3, "joinedOn", "joined_on", "15/03/2024", ConversionException.class)
+        ), report.getErrors());
+    }
+
+    @Test
+    void shouldAbortWhenErrorBudgetIsExceeded() {
+        ErrorReport report = new ErrorReport(1);
+
+        ErrorBudgetExceededException exception = assertThrows(ErrorBudgetExceededException.class,
+                () -> this.mapper.mapAll(members(), report));
+
+        assertEquals(1, exception.getErrorBudget());
+        assertTrue(exception.getMessage().contains("row 3, field 'joinedOn'"));
+        assertEquals(1, report.getErrorCount());
+    }
+
+    @Test
+    void shouldReturnFailureMarkersForUnknownEnumValuesAndUnparsableDates() throws SQLException {
+        BoundConverter<?> status = EnumConverter.of(Status.class, EnumStrategy.NAME).bind(FieldConfig.builder().build());
+        BoundConverter<?> joinedOn = StandardConverters.LOCAL_DATE.bind(FieldConfig.builder().withAttribute("format", "yyyy-MM-dd").build());
+        ResultSet resultSet = members();
+
+        resultSet.next();
+        assertEquals(Status.ACTIVE, status.readLeniently(resultSet, "status"));
+        assertEquals(LocalDate.of(2024, 1, 15), joinedOn.readLeniently(resultSet, "joined_on"));
+
+        resultSet.next();
+        assertSame(ConversionFailure.of(ConversionException.class), status.readLeniently(resultSet, "status"));
+
+        resultSet.next();
+        assertSame(ConversionFailure.of(ConversionException.class), joinedOn.readLeniently(resultSet, "joined_on"));
+    }
+
+    @Test
+    void shouldReportDataExceptionsButPropagateOtherSqlExceptions() throws SQLException {
+        List<FieldError> errors = new ArrayList<>();
+        RowMapper<Member> dataErrors = RowMapperBuilder.forType(Member.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .mapField("joinedOn", config -> config.withAttribute("format", "yyyy-MM-dd"))
+                .mapField("id", config -> config.withConverter((resultSet, column, attributes) -> {
+                    throw new SQLDataException("Numeric value out of range", "22003");
+                }))
+                .build();
+        RowMapper<Member> connectionErrors = RowMapperBuilder.forType(Member.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .mapField("id", config -> config.withConverter((resultSet, column, attributes) -> {
+                    throw new SQLNonTransientConnectionException("Connection reset", "08006");
+                }))
+                .build();
+
+        List<Member> members = dataErrors.mapAll(members(), errors::add);
+        List<FieldError> idErrors = errors.stream().filter(error -> error.fieldName().equals("id")).toList();
+
+        assertEquals(0L, members.get(0).id());
+        assertEquals(3, idErrors.size());
+        assertEquals(SQLDataException.class, idErrors.get(0).causeType());
+        assertEquals(1L, idErrors.get(0).rawValue());
+        assertThrows(SQLNonTransientConnectionException.class, () -> connectionErrors.mapAll(members(), errors::add));
+    }
+
+    @Test
+    void shouldPropagateConnectionFailuresOfStandardConverters() throws SQLException {
+        ResultSet resultSet = failing(members(), "getLong", new SQLNonTransientConnectionException("Connection reset", "08006"));
+        BoundConverter<?> uuid = StandardConverters.UUID.bind(FieldConfig.builder().build());
+        ResultSet uuids = failing(members(), "getObject", new SQLException("Connection reset", "08003"));
+        uuids.next();
+
+        assertThrows(SQLNonTransientConnectionException.class, () -> this.mapper.mapAll(resultSet, ErrorReport.unbounded()));
+        assertThrows(SQLException.class, () -> uuid.readLeniently(uuids, "id"));
+    }
+
+    @Test
+    void shouldReportRootCauseOfWrappedDataExceptions() throws SQLException {
+        BoundConverter<?> uuid = StandardConverters.UUID.bind(FieldConfig.builder().build());
+        ResultSet resultSet = failing(members(), "getObject", new SQLDataException("Invalid character value", "22018"));
+        resultSet.next();
+
+        assertSame(ConversionFailure.of(SQLDataException.class), uuid.readLeniently(resultSet, "id"));
+    }
+
+    @Test
+    void shouldMapSingleRowsLenientlyWithPreparedMapper() throws SQLException {
+        ResultSet resultSet = members();
+        PreparedRowMapper<Member> preparedMapper = this.mapper.prepare(resultSet.getMetaData());
+        ErrorReport report = new ErrorReport(10);
+
+        resultSet.next();
+        resultSet.next();
+        Member member = preparedMapper.map(resultSet, report, 2);
+
+        assertNull(member.status());
+        assertEquals(2, report.getErrors().get(0).row());
+    }
+
+    @Test
+    void shouldStillThrowInStrictMode() {
+        assertThrows(ConversionException.class, () -> this.mapper.mapAll(members()));
+    }
+
+    @Test
+    void shouldValidateErrorReports() {
+        assertThrows(IllegalArgumentException.class, () -> new ErrorReport(-1));
+        assertFalse(new ErrorReport(0).hasErrors());
+    }
+
+    private static ResultSet members() {
+        return TestResultSets.of(COLUMNS, List.of(
+                new Object[]{1L, "ACTIVE", "2024-01-15"},
+                new Object[]{2L, "UNKNOWN", "2024-02-01"},
+                new Object[]{3L, "SUSPENDED", "15/03/2024"}
+        ));
+    }
+
+    private static ResultSet failing(ResultSet delegate, String getter, SQLException failure) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals(getter)) throw failure;
+                    try {
+                        return method.invoke(delegate, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    public enum Status {
+        ACTIVE, SUSPENDED
+    }
+
+    public record Member(
+            @ColumnMapping long id,
+            @ColumnMapping Status status,
+            @ColumnMapping LocalDate joinedOn
+    ) {
+    }
+}
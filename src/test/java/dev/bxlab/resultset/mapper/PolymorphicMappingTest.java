@@ -0,0 +1,146 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.configs.NamingStrategy;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.DiscriminatorValue;
+import dev.bxlab.resultset.mapper.core.PolymorphicRowMapper;
+import dev.bxlab.resultset.mapper.core.ResultSetMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.exceptions.ColumnNotFoundException;
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PolymorphicMappingTest {
+
+    private static final List<String> COLUMNS = List.of("id", "kind", "amount", "card_number", "iban");
+
+    private final PolymorphicRowMapper<Payment> mapper = RowMapperBuilder.forType(Payment.class)
+            .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+            .withDiscriminator("kind")
+            .buildPolymorphic();
+
+    @Test
+    void shouldDiscoverSealedSubtypes() {
+        assertEquals(Map.of("CARD", CardPayment.class, "TRANSFER", BankTransfer.class, "Voucher", Voucher.class),
+                this.mapper.getSubtypes());
+    }
+
+    @Test
+    void shouldMapEachRowToItsSubtype() throws SQLException {
+        List<Payment> payments = this.mapper.mapAll(payments());
+
+        assertEquals(List.of(
+                new CardPayment(1L, new BigDecimal("10.00"), "4111"),
+                new BankTransfer(2L, new BigDecimal("25.50"), "DE89"),
+                new Voucher(3L, new BigDecimal("5.00"))
+        ), payments);
+    }
+
+    @Test
+    void shouldCollectMappedSubtypes() throws SQLException {
+        Map<Class<?>, Long> counts = this.mapper.collect(payments(), Collectors.groupingBy(Object::getClass, Collectors.counting()));
+
+        assertEquals(Map.of(CardPayment.class, 1L, BankTransfer.class, 1L, Voucher.class, 1L), counts);
+    }
+
+    @Test
+    void shouldReusePreparedMapperForSingleRows() throws SQLException {
+        ResultSet resultSet = payments();
+        ResultSetMapper<Payment> prepared = this.mapper.prepare(resultSet.getMetaData());
+
+        resultSet.next();
+        resultSet.next();
+
+        assertEquals(new BankTransfer(2L, new BigDecimal("25.50"), "DE89"), prepared.map(resultSet));
+    }
+
+    @Test
+    void shouldPreferExplicitSubtypes() throws SQLException {
+        PolymorphicRowMapper<Payment> legacy = RowMapperBuilder.forType(Payment.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .withDiscriminator("kind")
+                .withSubtype("Voucher", Voucher.class)
+                .withSubtype("GIFT", Voucher.class)
+                .buildPolymorphic();
+        ResultSet resultSet = TestResultSets.of(COLUMNS, List.<Object[]>of(new Object[]{9L, "GIFT", new BigDecimal("1.00"), null, null}));
+
+        assertEquals(List.of(new Voucher(9L, new BigDecimal("1.00"))), legacy.mapAll(resultSet));
+        assertEquals(Voucher.class, legacy.getSubtypeMapper("Voucher").getTargetType());
+    }
+
+    @Test
+    void shouldFailOnUnknownOrNullDiscriminator() {
+        ResultSet unknown = TestResultSets.of(COLUMNS, List.<Object[]>of(new Object[]{1L, "CASH", null, null, null}));
+        ResultSet missing = TestResultSets.of(COLUMNS, Arrays.<Object[]>asList(new Object[]{1L, null, null, null, null}));
+
+        MappingException exception = assertThrows(MappingException.class, () -> this.mapper.mapAll(unknown));
+        assertTrue(exception.getMessage().contains("'CASH'"));
+        assertThrows(MappingException.class, () -> this.mapper.mapAll(missing));
+    }
+
+    @Test
+    void shouldFailWhenDiscriminatorColumnIsMissing() {
+        ResultSet resultSet = TestResultSets.of(List.of("id"), List.<Object[]>of(new Object[]{1L}));
+
+        assertThrows(ColumnNotFoundException.class, () -> this.mapper.mapAll(resultSet));
+    }
+
+    @Test
+    void shouldValidatePolymorphicConfiguration() {
+        RowMapperBuilder<Payment> builder = RowMapperBuilder.forType(Payment.class);
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        Class<Payment> unrelated = (Class) String.class;
+
+        assertThrows(IllegalArgumentException.class, builder::buildPolymorphic);
+        assertThrows(IllegalArgumentException.class, () -> builder.withSubtype("", Voucher.class));
+        assertThrows(IllegalArgumentException.class, () -> builder.withSubtype(unrelated));
+        assertThrows(IllegalArgumentException.class, () -> RowMapperBuilder.forType(Voucher.class)
+                .withDiscriminator("kind")
+                .buildPolymorphic());
+    }
+
+    private static ResultSet payments() {
+        return TestResultSets.of(COLUMNS, Arrays.asList(
+                new Object[]{1L, "CARD", new BigDecimal("10.00"), "4111", null},
+                new Object[]{2L, "TRANSFER", new BigDecimal("25.50"), null, "DE89"},
+                new Object[]{3L, "Voucher", new BigDecimal("5.00"), null, null}
+        ));
+    }
+
+    public sealed interface Payment {
+    }
+
+    @DiscriminatorValue("CARD")
+    public record CardPayment(
+            @ColumnMapping long id,
+            @ColumnMapping BigDecimal amount,
+            @ColumnMapping String cardNumber
+    ) implements Payment {
+    }
+
+    @DiscriminatorValue("TRANSFER")
+    public record BankTransfer(
+            @ColumnMapping long id,
+            @ColumnMapping BigDecimal amount,
+            @ColumnMapping String iban
+    ) implements Payment {
+    }
+
+    public record Voucher(
+            @ColumnMapping long id,
+            @ColumnMapping BigDecimal amount
+    ) implements Payment {
+    }
+}
@@ -0,0 +1,99 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.PreparedRowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.exceptions.ColumnNotFoundException;
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PreparedRowMapperTest {
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private ResultSetMetaData metaData;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Test
+    void shouldMapRowsWithoutReadingMetadataAgain() throws SQLException {
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn("ID");
+        when(metaData.getColumnLabel(2)).thenReturn("NAME");
+
+        when(resultSet.getInt("ID")).thenReturn(1, 2);
+        when(resultSet.getString("NAME")).thenReturn("First", "Second");
+
+        PreparedRowMapper<User> mapper = RowMapperBuilder.forType(User.class).build().prepare(metaData);
+
+        User first = mapper.map(resultSet);
+        User second = mapper.map(resultSet);
+
+        assertEquals(new User(1, "First"), first);
+        assertEquals(new User(2, "Second"), second);
+        assertEquals(List.of("ID", "NAME"), mapper.getBoundColumns());
+        verify(metaData, times(1)).getColumnCount();
+        verify(resultSet, never()).getMetaData();
+    }
+
+    @Test
+    void shouldPrepareFromStatementMetadata() throws SQLException {
+        when(statement.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnLabel(1)).thenReturn("id");
+
+        when(resultSet.getInt("id")).thenReturn(7);
+
+        PreparedRowMapper<User> mapper = RowMapperBuilder.forType(User.class).build().prepare(statement);
+
+        assertEquals(new User(7, null), mapper.map(resultSet));
+    }
+
+    @Test
+    void shouldValidateColumnsWhenPreparing() throws SQLException {
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnLabel(1)).thenReturn("ID");
+
+        RowMapper<User> mapper = RowMapperBuilder.forType(User.class)
+                .ignoreUnknownColumns(false)
+                .build();
+
+        assertThrows(ColumnNotFoundException.class, () -> mapper.prepare(metaData));
+    }
+
+    @Test
+    void shouldFailWhenStatementMetadataIsUnavailable() throws SQLException {
+        when(statement.getMetaData()).thenReturn(null);
+
+        RowMapper<User> mapper = RowMapperBuilder.forType(User.class).build();
+
+        assertThrows(MappingException.class, () -> mapper.prepare(statement));
+    }
+
+    public record User(
+            @ColumnMapping Integer id,
+            @ColumnMapping String name
+    ) {
+    }
+}
@@ -0,0 +1,128 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.configs.NamingStrategy;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.exceptions.ColumnNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProjectionTest {
+
+    private final RowMapper<Account> mapper = RowMapperBuilder.forType(Account.class)
+            .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+            .build();
+
+    @Test
+    void shouldMapOnlyProjectedFields() throws SQLException {
+        RowMapper<Account> summary = this.mapper.project("id", "userName");
+
+        List<Account> accounts = summary.mapAll(accounts());
+
+        assertEquals(new Account(1L, "ann", null, false), accounts.get(0));
+        assertEquals(new Account(2L, "bob", null, false), accounts.get(1));
+    }
+
+    @Test
+    void shouldNotReadUnprojectedColumns() throws SQLException {
+        RowMapper<Account> strictMapper = RowMapperBuilder.forType(Account.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .ignoreUnknownColumns(false)
+                .build();
+        RowMapper<Account> summary = strictMapper.project("userName");
+        ResultSet resultSet = TestResultSets.of(List.of("user_name"), List.<Object[]>of(new Object[]{"ann"}));
+
+        assertThrows(ColumnNotFoundException.class, () -> strictMapper.mapAll(
+                TestResultSets.of(List.of("user_name"), List.<Object[]>of(new Object[]{"ann"}))));
+        assertEquals(List.of(new Account(0L, "ann", null, false)), summary.mapAll(resultSet));
+    }
+
+    @Test
+    void shouldProjectPojosLeavingDefaults() throws SQLException {
+        RowMapper<Profile> profiles = RowMapperBuilder.forType(Profile.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .build()
+                .project("balance");
+
+        Profile profile = profiles.mapAll(accounts()).get(0);
+
+        assertEquals(new BigDecimal("10.50"), profile.balance);
+        assertNull(profile.userName);
+        assertFalse(profile.active);
+    }
+
+    @Test
+    void shouldShareResolvedFieldMappings() {
+        RowMapper<Account> projected = this.mapper.project("balance", "id");
+
+        assertEquals(List.of("id", "balance"), projected.getColumnNames());
+        assertSame(this.mapper.getFieldMappings().get(0), projected.getFieldMappings().get(0));
+        assertSame(this.mapper.getFieldMappings().get(2), projected.getFieldMappings().get(1));
+        assertEquals("SELECT id, balance FROM", projected.selectClause());
+    }
+
+    @Test
+    void shouldProjectByFieldMask() throws SQLException {
+        BitSet mask = new BitSet();
+        mask.set(1);
+        mask.set(3);
+
+        RowMapper<Account> projected = this.mapper.project(mask);
+
+        assertEquals(List.of("user_name", "active"), projected.getColumnNames());
+        assertEquals(new Account(0L, "ann", null, true), projected.mapAll(accounts()).get(0));
+    }
+
+    @Test
+    void shouldProjectProjections() {
+        RowMapper<Account> projected = this.mapper.project("id", "userName").project("userName");
+
+        assertEquals(List.of("user_name"), projected.getColumnNames());
+    }
+
+    @Test
+    void shouldRejectInvalidProjections() {
+        BitSet mask = new BitSet();
+        mask.set(4);
+
+        assertThrows(IllegalArgumentException.class, () -> this.mapper.project("missing"));
+        assertThrows(IllegalArgumentException.class, () -> this.mapper.project(mask));
+        assertThrows(IllegalArgumentException.class, () -> this.mapper.project((BitSet) null));
+    }
+
+    private static ResultSet accounts() {
+        return TestResultSets.of(List.of("id", "user_name", "balance", "active"), List.of(
+                new Object[]{1L, "ann", new BigDecimal("10.50"), true},
+                new Object[]{2L, "bob", new BigDecimal("3.00"), false}
+        ));
+    }
+
+    public record Account(
+            @ColumnMapping long id,
+            @ColumnMapping String userName,
+            @ColumnMapping BigDecimal balance,
+            @ColumnMapping boolean active
+    ) {
+    }
+
+    public static class Profile {
+        @ColumnMapping
+        private String userName;
+        @ColumnMapping
+        private BigDecimal balance;
+        @ColumnMapping
+        private boolean active;
+    }
+}
@@ -0,0 +1,333 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.cache.QueryCache;
+import dev.bxlab.resultset.mapper.cache.QueryKey;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryCacheTest {
+
+    private static final String SQL = "SELECT code, name FROM currencies WHERE active = ?";
+
+    private final RowMapper<Currency> mapper = RowMapperBuilder.forType(Currency.class).build();
+    private final MutableClock clock = new MutableClock();
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Test
+    void shouldRunQueryOnceAndReuseResult() throws SQLException {
+        when(this.connection.prepareStatement(SQL)).thenReturn(this.statement);
+        when(this.statement.executeQuery()).thenReturn(currencies());
+
+        QueryCache<Currency> cache = QueryCache.builder(this.mapper).build();
+
+        List<Currency> first = cache.query(this.connection, QueryKey.of(SQL, true));
+        List<Currency> second = cache.query(this.connection, QueryKey.of(SQL, true));
+
+        assertEquals(List.of(new Currency("EUR", "Euro"), new Currency("USD", "US Dollar")), first);
+        assertSame(first, second);
+        assertThrows(UnsupportedOperationException.class, () -> first.add(new Currency("GBP", "Pound")));
+        verify(this.statement).setObject(1, true);
+        verify(this.statement).executeQuery();
+    }
+
+    @Test
+    void shouldKeySeparateEntriesByParameters() throws SQLException {
+        QueryCache<Currency> cache = QueryCache.builder(this.mapper).build();
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(QueryKey.of(SQL, true), () -> load(loads));
+        cache.get(QueryKey.of(SQL, false), () -> load(loads));
+        cache.get(QueryKey.of(SQL, new byte[]{1, 2}), () -> load(loads));
+        cache.get(QueryKey.of(SQL, new byte[]{1, 2}), () -> load(loads));
+
+        assertEquals(3, loads.get());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTimeToLive() throws SQLException {
+        QueryCache<Currency> cache = QueryCache.builder(this.mapper)
+                .withTimeToLive(Duration.ofMinutes(1))
+                .withClock(this.clock)
+                .build();
+        AtomicInteger loads = new AtomicInteger();
+        QueryKey key = QueryKey.of(SQL, true);
+
+        cache.get(key, () -> load(loads));
+        this.clock.advance(Duration.ofSeconds(59));
+        assertNotNull(cache.getIfPresent(key));
+
+        this.clock.advance(Duration.ofSeconds(1));
+        assertNull(cache.getIfPresent(key));
+
+        cache.get(key, () -> load(loads));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntriesOverMaximumWeight() throws SQLException {
+        QueryCache<Currency> cache = QueryCache.builder(this.mapper)
+                .withMaximumWeight(1_000)
+                .withWeigher(currency -> 100)
+                .build();
+        AtomicInteger loads = new AtomicInteger();
+
+        // Each entry weighs 128 bytes of overhead plus 2 rows of 104 bytes
+        QueryKey first = QueryKey.of(SQL, 1);
+        QueryKey second = QueryKey.of(SQL, 2);
+        QueryKey third = QueryKey.of(SQL, 3);
+        cache.get(first, () -> load(loads));
+        cache.get(second, () -> load(loads));
+        cache.get(first, () -> load(loads));
+        cache.get(third, () -> load(loads));
+
+        assertEquals(2, cache.size());
+        assertEquals(2 * 336, cache.getWeight());
+        assertNotNull(cache.getIfPresent(first));
+        assertNull(cache.getIfPresent(second));
+        assertNotNull(cache.getIfPresent(third));
+    }
+
+    @Test
+    void shouldNotCacheResultsHeavierThanMaximumWeight() throws SQLException {
+        QueryCache<Currency> cache = QueryCache.builder(this.mapper)
+                .withMaximumWeight(200)
+                .build();
+        AtomicInteger loads = new AtomicInteger();
+
+        List<Currency> rows = cache.get(QueryKey.of(SQL, true), () -> load(loads));
+
+        assertEquals(2, rows.size());
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    void shouldInvalidateByKeyAndTag() throws SQLException {
+        QueryCache<Currency> cache = QueryCache.builder(this.mapper).build();
+        AtomicInteger loads = new AtomicInteger();
+
+        QueryKey active = QueryKey.of(SQL, true).withTags("currencies");
+        QueryKey inactive = QueryKey.of(SQL, false).withTags("currencies", "inactive");
+        QueryKey other = QueryKey.of("SELECT code, name FROM countries");
+        cache.get(active, () -> load(loads));
+        cache.get(inactive, () -> load(loads));
+        cache.get(other, () -> load(loads));
+
+        cache.invalidate(QueryKey.of(SQL, false));
+        assertNull(cache.getIfPresent(inactive));
+        assertEquals(2, cache.size());
+
+        cache.invalidateTag("currencies");
+        assertNull(cache.getIfPresent(active));
+        assertNotNull(cache.getIfPresent(other));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    void shouldLoadOnceForConcurrentMisses() throws Exception {
+        QueryCache<Currency> cache = QueryCache.builder(this.mapper).build();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        QueryKey key = QueryKey.of(SQL, true);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<Currency>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get(key, () -> {
+                loading.countDown();
+                awaitUninterruptibly(release);
+                return load(loads);
+            })));
+
+            loading.await(10, TimeUnit.SECONDS);
+            for (int i = 1; i < threads; i++) {
+                results.add(executor.submit(() -> cache.get(key, () -> load(loads))));
+            }
+
+            // Give the waiting callers time to join the load in flight
+            Thread.sleep(100);
+            release.countDown();
+
+            List<Currency> expected = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<List<Currency>> result : results) assertSame(expected, result.get(10, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldPropagateLoadFailureWithoutCaching() throws SQLException {
+        QueryCache<Currency> cache = QueryCache.builder(this.mapper).build();
+        QueryKey key = QueryKey.of(SQL, true);
+
+        SQLException exception = assertThrows(SQLException.class,
+                () -> cache.get(key, () -> {
+                    throw new SQLException("Connection reset");
+                }));
+
+        assertEquals("Connection reset", exception.getMessage());
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.get(key, () -> load(new AtomicInteger())).size());
+    }
+
+    @Test
+    void shouldDiscardLoadInvalidatedWhileInFlight() throws SQLException {
+        QueryCache<Currency> cache = QueryCache.builder(this.mapper).build();
+        QueryKey key = QueryKey.of(SQL, true).withTags("currencies");
+
+        List<Currency> rows = cache.get(key, () -> {
+            cache.invalidateTag("currencies");
+            return load(new AtomicInteger());
+        });
+
+        assertEquals(2, rows.size());
+        assertNull(cache.getIfPresent(key));
+    }
+
+    @Test
+    void shouldRejectLoaderGettingTheKeyItIsLoading() throws SQLException {
+        QueryCache<Currency> cache = QueryCache.builder(this.mapper).build();
+        QueryKey key = QueryKey.of(SQL, true);
+
+        assertThrows(IllegalStateException.class, () -> cache.get(key, () -> cache.get(key, () -> load(new AtomicInteger()))));
+        assertEquals(2, cache.get(key, () -> load(new AtomicInteger())).size());
+    }
+
+    @Test
+    void shouldWeighRowsFromFieldPlan() throws SQLException {
+        QueryCache<Currency> cache = QueryCache.builder(this.mapper).build();
+
+        cache.get(QueryKey.of(SQL, true), () -> load(new AtomicInteger()));
+
+        assertTrue(cache.getWeight() > 2 * 2 * (16 + 24), "Weight was " + cache.getWeight());
+    }
+
+    @Test
+    void shouldWeighRowsOfFieldsWithoutBinaryEncoding() throws SQLException {
+        QueryCache<Opening> cache = QueryCache.builder(RowMapperBuilder.forType(Opening.class).build()).build();
+
+        cache.get(QueryKey.of(SQL, true), () -> List.of(new Opening(LocalTime.NOON, "lunch")));
+
+        assertTrue(cache.getWeight() > 16 + 2 * 4, "Weight was " + cache.getWeight());
+    }
+
+    @Test
+    void shouldCacheNullRows() throws SQLException {
+        QueryCache<Currency> cache = QueryCache.builder(this.mapper).build();
+
+        List<Currency> rows = cache.get(QueryKey.of(SQL, true), () -> Arrays.asList(new Currency("EUR", "Euro"), null));
+
+        assertEquals(Arrays.asList(new Currency("EUR", "Euro"), null), rows);
+        assertSame(rows, cache.getIfPresent(QueryKey.of(SQL, true)));
+        assertThrows(UnsupportedOperationException.class, () -> rows.set(1, null));
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> QueryCache.builder(this.mapper).withMaximumWeight(0).build());
+        assertThrows(IllegalArgumentException.class, () -> QueryCache.builder(this.mapper).withTimeToLive(Duration.ZERO).build());
+        assertThrows(IllegalArgumentException.class, () -> QueryCache.builder(null).build());
+        assertThrows(IllegalArgumentException.class, () -> QueryKey.of(" "));
+    }
+
+    private static List<Currency> load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return List.of(new Currency("EUR", "Euro"), new Currency("USD", "US Dollar"));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static java.sql.ResultSet currencies() {
+        return TestResultSets.of(List.of("code", "name"), List.of(
+                new Object[]{"EUR", "Euro"},
+                new Object[]{"USD", "US Dollar"}
+        ));
+    }
+
+    public record Currency(
+            @ColumnMapping String code,
+            @ColumnMapping String name
+    ) {
+    }
+
+    public record Opening(
+            @ColumnMapping LocalTime opensAt,
+            @ColumnMapping Object label
+    ) {
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            this.instant = this.instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.codec.BinaryWriter;
+import dev.bxlab.resultset.mapper.codec.RowCodec;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+import dev.bxlab.resultset.mapper.exceptions.SchemaMismatchException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RowCodecTest {
+
+    private final RowCodec<Customer> codec = RowCodec.of(RowMapperBuilder.forType(Customer.class).build());
+
+    @Test
+    void shouldRoundTripAllValues() {
+        Customer customer = new Customer(
+                42L,
+                7,
+                "Ada Lovelace",
+                new BigDecimal("-1234.5600"),
+                true,
+                LocalDate.of(1815, 12, 10),
+                OffsetDateTime.of(2024, 3, 1, 10, 15, 30, 123_000_000, ZoneOffset.ofHours(-5)),
+                ZonedDateTime.of(2024, 3, 1, 10, 15, 30, 0, ZoneId.of("Europe/Madrid")),
+                Timestamp.valueOf("2024-03-01 10:15:30.123456789"),
+                Tier.GOLD
+        );
+
+        assertEquals(customer, this.codec.decode(this.codec.encode(customer)));
+    }
+
+    @Test
+    void shouldRoundTripNullValues() {
+        Customer customer = new Customer(null, 0, null, null, false, null, null, null, null, null);
+
+        byte[] bytes = this.codec.encode(customer);
+
+        assertEquals(customer, this.codec.decode(bytes));
+        // Schema hash, a 1-byte null bitmap for the 8 nullable fields, the int and the boolean
+        assertEquals(8 + 1 + 1 + 1, bytes.length);
+    }
+
+    @Test
+    void shouldDecodeNullValuesOverFieldInitializers() {
+        RowCodec<Ticket> ticketCodec = RowCodec.of(RowMapperBuilder.forType(Ticket.class).build());
+        Ticket ticket = new Ticket();
+        ticket.id = 1L;
+        ticket.status = null;
+
+        Ticket decoded = ticketCodec.decode(ticketCodec.encode(ticket));
+
+        assertEquals(1L, decoded.id);
+        assertNull(decoded.status);
+    }
+
+    @Test
+    void shouldWriteCompactValuesWithoutFieldNames() {
+        Customer customer = new Customer(1L, 1, "A", BigDecimal.ONE, true, null, null, null, null, Tier.BASIC);
+
+        byte[] bytes = this.codec.encode(customer);
+
+        assertTrue(bytes.length < 24, "Encoded size was " + bytes.length);
+    }
+
+    @Test
+    void shouldDecodeConsecutiveValuesFromBuffer() {
+        Customer first = new Customer(1L, 1, "first", null, true, null, null, null, new Date(0), Tier.BASIC);
+        Customer second = new Customer(2L, 2, "second", null, false, null, null, null, null, Tier.GOLD);
+
+        BinaryWriter writer = new BinaryWriter();
+        this.codec.encode(first, writer);
+        this.codec.encode(second, writer);
+
+        ByteBuffer buffer = writer.asByteBuffer();
+
+        assertEquals(first, this.codec.decode(buffer));
+        assertEquals(second, this.codec.decode(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void shouldRejectDataEncodedWithAnotherSchema() {
+        RowCodec<CustomerV2> otherCodec = RowCodec.of(RowMapperBuilder.forType(CustomerV2.class).build());
+
+        byte[] bytes = otherCodec.encode(new CustomerV2(1L, "name"));
+
+        assertNotEquals(this.codec.getSchemaHash(), otherCodec.getSchemaHash());
+        assertThrows(SchemaMismatchException.class, () -> this.codec.decode(bytes));
+    }
+
+    @Test
+    void shouldKeepSchemaHashStableForSameFieldPlan() {
+        RowCodec<Customer> otherCodec = RowCodec.of(RowMapperBuilder.forType(Customer.class).build());
+
+        assertEquals(this.codec.getSchemaHash(), otherCodec.getSchemaHash());
+    }
+
+    @Test
+    void shouldEncodeUuidAsTwoLongs() {
+        RowCodec<Session> sessionCodec = RowCodec.of(RowMapperBuilder.forType(Session.class).build());
+        Session session = new Session(UUID.randomUUID());
+
+        byte[] bytes = sessionCodec.encode(session);
+
+        assertEquals(session, sessionCodec.decode(bytes));
+        assertEquals(8 + 1 + 16, bytes.length);
+    }
+
+    @Test
+    void shouldEncodeArraysAndListsWithoutSerialization() {
+        RowCodec<Measurements> arraysCodec = RowCodec.of(RowMapperBuilder.forType(Measurements.class).build());
+        Measurements measurements = new Measurements(new int[]{1, -2}, new long[]{Long.MIN_VALUE}, new double[]{0.5},
+                new String[]{"a", null}, Arrays.asList(1, "two", null, new BigDecimal("3.0"), Timestamp.valueOf("2024-03-01 10:15:30")));
+
+        Measurements decoded = arraysCodec.decode(arraysCodec.encode(measurements));
+
+        assertArrayEquals(measurements.ints(), decoded.ints());
+        assertArrayEquals(measurements.longs(), decoded.longs());
+        assertArrayEquals(measurements.doubles(), decoded.doubles());
+        assertArrayEquals(measurements.labels(), decoded.labels());
+        assertEquals(measurements.values(), decoded.values());
+    }
+
+    @Test
+    void shouldRejectFieldTypesWithoutEncoding() {
+        MappingException exception = assertThrows(MappingException.class,
+                () -> RowCodec.of(RowMapperBuilder.forType(Opaque.class).build()));
+
+        assertTrue(exception.getMessage().contains("value"), exception.getMessage());
+    }
+
+    @Test
+    void shouldRoundTripSqlDateTypes() {
+        RowCodec<Shift> shiftCodec = RowCodec.of(RowMapperBuilder.forType(Shift.class).build());
+        Shift shift = new Shift(java.sql.Date.valueOf("2024-03-01"), Time.valueOf("08:30:00"), Timestamp.valueOf("2024-03-01 16:30:00.5"));
+
+        Shift decoded = shiftCodec.decode(shiftCodec.encode(shift));
+
+        assertEquals(shift, decoded);
+        assertEquals(Time.class, decoded.start().getClass());
+    }
+
+    @Test
+    void shouldRejectUnsupportedDateSubclasses() {
+        RowMapper<Deadline> deadlineMapper = RowMapperBuilder.forType(Deadline.class).build();
+
+        MappingException exception = assertThrows(MappingException.class, () -> RowCodec.of(deadlineMapper));
+
+        assertTrue(exception.getMessage().contains("Field 'due'"), exception.getMessage());
+    }
+
+    @Test
+    void shouldRejectCorruptEnumOrdinals() {
+        RowCodec<Graded> gradedCodec = RowCodec.of(RowMapperBuilder.forType(Graded.class).build());
+        BinaryWriter writer = new BinaryWriter();
+        writer.writeLong(gradedCodec.getSchemaHash());
+        writer.writeByte(0);
+        writer.writeVarLong(Tier.values().length);
+        byte[] bytes = writer.toByteArray();
+
+        MappingException exception = assertThrows(MappingException.class, () -> gradedCodec.decode(bytes));
+
+        assertTrue(exception.getMessage().contains("ordinal 3"), exception.getMessage());
+    }
+
+    @Test
+    void shouldRejectCorruptLengthsBeforeAllocating() {
+        RowCodec<CustomerV2> otherCodec = RowCodec.of(RowMapperBuilder.forType(CustomerV2.class).build());
+
+        for (long length : new long[]{Integer.MAX_VALUE, -1}) {
+            BinaryWriter writer = new BinaryWriter();
+            writer.writeLong(otherCodec.getSchemaHash());
+            writer.writeByte(0);
+            writer.writeZigZag(1);
+            writer.writeVarLong(length);
+            byte[] bytes = writer.toByteArray();
+
+            assertThrows(MappingException.class, () -> otherCodec.decode(bytes));
+        }
+    }
+
+    public static class Ticket {
+        @ColumnMapping private Long id;
+        @ColumnMapping private String status = "NEW";
+    }
+
+    public record Shift(@ColumnMapping java.sql.Date day, @ColumnMapping Time start, @ColumnMapping Timestamp end) {
+    }
+
+    public record Deadline(@ColumnMapping DueDate due) {
+    }
+
+    public record Graded(@ColumnMapping Tier tier) {
+    }
+
+    public static class DueDate extends Date {
+    }
+
+    public record Session(@ColumnMapping UUID id) {
+    }
+
+    public record Measurements(
+            @ColumnMapping int[] ints,
+            @ColumnMapping long[] longs,
+            @ColumnMapping double[] doubles,
+            @ColumnMapping String[] labels,
+            @ColumnMapping List<Object> values
+    ) {
+    }
+
+    public record Opaque(@ColumnMapping Object value) {
+    }
+
+    public enum Tier {
+        BASIC, SILVER, GOLD
+    }
+
+    public record Customer(
+            @ColumnMapping Long id,
+            @ColumnMapping int visits,
+            @ColumnMapping String name,
+            @ColumnMapping BigDecimal balance,
+            @ColumnMapping boolean active,
+            @ColumnMapping LocalDate birthDate,
+            @ColumnMapping OffsetDateTime lastLogin,
+            @ColumnMapping ZonedDateTime createdAt,
+            @ColumnMapping Date updatedAt,
+            @ColumnMapping Tier tier
+    ) {
+    }
+
+    public record CustomerV2(
+            @ColumnMapping Long id,
+            @ColumnMapping String fullName
+    ) {
+    }
+}
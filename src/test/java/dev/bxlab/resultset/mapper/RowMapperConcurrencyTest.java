@@ -0,0 +1,153 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.configs.NamingStrategy;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.FieldMapping;
+import dev.bxlab.resultset.mapper.core.PreparedRowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RowMapperConcurrencyTest {
+
+    private static final List<String> COLUMNS = List.of("id", "user_name", "balance", "active");
+    private static final int ROWS_PER_THREAD = 2_000;
+
+    @Test
+    void shouldMapConcurrentlyWithSharedMapper() throws Exception {
+        RowMapper<Account> mapper = RowMapperBuilder.forType(Account.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .build();
+
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+        List<Integer> mapped = runConcurrently(threads, thread -> {
+            List<Account> accounts = mapper.mapAll(accounts(thread, ROWS_PER_THREAD));
+            for (int i = 0; i < accounts.size(); i++) {
+                assertEquals(expectedAccount(thread, i), accounts.get(i));
+            }
+            return accounts.size();
+        });
+
+        mapped.forEach(count -> assertEquals(ROWS_PER_THREAD, count));
+    }
+
+    @Test
+    void shouldMapRowByRowConcurrentlyWithSharedPreparedMapper() throws Exception {
+        RowMapper<Account> mapper = RowMapperBuilder.forType(Account.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .build();
+        PreparedRowMapper<Account> preparedMapper = mapper.prepare(accounts(0, 0).getMetaData());
+
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+        List<Integer> mapped = runConcurrently(threads, thread -> {
+            ResultSet resultSet = accounts(thread, ROWS_PER_THREAD);
+            int row = 0;
+            while (resultSet.next()) {
+                assertEquals(expectedAccount(thread, row++), preparedMapper.map(resultSet));
+            }
+            return row;
+        });
+
+        mapped.forEach(count -> assertEquals(ROWS_PER_THREAD, count));
+    }
+
+    @Test
+    void shouldNotBeAffectedByBuilderChangesAfterBuild() {
+        RowMapperBuilder<Account> builder = RowMapperBuilder.forType(Account.class)
+                .mapField("userName", config -> config.toColumn("name").withAttribute("key", "value"));
+
+        RowMapper<Account> mapper = builder.build();
+
+        builder.mapField("userName", config -> config.toColumn("other_name"));
+        builder.withNamingStrategy(NamingStrategy.UPPER_SNAKE_CASE);
+
+        FieldMapping userName = mapper.getFieldMappings().get(1);
+        assertEquals("userName", userName.getFieldName());
+        assertEquals("name", userName.getColumnName());
+        assertEquals("value", userName.getAttributes().get("key"));
+    }
+
+    @Test
+    void shouldExposeImmutableFieldPlan() {
+        RowMapper<Account> mapper = RowMapperBuilder.forType(Account.class).build();
+
+        List<FieldMapping> mappings = mapper.getFieldMappings();
+
+        assertEquals(4, mappings.size());
+        assertThrows(UnsupportedOperationException.class, () -> mappings.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> mappings.get(0).getAttributes().put("key", "value"));
+    }
+
+    private static <R> List<R> runConcurrently(int threads, ThreadTask<R> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch startGate = new CountDownLatch(1);
+            List<Future<R>> futures = new ArrayList<>();
+
+            for (int i = 0; i < threads; i++) {
+                int thread = i;
+                Callable<R> callable = () -> {
+                    startGate.await();
+                    return task.run(thread);
+                };
+                futures.add(executor.submit(callable));
+            }
+
+            startGate.countDown();
+
+            List<R> results = new ArrayList<>();
+            for (Future<R> future : futures) results.add(future.get(60, TimeUnit.SECONDS));
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ResultSet accounts(int thread, int rows) {
+        List<Object[]> values = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Account account = expectedAccount(thread, i);
+            values.add(new Object[]{account.id(), account.userName(), account.balance(), account.active()});
+        }
+        return TestResultSets.of(COLUMNS, values);
+    }
+
+    private static Account expectedAccount(int thread, int row) {
+        return new Account(
+                (long) thread * 1_000_000 + row,
+                "user-" + thread + "-" + row,
+                BigDecimal.valueOf(row, 2),
+                row % 2 == 0
+        );
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask<R> {
+        R run(int thread) throws SQLException;
+    }
+
+    public record Account(
+            @ColumnMapping long id,
+            @ColumnMapping String userName,
+            @ColumnMapping BigDecimal balance,
+            @ColumnMapping boolean active
+    ) {
+    }
+}
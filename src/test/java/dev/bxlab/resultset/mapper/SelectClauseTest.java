@@ -0,0 +1,73 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.configs.IdentifierQuoting;
+import dev.bxlab.resultset.mapper.configs.NamingStrategy;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SelectClauseTest {
+
+    @Test
+    void shouldResolveColumnNamesFromAllSources() {
+        RowMapper<Product> mapper = RowMapperBuilder.forType(Product.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .mapField("unitPrice", config -> config.toColumn("price"))
+                .build();
+
+        assertEquals(List.of("product_id", "product_name", "price"), mapper.getColumnNames());
+    }
+
+    @Test
+    void shouldExcludeFieldsWithoutConverterWhenUnknownTypesAreIgnored() {
+        RowMapper<Product> ignoring = RowMapperBuilder.forType(Product.class).build();
+        RowMapper<Product> strict = RowMapperBuilder.forType(Product.class).ignoreUnknownTypes(false).build();
+
+        assertEquals(List.of("product_id", "productName", "unitPrice"), ignoring.getColumnNames());
+        assertEquals(List.of("product_id", "productName", "unitPrice", "tags"), strict.getColumnNames());
+    }
+
+    @Test
+    void shouldRenderSelectClause() {
+        RowMapper<Product> mapper = RowMapperBuilder.forType(Product.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .build();
+
+        assertEquals("SELECT product_id, product_name, unit_price FROM", mapper.selectClause());
+        assertEquals("SELECT p.product_id, p.product_name, p.unit_price FROM", mapper.selectClause("p", IdentifierQuoting.NONE));
+        assertEquals("SELECT \"p\".\"product_id\", \"p\".\"product_name\", \"p\".\"unit_price\" FROM",
+                mapper.selectClause("p", IdentifierQuoting.ANSI));
+        assertEquals("SELECT `product_id`, `product_name`, `unit_price` FROM",
+                mapper.selectClause(null, IdentifierQuoting.BACKTICK));
+    }
+
+    @Test
+    void shouldEscapeQuoteCharacters() {
+        assertEquals("\"odd\"\"name\"", IdentifierQuoting.ANSI.quote("odd\"name"));
+        assertEquals("[odd]]name]", IdentifierQuoting.BRACKETS.quote("odd]name"));
+    }
+
+    @Test
+    void shouldRejectEmptyProjection() {
+        RowMapper<Unmapped> mapper = RowMapperBuilder.forType(Unmapped.class).build();
+
+        assertThrows(IllegalArgumentException.class, mapper::selectClause);
+    }
+
+    public record Product(
+            @ColumnMapping("product_id") Long id,
+            @ColumnMapping String productName,
+            @ColumnMapping Double unitPrice,
+            @ColumnMapping Object tags
+    ) {
+    }
+
+    public record Unmapped(String name) {
+    }
+}
@@ -0,0 +1,243 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.configs.NamingStrategy;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.core.SpillableList;
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillableListTest {
+
+    private static final List<String> COLUMNS = List.of("id", "name", "amount", "created_at", "status", "score");
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    void shouldKeepRowsOnHeapWithinBudget() throws SQLException {
+        RowMapper<Order> mapper = mapper();
+
+        try (SpillableList<Order> orders = mapper.mapAll(orders(100), Long.MAX_VALUE, this.spillDirectory)) {
+            assertEquals(100, orders.size());
+            assertFalse(orders.isSpilled());
+            assertEquals(expectedOrders(100), orders);
+        }
+    }
+
+    @Test
+    void shouldSpillRowsPastBudget() throws SQLException, IOException {
+        RowMapper<Order> mapper = mapper();
+
+        try (SpillableList<Order> orders = mapper.mapAll(orders(5_000), 16 * 1024, this.spillDirectory)) {
+            assertEquals(5_000, orders.size());
+            assertTrue(orders.isSpilled());
+            assertTrue(orders.getSpilledRows() > 4_000);
+            assertEquals(expectedOrders(5_000), orders);
+            assertEquals(expectedOrders(5_000).get(4_321), orders.get(4_321));
+            assertEquals(1, countSpillFiles());
+        }
+
+        assertEquals(0, countSpillFiles());
+    }
+
+    @Test
+    void shouldSpillEverythingWithZeroBudget() throws SQLException {
+        RowMapper<Order> mapper = mapper();
+
+        try (SpillableList<Order> orders = mapper.mapAll(orders(10), 0, this.spillDirectory)) {
+            assertEquals(10, orders.getSpilledRows());
+            assertEquals(expectedOrders(10), new ArrayList<>(orders));
+        }
+    }
+
+    @Test
+    void shouldReopenSpillFileAfterInterruptedRead() throws SQLException {
+        RowMapper<Order> mapper = mapper();
+
+        try (SpillableList<Order> orders = mapper.mapAll(orders(10), 0, this.spillDirectory)) {
+            Thread.currentThread().interrupt();
+            try {
+                assertThrows(MappingException.class, () -> orders.get(0));
+            } finally {
+                Thread.interrupted();
+            }
+
+            assertEquals(expectedOrders(10).get(0), orders.get(0));
+        }
+    }
+
+    @Test
+    void shouldRejectAccessAfterClose() throws SQLException {
+        RowMapper<Order> mapper = mapper();
+
+        SpillableList<Order> orders = mapper.mapAll(orders(10), 0, this.spillDirectory);
+        orders.close();
+
+        assertThrows(IllegalStateException.class, () -> orders.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> orders.get(10));
+    }
+
+    @Test
+    void shouldOnlyEncodeFieldsBoundToColumns() throws SQLException {
+        RowMapper<Note> mapper = RowMapperBuilder.forType(Note.class).ignoreUnknownTypes(false).ignoreUnknownColumns(true).build();
+        ResultSet notes = TestResultSets.of(List.of("id"), List.of(new Object[]{1L}, new Object[]{2L}));
+
+        try (SpillableList<Note> spilled = mapper.mapAll(notes, 0, this.spillDirectory)) {
+            assertEquals(List.of(new Note(1L, null), new Note(2L, null)), spilled);
+        }
+    }
+
+    @Test
+    void shouldNotRequireEncodingForRowsWithinBudget() throws SQLException {
+        RowMapper<Note> mapper = RowMapperBuilder.forType(Note.class).ignoreUnknownTypes(false).build();
+        ResultSet notes = TestResultSets.of(List.of("id", "body"), List.<Object[]>of(new Object[]{1L, "text"}));
+
+        try (SpillableList<Note> kept = mapper.mapAll(notes, Long.MAX_VALUE, this.spillDirectory)) {
+            assertEquals(List.of(new Note(1L, "text")), kept);
+        }
+        assertThrows(MappingException.class, () -> mapper.mapAll(
+                TestResultSets.of(List.of("id", "body"), List.<Object[]>of(new Object[]{1L, "text"})), 0, this.spillDirectory));
+    }
+
+    @Test
+    void shouldRejectNegativeBudget() {
+        RowMapper<Order> mapper = mapper();
+
+        assertThrows(IllegalArgumentException.class, () -> mapper.mapAll(orders(1), -1));
+    }
+
+    private long countSpillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(this.spillDirectory)) {
+            return files.count();
+        }
+    }
+
+    private static RowMapper<Order> mapper() {
+        return RowMapperBuilder.forType(Order.class)
+                .withNamingStrategy(NamingStrategy.SNAKE_CASE)
+                .registerConverter(Status.class, (resultSet, columnName, attributes) -> {
+                    String status = resultSet.getString(columnName);
+                    return status == null ? null : Status.valueOf(status);
+                })
+                .build();
+    }
+
+    private static ResultSet orders(int count) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Order order : expectedOrders(count)) {
+            rows.add(new Object[]{
+                    order.getId(),
+                    order.getName(),
+                    order.getAmount(),
+                    order.getCreatedAt() == null ? null : Timestamp.valueOf(order.getCreatedAt()),
+                    order.getStatus() == null ? null : order.getStatus().name(),
+                    order.getScore()
+            });
+        }
+        return TestResultSets.of(COLUMNS, rows);
+    }
+
+    private static List<Order> expectedOrders(int count) {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Order order = new Order();
+            order.id = i;
+            order.name = i % 7 == 0 ? null : "order-" + i + "-ñ";
+            order.amount = BigDecimal.valueOf(i * 31L - 500, 3);
+            order.createdAt = i % 5 == 0 ? null : LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i * 3601L).plusNanos(i * 1000L);
+            order.status = i % 3 == 0 ? null : Status.values()[i % Status.values().length];
+            order.score = i * 0.5;
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    public record Note(@ColumnMapping long id, @ColumnMapping Object body) {
+    }
+
+    public enum Status {
+        NEW, PAID, SHIPPED
+    }
+
+    @SuppressWarnings("unused")
+    public static class Order {
+        @ColumnMapping
+        private long id;
+        @ColumnMapping
+        private String name;
+        @ColumnMapping
+        private BigDecimal amount;
+        @ColumnMapping
+        private LocalDateTime createdAt;
+        @ColumnMapping
+        private Status status;
+        @ColumnMapping
+        private double score;
+
+        public long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Order order)) return false;
+            return id == order.id
+                    && Double.compare(score, order.score) == 0
+                    && Objects.equals(name, order.name)
+                    && Objects.equals(amount, order.amount)
+                    && Objects.equals(createdAt, order.createdAt)
+                    && status == order.status;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(id);
+        }
+
+        @Override
+        public String toString() {
+            return "Order[" + id + ", " + name + ", " + amount + ", " + createdAt + ", " + status + ", " + score + "]";
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package dev.bxlab.resultset.mapper;
 
 import dev.bxlab.resultset.mapper.configs.FieldConfig;
+import dev.bxlab.resultset.mapper.converters.BoundConverter;
 import dev.bxlab.resultset.mapper.converters.ConverterRegistry;
 import dev.bxlab.resultset.mapper.converters.StandardConverters;
+import dev.bxlab.resultset.mapper.converters.TypeConverter;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.exceptions.ConversionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,8 +16,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.sql.Array;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Timestamp;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -22,10 +30,17 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,6 +53,9 @@ class StandardConvertersTest {
     @Mock
     private ConverterRegistry registry;
 
+    @Mock
+    private Array array;
+
     private Map<String, Object> attributes;
 
     @BeforeEach
@@ -258,6 +276,62 @@ class StandardConvertersTest {
         verify(resultSet).getString(columnName);
     }
 
+    @Test
+    void shouldBindDateConverterToFormat() throws SQLException, ParseException {
+        String columnName = "registration_date";
+        String format = "dd/MM/yyyy HH:mm:ss";
+        when(resultSet.getString(columnName)).thenReturn("15/05/2025 14:30:00", "16/05/2025 09:00:00", null);
+
+        BoundConverter<Date> converter = StandardConverters.DATE.bind(FieldConfig.builder()
+                .withTypedAttribute(FieldConfig.FORMAT, format)
+                .build());
+
+        SimpleDateFormat dateFormat = new SimpleDateFormat(format);
+        assertEquals(dateFormat.parse("15/05/2025 14:30:00"), converter.read(resultSet, columnName));
+        assertEquals(dateFormat.parse("16/05/2025 09:00:00"), converter.read(resultSet, columnName));
+        assertNull(converter.read(resultSet, columnName));
+    }
+
+    @Test
+    void shouldBindLocalDateConverterWithoutFormat() throws SQLException {
+        String columnName = "birth_date";
+        LocalDate expectedValue = LocalDate.of(2025, 5, 15);
+        when(resultSet.getDate(columnName)).thenReturn(java.sql.Date.valueOf(expectedValue));
+
+        BoundConverter<LocalDate> converter = StandardConverters.LOCAL_DATE.bind(FieldConfig.builder().build());
+
+        assertEquals(expectedValue, converter.read(resultSet, columnName));
+    }
+
+    @Test
+    void shouldRejectInvalidFormatWhenBinding() {
+        FieldConfig config = FieldConfig.builder().withTypedAttribute(FieldConfig.FORMAT, "yyyy-MM-dd'").build();
+
+        assertThrows(IllegalArgumentException.class, () -> StandardConverters.LOCAL_DATE_TIME.bind(config));
+    }
+
+    @Test
+    void shouldFailToParseInvalidValueWithBoundFormat() throws SQLException {
+        String columnName = "birth_date";
+        when(resultSet.getString(columnName)).thenReturn("2025/05/15");
+
+        BoundConverter<LocalDate> converter = StandardConverters.LOCAL_DATE.bind(FieldConfig.builder()
+                .withTypedAttribute(FieldConfig.FORMAT, "dd/MM/yyyy")
+                .build());
+
+        ConversionException exception = assertThrows(ConversionException.class, () -> converter.read(resultSet, columnName));
+        assertEquals("Failed to parse date '2025/05/15' with format 'dd/MM/yyyy' for column 'birth_date'", exception.getMessage());
+    }
+
+    @Test
+    void shouldBindCustomConvertersToAttributes() throws SQLException {
+        TypeConverter<Object> converter = (rs, column, attributes) -> attributes.get("suffix");
+
+        BoundConverter<Object> boundConverter = converter.bind(FieldConfig.builder().withAttribute("suffix", "!").build());
+
+        assertEquals("!", boundConverter.read(resultSet, "any"));
+    }
+
     @Test
     void shouldConvertLocalDateValue() throws SQLException {
         String columnName = "birth_date";
@@ -395,5 +469,177 @@ class StandardConvertersTest {
         verify(registry).register(ZonedDateTime.class, StandardConverters.ZONED_DATE_TIME);
         verify(registry).register(OffsetDateTime.class, StandardConverters.OFFSET_DATE_TIME);
         verify(registry).register(BigDecimal.class, StandardConverters.BIG_DECIMAL);
+        verify(registry).register(UUID.class, StandardConverters.UUID);
+        verify(registry).register(int[].class, StandardConverters.INT_ARRAY);
+        verify(registry).register(long[].class, StandardConverters.LONG_ARRAY);
+        verify(registry).register(double[].class, StandardConverters.DOUBLE_ARRAY);
+        verify(registry).register(String[].class, StandardConverters.STRING_ARRAY);
+        verify(registry, never()).register(List.class, StandardConverters.LIST);
+    }
+
+    @Test
+    void shouldReadListFieldsFromArraysOnlyWhenOptedIn() throws SQLException {
+        when(array.getArray()).thenReturn(new Object[]{1, 2});
+        RowMapper<Vector> defaultMapper = RowMapperBuilder.forType(Vector.class).build();
+        RowMapper<Vector> arrayMapper = RowMapperBuilder.forType(Vector.class)
+                .mapField("values", config -> config.withConverter(StandardConverters.LIST))
+                .build();
+
+        Vector skipped = defaultMapper.map(vectors());
+        Vector read = arrayMapper.map(vectors());
+
+        assertNull(skipped.values());
+        assertEquals(List.of(1, 2), read.values());
+        verify(array).getArray();
+    }
+
+    private ResultSet vectors() throws SQLException {
+        ResultSet vectors = TestResultSets.of(List.of("id", "values"), List.<Object[]>of(new Object[]{1L, array}));
+        vectors.next();
+        return vectors;
+    }
+
+    public record Vector(@ColumnMapping long id, @ColumnMapping List<Object> values) {
+    }
+
+    @Test
+    void shouldReturnNativeUuidValue() throws SQLException {
+        String columnName = "id";
+        UUID expectedValue = UUID.randomUUID();
+        when(resultSet.getObject(columnName)).thenReturn(expectedValue);
+
+        UUID result = StandardConverters.UUID.convert(resultSet, columnName, attributes);
+
+        assertSame(expectedValue, result);
+    }
+
+    @Test
+    void shouldConvertBinaryUuidValue() throws SQLException {
+        String columnName = "id";
+        UUID expectedValue = UUID.fromString("0f8fad5b-d9cb-469f-a165-70867728950e");
+        byte[] bytes = {0x0f, (byte) 0x8f, (byte) 0xad, 0x5b, (byte) 0xd9, (byte) 0xcb, 0x46, (byte) 0x9f,
+                (byte) 0xa1, 0x65, 0x70, (byte) 0x86, 0x77, 0x28, (byte) 0x95, 0x0e};
+        when(resultSet.getObject(columnName)).thenReturn(bytes);
+
+        UUID result = StandardConverters.UUID.convert(resultSet, columnName, attributes);
+
+        assertEquals(expectedValue, result);
+    }
+
+    @Test
+    void shouldConvertTextUuidValue() throws SQLException {
+        String columnName = "id";
+        UUID expectedValue = UUID.fromString("7dc53df5-703e-49b3-8670-b1c468f47f1f");
+        when(resultSet.getObject(columnName))
+                .thenReturn("7dc53df5-703e-49b3-8670-b1c468f47f1f")
+                .thenReturn("7DC53DF5-703E-49B3-8670-B1C468F47F1F")
+                .thenReturn("7dc53df5703e49b38670b1c468f47f1f");
+
+        assertEquals(expectedValue, StandardConverters.UUID.convert(resultSet, columnName, attributes));
+        assertEquals(expectedValue, StandardConverters.UUID.convert(resultSet, columnName, attributes));
+        assertEquals(expectedValue, StandardConverters.UUID.convert(resultSet, columnName, attributes));
+    }
+
+    @Test
+    void shouldConvertDriverSpecificUuidValue() throws SQLException {
+        String columnName = "id";
+        UUID expectedValue = UUID.randomUUID();
+        when(resultSet.getObject(columnName)).thenReturn(new StringBuilder(expectedValue.toString()));
+        when(resultSet.getObject(columnName, UUID.class)).thenReturn(expectedValue);
+
+        UUID result = StandardConverters.UUID.convert(resultSet, columnName, attributes);
+
+        assertEquals(expectedValue, result);
+    }
+
+    @Test
+    void shouldReturnNullWhenUuidValueIsNull() throws SQLException {
+        String columnName = "id";
+        when(resultSet.getObject(columnName)).thenReturn(null);
+
+        assertNull(StandardConverters.UUID.convert(resultSet, columnName, attributes));
+    }
+
+    @Test
+    void shouldThrowExceptionForInvalidUuidValue() throws SQLException {
+        String columnName = "id";
+        when(resultSet.getObject(columnName))
+                .thenReturn("7dc53df5-703e-49b3-8670-b1c468f47f1")
+                .thenReturn("7dc53df5+703e-49b3-8670-b1c468f47f1f")
+                .thenReturn("7dc53df5-703e-49b3-8670-b1c468f47f1g")
+                .thenReturn(new byte[15]);
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ConversionException.class, () -> StandardConverters.UUID.convert(resultSet, columnName, attributes));
+        }
+    }
+
+    @Test
+    void shouldConvertBoxedArrayToIntArray() throws SQLException {
+        String columnName = "scores";
+        when(resultSet.getArray(columnName)).thenReturn(array);
+        when(array.getArray()).thenReturn(new Integer[]{1, 2, 3});
+
+        int[] result = StandardConverters.INT_ARRAY.convert(resultSet, columnName, attributes);
+
+        assertArrayEquals(new int[]{1, 2, 3}, result);
+        verify(array).free();
+    }
+
+    @Test
+    void shouldReturnTypedArrayWithoutCopying() throws SQLException {
+        String columnName = "ids";
+        long[] expectedValue = {10L, 20L};
+        when(resultSet.getArray(columnName)).thenReturn(array);
+        when(array.getArray()).thenReturn(expectedValue);
+
+        long[] result = StandardConverters.LONG_ARRAY.convert(resultSet, columnName, attributes);
+
+        assertSame(expectedValue, result);
+        verify(array).free();
+    }
+
+    @Test
+    void shouldConvertObjectArrayToDoubleArray() throws SQLException {
+        String columnName = "features";
+        when(resultSet.getArray(columnName)).thenReturn(array);
+        when(array.getArray()).thenReturn(new Object[]{0.5d, 1.5f, new BigDecimal("2.25")});
+        doThrow(SQLFeatureNotSupportedException.class).when(array).free();
+
+        double[] result = StandardConverters.DOUBLE_ARRAY.convert(resultSet, columnName, attributes);
+
+        assertArrayEquals(new double[]{0.5d, 1.5d, 2.25d}, result);
+    }
+
+    @Test
+    void shouldConvertArrayToStringArrayAndList() throws SQLException {
+        String columnName = "tags";
+        when(resultSet.getArray(columnName)).thenReturn(array);
+        when(array.getArray()).thenReturn(new Object[]{"a", null, 3}, new int[]{1, 2});
+
+        String[] strings = StandardConverters.STRING_ARRAY.convert(resultSet, columnName, attributes);
+        List<Object> list = StandardConverters.LIST.convert(resultSet, columnName, attributes);
+
+        assertArrayEquals(new String[]{"a", null, "3"}, strings);
+        assertEquals(List.of(1, 2), list);
+        assertThrows(UnsupportedOperationException.class, () -> list.add(3));
+    }
+
+    @Test
+    void shouldReturnNullWhenArrayValueIsNull() throws SQLException {
+        String columnName = "scores";
+        when(resultSet.getArray(columnName)).thenReturn(null);
+
+        assertNull(StandardConverters.INT_ARRAY.convert(resultSet, columnName, attributes));
+    }
+
+    @Test
+    void shouldThrowExceptionAndFreeArrayForNullPrimitiveElement() throws SQLException {
+        String columnName = "scores";
+        when(resultSet.getArray(columnName)).thenReturn(array);
+        when(array.getArray()).thenReturn(new Integer[]{1, null});
+
+        assertThrows(ConversionException.class, () -> StandardConverters.INT_ARRAY.convert(resultSet, columnName, attributes));
+        verify(array).free();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,119 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.configs.FieldConfig;
+import dev.bxlab.resultset.mapper.core.ColumnMapping;
+import dev.bxlab.resultset.mapper.core.RowMapper;
+import dev.bxlab.resultset.mapper.core.RowMapperBuilder;
+import dev.bxlab.resultset.mapper.utils.StringDeduplicator;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringDeduplicationTest {
+
+    private static final List<String> COLUMNS = List.of("id", "status", "country_code");
+
+    @Test
+    void shouldShareInstancesForAnnotatedField() throws SQLException {
+        RowMapper<Order> mapper = RowMapperBuilder.forType(Order.class).build();
+
+        List<Order> orders = mapper.mapAll(orders(100, 3));
+
+        for (Order order : orders) {
+            assertEquals("STATUS-" + order.id() % 3, order.status());
+            assertSame(orders.get((int) (order.id() % 3)).status(), order.status());
+        }
+        assertNotSame(orders.get(0).countryCode(), orders.get(3).countryCode());
+    }
+
+    @Test
+    void shouldShareInstancesForConfiguredField() throws SQLException {
+        RowMapper<Order> mapper = RowMapperBuilder.forType(Order.class)
+                .mapField("countryCode", config -> config
+                        .toColumn("country_code")
+                        .withAttribute(FieldConfig.DEDUPLICATE_ATTRIBUTE, true))
+                .build();
+
+        List<Order> orders = mapper.mapAll(orders(10, 3));
+
+        assertEquals("C0", orders.get(3).countryCode());
+        assertSame(orders.get(0).countryCode(), orders.get(3).countryCode());
+    }
+
+    @Test
+    void shouldStopDeduplicatingHighCardinalityColumns() throws SQLException {
+        RowMapper<Order> mapper = RowMapperBuilder.forType(Order.class)
+                .mapField("status", config -> config.withAttribute(FieldConfig.DEDUPLICATE_ATTRIBUTE, 4))
+                .build();
+
+        List<Order> orders = mapper.mapAll(orders(100, 50));
+
+        for (Order order : orders) assertEquals("STATUS-" + order.id() % 50, order.status());
+        assertNotSame(orders.get(10).status(), orders.get(60).status());
+    }
+
+    @Test
+    void shouldRejectDeduplicationOnNonStringFields() {
+        RowMapperBuilder<Order> builder = RowMapperBuilder.forType(Order.class)
+                .mapField("id", config -> config.withAttribute(FieldConfig.DEDUPLICATE_ATTRIBUTE, true));
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    void shouldRejectInvalidDeduplicationAttribute() {
+        RowMapperBuilder<Order> builder = RowMapperBuilder.forType(Order.class)
+                .mapField("countryCode", config -> config.withAttribute(FieldConfig.DEDUPLICATE_ATTRIBUTE, "yes"));
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    void shouldCanonicalizeUntilMaximumSizeIsExceeded() {
+        StringDeduplicator deduplicator = new StringDeduplicator(2);
+
+        String first = deduplicator.canonicalize(new String("A"));
+        assertSame(first, deduplicator.canonicalize(new String("A")));
+        assertNull(deduplicator.canonicalize(null));
+
+        deduplicator.canonicalize("B");
+        assertEquals(2, deduplicator.size());
+        assertTrue(deduplicator.isEnabled());
+
+        String third = new String("C");
+        assertSame(third, deduplicator.canonicalize(third));
+        assertFalse(deduplicator.isEnabled());
+        assertEquals(0, deduplicator.size());
+
+        String copy = new String("A");
+        assertSame(copy, deduplicator.canonicalize(copy));
+        assertThrows(IllegalArgumentException.class, () -> new StringDeduplicator(0));
+    }
+
+    private static ResultSet orders(int rows, int statuses) {
+        List<Object[]> values = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            // New instances, as a driver would materialize them for every row
+            values.add(new Object[]{(long) i, new String("STATUS-" + i % statuses), new String("C" + i % 3)});
+        }
+        return TestResultSets.of(COLUMNS, values);
+    }
+
+    public record Order(
+            @ColumnMapping long id,
+            @ColumnMapping(deduplicate = true) String status,
+            @ColumnMapping("country_code") String countryCode
+    ) {
+    }
+}
@@ -0,0 +1,175 @@
+package dev.bxlab.resultset.mapper;
+
+import java.io.StringReader;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * In-memory {@link ResultSet} implementations for tests that need real cursor behaviour
+ * (multiple threads, large row counts) where mocks are too slow or not thread-safe.
+ */
+final class TestResultSets {
+
+    private TestResultSets() {
+    }
+
+    /**
+     * Creates a forward-only result set over the given rows.
+     *
+     * @param columns the column labels
+     * @param rows    the row values, in column order
+     * @return a new result set positioned before the first row
+     */
+    static ResultSet of(List<String> columns, List<Object[]> rows) {
+        return (ResultSet) Proxy.newProxyInstance(
+                TestResultSets.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                new ResultSetHandler(columns, rows)::invoke
+        );
+    }
+
+    private static final class ResultSetHandler {
+        private final List<String> columns;
+        private final List<Object[]> rows;
+        private final ResultSetMetaData metaData;
+
+        private int cursor = -1;
+        private boolean wasNull;
+        private boolean closed;
+
+        private ResultSetHandler(List<String> columns, List<Object[]> rows) {
+            this.columns = columns;
+            this.rows = rows;
+            this.metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+                    TestResultSets.class.getClassLoader(),
+                    new Class<?>[]{ResultSetMetaData.class},
+                    (proxy, method, args) -> this.invokeMetaData(method, args)
+            );
+        }
+
+        private Object invoke(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+            switch (name) {
+                case "next":
+                    return ++this.cursor < this.rows.size();
+                case "getMetaData":
+                    return this.metaData;
+                case "wasNull":
+                    return this.wasNull;
+                case "close":
+                    this.closed = true;
+                    return null;
+                case "isClosed":
+                    return this.closed;
+                case "findColumn":
+                    return this.indexOf(args[0]) + 1;
+                case "getRow":
+                    return this.cursor + 1;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "TestResultSet" + this.columns;
+                default:
+                    break;
+            }
+
+            if (!name.startsWith("get") || args == null || args.length == 0) {
+                throw new UnsupportedOperationException(name);
+            }
+
+            Object value = this.rows.get(this.cursor)[this.indexOf(args[0])];
+            this.wasNull = value == null;
+
+            switch (name) {
+                case "getObject":
+                    return args.length > 1 && args[1] instanceof Class<?> type ? type.cast(value) : value;
+                case "getString":
+                    return value == null ? null : value.toString();
+                case "getInt":
+                    return value == null ? 0 : ((Number) value).intValue();
+                case "getLong":
+                    return value == null ? 0L : ((Number) value).longValue();
+                case "getShort":
+                    return value == null ? (short) 0 : ((Number) value).shortValue();
+                case "getDouble":
+                    return value == null ? 0.0d : ((Number) value).doubleValue();
+                case "getFloat":
+                    return value == null ? 0.0f : ((Number) value).floatValue();
+                case "getBoolean":
+                    return value != null && (Boolean) value;
+                case "getBigDecimal":
+                    return value == null ? null : new BigDecimal(value.toString());
+                case "getTimestamp":
+                    return value instanceof java.sql.Date date ? new Timestamp(date.getTime()) : value;
+                case "getDate":
+                    return value instanceof Timestamp timestamp ? new java.sql.Date(timestamp.getTime()) : value;
+                case "getCharacterStream":
+                    return value == null ? null : new StringReader(value.toString());
+                case "getBytes":
+                case "getArray":
+                    return value;
+                default:
+                    throw new UnsupportedOperationException(name);
+            }
+        }
+
+        private Object invokeMetaData(Method method, Object[] args) {
+            switch (method.getName()) {
+                case "getColumnCount":
+                    return this.columns.size();
+                case "getColumnLabel":
+                case "getColumnName":
+                    return this.columns.get((Integer) args[0] - 1);
+                case "getColumnType":
+                    return this.sqlType((Integer) args[0] - 1);
+                case "getPrecision":
+                case "getScale":
+                    return 0;
+                case "isNullable":
+                    return ResultSetMetaData.columnNullableUnknown;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        }
+
+        private int indexOf(Object column) {
+            if (column instanceof Integer index) return index - 1;
+
+            String label = ((String) column).toLowerCase(Locale.ROOT);
+            for (int i = 0; i < this.columns.size(); i++) {
+                if (this.columns.get(i).toLowerCase(Locale.ROOT).equals(label)) return i;
+            }
+            throw new IllegalArgumentException("Unknown column: " + column);
+        }
+
+        private int sqlType(int index) {
+            Object sample = this.rows.stream()
+                    .map(row -> row[index])
+                    .filter(value -> value != null)
+                    .findFirst()
+                    .orElse(null);
+
+            if (sample instanceof Integer) return Types.INTEGER;
+            if (sample instanceof Long) return Types.BIGINT;
+            if (sample instanceof Short) return Types.SMALLINT;
+            if (sample instanceof Double) return Types.DOUBLE;
+            if (sample instanceof Float) return Types.REAL;
+            if (sample instanceof BigDecimal) return Types.DECIMAL;
+            if (sample instanceof Boolean) return Types.BOOLEAN;
+            if (sample instanceof String) return Types.VARCHAR;
+            if (sample instanceof Timestamp) return Types.TIMESTAMP;
+            if (sample instanceof java.sql.Date) return Types.DATE;
+            if (sample instanceof byte[]) return Types.BINARY;
+            return Types.OTHER;
+        }
+    }
+}
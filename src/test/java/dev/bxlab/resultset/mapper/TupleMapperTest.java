@@ -0,0 +1,108 @@
+package dev.bxlab.resultset.mapper;
+
+import dev.bxlab.resultset.mapper.core.ResultSetMapper;
+import dev.bxlab.resultset.mapper.core.Row;
+import dev.bxlab.resultset.mapper.core.TupleMapper;
+import dev.bxlab.resultset.mapper.exceptions.ColumnNotFoundException;
+import dev.bxlab.resultset.mapper.exceptions.MappingException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TupleMapperTest {
+
+    private static final List<String> COLUMNS = List.of("region", "orders", "revenue", "day", "updated_at");
+
+    @Test
+    void shouldMapRowsWithValuesTypedBySqlType() throws SQLException {
+        List<Row> rows = TupleMapper.create().mapAll(report());
+
+        Row row = rows.get(0);
+        assertEquals("EU", row.get("region"));
+        assertEquals(12L, row.get("orders"));
+        assertEquals(new BigDecimal("99.90"), row.get("revenue"));
+        assertEquals(LocalDate.of(2024, 3, 1), row.get("day"));
+        assertEquals(LocalDateTime.of(2024, 3, 1, 10, 30), row.get("updated_at"));
+    }
+
+    @Test
+    void shouldShareOneSchemaAcrossRows() throws SQLException {
+        List<Row> rows = TupleMapper.create().mapAll(report());
+
+        assertSame(rows.get(0).getSchema(), rows.get(1).getSchema());
+        assertEquals(COLUMNS, rows.get(0).getSchema().getColumnNames());
+    }
+
+    @Test
+    void shouldBehaveAsMap() throws SQLException {
+        Row row = TupleMapper.create().mapAll(report()).get(1);
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("region", "US");
+        expected.put("orders", 3L);
+        expected.put("revenue", null);
+        expected.put("day", LocalDate.of(2024, 3, 2));
+        expected.put("updated_at", null);
+
+        assertEquals(expected, row);
+        assertEquals(expected.hashCode(), row.hashCode());
+        assertEquals(List.copyOf(expected.keySet()), List.copyOf(row.keySet()));
+        assertTrue(row.containsKey("REGION"));
+        assertFalse(row.containsKey("missing"));
+        assertNull(row.get("missing"));
+        assertThrows(UnsupportedOperationException.class, () -> row.put("region", "EU"));
+    }
+
+    @Test
+    void shouldReadValuesByPositionAndType() throws SQLException {
+        Row row = TupleMapper.create().mapAll(report()).get(0);
+
+        assertEquals("EU", row.get(0));
+        assertEquals(12L, row.get("Orders", Long.class));
+        assertArrayEquals(new Object[]{"EU", 12L}, Arrays.copyOf(row.toArray(), 2));
+        assertThrows(ColumnNotFoundException.class, () -> row.get("missing", Long.class));
+        assertThrows(ClassCastException.class, () -> row.get("orders", String.class));
+    }
+
+    @Test
+    void shouldReusePreparedMapper() throws SQLException {
+        ResultSet resultSet = report();
+        ResultSetMapper<Row> prepared = TupleMapper.create().prepare(resultSet.getMetaData());
+
+        resultSet.next();
+
+        assertEquals("EU", prepared.map(resultSet).get("region"));
+    }
+
+    @Test
+    void shouldRejectDuplicateColumnLabels() {
+        ResultSet resultSet = TestResultSets.of(List.of("id", "ID"), List.<Object[]>of(new Object[]{1L, 2L}));
+
+        assertThrows(MappingException.class, () -> TupleMapper.create().mapAll(resultSet));
+    }
+
+    private static ResultSet report() {
+        return TestResultSets.of(COLUMNS, List.of(
+                new Object[]{"EU", 12L, new BigDecimal("99.90"), java.sql.Date.valueOf("2024-03-01"),
+                        Timestamp.valueOf("2024-03-01 10:30:00")},
+                new Object[]{"US", 3L, null, java.sql.Date.valueOf("2024-03-02"), null}
+        ));
+    }
+}